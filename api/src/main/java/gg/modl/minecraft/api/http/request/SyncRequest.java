@@ -2,6 +2,7 @@ package gg.modl.minecraft.api.http.request;
 
 import gg.modl.minecraft.api.http.ChatLogEntry;
 import gg.modl.minecraft.api.http.CommandLogEntry;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -9,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 
 @Value
+@AllArgsConstructor
 public class SyncRequest {
     @NotNull String lastSyncTimestamp;
     @NotNull List<OnlinePlayer> onlinePlayers;
@@ -17,6 +19,19 @@ public class SyncRequest {
     @Nullable List<ChatLogEntry> chatLogs;
     @Nullable List<CommandLogEntry> commandLogs;
     @Nullable ServerStatus serverStatus;
+    @Nullable Long rosterVersion;
+    @Nullable Long rosterBaseVersion;
+    @Nullable RosterDelta rosterDelta;
+    @Nullable String rosterChecksum;
+    @Nullable List<ServerSwitch> serverSwitches;
+
+    public SyncRequest(@NotNull String lastSyncTimestamp, @NotNull List<OnlinePlayer> onlinePlayers,
+                       @Nullable String serverName, @Nullable String serverInstanceId,
+                       @Nullable List<ChatLogEntry> chatLogs, @Nullable List<CommandLogEntry> commandLogs,
+                       @Nullable ServerStatus serverStatus) {
+        this(lastSyncTimestamp, onlinePlayers, serverName, serverInstanceId, chatLogs, commandLogs, serverStatus,
+                null, null, null, null, null);
+    }
 
     @Value
     public static class ServerStatus {
@@ -28,6 +43,18 @@ public class SyncRequest {
         long timestamp;
     }
 
+    @Value
+    public static class RosterDelta {
+        @NotNull List<OnlinePlayer> joined;
+        @NotNull List<String> left;
+    }
+
+    @Value
+    public static class ServerSwitch {
+        @NotNull String uuid, serverName;
+        long switchedAt;
+    }
+
     @Value
     public static class OnlinePlayer {
         @NotNull String uuid, username, ipAddress;
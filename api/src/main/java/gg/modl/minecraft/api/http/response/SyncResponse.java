@@ -14,6 +14,13 @@ import java.util.Map;
 public class SyncResponse {
     private @NotNull String timestamp;
     private @NotNull SyncData data;
+    private Long rosterAckVersion;
+    private Boolean rosterResyncRequired;
+    private Boolean serverSwitchesApplied;
+
+    public SyncResponse(@NotNull String timestamp, @NotNull SyncData data) {
+        this(timestamp, data, null, null, null);
+    }
 
     @Getter @Builder @NoArgsConstructor @AllArgsConstructor
     public static class SyncData {
@@ -0,0 +1,77 @@
+package gg.modl.minecraft.bridge;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Player set tuned for per-packet and per-move membership checks. An empty set answers with a single
+ * volatile read, and a per-player counting bitset rejects most non-members before touching the backing set.
+ */
+public final class ActivePlayerSet {
+    private static final int BUCKETS = 1024;
+
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> view = Collections.unmodifiableSet(members);
+    private final AtomicIntegerArray buckets = new AtomicIntegerArray(BUCKETS);
+    private final AtomicInteger size = new AtomicInteger();
+    private final List<Runnable> transitionListeners = new CopyOnWriteArrayList<>();
+
+    public boolean add(UUID uuid) {
+        if (!members.add(uuid)) return false;
+        buckets.incrementAndGet(bucket(uuid));
+        if (size.getAndIncrement() == 0) notifyTransition();
+        return true;
+    }
+
+    public boolean remove(UUID uuid) {
+        if (!members.remove(uuid)) return false;
+        buckets.decrementAndGet(bucket(uuid));
+        if (size.decrementAndGet() == 0) notifyTransition();
+        return true;
+    }
+
+    public boolean contains(UUID uuid) {
+        if (uuid == null || size.get() == 0) return false;
+        if (buckets.get(bucket(uuid)) == 0) return false;
+        return members.contains(uuid);
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public Set<UUID> view() {
+        return view;
+    }
+
+    public void clear() {
+        for (UUID uuid : members) remove(uuid);
+    }
+
+    /**
+     * Registers a callback fired whenever the set changes between empty and non-empty.
+     */
+    public void onTransition(Runnable listener) {
+        transitionListeners.add(listener);
+    }
+
+    private void notifyTransition() {
+        for (Runnable listener : transitionListeners) listener.run();
+    }
+
+    private static int bucket(UUID uuid) {
+        long bits = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return (hash ^ (hash >>> 16)) & (BUCKETS - 1);
+    }
+}
@@ -40,6 +40,10 @@ public class BridgeConfig {
     private static final int DEFAULT_REPLAY_MOVE_THROTTLE = 50;
     private static final int DEFAULT_REPLAY_MAX_DURATION = 300;
     private static final int DEFAULT_REPLAY_LOCAL_TTL = 10080;
+    private static final int DEFAULT_REPLAY_UPLOAD_PART_SIZE_MB = 8;
+    private static final int DEFAULT_REPLAY_UPLOAD_PARALLEL_PARTS = 3;
+    private static final int DEFAULT_REPLAY_SPOOL_MAX_MB = 512;
+    private static final int DEFAULT_REPLAY_UPLOAD_QUEUE_SIZE = 32;
 
     @Setter @Builder.Default private String apiKey = "";
     @Setter @Builder.Default private boolean debug = false;
@@ -59,6 +63,13 @@ public class BridgeConfig {
     @Builder.Default private int replayMoveThrottle = DEFAULT_REPLAY_MOVE_THROTTLE;
     @Builder.Default private boolean replaySaveLocal = true;
     @Builder.Default private int replayLocalTtl = DEFAULT_REPLAY_LOCAL_TTL;
+    @Builder.Default private boolean replayUploadCompress = false;
+    @Builder.Default private boolean replayUploadMultipart = false;
+    @Builder.Default private int replayUploadPartSizeMb = DEFAULT_REPLAY_UPLOAD_PART_SIZE_MB;
+    @Builder.Default private int replayUploadParallelParts = DEFAULT_REPLAY_UPLOAD_PARALLEL_PARTS;
+    @Builder.Default private int replaySpoolMaxMb = DEFAULT_REPLAY_SPOOL_MAX_MB;
+    @Builder.Default private int replayUploadQueueSize = DEFAULT_REPLAY_UPLOAD_QUEUE_SIZE;
+    @Builder.Default private int replayUploadBandwidthKbps = 0;
 
     private static List<String> defaultStatWipeCommands() {
         return new ArrayList<>(listOf(DEFAULT_STAT_WIPE_COMMAND));
@@ -127,6 +138,13 @@ public class BridgeConfig {
                 .replayMoveThrottle(getInt(data, "replay-move-throttle", DEFAULT_REPLAY_MOVE_THROTTLE))
                 .replaySaveLocal(getBool(data, "replay-save-local", true))
                 .replayLocalTtl(getInt(data, "replay-local-ttl", DEFAULT_REPLAY_LOCAL_TTL))
+                .replayUploadCompress(getBool(data, "replay-upload-compress", false))
+                .replayUploadMultipart(getBool(data, "replay-upload-multipart", false))
+                .replayUploadPartSizeMb(getInt(data, "replay-upload-part-size-mb", DEFAULT_REPLAY_UPLOAD_PART_SIZE_MB))
+                .replayUploadParallelParts(getInt(data, "replay-upload-parallel-parts", DEFAULT_REPLAY_UPLOAD_PARALLEL_PARTS))
+                .replaySpoolMaxMb(getInt(data, "replay-spool-max-mb", DEFAULT_REPLAY_SPOOL_MAX_MB))
+                .replayUploadQueueSize(getInt(data, "replay-upload-queue-size", DEFAULT_REPLAY_UPLOAD_QUEUE_SIZE))
+                .replayUploadBandwidthKbps(getInt(data, "replay-upload-bandwidth-kbps", 0))
                 .build();
     }
 
@@ -169,6 +187,13 @@ public class BridgeConfig {
         map.put("replay-move-throttle", replayMoveThrottle);
         map.put("replay-save-local", replaySaveLocal);
         map.put("replay-local-ttl", replayLocalTtl);
+        map.put("replay-upload-compress", replayUploadCompress);
+        map.put("replay-upload-multipart", replayUploadMultipart);
+        map.put("replay-upload-part-size-mb", replayUploadPartSizeMb);
+        map.put("replay-upload-parallel-parts", replayUploadParallelParts);
+        map.put("replay-spool-max-mb", replaySpoolMaxMb);
+        map.put("replay-upload-queue-size", replayUploadQueueSize);
+        map.put("replay-upload-bandwidth-kbps", replayUploadBandwidthKbps);
         return map;
     }
 
@@ -1,14 +1,13 @@
 package gg.modl.minecraft.bridge.freeze;
 
+import gg.modl.minecraft.bridge.ActivePlayerSet;
 import gg.modl.minecraft.bridge.locale.BridgeLocaleManager;
 import gg.modl.minecraft.bridge.query.BridgeQueryClient;
 import gg.modl.minecraft.core.bridge.protocol.BridgeAction;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 public class FreezeCore {
@@ -16,30 +15,38 @@ public class FreezeCore {
 
     private final BridgeLocaleManager localeManager;
     private final FreezeOps ops;
-    private final Map<UUID, UUID> frozenPlayerToStaff = new ConcurrentHashMap<>();
+    private final ActivePlayerSet frozen = new ActivePlayerSet();
 
     @Setter private BridgeQueryClient bridgeClient;
 
     public void freeze(String targetUuid, String staffUuid) {
         UUID target = UUID.fromString(targetUuid);
-        frozenPlayerToStaff.put(target, UUID.fromString(staffUuid));
+        frozen.add(target);
         ops.onFrozen(target);
         ops.sendMessage(target, localeManager.getMessage("freeze.frozen"));
     }
 
     public void unfreeze(String targetUuid) {
         UUID target = UUID.fromString(targetUuid);
-        frozenPlayerToStaff.remove(target);
+        frozen.remove(target);
         ops.onUnfrozen(target);
         ops.sendMessage(target, localeManager.getMessage("freeze.unfrozen"));
     }
 
     public boolean isFrozen(UUID uuid) {
-        return frozenPlayerToStaff.containsKey(uuid);
+        return frozen.contains(uuid);
+    }
+
+    public boolean hasFrozenPlayers() {
+        return !frozen.isEmpty();
+    }
+
+    public void onFreezeActivity(Runnable listener) {
+        frozen.onTransition(listener);
     }
 
     public boolean handleQuit(UUID uuid) {
-        if (frozenPlayerToStaff.remove(uuid) == null) return false;
+        if (!frozen.remove(uuid)) return false;
         String name = ops.playerName(uuid);
         if (name == null) name = UNKNOWN_NAME;
         if (bridgeClient != null) {
@@ -97,7 +97,7 @@ public class AutoReporter {
 
         CompletableFuture<String> replayFuture;
         try {
-            replayFuture = replayService.captureReplay(uuid, playerName);
+            replayFuture = replayService.captureAutomaticReplay(uuid, playerName);
         } catch (RuntimeException e) {
             logger.warning("[bridge] Replay capture failed for auto-report: " + playerName, e);
             finalizeTicket(uuid, uuidStr, anticheatName, subject, description, playerName, null);
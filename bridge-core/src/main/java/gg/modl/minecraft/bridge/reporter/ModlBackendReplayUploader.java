@@ -1,26 +1,32 @@
 package gg.modl.minecraft.bridge.reporter;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,6 +35,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
 
 public class ModlBackendReplayUploader implements AutoCloseable {
 
@@ -39,6 +46,9 @@ public class ModlBackendReplayUploader implements AutoCloseable {
     private final Gson gson;
     private final ExecutorService uploadExecutor;
     private final boolean ownsUploadExecutor;
+    private final ReplayUploadOptions options;
+    private final ExecutorService partExecutor;
+    private final UploadBandwidthLimiter bandwidthLimiter;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final ConcurrentHashMap.KeySetView<CompletableFuture<String>, Boolean> pendingUploads =
             ConcurrentHashMap.newKeySet();
@@ -47,17 +57,34 @@ public class ModlBackendReplayUploader implements AutoCloseable {
     private static final int CONNECT_TIMEOUT_MS = (int) Duration.ofSeconds(10).toMillis();
     private static final int READ_TIMEOUT_MS = (int) Duration.ofSeconds(30).toMillis();
     private static final int UPLOAD_READ_TIMEOUT_MS = (int) Duration.ofMinutes(5).toMillis();
+    private static final long PART_RETRY_BACKOFF_MS = Duration.ofSeconds(1).toMillis();
+    static final int MAX_RESUME_ATTEMPTS = 3;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String COMPRESSED_SUFFIX = ".gz";
+
     public ModlBackendReplayUploader(String backendUrl, String apiKey, String serverDomain, Logger logger) {
-        this(backendUrl, apiKey, serverDomain, logger, createUploadExecutor(), true);
+        this(backendUrl, apiKey, serverDomain, logger, ReplayUploadOptions.defaults());
+    }
+
+    public ModlBackendReplayUploader(String backendUrl, String apiKey, String serverDomain, Logger logger,
+                                     ReplayUploadOptions options) {
+        this(backendUrl, apiKey, serverDomain, logger, createUploadExecutor(), true, options);
     }
 
     ModlBackendReplayUploader(String backendUrl, String apiKey, String serverDomain, Logger logger,
                               ExecutorService uploadExecutor) {
-        this(backendUrl, apiKey, serverDomain, logger, uploadExecutor, false);
+        this(backendUrl, apiKey, serverDomain, logger, uploadExecutor, false, ReplayUploadOptions.defaults());
+    }
+
+    ModlBackendReplayUploader(String backendUrl, String apiKey, String serverDomain, Logger logger,
+                              ExecutorService uploadExecutor, ReplayUploadOptions options) {
+        this(backendUrl, apiKey, serverDomain, logger, uploadExecutor, false, options);
     }
 
     private ModlBackendReplayUploader(String backendUrl, String apiKey, String serverDomain, Logger logger,
-                                      ExecutorService uploadExecutor, boolean ownsUploadExecutor) {
+                                      ExecutorService uploadExecutor, boolean ownsUploadExecutor,
+                                      ReplayUploadOptions options) {
         this.backendUrl = normalizeBackendUrl(backendUrl);
         this.apiKey = apiKey;
         this.serverDomain = serverDomain;
@@ -65,6 +92,11 @@ public class ModlBackendReplayUploader implements AutoCloseable {
         this.gson = new Gson();
         this.uploadExecutor = uploadExecutor;
         this.ownsUploadExecutor = ownsUploadExecutor;
+        this.options = options;
+        this.partExecutor = options.isMultipart()
+                ? createExecutor("modl-replay-upload-part-", options.getParallelParts()) : null;
+        this.bandwidthLimiter = options.getMaxBytesPerSecond() > 0
+                ? new UploadBandwidthLimiter(options.getMaxBytesPerSecond()) : null;
     }
 
     private static String normalizeBackendUrl(String backendUrl) {
@@ -104,13 +136,7 @@ public class ModlBackendReplayUploader implements AutoCloseable {
 
         Runnable uploadTask = () -> {
             try {
-                throwIfClosed();
-                InitResponse init = initUpload(replayFile, mcVersion, targetUuid, targetName);
-                throwIfClosed();
-                uploadToStorage(replayFile, init);
-                throwIfClosed();
-                confirmUpload(init.replayId);
-                future.complete(init.replayId);
+                future.complete(upload(replayFile, mcVersion, targetUuid, targetName));
             } catch (Exception e) {
                 future.completeExceptionally(new RuntimeException("Replay upload failed: " + e.getMessage(), e));
             } finally {
@@ -129,6 +155,25 @@ public class ModlBackendReplayUploader implements AutoCloseable {
         return future;
     }
 
+    public List<File> findResumableUploads(File replaysDir) {
+        List<File> resumable = new ArrayList<>();
+        File[] files = replaysDir.listFiles();
+        if (files == null) return resumable;
+        for (File file : files) {
+            if (!file.isFile() || !ReplayUploadManifest.isManifestFile(file)) continue;
+            File replayFile = ReplayUploadManifest.replayFileFor(file);
+            if (ReplayUploadManifest.load(replayFile, gson) != null) {
+                resumable.add(replayFile);
+                continue;
+            }
+            if (!file.delete()) {
+                logger.warning("[bridge] Failed to delete stale replay upload manifest " + file.getAbsolutePath());
+            }
+            deletePayload(replayFile, compressedPayloadFor(replayFile));
+        }
+        return resumable;
+    }
+
     @Override
     public void close() {
         closed.set(true);
@@ -137,12 +182,306 @@ public class ModlBackendReplayUploader implements AutoCloseable {
         if (ownsUploadExecutor) {
             uploadExecutor.shutdownNow();
         }
+        if (partExecutor != null) {
+            partExecutor.shutdownNow();
+        }
+    }
+
+    private String upload(File replayFile, String mcVersion, UUID targetUuid, String targetName) throws IOException {
+        throwIfClosed();
+        if (options.isMultipart()) {
+            ReplayUploadManifest manifest = ReplayUploadManifest.load(replayFile, gson);
+            if (manifest != null && manifest.resumeAttempts < MAX_RESUME_ATTEMPTS) {
+                manifest.resumeAttempts++;
+                manifest.save(replayFile, gson);
+                logger.info("[bridge] Resuming replay upload " + manifest.replayId + " ("
+                        + manifest.pendingParts().size() + " of " + manifest.parts.size() + " parts remaining, attempt "
+                        + manifest.resumeAttempts + " of " + MAX_RESUME_ATTEMPTS + ")");
+                refreshPartUrls(replayFile, manifest);
+                return uploadParts(replayFile, manifest);
+            }
+            if (manifest != null) {
+                logger.warning("[bridge] Giving up on resuming replay upload " + manifest.replayId + " after "
+                        + manifest.resumeAttempts + " attempts; starting a fresh upload");
+                abortUpload(manifest);
+                ReplayUploadManifest.delete(replayFile);
+                deletePayload(replayFile, new File(manifest.payloadPath));
+                if (mcVersion == null) mcVersion = manifest.mcVersion;
+                if (targetUuid == null && manifest.targetUuid != null) targetUuid = UUID.fromString(manifest.targetUuid);
+                if (targetName == null) targetName = manifest.targetName;
+            }
+        }
+
+        File payload = options.isCompress() ? compress(replayFile) : replayFile;
+        boolean keepPayload = false;
+        try {
+            throwIfClosed();
+            InitResponse init = initUpload(replayFile, payload, mcVersion, targetUuid, targetName);
+            throwIfClosed();
+            if (init.parts.isEmpty() || partExecutor == null) {
+                uploadToStorage(payload, 0L, payload.length(), init.uploadUrl, init.method, init.requiredHeaders);
+                throwIfClosed();
+                confirmUpload(init.replayId, null);
+                return init.replayId;
+            }
+
+            ReplayUploadManifest manifest = createManifest(replayFile, payload, init);
+            manifest.mcVersion = mcVersion;
+            manifest.targetUuid = targetUuid != null ? targetUuid.toString() : null;
+            manifest.targetName = targetName;
+            manifest.save(replayFile, gson);
+            keepPayload = true;
+            return uploadParts(replayFile, manifest);
+        } finally {
+            if (!keepPayload) deletePayload(replayFile, payload);
+        }
     }
 
-    private InitResponse initUpload(File file, String mcVersion, UUID targetUuid, String targetName) throws IOException {
+    private String uploadParts(File replayFile, ReplayUploadManifest manifest) throws IOException {
+        File payload = new File(manifest.payloadPath);
+        List<CompletableFuture<Void>> partUploads = new ArrayList<>();
+        for (ReplayUploadManifest.Part part : manifest.pendingParts()) {
+            partUploads.add(CompletableFuture.runAsync(() -> {
+                try {
+                    String etag = uploadPartWithRetry(payload, part);
+                    manifest.markUploaded(part, etag, replayFile, gson);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, partExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(partUploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw e;
+        }
+
+        throwIfClosed();
+        JsonObject body = new JsonObject();
+        body.addProperty("uploadId", manifest.uploadId);
+        JsonArray parts = new JsonArray();
+        for (ReplayUploadManifest.Part part : manifest.uploadedParts()) {
+            JsonObject partJson = new JsonObject();
+            partJson.addProperty("partNumber", part.partNumber);
+            partJson.addProperty("etag", part.etag);
+            parts.add(partJson);
+        }
+        body.add("parts", parts);
+        confirmUpload(manifest.replayId, body);
+
+        ReplayUploadManifest.delete(replayFile);
+        deletePayload(replayFile, payload);
+        return manifest.replayId;
+    }
+
+    private String uploadPartWithRetry(File payload, ReplayUploadManifest.Part part) throws IOException {
+        IOException lastIoFailure = null;
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; attempt <= options.getMaxPartAttempts(); attempt++) {
+            throwIfClosed();
+            try {
+                String etag = uploadToStorage(payload, part.offset, part.length, part.uploadUrl, part.method,
+                        part.requiredHeaders);
+                if (etag != null && !etag.trim().isEmpty()) return etag;
+                lastFailure = new RuntimeException("Storage returned no ETag for part " + part.partNumber);
+            } catch (IOException e) {
+                lastIoFailure = e;
+            } catch (RejectedExecutionException | IllegalArgumentException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+            }
+            if (attempt < options.getMaxPartAttempts()) {
+                sleepBeforeRetry(attempt);
+            }
+        }
+        if (lastFailure != null) {
+            throw new RuntimeException("Part " + part.partNumber + " failed after "
+                    + options.getMaxPartAttempts() + " attempts: " + lastFailure.getMessage(), lastFailure);
+        }
+        throw lastIoFailure;
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(PART_RETRY_BACKOFF_MS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Replay upload interrupted", e);
+        }
+    }
+
+    private ReplayUploadManifest createManifest(File replayFile, File payload, InitResponse init) {
+        long payloadSize = payload.length();
+        long partSize = init.partSize > 0 ? init.partSize : options.getPartSizeBytes();
+
+        ReplayUploadManifest manifest = new ReplayUploadManifest();
+        manifest.replayId = init.replayId;
+        manifest.uploadId = init.uploadId;
+        manifest.sourceSize = replayFile.length();
+        manifest.sourceLastModified = replayFile.lastModified();
+        manifest.payloadPath = payload.getAbsolutePath();
+        manifest.contentEncoding = payload.equals(replayFile) ? null : GZIP_ENCODING;
+        manifest.partSize = partSize;
+        for (InitPart initPart : init.parts) {
+            long offset = (initPart.partNumber - 1L) * partSize;
+            if (initPart.partNumber < 1 || offset >= payloadSize) {
+                throw new RuntimeException("Malformed init response: part " + initPart.partNumber
+                        + " is outside the " + payloadSize + " byte payload");
+            }
+            ReplayUploadManifest.Part part = new ReplayUploadManifest.Part();
+            part.partNumber = initPart.partNumber;
+            part.offset = offset;
+            part.length = Math.min(partSize, payloadSize - offset);
+            part.uploadUrl = initPart.uploadUrl;
+            part.method = initPart.method;
+            part.requiredHeaders = initPart.requiredHeaders;
+            manifest.parts.add(part);
+        }
+        if (!manifest.coversExactly(payloadSize)) {
+            throw new RuntimeException("Malformed init response: parts do not cover the " + payloadSize
+                    + " byte payload");
+        }
+        return manifest;
+    }
+
+    /**
+     * Presigned part URLs saved in the manifest have usually expired by the time an upload is resumed, so the
+     * backend re-signs the pending parts of the existing multipart upload.
+     */
+    private void refreshPartUrls(File replayFile, ReplayUploadManifest manifest) throws IOException {
+        List<ReplayUploadManifest.Part> pending = manifest.pendingParts();
+        if (pending.isEmpty()) return;
+        JsonObject body = new JsonObject();
+        body.addProperty("uploadId", manifest.uploadId);
+        JsonArray partNumbers = new JsonArray();
+        for (ReplayUploadManifest.Part part : pending) partNumbers.add(part.partNumber);
+        body.add("partNumbers", partNumbers);
+
+        HttpURLConnection connection = openBackendConnection("/v1/minecraft/replays/upload/" + manifest.replayId + "/parts");
+        Map<Integer, InitPart> refreshed = new LinkedHashMap<>();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+            connection.setReadTimeout(READ_TIMEOUT_MS);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty("User-Agent", USER_AGENT);
+            connection.setRequestProperty("X-API-Key", apiKey);
+            connection.setRequestProperty("X-Server-Domain", serverDomain);
+            connection.setDoOutput(true);
+
+            try (OutputStream os = connection.getOutputStream()) {
+                os.write(gson.toJson(body).getBytes(StandardCharsets.UTF_8));
+            }
+
+            int statusCode = connection.getResponseCode();
+            String responseBody = readResponseBody(connection);
+            if (statusCode != 200) {
+                throw new RuntimeException("Part URL refresh failed (HTTP " + statusCode + ") for replay "
+                        + manifest.replayId + ": " + responseBody);
+            }
+            JsonObject json = gson.fromJson(responseBody, JsonObject.class);
+            if (json == null || !json.has("parts") || !json.get("parts").isJsonArray()) {
+                throw new RuntimeException("Malformed part URL refresh response: " + responseBody);
+            }
+            for (InitPart part : readParts(json.getAsJsonArray("parts"))) refreshed.put(part.partNumber, part);
+        } finally {
+            connection.disconnect();
+        }
+
+        for (ReplayUploadManifest.Part part : pending) {
+            InitPart fresh = refreshed.get(part.partNumber);
+            if (fresh == null) {
+                throw new RuntimeException("Part URL refresh response is missing part " + part.partNumber);
+            }
+            part.uploadUrl = fresh.uploadUrl;
+            part.method = fresh.method;
+            part.requiredHeaders = fresh.requiredHeaders;
+        }
+        manifest.save(replayFile, gson);
+    }
+
+    /**
+     * Best effort: asks the backend to abort an abandoned multipart upload so storage does not keep its parts around
+     * until the bucket's lifecycle rule expires them. A failure is logged and the fresh upload goes ahead regardless.
+     */
+    private void abortUpload(ReplayUploadManifest manifest) {
+        if (manifest.uploadId == null) return;
+        JsonObject body = new JsonObject();
+        body.addProperty("uploadId", manifest.uploadId);
+
+        try {
+            HttpURLConnection connection =
+                    openBackendConnection("/v1/minecraft/replays/upload/" + manifest.replayId + "/abort");
+            try {
+                connection.setRequestMethod("POST");
+                connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+                connection.setReadTimeout(READ_TIMEOUT_MS);
+                connection.setRequestProperty("Content-Type", "application/json");
+                connection.setRequestProperty("User-Agent", USER_AGENT);
+                connection.setRequestProperty("X-API-Key", apiKey);
+                connection.setRequestProperty("X-Server-Domain", serverDomain);
+                connection.setDoOutput(true);
+
+                try (OutputStream os = connection.getOutputStream()) {
+                    os.write(gson.toJson(body).getBytes(StandardCharsets.UTF_8));
+                }
+
+                int statusCode = connection.getResponseCode();
+                if (statusCode < 200 || statusCode >= 300) {
+                    logger.warning("[bridge] Failed to abort multipart upload for replay " + manifest.replayId
+                            + " (HTTP " + statusCode + "): " + readResponseBody(connection));
+                }
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("[bridge] Failed to abort multipart upload for replay " + manifest.replayId + ": "
+                    + e.getMessage());
+        }
+    }
+
+    static File compressedPayloadFor(File replayFile) {
+        return new File(replayFile.getParentFile(), replayFile.getName() + COMPRESSED_SUFFIX);
+    }
+
+    private static File compress(File replayFile) throws IOException {
+        File compressed = compressedPayloadFor(replayFile);
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(compressed.toPath()), COPY_BUFFER_SIZE)) {
+            Files.copy(replayFile.toPath(), os);
+        } catch (IOException e) {
+            compressed.delete();
+            throw e;
+        }
+        return compressed;
+    }
+
+    private void deletePayload(File replayFile, File payload) {
+        if (payload.equals(replayFile) || !payload.exists()) return;
+        if (!payload.delete()) {
+            logger.warning("[bridge] Failed to delete compressed replay payload " + payload.getAbsolutePath());
+        }
+    }
+
+    private InitResponse initUpload(File file, File payload, String mcVersion, UUID targetUuid, String targetName)
+            throws IOException {
         JsonObject body = new JsonObject();
         body.addProperty("mcVersion", mcVersion);
-        body.addProperty("fileSize", file.length());
+        body.addProperty("fileSize", payload.length());
+        if (!payload.equals(file)) {
+            body.addProperty("contentEncoding", GZIP_ENCODING);
+            body.addProperty("originalSize", file.length());
+        }
+        if (options.isMultipart() && payload.length() > options.getPartSizeBytes()) {
+            long partSize = options.getPartSizeBytes();
+            body.addProperty("multipart", true);
+            body.addProperty("partSize", partSize);
+            body.addProperty("partCount", (payload.length() + partSize - 1) / partSize);
+        }
         if (targetUuid != null) {
             body.addProperty("targetUuid", targetUuid.toString());
         }
@@ -173,50 +512,81 @@ public class ModlBackendReplayUploader implements AutoCloseable {
             }
 
             JsonObject json = gson.fromJson(responseBody, JsonObject.class);
-            if (json == null || !json.has("replayId") || !json.has("uploadUrl")) {
+            boolean hasParts = json != null && json.has("parts") && json.get("parts").isJsonArray()
+                    && json.getAsJsonArray("parts").size() > 0;
+            if (json == null || !json.has("replayId") || (!json.has("uploadUrl") && !hasParts)) {
                 throw new RuntimeException("Malformed init response: " + responseBody);
             }
 
-            String method = (json.has("method") && json.get("method").isJsonPrimitive())
-                    ? json.get("method").getAsString() : null;
-
-            Map<String, String> requiredHeaders = new LinkedHashMap<>();
-            if (json.has("requiredHeaders") && json.get("requiredHeaders").isJsonObject()) {
-                for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("requiredHeaders").entrySet()) {
-                    putHeaderIfPrimitive(requiredHeaders, entry);
-                }
-            }
+            List<InitPart> parts = hasParts ? readParts(json.getAsJsonArray("parts")) : new ArrayList<>();
 
             return new InitResponse(
                     json.get("replayId").getAsString(),
-                    json.get("uploadUrl").getAsString(),
-                    method,
-                    requiredHeaders
+                    json.has("uploadUrl") ? json.get("uploadUrl").getAsString() : null,
+                    readMethod(json),
+                    readRequiredHeaders(json),
+                    json.has("uploadId") ? json.get("uploadId").getAsString() : null,
+                    json.has("partSize") ? json.get("partSize").getAsLong() : 0L,
+                    parts
             );
         } finally {
             connection.disconnect();
         }
     }
 
-    private void uploadToStorage(File file, InitResponse init) throws IOException {
-        URL uploadUrl = parseTrustedHttpUri(init.uploadUrl, "presigned upload URL", true).toURL();
+    private static List<InitPart> readParts(JsonArray array) {
+        List<InitPart> parts = new ArrayList<>();
+        for (JsonElement element : array) {
+            if (!element.isJsonObject() || !element.getAsJsonObject().has("partNumber")
+                    || !element.getAsJsonObject().has("uploadUrl")) {
+                throw new RuntimeException("Malformed upload part: " + element);
+            }
+            JsonObject partJson = element.getAsJsonObject();
+            parts.add(new InitPart(
+                    partJson.get("partNumber").getAsInt(),
+                    partJson.get("uploadUrl").getAsString(),
+                    readMethod(partJson),
+                    readRequiredHeaders(partJson)
+            ));
+        }
+        return parts;
+    }
+
+    private static String readMethod(JsonObject json) {
+        return (json.has("method") && json.get("method").isJsonPrimitive())
+                ? json.get("method").getAsString() : null;
+    }
+
+    private static Map<String, String> readRequiredHeaders(JsonObject json) {
+        Map<String, String> requiredHeaders = new LinkedHashMap<>();
+        if (json.has("requiredHeaders") && json.get("requiredHeaders").isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("requiredHeaders").entrySet()) {
+                putHeaderIfPrimitive(requiredHeaders, entry);
+            }
+        }
+        return requiredHeaders;
+    }
+
+    private String uploadToStorage(File file, long offset, long length, String rawUploadUrl, String rawMethod,
+                                   Map<String, String> requiredHeaders) throws IOException {
+        URL uploadUrl = parseTrustedHttpUri(rawUploadUrl, "presigned upload URL", true).toURL();
         HttpURLConnection connection = (HttpURLConnection) uploadUrl.openConnection();
         try {
-            String method = (init.method != null && !init.method.trim().isEmpty())
-                    ? init.method.trim().toUpperCase(Locale.ROOT) : "PUT";
+            String method = (rawMethod != null && !rawMethod.trim().isEmpty())
+                    ? rawMethod.trim().toUpperCase(Locale.ROOT) : "PUT";
             connection.setRequestMethod(method);
             connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
             connection.setReadTimeout(UPLOAD_READ_TIMEOUT_MS);
-            connection.setFixedLengthStreamingMode(file.length());
+            connection.setFixedLengthStreamingMode(length);
             connection.setDoOutput(true);
 
-            if (!applySignedHeaders(connection, init.requiredHeaders)) {
+            if (!applySignedHeaders(connection, requiredHeaders)) {
                 connection.setRequestProperty("Content-Type", "application/octet-stream");
             }
             connection.setRequestProperty("User-Agent", USER_AGENT);
 
             try (OutputStream os = connection.getOutputStream()) {
-                Files.copy(file.toPath(), os);
+                copyRange(file, offset, length, os);
             }
 
             int statusCode = connection.getResponseCode();
@@ -224,12 +594,33 @@ public class ModlBackendReplayUploader implements AutoCloseable {
                 String responseBody = readResponseBody(connection);
                 throw new RuntimeException("Storage upload failed (HTTP " + statusCode + "): " + responseBody);
             }
+            return connection.getHeaderField("ETag");
         } finally {
             connection.disconnect();
         }
     }
 
-    private void confirmUpload(String replayId) throws IOException {
+    private void copyRange(File file, long offset, long length, OutputStream os) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            long skipped = 0L;
+            while (skipped < offset) {
+                long n = in.skip(offset - skipped);
+                if (n <= 0) throw new IOException("Replay payload is shorter than expected: " + file.getName());
+                skipped += n;
+            }
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) throw new IOException("Replay payload is shorter than expected: " + file.getName());
+                if (bandwidthLimiter != null) bandwidthLimiter.acquire(read);
+                os.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private void confirmUpload(String replayId, JsonObject body) throws IOException {
         HttpURLConnection connection = openBackendConnection("/v1/minecraft/replays/confirm/" + replayId);
         try {
             connection.setRequestMethod("POST");
@@ -239,9 +630,12 @@ public class ModlBackendReplayUploader implements AutoCloseable {
             connection.setRequestProperty("X-API-Key", apiKey);
             connection.setRequestProperty("X-Server-Domain", serverDomain);
             connection.setDoOutput(true);
+            if (body != null) {
+                connection.setRequestProperty("Content-Type", "application/json");
+            }
 
             try (OutputStream os = connection.getOutputStream()) {
-                os.write(new byte[0]);
+                os.write(body != null ? gson.toJson(body).getBytes(StandardCharsets.UTF_8) : new byte[0]);
             }
 
             int statusCode = connection.getResponseCode();
@@ -355,12 +749,16 @@ public class ModlBackendReplayUploader implements AutoCloseable {
     }
 
     private static ExecutorService createUploadExecutor() {
-        return Executors.newSingleThreadExecutor(new ThreadFactory() {
+        return createExecutor("modl-replay-upload-", 1);
+    }
+
+    private static ExecutorService createExecutor(String threadPrefix, int threads) {
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
             private final AtomicInteger nextId = new AtomicInteger(1);
 
             @Override
             public Thread newThread(Runnable runnable) {
-                Thread thread = new Thread(runnable, "modl-replay-upload-" + nextId.getAndIncrement());
+                Thread thread = new Thread(runnable, threadPrefix + nextId.getAndIncrement());
                 thread.setDaemon(true);
                 return thread;
             }
@@ -372,12 +770,33 @@ public class ModlBackendReplayUploader implements AutoCloseable {
         final String uploadUrl;
         final String method;
         final Map<String, String> requiredHeaders;
+        final String uploadId;
+        final long partSize;
+        final List<InitPart> parts;
 
-        InitResponse(String replayId, String uploadUrl, String method, Map<String, String> requiredHeaders) {
+        InitResponse(String replayId, String uploadUrl, String method, Map<String, String> requiredHeaders,
+                     String uploadId, long partSize, List<InitPart> parts) {
             this.replayId = replayId;
             this.uploadUrl = uploadUrl;
             this.method = method;
             this.requiredHeaders = requiredHeaders;
+            this.uploadId = uploadId;
+            this.partSize = partSize;
+            this.parts = parts;
+        }
+    }
+
+    private static class InitPart {
+        final int partNumber;
+        final String uploadUrl;
+        final String method;
+        final Map<String, String> requiredHeaders;
+
+        InitPart(int partNumber, String uploadUrl, String method, Map<String, String> requiredHeaders) {
+            this.partNumber = partNumber;
+            this.uploadUrl = uploadUrl;
+            this.method = method;
+            this.requiredHeaders = requiredHeaders;
         }
     }
 }
@@ -0,0 +1,253 @@
+package gg.modl.minecraft.bridge.reporter;
+
+import gg.modl.minecraft.core.metrics.Counter;
+import gg.modl.minecraft.core.metrics.Metrics;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static gg.modl.minecraft.core.util.Java8Collections.failedFuture;
+
+public class ReplaySpool implements AutoCloseable {
+    private static final long ACTIVE_WRITE_GRACE_MS = Duration.ofMinutes(1).toMillis();
+    private static final Comparator<Entry> DISPATCH_ORDER = Comparator
+            .comparing((Entry entry) -> entry.priority)
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final File directory;
+    private final Uploader uploader;
+    private final long maxBytes;
+    private final int queueCapacity;
+    private final Logger logger;
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(DISPATCH_ORDER);
+    private final AtomicLong evictedFiles = new AtomicLong();
+    private final Counter evictedFilesTotal = Metrics.registry().counter("modl_replay_spool_evicted_files_total",
+            "Replay files evicted to stay within the spool budget");
+    private long nextSequence;
+    private long bytesPending;
+    private long spoolBytes;
+    private Entry inFlight;
+    private boolean closed;
+
+    public ReplaySpool(File directory, ModlBackendReplayUploader uploader, String mcVersion,
+                       long maxBytes, int queueCapacity, Logger logger) {
+        this(directory, (replayFile, targetUuid, targetName) ->
+                uploader.uploadAsync(replayFile, mcVersion, targetUuid, targetName), maxBytes, queueCapacity, logger);
+    }
+
+    ReplaySpool(File directory, Uploader uploader, long maxBytes, int queueCapacity, Logger logger) {
+        this.directory = directory;
+        this.uploader = uploader;
+        this.maxBytes = maxBytes;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.logger = logger;
+    }
+
+    public CompletableFuture<String> submit(File replayFile, UUID targetUuid, String targetName,
+                                            ReplayUploadPriority priority) {
+        Entry entry;
+        synchronized (this) {
+            if (closed) throw new RejectedExecutionException("Replay spool is closed");
+
+            entry = new Entry(replayFile, targetUuid, targetName, priority, nextSequence++);
+            if (queue.size() >= queueCapacity) {
+                Entry lowest = lowestQueued();
+                if (DISPATCH_ORDER.compare(entry, lowest) > 0) {
+                    return failedFuture(new RejectedExecutionException(
+                            "Replay upload queue is full (" + queueCapacity + " pending)"));
+                }
+                queue.remove(lowest);
+                bytesPending -= lowest.size;
+                lowest.future.completeExceptionally(new RejectedExecutionException(
+                        "Replay upload displaced by a higher priority capture"));
+                logger.warning("[bridge] Replay upload queue full; dropped queued upload " + lowest.file.getName());
+            }
+            queue.add(entry);
+            bytesPending += entry.size;
+        }
+
+        enforceDiskBudget();
+        dispatchNext();
+        return entry.future;
+    }
+
+    public void sweep(long ttlMillis) {
+        long now = System.currentTimeMillis();
+        for (File file : listFiles()) {
+            if (now - file.lastModified() > ttlMillis && !isPending(file) && file.delete()) {
+                recordEviction();
+            }
+        }
+        enforceDiskBudget();
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public synchronized long getBytesPending() {
+        return bytesPending;
+    }
+
+    public synchronized long getSpoolBytes() {
+        return spoolBytes;
+    }
+
+    public long getEvictedFiles() {
+        return evictedFiles.get();
+    }
+
+    @Override
+    public void close() {
+        List<Entry> dropped;
+        synchronized (this) {
+            closed = true;
+            dropped = new ArrayList<>(queue);
+            queue.clear();
+            bytesPending = inFlight != null ? inFlight.size : 0L;
+        }
+        RejectedExecutionException closedException = new RejectedExecutionException("Replay spool is closed");
+        dropped.forEach(entry -> entry.future.completeExceptionally(closedException));
+    }
+
+    public void enforceDiskBudget() {
+        File[] files = listFiles();
+        long total = 0L;
+        for (File file : files) total += file.length();
+
+        if (total > maxBytes) {
+            long now = System.currentTimeMillis();
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            for (File file : files) {
+                if (total <= maxBytes) break;
+                if (isPending(file) || now - file.lastModified() < ACTIVE_WRITE_GRACE_MS) continue;
+                long size = file.length();
+                if (file.delete()) {
+                    total -= size;
+                    recordEviction();
+                }
+            }
+        }
+
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (total > maxBytes) {
+                List<Entry> automatic = new ArrayList<>();
+                for (Entry entry : queue) {
+                    if (entry.priority == ReplayUploadPriority.AUTOMATIC) automatic.add(entry);
+                }
+                automatic.sort(Comparator.comparingLong(entry -> entry.sequence));
+                for (Iterator<Entry> it = automatic.iterator(); it.hasNext() && total > maxBytes; ) {
+                    Entry entry = it.next();
+                    queue.remove(entry);
+                    bytesPending -= entry.size;
+                    total -= entry.size;
+                    evicted.add(entry);
+                }
+            }
+            spoolBytes = total;
+        }
+
+        for (Entry entry : evicted) {
+            entry.future.completeExceptionally(new RejectedExecutionException(
+                    "Replay spool is over its " + maxBytes + " byte budget"));
+            if (entry.file.delete()) recordEviction();
+            logger.warning("[bridge] Replay spool over budget; evicted queued upload " + entry.file.getName());
+        }
+    }
+
+    private void recordEviction() {
+        evictedFiles.incrementAndGet();
+        evictedFilesTotal.inc();
+    }
+
+    private void dispatchNext() {
+        Entry entry;
+        synchronized (this) {
+            if (closed || inFlight != null || queue.isEmpty()) return;
+            entry = queue.poll();
+            inFlight = entry;
+        }
+
+        CompletableFuture<String> upload;
+        try {
+            upload = uploader.upload(entry.file, entry.targetUuid, entry.targetName);
+        } catch (RuntimeException e) {
+            upload = failedFuture(e);
+        }
+        upload.whenComplete((replayId, ex) -> {
+            synchronized (this) {
+                inFlight = null;
+                bytesPending -= entry.size;
+            }
+            if (ex != null) {
+                entry.future.completeExceptionally(ex);
+            } else {
+                entry.future.complete(replayId);
+            }
+            dispatchNext();
+        });
+    }
+
+    private synchronized boolean isPending(File file) {
+        if (inFlight != null && inFlight.owns(file)) return true;
+        for (Entry entry : queue) {
+            if (entry.owns(file)) return true;
+        }
+        return false;
+    }
+
+    private Entry lowestQueued() {
+        Entry lowest = null;
+        for (Entry entry : queue) {
+            if (lowest == null || DISPATCH_ORDER.compare(entry, lowest) > 0) lowest = entry;
+        }
+        return lowest;
+    }
+
+    private File[] listFiles() {
+        File[] files = directory.listFiles(File::isFile);
+        return files != null ? files : new File[0];
+    }
+
+    interface Uploader {
+        CompletableFuture<String> upload(File replayFile, UUID targetUuid, String targetName);
+    }
+
+    private static final class Entry {
+        final File file;
+        final UUID targetUuid;
+        final String targetName;
+        final ReplayUploadPriority priority;
+        final long sequence;
+        final long size;
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Entry(File file, UUID targetUuid, String targetName, ReplayUploadPriority priority, long sequence) {
+            this.file = file;
+            this.targetUuid = targetUuid;
+            this.targetName = targetName;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.size = file.length();
+        }
+
+        boolean owns(File candidate) {
+            String name = candidate.getName();
+            return name.equals(file.getName())
+                    || name.equals(ModlBackendReplayUploader.compressedPayloadFor(file).getName())
+                    || name.equals(ReplayUploadManifest.fileFor(file).getName());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package gg.modl.minecraft.bridge.reporter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class ReplayUploadManifest {
+    private static final String MANIFEST_SUFFIX = ".upload.json";
+
+    String replayId;
+    String uploadId;
+    long sourceSize;
+    long sourceLastModified;
+    String payloadPath;
+    String contentEncoding;
+    long partSize;
+    String mcVersion;
+    String targetUuid;
+    String targetName;
+    int resumeAttempts;
+    List<Part> parts = new ArrayList<>();
+
+    static File fileFor(File replayFile) {
+        return new File(replayFile.getParentFile(), replayFile.getName() + MANIFEST_SUFFIX);
+    }
+
+    static boolean isManifestFile(File file) {
+        return file.getName().endsWith(MANIFEST_SUFFIX);
+    }
+
+    static File replayFileFor(File manifestFile) {
+        String name = manifestFile.getName();
+        return new File(manifestFile.getParentFile(), name.substring(0, name.length() - MANIFEST_SUFFIX.length()));
+    }
+
+    static ReplayUploadManifest load(File replayFile, Gson gson) {
+        File manifestFile = fileFor(replayFile);
+        if (!manifestFile.isFile()) return null;
+        try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            ReplayUploadManifest manifest = gson.fromJson(reader, ReplayUploadManifest.class);
+            if (manifest == null || !manifest.matches(replayFile)) return null;
+            return manifest;
+        } catch (IOException | JsonParseException e) {
+            return null;
+        }
+    }
+
+    boolean matches(File replayFile) {
+        return replayId != null && payloadPath != null && parts != null && !parts.isEmpty()
+                && sourceSize == replayFile.length()
+                && sourceLastModified == replayFile.lastModified()
+                && new File(payloadPath).isFile()
+                && coversExactly(new File(payloadPath).length());
+    }
+
+    /**
+     * True when the parts tile {@code [0, payloadLength)} with no gaps, overlaps or repeated part numbers.
+     */
+    synchronized boolean coversExactly(long payloadLength) {
+        List<Part> byOffset = new ArrayList<>(parts);
+        byOffset.sort(Comparator.comparingLong(part -> part.offset));
+        Set<Integer> partNumbers = new HashSet<>();
+        long next = 0L;
+        for (Part part : byOffset) {
+            if (part.offset != next || part.length <= 0 || !partNumbers.add(part.partNumber)) return false;
+            next += part.length;
+        }
+        return next == payloadLength;
+    }
+
+    synchronized void markUploaded(Part part, String etag, File replayFile, Gson gson) throws IOException {
+        part.etag = etag;
+        save(replayFile, gson);
+    }
+
+    synchronized void save(File replayFile, Gson gson) throws IOException {
+        File manifestFile = fileFor(replayFile);
+        File tempFile = new File(manifestFile.getParentFile(), manifestFile.getName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+            gson.toJson(this, writer);
+        }
+        Files.move(tempFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    synchronized List<Part> pendingParts() {
+        List<Part> pending = new ArrayList<>();
+        for (Part part : parts) {
+            if (part.etag == null || part.etag.isEmpty()) pending.add(part);
+        }
+        return pending;
+    }
+
+    synchronized List<Part> uploadedParts() {
+        return new ArrayList<>(parts);
+    }
+
+    static void delete(File replayFile) {
+        File manifestFile = fileFor(replayFile);
+        if (manifestFile.exists() && !manifestFile.delete()) {
+            manifestFile.deleteOnExit();
+        }
+    }
+
+    static final class Part {
+        int partNumber;
+        long offset;
+        long length;
+        String uploadUrl;
+        String method;
+        Map<String, String> requiredHeaders = new LinkedHashMap<>();
+        String etag;
+    }
+}
@@ -0,0 +1,34 @@
+package gg.modl.minecraft.bridge.reporter;
+
+import gg.modl.minecraft.bridge.config.BridgeConfig;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReplayUploadOptions {
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final long MIN_PART_SIZE_BYTES = 5L * BYTES_PER_MEGABYTE;
+    private static final long BYTES_PER_KILOBYTE = 1024L;
+
+    @Builder.Default boolean compress = false;
+    @Builder.Default boolean multipart = false;
+    @Builder.Default long partSizeBytes = 8L * BYTES_PER_MEGABYTE;
+    @Builder.Default int parallelParts = 3;
+    @Builder.Default int maxPartAttempts = 3;
+    @Builder.Default long maxBytesPerSecond = 0L;
+
+    public static ReplayUploadOptions defaults() {
+        return ReplayUploadOptions.builder().build();
+    }
+
+    public static ReplayUploadOptions fromConfig(BridgeConfig config) {
+        return ReplayUploadOptions.builder()
+                .compress(config.isReplayUploadCompress())
+                .multipart(config.isReplayUploadMultipart())
+                .partSizeBytes(Math.max(MIN_PART_SIZE_BYTES, config.getReplayUploadPartSizeMb() * BYTES_PER_MEGABYTE))
+                .parallelParts(Math.max(1, config.getReplayUploadParallelParts()))
+                .maxBytesPerSecond(Math.max(0L, config.getReplayUploadBandwidthKbps() * BYTES_PER_KILOBYTE))
+                .build();
+    }
+}
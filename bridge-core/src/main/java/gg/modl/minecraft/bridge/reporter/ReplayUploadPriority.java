@@ -0,0 +1,6 @@
+package gg.modl.minecraft.bridge.reporter;
+
+public enum ReplayUploadPriority {
+    STAFF,
+    AUTOMATIC
+}
@@ -0,0 +1,33 @@
+package gg.modl.minecraft.bridge.reporter;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+final class UploadBandwidthLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private long nextAvailableNanos = System.nanoTime();
+
+    UploadBandwidthLimiter(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) throw new IllegalArgumentException("bytesPerSecond must be positive");
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    void acquire(int bytes) throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextAvailableNanos < now) nextAvailableNanos = now;
+            waitNanos = nextAvailableNanos - now;
+            nextAvailableNanos += bytes * NANOS_PER_SECOND / bytesPerSecond;
+        }
+        if (waitNanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Replay upload interrupted while throttled");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package gg.modl.minecraft.bridge.reporter.detection;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class CheckKey {
+    private static final int MAX_RAW_ALIASES_PER_SOURCE = 1024;
+    private static final Map<DetectionSource, ConcurrentHashMap<String, CheckKey>> RAW_ALIASES =
+            new EnumMap<>(DetectionSource.class);
+    private static final Map<DetectionSource, ConcurrentHashMap<String, CheckKey>> INTERNED =
+            new EnumMap<>(DetectionSource.class);
+
+    static {
+        for (DetectionSource source : DetectionSource.values()) {
+            RAW_ALIASES.put(source, new ConcurrentHashMap<>());
+            INTERNED.put(source, new ConcurrentHashMap<>());
+        }
+    }
+
+    private final DetectionSource source;
+    private final String normalizedName;
+
+    private CheckKey(DetectionSource source, String normalizedName) {
+        this.source = source;
+        this.normalizedName = normalizedName;
+    }
+
+    static CheckKey of(DetectionSource source, String checkName) {
+        String rawName = checkName == null ? "" : checkName;
+        ConcurrentHashMap<String, CheckKey> aliases = RAW_ALIASES.get(source);
+        CheckKey key = aliases.get(rawName);
+        if (key != null) return key;
+
+        String normalized = rawName.trim().toLowerCase(Locale.ROOT);
+        key = INTERNED.get(source).computeIfAbsent(normalized, name -> new CheckKey(source, name));
+        if (aliases.size() < MAX_RAW_ALIASES_PER_SOURCE) aliases.putIfAbsent(rawName, key);
+        return key;
+    }
+
+    DetectionSource getSource() {
+        return source;
+    }
+
+    String getNormalizedName() {
+        return normalizedName;
+    }
+
+    @Override
+    public String toString() {
+        return source + ":" + normalizedName;
+    }
+}
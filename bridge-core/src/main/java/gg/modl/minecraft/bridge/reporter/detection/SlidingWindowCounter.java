@@ -0,0 +1,47 @@
+package gg.modl.minecraft.bridge.reporter.detection;
+
+import java.util.Arrays;
+
+final class SlidingWindowCounter {
+    private final long bucketMillis;
+    private final int[] buckets;
+    private long headBucket;
+    private int total;
+
+    SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.bucketMillis = Math.max(1L, windowMillis / bucketCount);
+        this.buckets = new int[bucketCount];
+        this.headBucket = Long.MIN_VALUE;
+    }
+
+    synchronized int increment(long now) {
+        advance(now);
+        buckets[slot(headBucket)]++;
+        return ++total;
+    }
+
+    synchronized int count(long now) {
+        advance(now);
+        return total;
+    }
+
+    private void advance(long now) {
+        long currentBucket = now / bucketMillis;
+        if (headBucket == Long.MIN_VALUE || currentBucket - headBucket >= buckets.length) {
+            Arrays.fill(buckets, 0);
+            total = 0;
+            headBucket = currentBucket;
+            return;
+        }
+        while (headBucket < currentBucket) {
+            headBucket++;
+            int slot = slot(headBucket);
+            total -= buckets[slot];
+            buckets[slot] = 0;
+        }
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -18,9 +19,11 @@ public class ViolationTracker {
     private static final int MAX_RECORDS_PER_PLAYER = 200;
     private static final long RECORD_TTL_MINUTES = 10L;
     private static final long RECORD_TTL_MS = RECORD_TTL_MINUTES * 60 * 1000L;
+    private static final int WINDOW_BUCKETS = 60;
     private static final long CLEANUP_INTERVAL_SECONDS = 60L;
 
     private final ConcurrentHashMap<UUID, Deque<ViolationRecord>> records = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Map<CheckKey, SlidingWindowCounter>> counters = new ConcurrentHashMap<>();
     private volatile BiConsumer<UUID, Deque<ViolationRecord>> beforeAddHook = (uuid, playerRecords) -> {};
     private BridgeTask cleanupTask;
 
@@ -37,14 +40,25 @@ public class ViolationTracker {
     }
 
     public void addViolation(UUID uuid, DetectionSource source, String checkName, String verbose) {
+        long now = System.currentTimeMillis();
+        CheckKey key = CheckKey.of(source, checkName);
+        counters.compute(uuid, (ignored, playerCounters) -> {
+            Map<CheckKey, SlidingWindowCounter> updatedCounters = playerCounters;
+            if (updatedCounters == null) {
+                updatedCounters = new ConcurrentHashMap<>();
+            }
+            updatedCounters.computeIfAbsent(key, k -> new SlidingWindowCounter(RECORD_TTL_MS, WINDOW_BUCKETS))
+                    .increment(now);
+            return updatedCounters;
+        });
         records.compute(uuid, (ignored, playerRecords) -> {
             Deque<ViolationRecord> updatedRecords = playerRecords;
             if (updatedRecords == null) {
-                updatedRecords = new ArrayDeque<>();
+                updatedRecords = new ArrayDeque<>(MAX_RECORDS_PER_PLAYER);
             }
             beforeAddHook.accept(uuid, updatedRecords);
             synchronized (updatedRecords) {
-                updatedRecords.addLast(new ViolationRecord(source, checkName, verbose));
+                updatedRecords.addLast(new ViolationRecord(source, checkName, verbose, now));
                 if (updatedRecords.size() > MAX_RECORDS_PER_PLAYER) {
                     updatedRecords.removeFirst();
                 }
@@ -62,35 +76,38 @@ public class ViolationTracker {
     }
 
     public int getViolationCount(UUID uuid, DetectionSource source, String checkName) {
-        Deque<ViolationRecord> playerRecords = records.get(uuid);
-        if (playerRecords == null) return 0;
-        synchronized (playerRecords) {
-            int count = 0;
-            for (ViolationRecord r : playerRecords) {
-                if (r.getSource() == source && r.getCheckName().equalsIgnoreCase(checkName)) {
-                    count++;
-                }
-            }
-            return count;
-        }
+        Map<CheckKey, SlidingWindowCounter> playerCounters = counters.get(uuid);
+        if (playerCounters == null) return 0;
+        SlidingWindowCounter counter = playerCounters.get(CheckKey.of(source, checkName));
+        return counter == null ? 0 : counter.count(System.currentTimeMillis());
     }
 
     public void resetPlayer(UUID uuid) {
+        counters.remove(uuid);
         records.remove(uuid);
     }
 
     private void cleanup() {
-        long cutoff = System.currentTimeMillis() - RECORD_TTL_MS;
+        long now = System.currentTimeMillis();
+        long cutoff = now - RECORD_TTL_MS;
         for (UUID uuid : records.keySet()) {
             records.computeIfPresent(uuid, (ignored, list) -> {
                 boolean empty;
                 synchronized (list) {
-                    list.removeIf(r -> r.getTimestamp() < cutoff);
+                    while (!list.isEmpty() && list.peekFirst().getTimestamp() < cutoff) {
+                        list.removeFirst();
+                    }
                     empty = list.isEmpty();
                 }
                 return empty ? null : list;
             });
         }
+        for (UUID uuid : counters.keySet()) {
+            counters.computeIfPresent(uuid, (ignored, playerCounters) -> {
+                playerCounters.values().removeIf(counter -> counter.count(now) == 0);
+                return playerCounters.isEmpty() ? null : playerCounters;
+            });
+        }
     }
 
     void setBeforeAddHook(BiConsumer<UUID, Deque<ViolationRecord>> hook) {
@@ -0,0 +1,49 @@
+package gg.modl.minecraft.bridge.staffmode;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Value
+public class ScoreboardUpdate {
+    String title;
+    List<ScoreboardContent.Line> changedLines;
+    List<String> removedEntries;
+
+    public boolean isEmpty() {
+        return title == null && changedLines.isEmpty() && removedEntries.isEmpty();
+    }
+
+    public static ScoreboardUpdate diff(ScoreboardContent previous, ScoreboardContent next) {
+        String title = previous.getTitle() != null && previous.getTitle().equals(next.getTitle())
+                ? null : next.getTitle();
+
+        Map<String, Integer> previousScores = new HashMap<>();
+        for (ScoreboardContent.Line line : previous.getLines()) {
+            previousScores.put(line.getText(), line.getScore());
+        }
+
+        List<ScoreboardContent.Line> changedLines = new ArrayList<>();
+        Set<String> nextEntries = new HashSet<>();
+        for (ScoreboardContent.Line line : next.getLines()) {
+            nextEntries.add(line.getText());
+            Integer previousScore = previousScores.get(line.getText());
+            if (previousScore == null || previousScore != line.getScore()) {
+                changedLines.add(line);
+            }
+        }
+
+        List<String> removedEntries = new ArrayList<>();
+        for (ScoreboardContent.Line line : previous.getLines()) {
+            if (!nextEntries.contains(line.getText())) {
+                removedEntries.add(line.getText());
+            }
+        }
+        return new ScoreboardUpdate(title, changedLines, removedEntries);
+    }
+}
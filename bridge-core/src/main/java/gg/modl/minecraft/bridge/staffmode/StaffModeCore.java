@@ -1,5 +1,6 @@
 package gg.modl.minecraft.bridge.staffmode;
 
+import gg.modl.minecraft.bridge.ActivePlayerSet;
 import gg.modl.minecraft.bridge.BridgeScheduler;
 import gg.modl.minecraft.bridge.BridgeTask;
 import gg.modl.minecraft.bridge.config.BridgeConfig;
@@ -17,7 +18,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -58,10 +59,12 @@ public class StaffModeCore {
 
     @Setter private BridgeQueryClient bridgeClient;
 
-    private final Set<UUID> staffModeActive = ConcurrentHashMap.newKeySet();
+    private final ActivePlayerSet staffModeActive = new ActivePlayerSet();
     private final Map<UUID, UUID> targetByStaff = new ConcurrentHashMap<>();
     private final Set<UUID> vanished = ConcurrentHashMap.newKeySet();
     private final Set<UUID> scoreboardActive = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, SentScoreboard> sentScoreboards = new ConcurrentHashMap<>();
+    private final AtomicBoolean scoreboardTickRunning = new AtomicBoolean();
     private final Map<String, Consumer<UUID>> actionHandlers = buildActionHandlers();
 
     private BridgeTask scoreboardTimer;
@@ -78,8 +81,7 @@ public class StaffModeCore {
     }
 
     public void start() {
-        scoreboardTimer = scheduler.runTimerAsync(
-                () -> scheduler.runOnMainThread(this::tickScoreboards), 1, 1, TimeUnit.SECONDS);
+        scoreboardTimer = scheduler.runTimerAsync(this::tickScoreboards, 1, 1, TimeUnit.SECONDS);
     }
 
     public void shutdown() {
@@ -87,7 +89,7 @@ public class StaffModeCore {
             scoreboardTimer.cancel();
             scoreboardTimer = null;
         }
-        for (UUID uuid : staffModeActive) {
+        for (UUID uuid : staffModeActive.view()) {
             if (ops.isOnline(uuid)) {
                 ops.restoreSnapshot(uuid);
                 removeScoreboard(uuid);
@@ -99,6 +101,7 @@ public class StaffModeCore {
             }
         }
         scoreboardActive.clear();
+        sentScoreboards.clear();
         staffModeActive.clear();
         vanished.clear();
         targetByStaff.clear();
@@ -110,6 +113,14 @@ public class StaffModeCore {
         return staffModeActive.contains(uuid);
     }
 
+    public boolean hasStaffModePlayers() {
+        return !staffModeActive.isEmpty();
+    }
+
+    public void onStaffModeActivity(Runnable listener) {
+        staffModeActive.onTransition(listener);
+    }
+
     public boolean isVanished(UUID uuid) {
         return vanished.contains(uuid);
     }
@@ -477,12 +488,16 @@ public class StaffModeCore {
     private void createScoreboard(UUID uuid) {
         ScoreboardConfig config = getScoreboardConfig(uuid);
         if (!config.isEnabled()) return;
+        ScoreboardValues values = captureValues(uuid);
+        ScoreboardContent content = buildContent(values);
         scoreboardActive.add(uuid);
-        ops.createScoreboard(uuid, buildContent(uuid, config));
+        sentScoreboards.put(uuid, new SentScoreboard(content, values));
+        ops.createScoreboard(uuid, content);
     }
 
     private void removeScoreboard(UUID uuid) {
         scoreboardActive.remove(uuid);
+        sentScoreboards.remove(uuid);
         ops.removeScoreboard(uuid);
     }
 
@@ -493,24 +508,69 @@ public class StaffModeCore {
 
     private void discardScoreboard(UUID uuid) {
         scoreboardActive.remove(uuid);
+        sentScoreboards.remove(uuid);
         ops.discardScoreboard(uuid);
     }
 
-    private void tickScoreboards() {
-        Iterator<UUID> it = scoreboardActive.iterator();
-        while (it.hasNext()) {
-            UUID uuid = it.next();
-            if (!ops.isOnline(uuid)) {
-                it.remove();
-                ops.discardScoreboard(uuid);
-                continue;
-            }
-            ops.updateScoreboard(uuid, buildContent(uuid, getScoreboardConfig(uuid)));
+    void tickScoreboards() {
+        if (!scoreboardTickRunning.compareAndSet(false, true)) return;
+        try {
+            diffScoreboards();
+        } finally {
+            scoreboardTickRunning.set(false);
         }
     }
 
-    private ScoreboardContent buildContent(UUID uuid, ScoreboardConfig config) {
-        String title = localeManager.colorize(replacePlaceholders(config.getTitle(), uuid));
+    /**
+     * Runs on the async timer, so it never calls into the platform: each player's values are captured on that
+     * player's thread for the next pass, and the content is built and diffed here from the latest capture.
+     */
+    private void diffScoreboards() {
+        for (UUID uuid : scoreboardActive) {
+            SentScoreboard sent = sentScoreboards.get(uuid);
+            if (sent == null) continue;
+            scheduler.runForPlayer(uuid, () -> recapture(uuid, sent));
+
+            ScoreboardContent next = buildContent(sent.values);
+            ScoreboardUpdate update = ScoreboardUpdate.diff(sent.content, next);
+            if (update.isEmpty()) continue;
+            sent.content = next;
+
+            scheduler.runForPlayer(uuid, () -> {
+                if (sentScoreboards.get(uuid) != sent || !ops.isOnline(uuid)) return;
+                ops.updateScoreboard(uuid, update);
+            });
+        }
+    }
+
+    private void recapture(UUID uuid, SentScoreboard sent) {
+        if (sentScoreboards.get(uuid) != sent) return;
+        if (!ops.isOnline(uuid)) {
+            discardScoreboard(uuid);
+            return;
+        }
+        sent.values = captureValues(uuid);
+    }
+
+    private ScoreboardValues captureValues(UUID uuid) {
+        UUID target = targetByStaff.get(uuid);
+        if (target == null || !ops.isOnline(target)) {
+            return new ScoreboardValues(uuid, nameOrUnknown(ops.playerName(uuid)), ops.onlinePlayerCount(),
+                    ops.maxPlayerCount(), target, false, null, 0.0, 0);
+        }
+        return new ScoreboardValues(uuid, nameOrUnknown(ops.playerName(uuid)), ops.onlinePlayerCount(),
+                ops.maxPlayerCount(), target, true, nameOrUnknown(ops.playerName(target)),
+                ops.playerHealth(target), ops.playerPing(target));
+    }
+
+    private static String nameOrUnknown(String name) {
+        return name != null ? name : UNKNOWN_NAME;
+    }
+
+    private ScoreboardContent buildContent(ScoreboardValues values) {
+        ScoreboardConfig config = values.target != null
+                ? staffModeConfig.getTargetScoreboard() : staffModeConfig.getStaffScoreboard();
+        String title = localeManager.colorize(replacePlaceholders(config.getTitle(), values, config));
 
         List<String> configLines = config.getLines();
         List<ScoreboardContent.Line> lines = new ArrayList<>();
@@ -518,7 +578,7 @@ public class StaffModeCore {
         Set<String> usedEntries = new HashSet<>();
 
         for (String line : configLines) {
-            String resolved = localeManager.colorize(replacePlaceholders(line, uuid));
+            String resolved = localeManager.colorize(replacePlaceholders(line, values, config));
             String entry = uniqueEntry(truncateColorSafe(resolved, SCOREBOARD_MAX_LINE_LENGTH), usedEntries);
             usedEntries.add(entry);
             lines.add(new ScoreboardContent.Line(entry, score--));
@@ -542,36 +602,33 @@ public class StaffModeCore {
         return s.substring(0, n);
     }
 
-    private String replacePlaceholders(String line, UUID uuid) {
-        boolean isVanished = vanished.contains(uuid);
-        ScoreboardConfig config = getScoreboardConfig(uuid);
+    private String replacePlaceholders(String line, ScoreboardValues values, ScoreboardConfig config) {
+        boolean isVanished = vanished.contains(values.uuid);
 
         String result = line
-                .replace("{player_name}", ops.playerName(uuid))
+                .replace("{player_name}", values.playerName)
                 .replace("{server}", bridgeConfig.getServerName())
-                .replace("{online}", String.valueOf(ops.onlinePlayerCount()))
-                .replace("{max_players}", String.valueOf(ops.maxPlayerCount()))
+                .replace("{online}", String.valueOf(values.onlineCount))
+                .replace("{max_players}", String.valueOf(values.maxPlayers))
                 .replace("{date}", LocalDateTime.now().format(DATE_FORMAT))
                 .replace("{vanish}", isVanished ? config.getVanish() : "")
                 .replace("{vanish_status}", isVanished ? localeManager.colorize("&aON") : localeManager.colorize("&cOFF"))
                 .replace("{vanished}", isVanished ? "Vanished" : "Visible")
                 .replace("{staff_online}", String.valueOf(staffModeActive.size()));
-        return replaceTargetPlaceholders(result, uuid);
+        return replaceTargetPlaceholders(result, values);
     }
 
-    private String replaceTargetPlaceholders(String result, UUID staffUuid) {
-        UUID targetUuid = targetByStaff.get(staffUuid);
-
-        if (targetUuid != null && ops.isOnline(targetUuid)) {
+    private String replaceTargetPlaceholders(String result, ScoreboardValues values) {
+        if (values.targetOnline) {
             return result
-                    .replace("{target_name}", ops.playerName(targetUuid))
-                    .replace("{target_health}", String.format("%.1f", ops.playerHealth(targetUuid)))
-                    .replace("{target_ping}", String.valueOf(ops.playerPing(targetUuid)))
-                    .replace("{freeze_status}", freezeCore.isFrozen(targetUuid)
+                    .replace("{target_name}", values.targetName)
+                    .replace("{target_health}", String.format("%.1f", values.targetHealth))
+                    .replace("{target_ping}", String.valueOf(values.targetPing))
+                    .replace("{freeze_status}", freezeCore.isFrozen(values.target)
                             ? localeManager.colorize("&cYes") : localeManager.colorize("&aNo"));
         }
 
-        String nameValue = targetUuid != null ? "Offline" : "None";
+        String nameValue = values.target != null ? "Offline" : "None";
         return result
                 .replace("{target_name}", nameValue)
                 .replace("{target_health}", PLACEHOLDER_NA)
@@ -582,4 +639,42 @@ public class StaffModeCore {
     private ScoreboardConfig getScoreboardConfig(UUID uuid) {
         return targetByStaff.containsKey(uuid) ? staffModeConfig.getTargetScoreboard() : staffModeConfig.getStaffScoreboard();
     }
+
+    private static final class SentScoreboard {
+        private volatile ScoreboardContent content;
+        private volatile ScoreboardValues values;
+
+        private SentScoreboard(ScoreboardContent content, ScoreboardValues values) {
+            this.content = content;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Platform-dependent scoreboard inputs, read on the staff member's thread so the async tick can render from them.
+     */
+    private static final class ScoreboardValues {
+        private final UUID uuid;
+        private final String playerName;
+        private final int onlineCount;
+        private final int maxPlayers;
+        private final UUID target;
+        private final boolean targetOnline;
+        private final String targetName;
+        private final double targetHealth;
+        private final int targetPing;
+
+        private ScoreboardValues(UUID uuid, String playerName, int onlineCount, int maxPlayers, UUID target,
+                                 boolean targetOnline, String targetName, double targetHealth, int targetPing) {
+            this.uuid = uuid;
+            this.playerName = playerName;
+            this.onlineCount = onlineCount;
+            this.maxPlayers = maxPlayers;
+            this.target = target;
+            this.targetOnline = targetOnline;
+            this.targetName = targetName;
+            this.targetHealth = targetHealth;
+            this.targetPing = targetPing;
+        }
+    }
 }
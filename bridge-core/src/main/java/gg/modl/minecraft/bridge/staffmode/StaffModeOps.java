@@ -45,7 +45,7 @@ public interface StaffModeOps {
 
     void createScoreboard(UUID uuid, ScoreboardContent content);
 
-    void updateScoreboard(UUID uuid, ScoreboardContent content);
+    void updateScoreboard(UUID uuid, ScoreboardUpdate update);
 
     void removeScoreboard(UUID uuid);
 
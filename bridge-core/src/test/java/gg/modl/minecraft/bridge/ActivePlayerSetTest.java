@@ -0,0 +1,63 @@
+package gg.modl.minecraft.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivePlayerSetTest {
+
+    @Test
+    void tracksMembershipAcrossSharedBuckets() {
+        ActivePlayerSet set = new ActivePlayerSet();
+        UUID first = new UUID(0L, 7L);
+        UUID second = new UUID(7L, 0L);
+
+        set.add(first);
+        set.add(second);
+        set.remove(first);
+
+        assertFalse(set.contains(first));
+        assertTrue(set.contains(second));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void notifiesOnlyOnEmptinessTransitions() {
+        ActivePlayerSet set = new ActivePlayerSet();
+        AtomicInteger transitions = new AtomicInteger();
+        set.onTransition(transitions::incrementAndGet);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        set.add(first);
+        set.add(second);
+        set.add(first);
+        set.remove(first);
+        assertEquals(1, transitions.get());
+
+        set.remove(second);
+        assertEquals(2, transitions.get());
+        assertTrue(set.isEmpty());
+        assertFalse(set.remove(second));
+        assertEquals(2, transitions.get());
+    }
+
+    @Test
+    void clearEmptiesSetAndNotifies() {
+        ActivePlayerSet set = new ActivePlayerSet();
+        AtomicInteger transitions = new AtomicInteger();
+        set.onTransition(transitions::incrementAndGet);
+        for (int i = 0; i < 10; i++) set.add(UUID.randomUUID());
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertTrue(set.view().isEmpty());
+        assertEquals(2, transitions.get());
+    }
+}
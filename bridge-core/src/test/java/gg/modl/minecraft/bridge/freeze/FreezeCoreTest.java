@@ -113,6 +113,25 @@ class FreezeCoreTest {
         assertTrue(core.isFrozen(target));
     }
 
+    @Test
+    void hasFrozenPlayersFollowsLastUnfreezeOrQuit() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<Boolean> transitions = new ArrayList<>();
+        core.onFreezeActivity(() -> transitions.add(core.hasFrozenPlayers()));
+        assertFalse(core.hasFrozenPlayers());
+
+        core.freeze(first.toString(), UUID.randomUUID().toString());
+        core.freeze(second.toString(), UUID.randomUUID().toString());
+        core.unfreeze(first.toString());
+        assertTrue(core.hasFrozenPlayers());
+
+        core.handleQuit(second);
+
+        assertFalse(core.hasFrozenPlayers());
+        assertEquals(Arrays.asList(true, false), transitions);
+    }
+
     private static final class RecordingFreezeOps implements FreezeOps {
         final Map<UUID, String> names = new HashMap<>();
         final List<Sent> sent = new ArrayList<>();
@@ -1,11 +1,15 @@
 package gg.modl.minecraft.bridge.reporter;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -13,7 +17,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -25,7 +32,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -505,6 +514,361 @@ class ModlBackendReplayUploaderTest {
         }
     }
 
+    @Test
+    void uploadsCompressedMultipartPartsAndRetriesFailedPart() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+        Map<Integer, byte[]> storedParts = new ConcurrentHashMap<>();
+        AtomicInteger partTwoAttempts = new AtomicInteger();
+        List<String> initBodies = new CopyOnWriteArrayList<>();
+        List<String> confirmBodies = new CopyOnWriteArrayList<>();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.setExecutor(serverExecutor);
+        server.createContext("/v1/minecraft/replays/upload", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            initBodies.add(body);
+            long partCount = JsonParser.parseString(body).getAsJsonObject().get("partCount").getAsLong();
+            StringBuilder parts = new StringBuilder();
+            for (int i = 1; i <= partCount; i++) {
+                if (i > 1) parts.append(',');
+                parts.append("{\"partNumber\":").append(i)
+                        .append(",\"uploadUrl\":\"").append(baseUrl).append("/storage/").append(i).append("\"}");
+            }
+            byte[] response = ("{\"replayId\":\"replay-multipart\",\"uploadId\":\"upload-1\",\"parts\":["
+                    + parts + "]}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/storage/", exchange -> {
+            int partNumber = Integer.parseInt(exchange.getRequestURI().getPath().substring("/storage/".length()));
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            if (partNumber == 2 && partTwoAttempts.incrementAndGet() == 1) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            storedParts.put(partNumber, body);
+            exchange.getResponseHeaders().add("ETag", "etag-" + partNumber);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/minecraft/replays/confirm/replay-multipart", exchange -> {
+            confirmBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            byte[] original = randomBytes(64 * 1024);
+            File replayFile = Files.write(tempDir.resolve("multipart.replay"), original).toFile();
+            ReplayUploadOptions options = ReplayUploadOptions.builder()
+                    .compress(true)
+                    .multipart(true)
+                    .partSizeBytes(16 * 1024)
+                    .parallelParts(2)
+                    .build();
+            ModlBackendReplayUploader uploader = new ModlBackendReplayUploader(
+                    baseUrl, "secret-key", "server.example.com", Logger.getLogger("test"), uploadExecutor, options);
+
+            assertEquals("replay-multipart", uploader.uploadAsync(replayFile, "1.21.11").get(30, TimeUnit.SECONDS));
+
+            JsonObject initBody = JsonParser.parseString(initBodies.get(0)).getAsJsonObject();
+            assertEquals("gzip", initBody.get("contentEncoding").getAsString());
+            assertEquals(original.length, initBody.get("originalSize").getAsLong());
+            assertEquals(2, partTwoAttempts.get());
+            assertEquals(initBody.get("partCount").getAsInt(), storedParts.size());
+            assertArrayEquals(original, gunzip(concatParts(storedParts)));
+
+            JsonObject confirmBody = JsonParser.parseString(confirmBodies.get(0)).getAsJsonObject();
+            assertEquals("upload-1", confirmBody.get("uploadId").getAsString());
+            assertEquals("etag-2", confirmBody.getAsJsonArray("parts").get(1).getAsJsonObject()
+                    .get("etag").getAsString());
+            assertFalse(Files.exists(tempDir.resolve("multipart.replay.upload.json")));
+            assertFalse(Files.exists(tempDir.resolve("multipart.replay.gz")));
+            assertTrue(replayFile.exists());
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void resumesMultipartUploadWithRefreshedPartUrls() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+        AtomicInteger initHits = new AtomicInteger();
+        AtomicBoolean failPartThree = new AtomicBoolean(true);
+        List<String> uploadedParts = new CopyOnWriteArrayList<>();
+        List<String> refreshBodies = new CopyOnWriteArrayList<>();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.createContext("/v1/minecraft/replays/upload", exchange -> {
+            initHits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respondJson(exchange, "{\"replayId\":\"replay-resume\",\"uploadId\":\"upload-2\",\"partSize\":4,\"parts\":["
+                    + "{\"partNumber\":1,\"uploadUrl\":\"" + baseUrl + "/storage/1?sig=initial\"},"
+                    + "{\"partNumber\":2,\"uploadUrl\":\"" + baseUrl + "/storage/2?sig=initial\"},"
+                    + "{\"partNumber\":3,\"uploadUrl\":\"" + baseUrl + "/storage/3?sig=initial\"}]}");
+        });
+        server.createContext("/v1/minecraft/replays/upload/replay-resume/parts", exchange -> {
+            refreshBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respondJson(exchange, "{\"parts\":[{\"partNumber\":3,\"uploadUrl\":\"" + baseUrl + "/storage/3?sig=fresh\"}]}");
+        });
+        server.createContext("/storage/", exchange -> {
+            int partNumber = Integer.parseInt(exchange.getRequestURI().getPath().substring("/storage/".length()));
+            exchange.getRequestBody().readAllBytes();
+            if (partNumber == 3 && failPartThree.get()) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            uploadedParts.add(partNumber + "?" + exchange.getRequestURI().getQuery());
+            exchange.getResponseHeaders().add("ETag", "etag-" + partNumber);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/minecraft/replays/confirm/replay-resume", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            File replayFile = Files.write(tempDir.resolve("resume.replay"),
+                    "0123456789".getBytes(StandardCharsets.UTF_8)).toFile();
+            ReplayUploadOptions options = resumeOptions();
+            ModlBackendReplayUploader first = new ModlBackendReplayUploader(
+                    baseUrl, "secret-key", "server.example.com", Logger.getLogger("test"), uploadExecutor, options);
+            assertThrows(ExecutionException.class, () -> first.uploadAsync(replayFile, "1.21.11").get(30, TimeUnit.SECONDS));
+            first.close();
+            assertTrue(Files.exists(tempDir.resolve("resume.replay.upload.json")));
+
+            failPartThree.set(false);
+            uploadedParts.clear();
+            ModlBackendReplayUploader second = new ModlBackendReplayUploader(
+                    baseUrl, "secret-key", "server.example.com", Logger.getLogger("test"), uploadExecutor, options);
+            assertEquals(List.of(replayFile), second.findResumableUploads(tempDir.toFile()));
+            assertEquals("replay-resume", second.uploadAsync(replayFile, "1.21.11").get(30, TimeUnit.SECONDS));
+
+            assertEquals(1, initHits.get());
+            assertEquals(List.of("3?sig=fresh"), uploadedParts);
+            JsonObject refreshBody = JsonParser.parseString(refreshBodies.get(0)).getAsJsonObject();
+            assertEquals("upload-2", refreshBody.get("uploadId").getAsString());
+            assertEquals("[3]", refreshBody.getAsJsonArray("partNumbers").toString());
+            assertFalse(Files.exists(tempDir.resolve("resume.replay.upload.json")));
+        } finally {
+            server.stop(0);
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void abandonsResumeAfterMaxAttemptsAndStartsFreshUpload() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+        AtomicInteger initHits = new AtomicInteger();
+        AtomicInteger refreshHits = new AtomicInteger();
+        AtomicBoolean storageUp = new AtomicBoolean(false);
+        List<String> initBodies = new CopyOnWriteArrayList<>();
+        List<String> abortBodies = new CopyOnWriteArrayList<>();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.createContext("/v1/minecraft/replays/upload", exchange -> {
+            int hit = initHits.incrementAndGet();
+            initBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respondJson(exchange, "{\"replayId\":\"replay-" + hit + "\",\"uploadId\":\"upload-" + hit
+                    + "\",\"partSize\":4,\"parts\":["
+                    + "{\"partNumber\":1,\"uploadUrl\":\"" + baseUrl + "/storage/1\"},"
+                    + "{\"partNumber\":2,\"uploadUrl\":\"" + baseUrl + "/storage/2\"},"
+                    + "{\"partNumber\":3,\"uploadUrl\":\"" + baseUrl + "/storage/3\"}]}");
+        });
+        server.createContext("/v1/minecraft/replays/upload/replay-1/parts", exchange -> {
+            refreshHits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/minecraft/replays/upload/replay-1/abort", exchange -> {
+            abortBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/storage/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (!storageUp.get()) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "etag");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/minecraft/replays/confirm/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            File replayFile = Files.write(tempDir.resolve("expired.replay"),
+                    "0123456789".getBytes(StandardCharsets.UTF_8)).toFile();
+            UUID target = UUID.randomUUID();
+            ModlBackendReplayUploader uploader = new ModlBackendReplayUploader(
+                    baseUrl, "secret-key", "server.example.com", Logger.getLogger("test"), uploadExecutor,
+                    resumeOptions());
+            assertThrows(ExecutionException.class,
+                    () -> uploader.uploadAsync(replayFile, "1.21.11", target, "Target").get(30, TimeUnit.SECONDS));
+            for (int attempt = 1; attempt <= ModlBackendReplayUploader.MAX_RESUME_ATTEMPTS; attempt++) {
+                assertThrows(ExecutionException.class,
+                        () -> uploader.uploadAsync(replayFile, null).get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(ModlBackendReplayUploader.MAX_RESUME_ATTEMPTS, refreshHits.get());
+            assertEquals(1, initHits.get());
+            assertTrue(abortBodies.isEmpty());
+
+            storageUp.set(true);
+            assertEquals("replay-2", uploader.uploadAsync(replayFile, null).get(30, TimeUnit.SECONDS));
+
+            assertEquals(2, initHits.get());
+            assertEquals(1, abortBodies.size());
+            assertEquals("upload-1", JsonParser.parseString(abortBodies.get(0)).getAsJsonObject()
+                    .get("uploadId").getAsString());
+            JsonObject freshInit = JsonParser.parseString(initBodies.get(1)).getAsJsonObject();
+            assertEquals("1.21.11", freshInit.get("mcVersion").getAsString());
+            assertEquals(target.toString(), freshInit.get("targetUuid").getAsString());
+            assertFalse(Files.exists(tempDir.resolve("expired.replay.upload.json")));
+        } finally {
+            server.stop(0);
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void treatsMissingEtagAsFailedPart() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+        AtomicInteger confirmHits = new AtomicInteger();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.createContext("/v1/minecraft/replays/upload", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respondJson(exchange, "{\"replayId\":\"replay-etag\",\"uploadId\":\"upload-3\",\"partSize\":4,\"parts\":["
+                    + "{\"partNumber\":1,\"uploadUrl\":\"" + baseUrl + "/storage/1\"},"
+                    + "{\"partNumber\":2,\"uploadUrl\":\"" + baseUrl + "/storage/2\"},"
+                    + "{\"partNumber\":3,\"uploadUrl\":\"" + baseUrl + "/storage/3\"}]}");
+        });
+        server.createContext("/storage/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/minecraft/replays/confirm/replay-etag", exchange -> {
+            confirmHits.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            File replayFile = Files.write(tempDir.resolve("etag.replay"),
+                    "0123456789".getBytes(StandardCharsets.UTF_8)).toFile();
+            ModlBackendReplayUploader uploader = new ModlBackendReplayUploader(
+                    baseUrl, "secret-key", "server.example.com", Logger.getLogger("test"), uploadExecutor,
+                    resumeOptions());
+
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> uploader.uploadAsync(replayFile, "1.21.11").get(30, TimeUnit.SECONDS));
+
+            assertTrue(failure.getMessage().contains("ETag"), failure.getMessage());
+            assertEquals(0, confirmHits.get());
+            String manifest = new String(Files.readAllBytes(tempDir.resolve("etag.replay.upload.json")),
+                    StandardCharsets.UTF_8);
+            assertFalse(manifest.contains("\"etag\""), manifest);
+        } finally {
+            server.stop(0);
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void discardsManifestWhosePartsDoNotCoverPayload() throws Exception {
+        File replayFile = Files.write(tempDir.resolve("gap.replay"),
+                "0123456789".getBytes(StandardCharsets.UTF_8)).toFile();
+        ReplayUploadManifest manifest = new ReplayUploadManifest();
+        manifest.replayId = "replay-gap";
+        manifest.uploadId = "upload-gap";
+        manifest.sourceSize = replayFile.length();
+        manifest.sourceLastModified = replayFile.lastModified();
+        manifest.payloadPath = replayFile.getAbsolutePath();
+        manifest.partSize = 4;
+        for (long offset : new long[]{0, 8}) {
+            ReplayUploadManifest.Part part = new ReplayUploadManifest.Part();
+            part.partNumber = (int) (offset / 4) + 1;
+            part.offset = offset;
+            part.length = Math.min(4, replayFile.length() - offset);
+            part.uploadUrl = "http://127.0.0.1/storage/" + part.partNumber;
+            manifest.parts.add(part);
+        }
+        manifest.save(replayFile, new Gson());
+
+        ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            ModlBackendReplayUploader uploader = new ModlBackendReplayUploader(
+                    "http://127.0.0.1", "secret-key", "server.example.com", Logger.getLogger("test"),
+                    uploadExecutor, resumeOptions());
+
+            assertTrue(uploader.findResumableUploads(tempDir.toFile()).isEmpty());
+            assertFalse(Files.exists(tempDir.resolve("gap.replay.upload.json")));
+            assertTrue(replayFile.exists());
+        } finally {
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    private static ReplayUploadOptions resumeOptions() {
+        return ReplayUploadOptions.builder()
+                .multipart(true)
+                .partSizeBytes(4)
+                .parallelParts(1)
+                .maxPartAttempts(1)
+                .build();
+    }
+
+    private static void respondJson(HttpExchange exchange, String json) throws IOException {
+        byte[] response = json.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42L).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] concatParts(Map<Integer, byte[]> parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 1; i <= parts.size(); i++) {
+            out.write(parts.get(i));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
     private static void awaitExecutorDrained(ExecutorService executor) throws Exception {
         executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
     }
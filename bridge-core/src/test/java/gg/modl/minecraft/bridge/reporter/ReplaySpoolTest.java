@@ -0,0 +1,192 @@
+package gg.modl.minecraft.bridge.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplaySpoolTest {
+    private static final Logger LOGGER = Logger.getLogger(ReplaySpoolTest.class.getName());
+    private static final long OLD_TIMESTAMP_OFFSET_MS = 10 * 60_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void uploadsStaffCapturesBeforeQueuedAutomaticCaptures() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, Long.MAX_VALUE, 8, LOGGER);
+
+        spool.submit(replay("first", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        spool.submit(replay("auto", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        spool.submit(replay("staff", 10), null, null, ReplayUploadPriority.STAFF);
+
+        uploader.complete("first");
+        uploader.complete("staff");
+        uploader.complete("auto");
+
+        assertEquals(List.of("first", "staff", "auto"), uploader.started);
+    }
+
+    @Test
+    void fullQueueRejectsAutomaticButDisplacesAutomaticForStaff() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, Long.MAX_VALUE, 1, LOGGER);
+
+        spool.submit(replay("in-flight", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        CompletableFuture<String> queued = spool.submit(replay("queued", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        CompletableFuture<String> rejected = spool.submit(replay("rejected", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        CompletableFuture<String> staff = spool.submit(replay("staff", 10), null, null, ReplayUploadPriority.STAFF);
+
+        assertRejected(rejected);
+        assertRejected(queued);
+        assertEquals(1, spool.getQueueDepth());
+
+        uploader.complete("in-flight");
+        uploader.complete("staff");
+
+        assertEquals("staff", staff.join());
+        assertEquals(List.of("in-flight", "staff"), uploader.started);
+    }
+
+    @Test
+    void diskBudgetEvictsOldestIdleFilesBeforePendingUploads() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, 250, 8, LOGGER);
+        long now = System.currentTimeMillis();
+        File oldest = aged(replay("oldest", 100), now - 3 * OLD_TIMESTAMP_OFFSET_MS);
+        File older = aged(replay("older", 100), now - 2 * OLD_TIMESTAMP_OFFSET_MS);
+
+        File pending = aged(replay("pending", 100), now - 4 * OLD_TIMESTAMP_OFFSET_MS);
+        spool.submit(pending, null, null, ReplayUploadPriority.STAFF);
+
+        assertTrue(pending.exists());
+        assertFalse(oldest.exists());
+        assertTrue(older.exists());
+        assertEquals(200, spool.getSpoolBytes());
+        assertEquals(1, spool.getEvictedFiles());
+    }
+
+    @Test
+    void pendingUploadKeepsOnlyItsOwnSidecarFiles() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, 150, 8, LOGGER);
+        long now = System.currentTimeMillis();
+        File neighbour = aged(file("replay-10", 100), now - 3 * OLD_TIMESTAMP_OFFSET_MS);
+        File compressed = aged(file("replay-1.gz", 50), now - 2 * OLD_TIMESTAMP_OFFSET_MS);
+
+        File pending = aged(file("replay-1", 100), now - 4 * OLD_TIMESTAMP_OFFSET_MS);
+        spool.submit(pending, null, null, ReplayUploadPriority.STAFF);
+
+        assertTrue(pending.exists());
+        assertTrue(compressed.exists());
+        assertFalse(neighbour.exists());
+        assertEquals(150, spool.getSpoolBytes());
+    }
+
+    @Test
+    void diskBudgetEvictsQueuedAutomaticUploadsWhenIdleFilesAreNotEnough() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, 250, 8, LOGGER);
+
+        spool.submit(replay("in-flight", 100), null, null, ReplayUploadPriority.AUTOMATIC);
+        File automaticFile = replay("auto", 100);
+        CompletableFuture<String> automatic = spool.submit(automaticFile, null, null, ReplayUploadPriority.AUTOMATIC);
+        CompletableFuture<String> staff = spool.submit(replay("staff", 100), null, null, ReplayUploadPriority.STAFF);
+
+        assertRejected(automatic);
+        assertFalse(automaticFile.exists());
+        assertFalse(staff.isDone());
+        assertEquals(1, spool.getQueueDepth());
+        assertEquals(200, spool.getSpoolBytes());
+    }
+
+    @Test
+    void tracksQueueDepthAndBytesPending() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, Long.MAX_VALUE, 8, LOGGER);
+
+        spool.submit(replay("a", 40), null, null, ReplayUploadPriority.AUTOMATIC);
+        spool.submit(replay("b", 25), null, null, ReplayUploadPriority.AUTOMATIC);
+        spool.submit(replay("c", 10), null, null, ReplayUploadPriority.STAFF);
+
+        assertEquals(2, spool.getQueueDepth());
+        assertEquals(75, spool.getBytesPending());
+
+        uploader.complete("a");
+
+        assertEquals(1, spool.getQueueDepth());
+        assertEquals(35, spool.getBytesPending());
+    }
+
+    @Test
+    void closeFailsQueuedUploadsAndRejectsNewOnes() throws IOException {
+        ControlledUploader uploader = new ControlledUploader();
+        ReplaySpool spool = new ReplaySpool(tempDir.toFile(), uploader, Long.MAX_VALUE, 8, LOGGER);
+
+        spool.submit(replay("in-flight", 10), null, null, ReplayUploadPriority.AUTOMATIC);
+        CompletableFuture<String> queued = spool.submit(replay("queued", 10), null, null, ReplayUploadPriority.STAFF);
+        spool.close();
+
+        assertRejected(queued);
+        File late = replay("late", 10);
+        assertThrows(RejectedExecutionException.class,
+                () -> spool.submit(late, UUID.randomUUID(), "Player", ReplayUploadPriority.STAFF));
+    }
+
+    private File replay(String name, int size) throws IOException {
+        return file(name + ".replay", size);
+    }
+
+    private File file(String name, int size) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.write(path, new byte[size]);
+        return path.toFile();
+    }
+
+    private static File aged(File file, long lastModified) {
+        assertTrue(file.setLastModified(lastModified));
+        return file;
+    }
+
+    private static void assertRejected(CompletableFuture<String> future) {
+        ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+    }
+
+    private static final class ControlledUploader implements ReplaySpool.Uploader {
+        private final List<String> started = new CopyOnWriteArrayList<>();
+        private final Map<String, CompletableFuture<String>> uploads = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletableFuture<String> upload(File replayFile, UUID targetUuid, String targetName) {
+            String name = replayFile.getName().replace(".replay", "");
+            started.add(name);
+            CompletableFuture<String> upload = new CompletableFuture<>();
+            uploads.put(name, upload);
+            return upload;
+        }
+
+        void complete(String name) {
+            uploads.get(name).complete(name);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ViolationTrackerTest {
 
@@ -70,6 +71,64 @@ class ViolationTrackerTest {
         assertEquals("fresh", remainingRecords.get(0).getVerbose());
     }
 
+    @Test
+    void violationCountIsPerSourceAndCaseInsensitiveCheck() {
+        ViolationTracker tracker = new ViolationTracker();
+        UUID playerUuid = UUID.randomUUID();
+
+        tracker.addViolation(playerUuid, DetectionSource.GRIM, "Speed", "a");
+        tracker.addViolation(playerUuid, DetectionSource.GRIM, "speed", "b");
+        tracker.addViolation(playerUuid, DetectionSource.GRIM, "Reach", "c");
+        tracker.addViolation(playerUuid, DetectionSource.VULCAN, "Speed", "d");
+
+        assertEquals(2, tracker.getViolationCount(playerUuid, DetectionSource.GRIM, "SPEED"));
+        assertEquals(1, tracker.getViolationCount(playerUuid, DetectionSource.GRIM, "Reach"));
+        assertEquals(1, tracker.getViolationCount(playerUuid, DetectionSource.VULCAN, "speed"));
+        assertEquals(0, tracker.getViolationCount(playerUuid, DetectionSource.POLAR, "Speed"));
+        assertEquals(4, tracker.getRecords(playerUuid).size());
+    }
+
+    @Test
+    void violationCountOutlivesBoundedRecordHistory() {
+        ViolationTracker tracker = new ViolationTracker();
+        UUID playerUuid = UUID.randomUUID();
+
+        for (int i = 0; i < 250; i++) {
+            tracker.addViolation(playerUuid, DetectionSource.GRIM, "Timer", "flag " + i);
+        }
+
+        assertEquals(250, tracker.getViolationCount(playerUuid, DetectionSource.GRIM, "Timer"));
+        List<ViolationRecord> history = tracker.getRecords(playerUuid);
+        assertEquals(200, history.size());
+        assertEquals("flag 249", history.get(history.size() - 1).getVerbose());
+    }
+
+    @Test
+    void resetPlayerClearsCountsAndHistory() {
+        ViolationTracker tracker = new ViolationTracker();
+        UUID playerUuid = UUID.randomUUID();
+        tracker.addViolation(playerUuid, DetectionSource.GRIM, "Speed", "a");
+
+        tracker.resetPlayer(playerUuid);
+
+        assertEquals(0, tracker.getViolationCount(playerUuid, DetectionSource.GRIM, "Speed"));
+        assertTrue(tracker.getRecords(playerUuid).isEmpty());
+    }
+
+    @Test
+    void slidingWindowCounterExpiresOldBuckets() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60_000L, 6);
+
+        counter.increment(0L);
+        counter.increment(5_000L);
+        counter.increment(15_000L);
+
+        assertEquals(3, counter.count(59_999L));
+        assertEquals(1, counter.count(65_000L));
+        assertEquals(0, counter.count(80_000L));
+        assertEquals(1, counter.increment(500_000L));
+    }
+
     private static ViolationRecord expiredViolation() {
         return new ViolationRecord(DetectionSource.GRIM, "Speed", "expired", 0L);
     }
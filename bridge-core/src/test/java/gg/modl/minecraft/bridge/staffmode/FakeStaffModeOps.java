@@ -16,6 +16,7 @@ class FakeStaffModeOps implements StaffModeOps {
     final Map<UUID, Integer> pings = new HashMap<>();
     final Map<UUID, Double> healths = new HashMap<>();
     int maxPlayers = 20;
+    int platformReads;
 
     final List<UUID> saved = new ArrayList<>();
     final List<UUID> restored = new ArrayList<>();
@@ -26,15 +27,18 @@ class FakeStaffModeOps implements StaffModeOps {
     final List<String> openedInventories = new ArrayList<>();
     final Map<UUID, List<String>> messages = new HashMap<>();
     final Map<UUID, ScoreboardContent> scoreboards = new HashMap<>();
+    final List<ScoreboardUpdate> scoreboardUpdates = new ArrayList<>();
     final List<String> teleports = new ArrayList<>();
 
     @Override
     public boolean isOnline(UUID uuid) {
+        platformReads++;
         return online.contains(uuid);
     }
 
     @Override
     public String playerName(UUID uuid) {
+        platformReads++;
         return names.get(uuid);
     }
 
@@ -45,21 +49,25 @@ class FakeStaffModeOps implements StaffModeOps {
 
     @Override
     public int onlinePlayerCount() {
+        platformReads++;
         return online.size();
     }
 
     @Override
     public int maxPlayerCount() {
+        platformReads++;
         return maxPlayers;
     }
 
     @Override
     public int playerPing(UUID uuid) {
+        platformReads++;
         return pings.getOrDefault(uuid, 0);
     }
 
     @Override
     public double playerHealth(UUID uuid) {
+        platformReads++;
         return healths.getOrDefault(uuid, 20.0);
     }
 
@@ -129,8 +137,23 @@ class FakeStaffModeOps implements StaffModeOps {
     }
 
     @Override
-    public void updateScoreboard(UUID uuid, ScoreboardContent content) {
-        scoreboards.put(uuid, content);
+    public void updateScoreboard(UUID uuid, ScoreboardUpdate update) {
+        scoreboardUpdates.add(update);
+        ScoreboardContent current = scoreboards.get(uuid);
+        if (current == null) return;
+        List<ScoreboardContent.Line> lines = new ArrayList<>();
+        for (ScoreboardContent.Line line : current.getLines()) {
+            if (update.getRemovedEntries().contains(line.getText())) continue;
+            boolean replaced = false;
+            for (ScoreboardContent.Line changed : update.getChangedLines()) {
+                replaced |= changed.getText().equals(line.getText());
+            }
+            if (!replaced) lines.add(line);
+        }
+        lines.addAll(update.getChangedLines());
+        lines.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        String title = update.getTitle() != null ? update.getTitle() : current.getTitle();
+        scoreboards.put(uuid, new ScoreboardContent(title, lines));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package gg.modl.minecraft.bridge.staffmode;
 
+import gg.modl.minecraft.bridge.BridgeScheduler;
 import gg.modl.minecraft.bridge.config.BridgeConfig;
 import gg.modl.minecraft.bridge.config.StaffModeConfig;
 import gg.modl.minecraft.bridge.freeze.FreezeCore;
@@ -13,14 +14,17 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
+import static gg.modl.minecraft.core.util.Java8Collections.listOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StaffModeCoreTest {
@@ -34,9 +38,12 @@ class StaffModeCoreTest {
     private final BridgeLocaleManager localeManager = new BridgeLocaleManager(LOGGER);
 
     private StaffModeCore newCore(StaffModeConfig config) {
+        return newCore(config, new ImmediateBridgeScheduler());
+    }
+
+    private StaffModeCore newCore(StaffModeConfig config, BridgeScheduler scheduler) {
         FreezeCore freezeCore = new FreezeCore(localeManager, new NoOpFreezeOps());
-        return new StaffModeCore(new BridgeConfig(), config, localeManager,
-                new ImmediateBridgeScheduler(), freezeCore, ops);
+        return new StaffModeCore(new BridgeConfig(), config, localeManager, scheduler, freezeCore, ops);
     }
 
     @Test
@@ -216,6 +223,119 @@ class StaffModeCoreTest {
         assertNotEquals(lines.get(0).getText(), lines.get(1).getText());
     }
 
+    @Test
+    void scoreboardTickSkipsUpdateWhenContentUnchanged() throws IOException {
+        StaffModeConfig config = config(
+                "vanish_on_enable: false",
+                "staff_scoreboard:",
+                "  enabled: true",
+                "  title: \"Staff\"",
+                "  lines:",
+                "    - \"Players: {online}\"",
+                "    - \"Me: {player_name}\""
+        );
+        StaffModeCore core = newCore(config);
+        UUID staff = UUID.randomUUID();
+        ops.connect(staff, "Staffer");
+        core.enterStaffMode(staff.toString());
+
+        core.tickScoreboards();
+
+        assertTrue(ops.scoreboardUpdates.isEmpty());
+    }
+
+    @Test
+    void scoreboardTickSendsOnlyChangedLines() throws IOException {
+        StaffModeConfig config = config(
+                "vanish_on_enable: false",
+                "staff_scoreboard:",
+                "  enabled: true",
+                "  title: \"Staff\"",
+                "  lines:",
+                "    - \"Players: {online}\"",
+                "    - \"Me: {player_name}\""
+        );
+        StaffModeCore core = newCore(config);
+        UUID staff = UUID.randomUUID();
+        ops.connect(staff, "Staffer");
+        core.enterStaffMode(staff.toString());
+
+        ops.connect(UUID.randomUUID(), "Joiner");
+        core.tickScoreboards();
+
+        assertEquals(1, ops.scoreboardUpdates.size());
+        ScoreboardUpdate update = ops.scoreboardUpdates.get(0);
+        assertNull(update.getTitle());
+        assertEquals(1, update.getChangedLines().size());
+        assertEquals("Players: 2", update.getChangedLines().get(0).getText());
+        assertEquals(listOf("Players: 1"), update.getRemovedEntries());
+        assertEquals("Players: 2", ops.scoreboards.get(staff).getLines().get(0).getText());
+        assertEquals("Me: Staffer", ops.scoreboards.get(staff).getLines().get(1).getText());
+
+        core.tickScoreboards();
+
+        assertEquals(1, ops.scoreboardUpdates.size());
+    }
+
+    @Test
+    void scoreboardTickReadsPlatformStateOnlyOnPlayerThread() throws IOException {
+        StaffModeConfig config = config(
+                "vanish_on_enable: false",
+                "staff_scoreboard:",
+                "  enabled: true",
+                "  title: \"Staff\"",
+                "  lines:",
+                "    - \"Players: {online}\"",
+                "    - \"Me: {player_name}\""
+        );
+        QueuedBridgeScheduler scheduler = new QueuedBridgeScheduler();
+        StaffModeCore core = newCore(config, scheduler);
+        UUID staff = UUID.randomUUID();
+        ops.connect(staff, "Staffer");
+        core.enterStaffMode(staff.toString());
+        scheduler.runPlayerTasks();
+
+        ops.connect(UUID.randomUUID(), "Joiner");
+        int reads = ops.platformReads;
+        core.tickScoreboards();
+
+        assertEquals(reads, ops.platformReads);
+        assertTrue(ops.scoreboardUpdates.isEmpty());
+
+        scheduler.runPlayerTasks();
+        core.tickScoreboards();
+        scheduler.runPlayerTasks();
+
+        assertEquals(1, ops.scoreboardUpdates.size());
+        assertEquals("Players: 2", ops.scoreboards.get(staff).getLines().get(0).getText());
+    }
+
+    @Test
+    void scoreboardToleratesMissingPlayerName() throws IOException {
+        StaffModeConfig config = config(
+                "vanish_on_enable: false",
+                "staff_scoreboard:",
+                "  enabled: true",
+                "  title: \"Staff\"",
+                "  lines:",
+                "    - \"Players: {online}\"",
+                "    - \"Me: {player_name}\""
+        );
+        StaffModeCore core = newCore(config);
+        UUID nameless = UUID.randomUUID();
+        UUID staff = UUID.randomUUID();
+        ops.connect(nameless, null);
+        ops.connect(staff, "Staffer");
+        core.enterStaffMode(nameless.toString());
+        core.enterStaffMode(staff.toString());
+
+        ops.connect(UUID.randomUUID(), "Joiner");
+        core.tickScoreboards();
+
+        assertEquals("Me: Unknown", ops.scoreboards.get(nameless).getLines().get(1).getText());
+        assertEquals("Players: 3", ops.scoreboards.get(staff).getLines().get(0).getText());
+    }
+
     private StaffModeConfig config(String... lines) throws IOException {
         Files.write(tempDir.resolve("staff_mode.yml"),
                 String.join(System.lineSeparator(), lines).getBytes(StandardCharsets.UTF_8));
@@ -230,6 +350,21 @@ class StaffModeCoreTest {
         return builder.toString();
     }
 
+    private static final class QueuedBridgeScheduler extends ImmediateBridgeScheduler {
+        private final List<Runnable> playerTasks = new ArrayList<>();
+
+        @Override
+        public void runForPlayer(UUID playerUuid, Runnable task) {
+            playerTasks.add(task);
+        }
+
+        void runPlayerTasks() {
+            List<Runnable> tasks = new ArrayList<>(playerTasks);
+            playerTasks.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+
     private static final class NoOpFreezeOps implements FreezeOps {
         @Override
         public String playerName(UUID uuid) {
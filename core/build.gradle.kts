@@ -61,7 +61,21 @@ sourceSets.main {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the micro-benchmarks tagged with @Tag(\"benchmark\")."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    outputs.upToDateWhen { false }
+    testLogging.showStandardStreams = true
 }
 
 val versionCatalog = extensions.getByType<VersionCatalogsExtension>().named("libs")
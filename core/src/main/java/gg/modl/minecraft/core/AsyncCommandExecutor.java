@@ -1,35 +1,81 @@
 package gg.modl.minecraft.core;
 
+import gg.modl.minecraft.core.metrics.Counter;
+import gg.modl.minecraft.core.metrics.Metrics;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class AsyncCommandExecutor {
-    private static final int MAX_THREADS = 4;
-    private static final int QUEUE_CAPACITY = 64;
+    static final int PLATFORM_THREADS = 4, VIRTUAL_CONCURRENCY = 64;
+    static final int PER_ISSUER_CONCURRENCY = 1, PER_ISSUER_QUEUE = 8;
+    static final UUID CONSOLE_ISSUER = new UUID(0L, 0L);
     private static final Logger LOGGER = Logger.getLogger(AsyncCommandExecutor.class.getName());
+    private static final ThreadLocal<AsyncCommandExecutor> CURRENT = new ThreadLocal<>();
 
-    private final ThreadPoolExecutor executor;
+    private final ExecutorService runner;
+    private final int maxConcurrency;
     private final Set<String> asyncCommandAliases;
+    private final Counter rejected;
+
+    private final Object lock = new Object();
+    private final Map<UUID, Lane> lanes = new HashMap<>();
+    private final ArrayDeque<Lane> ready = new ArrayDeque<>();
+    private int running;
+    private int queued;
+    private boolean shutdown;
 
     public AsyncCommandExecutor() {
-        this.executor = new ThreadPoolExecutor(
-                MAX_THREADS, MAX_THREADS,
-                60L, TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
-                r -> {
-                    Thread t = new Thread(r, "modl-AsyncCmd");
-                    t.setDaemon(true);
-                    return t;
-                },
-                new ThreadPoolExecutor.AbortPolicy()
-        );
-        this.executor.allowCoreThreadTimeOut(true);
+        this(createRunner());
+    }
+
+    private AsyncCommandExecutor(ExecutorService runner) {
+        this(runner, runner instanceof ThreadPoolExecutor ? PLATFORM_THREADS : VIRTUAL_CONCURRENCY);
+    }
+
+    AsyncCommandExecutor(ExecutorService runner, int maxConcurrency) {
+        this.runner = runner;
+        this.maxConcurrency = maxConcurrency;
         this.asyncCommandAliases = ConcurrentHashMap.newKeySet();
+        Metrics.registry().gauge("modl_executor_queue_depth", "Tasks waiting in an executor queue",
+                this::queuedCount, "executor", "async_commands");
+        Metrics.registry().gauge("modl_executor_active_threads", "Threads currently running tasks",
+                this::runningCount, "executor", "async_commands");
+        this.rejected = Metrics.registry().counter("modl_executor_rejected_total", "Tasks rejected by a saturated executor",
+                "executor", "async_commands");
+    }
+
+    private static ExecutorService createRunner() {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            LOGGER.fine("Async commands will run on virtual threads");
+            return virtual;
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    PLATFORM_THREADS, PLATFORM_THREADS,
+                    60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    r -> {
+                        Thread t = new Thread(r, "modl-AsyncCmd");
+                        t.setDaemon(true);
+                        return t;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
     }
 
     public void registerAsyncAlias(String alias) {
@@ -41,20 +87,158 @@ public class AsyncCommandExecutor {
     }
 
     public void execute(Runnable task) {
+        execute(CONSOLE_ISSUER, task);
+    }
+
+    public void execute(UUID issuer, Runnable task) {
+        enqueue(issuer, task, true);
+    }
+
+    /**
+     * Whether the calling thread is running one of this executor's lane tasks.
+     */
+    public boolean isOnLane() {
+        return CURRENT.get() == this;
+    }
+
+    /**
+     * Queues the continuation of a command that already holds a lane slot. It is exempt from the per-issuer queue
+     * cap so a resolved argument is never dropped; returns false only once the executor is shut down.
+     */
+    public boolean continueOnLane(UUID issuer, Runnable task) {
+        return enqueue(issuer, task, false);
+    }
+
+    private boolean enqueue(UUID issuer, Runnable task, boolean capped) {
+        Claim start;
+        synchronized (lock) {
+            if (shutdown) {
+                if (capped) reject(issuer, "executor is shut down");
+                return false;
+            }
+            Lane lane = lanes.computeIfAbsent(issuer == null ? CONSOLE_ISSUER : issuer, Lane::new);
+            if (capped && lane.pending.size() >= PER_ISSUER_QUEUE) {
+                reject(issuer, "issuer already has " + PER_ISSUER_QUEUE + " commands queued");
+                return false;
+            }
+            lane.pending.add(task);
+            queued++;
+            if (!lane.ready && lane.active < PER_ISSUER_CONCURRENCY) {
+                lane.ready = true;
+                ready.add(lane);
+            }
+            start = nextLocked();
+        }
+        if (start != null) submit(start);
+        return true;
+    }
+
+    private void reject(UUID issuer, String reason) {
+        rejected.inc();
+        LOGGER.warning("Dropped async command for " + issuer + ": " + reason);
+    }
+
+    private Claim nextLocked() {
+        if (shutdown || running >= maxConcurrency) return null;
+        Lane lane = ready.poll();
+        if (lane == null) return null;
+        Runnable task = lane.pending.poll();
+        queued--;
+        lane.active++;
+        running++;
+        lane.ready = !lane.pending.isEmpty() && lane.active < PER_ISSUER_CONCURRENCY;
+        if (lane.ready) ready.add(lane);
+        return new Claim(lane, task);
+    }
+
+    private void release(Lane lane) {
+        Claim next;
+        synchronized (lock) {
+            lane.active--;
+            running--;
+            if (!lane.pending.isEmpty()) {
+                if (!lane.ready && lane.active < PER_ISSUER_CONCURRENCY) {
+                    lane.ready = true;
+                    ready.add(lane);
+                }
+            } else if (lane.active == 0) {
+                lanes.remove(lane.issuer);
+            }
+            next = nextLocked();
+        }
+        if (next != null) submit(next);
+    }
+
+    private void submit(Claim claim) {
         try {
-            executor.execute(task);
+            runner.execute(claim);
         } catch (RejectedExecutionException ex) {
-            LOGGER.warning("Async command executor saturated (queue+pool full); dropped a queued command task rather than blocking the calling thread.");
+            rejected.inc();
+            LOGGER.warning("Async command runner rejected a task; it has been shut down.");
+            release(claim.lane);
+        }
+    }
+
+    int queuedCount() {
+        synchronized (lock) {
+            return queued;
+        }
+    }
+
+    int runningCount() {
+        synchronized (lock) {
+            return running;
         }
     }
 
     public void shutdown() {
-        executor.shutdown();
+        synchronized (lock) {
+            shutdown = true;
+            for (Lane lane : lanes.values()) lane.pending.clear();
+            lanes.values().removeIf(lane -> lane.active == 0);
+            ready.clear();
+            queued = 0;
+        }
+        runner.shutdown();
         try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) executor.shutdownNow();
+            if (!runner.awaitTermination(5, TimeUnit.SECONDS)) runner.shutdownNow();
         } catch (InterruptedException e) {
-            executor.shutdownNow();
+            runner.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
+
+    private final class Claim implements Runnable {
+        private final Lane lane;
+        private final Runnable task;
+
+        private Claim(Lane lane, Runnable task) {
+            this.lane = lane;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            CURRENT.set(AsyncCommandExecutor.this);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Async command task for " + lane.issuer + " failed", e);
+            } finally {
+                CURRENT.remove();
+                release(lane);
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final UUID issuer;
+        private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+        private int active;
+        private boolean ready;
+
+        private Lane(UUID issuer) {
+            this.issuer = issuer;
+        }
+    }
 }
@@ -20,6 +20,8 @@ public class HttpManager {
 
     private static final String PROTO_V3_PROPERTY = "modl.http.protoV3.enabled";
     private static final String PROTO_V3_ENV = "MODL_HTTP_PROTO_V3_ENABLED";
+    private static final String V2_MAX_LIST_ELEMENTS_PROPERTY = "modl.http.v2.maxListElements";
+    private static final String V2_MAX_LIST_ELEMENTS_ENV = "MODL_HTTP_V2_MAX_LIST_ELEMENTS";
 
     private @NotNull final ModlHttpClient httpClient;
     private @NotNull final HttpClientHolder httpClientHolder;
@@ -45,7 +47,7 @@ public class HttpManager {
             this.httpClient = new ModlHttpClientV3Impl(apiUrl, key, this.serverDomain, debugHttp);
         } else {
             this.apiUrl = apiHost + V2_BASE_PATH;
-            this.httpClient = new ModlHttpClientV2Impl(apiUrl, key, this.serverDomain, debugHttp);
+            this.httpClient = new ModlHttpClientV2Impl(apiUrl, key, this.serverDomain, debugHttp, v2MaxListElements());
         }
         this.httpClientHolder = new HttpClientHolder(this.httpClient);
 
@@ -69,6 +71,18 @@ public class HttpManager {
         return true;
     }
 
+    private static int v2MaxListElements() {
+        String value = System.getProperty(V2_MAX_LIST_ELEMENTS_PROPERTY);
+        if (value == null) value = System.getenv(V2_MAX_LIST_ELEMENTS_ENV);
+        if (value == null) return ModlHttpClientV2Impl.DEFAULT_MAX_LIST_ELEMENTS;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Ignoring invalid " + V2_MAX_LIST_ELEMENTS_PROPERTY + " value: " + value);
+            return ModlHttpClientV2Impl.DEFAULT_MAX_LIST_ELEMENTS;
+        }
+    }
+
     private static boolean isProtoRuntimeCompatible() {
         try {
             ApiError.getDefaultInstance();
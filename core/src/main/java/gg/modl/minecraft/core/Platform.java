@@ -14,7 +14,7 @@ public interface Platform extends PlatformMessaging, PlatformPlayers, PlatformCo
     String getPlatformType();
     String getServerName();
     File getDataFolder();
-    DatabaseProvider createLiteBansDatabaseProvider();
+    DatabaseProvider createLiteBansDatabaseProvider(int fetchSize);
 
     default String getPlayerServer(UUID uuid) { return getServerName(); }
     default void connectToServer(UUID player, String serverName) {}
@@ -1,5 +1,6 @@
 package gg.modl.minecraft.core;
 
+import gg.modl.minecraft.core.login.LoginFallback;
 import gg.modl.minecraft.core.service.UpdateCheckerService;
 import gg.modl.minecraft.core.service.database.DatabaseConfig;
 import gg.modl.minecraft.core.util.PluginLogger;
@@ -20,6 +21,7 @@ public final class PluginConfiguration {
     static final String LITEBANS_DATABASE_PLACEHOLDER = "litebans_database";
     static final String LITEBANS_USERNAME_PLACEHOLDER = "litebans_user";
     static final String LITEBANS_PASSWORD_PLACEHOLDER = "change-me";
+    static final int DEFAULT_LITEBANS_FETCH_SIZE = 500;
 
     private static final Map<String, String> DEFAULT_COMMAND_ALIASES = mapOfEntries(
             entry("modl", "modl"),
@@ -100,6 +102,28 @@ public final class PluginConfiguration {
         return aliases;
     }
 
+    /**
+     * Read separately from {@link #loadDatabaseConfig} because the LiteBans API path needs it even when the
+     * direct-connection credentials are still placeholders.
+     */
+    @SuppressWarnings("unchecked")
+    static int loadLiteBansFetchSize(Map<String, Object> config, PluginLogger logger) {
+        try {
+            Object migration = config.get("migration");
+            Object litebans = migration instanceof Map ? ((Map<String, Object>) migration).get("litebans") : null;
+            Object database = litebans instanceof Map ? ((Map<String, Object>) litebans).get("database") : null;
+            if (database instanceof Map) return readLiteBansFetchSize((Map<String, Object>) database);
+        } catch (Exception e) {
+            logger.warning("Failed to load LiteBans fetch size: " + e.getMessage());
+        }
+        return DEFAULT_LITEBANS_FETCH_SIZE;
+    }
+
+    private static int readLiteBansFetchSize(Map<String, Object> database) {
+        return Math.max(0, YamlValues.toInt(database.getOrDefault("fetch_size", DEFAULT_LITEBANS_FETCH_SIZE),
+                DEFAULT_LITEBANS_FETCH_SIZE));
+    }
+
     @SuppressWarnings("unchecked")
     static DatabaseConfig loadDatabaseConfig(Map<String, Object> config, Path dataDirectory, PluginLogger logger) {
         try {
@@ -125,6 +149,9 @@ public final class PluginConfiguration {
             String dbName = (String) database.getOrDefault("database", LITEBANS_DATABASE_PLACEHOLDER);
             String type = (String) database.getOrDefault("type", "mysql");
             String tablePrefix = (String) database.getOrDefault("table_prefix", "litebans_");
+            int poolSize = Math.max(1, YamlValues.toInt(database.getOrDefault("pool_size", 2), 2));
+            int fetchSize = readLiteBansFetchSize(database);
+            int statementCacheSize = Math.max(0, YamlValues.toInt(database.getOrDefault("statement_cache_size", 32), 32));
 
             DatabaseConfig.DatabaseType dbType = DatabaseConfig.DatabaseType.fromString(type);
 
@@ -133,7 +160,8 @@ public final class PluginConfiguration {
                 tablePrefix = detectedPrefix;
             }
 
-            return new DatabaseConfig(host, dbName, username, password, dbType, tablePrefix, port);
+            return new DatabaseConfig(host, dbName, username, password, dbType, tablePrefix, port,
+                    poolSize, fetchSize, statementCacheSize);
         } catch (Exception e) {
             logger.warning("Failed to load database config: " + e.getMessage());
         }
@@ -222,6 +250,62 @@ public final class PluginConfiguration {
         return new IpLookupConfig(enabled, url);
     }
 
+    @SuppressWarnings("unchecked")
+    static MetricsConfig loadMetricsConfig(Map<String, Object> config, PluginLogger logger) {
+        boolean endpointEnabled = false;
+        String bind = "127.0.0.1";
+        int port = 9464;
+
+        try {
+            Object node = config.get("metrics");
+            if (node instanceof Map) {
+                Map<String, Object> metrics = (Map<String, Object>) node;
+
+                endpointEnabled = YamlValues.toBoolean(metrics.get("endpoint_enabled"), endpointEnabled);
+                port = YamlValues.toInt(metrics.get("port"), port);
+
+                Object bindValue = metrics.get("bind");
+                if (bindValue instanceof String && !((String) bindValue).trim().isEmpty()) {
+                    bind = ((String) bindValue).trim();
+                }
+            }
+        } catch (Exception e) {
+            logger.warning("Failed to load metrics config: " + e.getMessage());
+        }
+
+        if (port < 1 || port > 65535) {
+            logger.warning("metrics.port must be between 1 and 65535. Disabling the metrics endpoint.");
+            endpointEnabled = false;
+        }
+
+        return new MetricsConfig(endpointEnabled, bind, port);
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean loadPersistNotifications(Map<String, Object> config, PluginLogger logger) {
+        try {
+            Object node = config.get("sync");
+            if (node instanceof Map) {
+                return YamlValues.toBoolean(((Map<String, Object>) node).get("persist_notifications"), true);
+            }
+        } catch (Exception e) {
+            logger.warning("Failed to load sync config: " + e.getMessage());
+        }
+        return true;
+    }
+
+    static LoginFallback.Policy loadLoginFallbackPolicy(Map<String, Object> config, PluginLogger logger) {
+        Object value = config.get("login_fallback");
+        if (value == null) return LoginFallback.Policy.DENY;
+
+        LoginFallback.Policy policy = LoginFallback.Policy.parse(String.valueOf(value), null);
+        if (policy == null) {
+            logger.warning("Unknown login_fallback '" + value + "'. Expected deny, cached or allow; using deny.");
+            return LoginFallback.Policy.DENY;
+        }
+        return policy;
+    }
+
     static final class UpdateCheckerConfig {
         final boolean enabled;
         final int intervalMinutes;
@@ -241,4 +325,16 @@ public final class PluginConfiguration {
             this.url = url;
         }
     }
+
+    static final class MetricsConfig {
+        final boolean endpointEnabled;
+        final String bind;
+        final int port;
+
+        private MetricsConfig(boolean endpointEnabled, String bind, int port) {
+            this.endpointEnabled = endpointEnabled;
+            this.bind = bind;
+            this.port = port;
+        }
+    }
 }
@@ -14,8 +14,11 @@ import gg.modl.minecraft.api.PunishmentTypeClassifiers;
 import gg.modl.minecraft.api.RegistryPunishmentTypeClassifier;
 import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.response.StartupResponse;
+import gg.modl.minecraft.core.boot.BootstrapSnapshot;
 import gg.modl.minecraft.core.boot.StartupClient;
+import gg.modl.minecraft.core.boot.StartupGraph;
 import gg.modl.minecraft.core.config.ConfigManager;
+import gg.modl.minecraft.core.config.ReportGuiConfig;
 import gg.modl.minecraft.core.config.RuntimeConfigSource;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.cache.LoginCache;
@@ -31,6 +34,7 @@ import gg.modl.minecraft.core.impl.commands.staff.InterceptNetworkChatCommand;
 import gg.modl.minecraft.core.impl.commands.staff.LocalChatCommand;
 import gg.modl.minecraft.core.impl.commands.ModlHelpCommand;
 import gg.modl.minecraft.core.impl.commands.staff.ModlReloadCommand;
+import gg.modl.minecraft.core.impl.commands.staff.ModlMetricsCommand;
 import gg.modl.minecraft.core.impl.commands.staff.NotesCommand;
 import gg.modl.minecraft.core.impl.commands.staff.PunishmentActionCommand;
 import gg.modl.minecraft.core.impl.commands.staff.ReportsCommand;
@@ -43,6 +47,7 @@ import gg.modl.minecraft.core.impl.commands.staff.TargetCommand;
 import gg.modl.minecraft.core.command.ConfiguredCommandAliases;
 import gg.modl.minecraft.core.command.ConsumeRemaining;
 import gg.modl.minecraft.core.command.PlayerQuerySuggestions;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.impl.commands.player.ApplyCommand;
 import gg.modl.minecraft.core.impl.commands.player.BugReportCommand;
 import gg.modl.minecraft.core.impl.commands.player.ChatReportCommand;
@@ -91,9 +96,11 @@ import gg.modl.minecraft.core.integration.iplookup.IpEnrichmentService;
 import gg.modl.minecraft.core.integration.iplookup.PendingIpLookupService;
 import gg.modl.minecraft.core.integration.mojang.MojangProfiles;
 import gg.modl.minecraft.core.login.BanEnforcementAcknowledger;
+import gg.modl.minecraft.core.login.LoginFallback;
 import gg.modl.minecraft.core.login.LoginRequestBuilder;
 import gg.modl.minecraft.core.login.LoginService;
 import gg.modl.minecraft.core.login.PlayerNotificationMapper;
+import gg.modl.minecraft.core.metrics.MetricsEndpoint;
 import gg.modl.minecraft.core.player.PlayerLookupService;
 import gg.modl.minecraft.core.punishment.PunishmentActionMessageService;
 import gg.modl.minecraft.core.punishment.PunishmentMessageService;
@@ -149,11 +156,13 @@ public class PluginLoader {
     private final PendingIpLookupService pendingIpLookupService;
     private final LoginRequestBuilder loginRequestBuilder;
     private final LoginService loginService;
+    private final LoginFallback loginFallback;
     private final PlayerSessionService playerSessionService;
     private final ServerSwitchService serverSwitchService;
     private final ChatService chatService;
     private final StaffPermissionService staffPermissionService;
     private final PlayerLookupService playerLookupService;
+    private volatile MetricsEndpoint metricsEndpoint;
 
     public ModlHttpClient getHttpClient() {
         return httpClientHolder.getClient();
@@ -202,6 +211,17 @@ public class PluginLoader {
                 platform, configuredCommandAliases.primaryAlias("punishment_action"));
 
         this.staffPermissionService = new StaffPermissionService(httpClientHolder, cache, logger, httpManager.isDebugHttp());
+        BootstrapSnapshot bootstrapSnapshot = new BootstrapSnapshot(dataDirectory, httpManager.getPanelUrl(), logger);
+        boolean snapshotLoaded = bootstrapSnapshot.load();
+        if (snapshotLoaded && bootstrapSnapshot.getStaff() != null) {
+            int restored = this.staffPermissionService.restore(bootstrapSnapshot.getStaff());
+            if (debugMode) logger.info("Restored " + restored + " staff members from bootstrap snapshot");
+        }
+        this.staffPermissionService.setLoadListener(bootstrapSnapshot::saveStaff);
+        if (PluginConfiguration.loadPersistNotifications(configYml, logger)) {
+            int restored = cache.getNotificationStore().persistTo(dataDirectory, logger);
+            if (debugMode && restored > 0) logger.info("Restored " + restored + " pending player notifications");
+        }
 
         this.syncService = new SyncService(SyncServiceContext.builder()
                 .platform(platform)
@@ -213,6 +233,7 @@ public class PluginLoader {
                 .pollingRateSeconds(syncPollingRateSeconds)
                 .dataFolder(dataDirectory.toFile())
                 .databaseConfig(databaseConfig)
+                .liteBansFetchSize(PluginConfiguration.loadLiteBansFetchSize(configYml, logger))
                 .debugMode(httpManager.isDebugHttp())
                 .staff2faService(this.staff2faService)
                 .chatCommandLogService(this.chatCommandLogService)
@@ -235,14 +256,13 @@ public class PluginLoader {
         this.updateCheckerService = new UpdateCheckerService(logger, this.debugMode, PluginInfo.VERSION);
         this.updateCheckerService.start(updateCheckerConfig.enabled, updateCheckerConfig.intervalMinutes);
 
+        applyMetricsConfig(PluginConfiguration.loadMetricsConfig(configYml, logger));
+
         PluginConfiguration.IpLookupConfig ipLookupConfig = PluginConfiguration.loadIpLookupConfig(configYml, logger);
         this.ipEnrichmentService = new IpEnrichmentService(ipLookupConfig.enabled, ipLookupConfig.url);
         this.pendingIpLookupService = new PendingIpLookupService(httpClientHolder, this.ipEnrichmentService, logger);
         this.loginRequestBuilder = new LoginRequestBuilder(logger);
 
-        PlayerLookupService playerLookup = new PlayerLookupService(platform, httpClientHolder, queryMojang);
-        this.playerLookupService = playerLookup;
-
         this.staffChatService = new StaffChatService(cachedProfileRegistry);
         this.chatManagementService = new ChatManagementService(cachedProfileRegistry);
         this.maintenanceService = new MaintenanceService();
@@ -258,6 +278,11 @@ public class PluginLoader {
                 this.punishmentMessageService, this.punishmentActionMessageService);
         PluginServices.install(pluginServices);
         platform.setStaffAudience(pluginServices);
+        pluginServices.getOnlinePlayerIndex().replaceAll(platform.getOnlinePlayers(), platform::getPlayerServer);
+
+        PlayerLookupService playerLookup = new PlayerLookupService(platform, httpClientHolder,
+                pluginServices.getPlayerNameCache(), queryMojang);
+        this.playerLookupService = playerLookup;
 
         CommandAccessPolicy accessPolicy = new CommandAccessPolicy(cache, this.localeManager, this.staff2faService);
 
@@ -273,6 +298,10 @@ public class PluginLoader {
                         return PlayerQuerySuggestions.onlinePlayerNames(platform);
                     }
                 }
+                Class<?> resolved = ResolvedArgument.futureArgumentType(type);
+                if (resolved == AbstractPlayer.class || resolved == Account.class) {
+                    return PlayerQuerySuggestions.onlinePlayerNames(platform);
+                }
 
                 if (!(type instanceof Class) || type != String.class) {
                     return null;
@@ -296,41 +325,40 @@ public class PluginLoader {
                         return greedyString;
                     }
                 });
-                types.addParameterType(AbstractPlayer.class, (input, context) -> {
-                    String name = input.readString();
-                    AbstractPlayer player = playerLookup.fetchPlayer(name);
-                    if (player == null) throw CommandAccessPolicy.deny(localeManager.getMessage("general.player_not_found"));
-                    return player;
-                });
-                types.addParameterType(Account.class, (input, context) -> {
-                    String name = input.readString();
-                    Account account = playerLookup.fetchAccount(name);
-                    if (account == null) throw CommandAccessPolicy.deny(localeManager.getMessage("general.player_not_found"));
-                    return account;
+                types.addParameterTypeFactory(new ParameterType.Factory<CommandActor>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T> ParameterType<CommandActor, T> create(Type type, AnnotationList annotations, Lamp<CommandActor> lamp) {
+                        Class<?> resolved = ResolvedArgument.futureArgumentType(type);
+                        if (resolved == AbstractPlayer.class) {
+                            return (input, context) -> (T) playerLookup.resolvePlayer(input.readString());
+                        }
+                        if (resolved == Account.class) {
+                            return (input, context) -> (T) playerLookup.resolveAccount(input.readString());
+                        }
+                        return null;
+                    }
                 });
             });
         });
 
         RegistryPunishmentTypeClassifier punishmentTypeClassifier = new RegistryPunishmentTypeClassifier();
         PunishmentTypeClassifiers.install(punishmentTypeClassifier);
-        PunishCommand punishCommand = new PunishCommand(httpClientHolder, platform, cache, this.localeManager,
-                punishmentTypeClassifier, this.staffPermissionService);
-        if (registerIfEnabled(configuredCommandAliases, punishCommand, "punish")) {
-            punishCommand.initializePunishmentTypes();
-            syncService.addPunishmentTypesListener(punishCommand::updatePunishmentTypesCache);
-        }
-
-        this.staffPermissionService.initialLoad();
+        PunishCommand punishCommand = new PunishCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager,
+                punishmentTypeClassifier);
+        boolean punishEnabled = registerIfEnabled(configuredCommandAliases, punishCommand, "punish");
+        if (punishEnabled) syncService.addPunishmentTypesListener(punishCommand::updatePunishmentTypesCache);
 
         registerIfEnabled(configuredCommandAliases, new ModlHelpCommand(cache, this.localeManager), "modl");
         registerIfEnabled(configuredCommandAliases, new ModlReloadCommand(this.localeManager, this::reloadRuntimeConfiguration), "modl");
-        registerIfEnabled(configuredCommandAliases, new BanCommand(httpClientHolder, platform, cache, this.localeManager), "ban");
-        registerIfEnabled(configuredCommandAliases, new MuteCommand(httpClientHolder, platform, cache, this.localeManager), "mute");
-        registerIfEnabled(configuredCommandAliases, new KickCommand(httpClientHolder, platform, cache, this.localeManager), "kick");
-        registerIfEnabled(configuredCommandAliases, new BlacklistCommand(httpClientHolder, platform, cache, this.localeManager), "blacklist");
+        registerIfEnabled(configuredCommandAliases, new ModlMetricsCommand(this.localeManager, () -> metricsEndpoint), "modl");
+        registerIfEnabled(configuredCommandAliases, new BanCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager), "ban");
+        registerIfEnabled(configuredCommandAliases, new MuteCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager), "mute");
+        registerIfEnabled(configuredCommandAliases, new KickCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager), "kick");
+        registerIfEnabled(configuredCommandAliases, new BlacklistCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager), "blacklist");
         registerIfEnabled(configuredCommandAliases, new PardonCommand(httpClientHolder, platform, cache, this.localeManager), "pardon", "unban", "unmute");
-        registerIfEnabled(configuredCommandAliases, new WarnCommand(httpClientHolder, platform, cache, this.localeManager), "warn");
-        registerIfEnabled(configuredCommandAliases, new IAmMutedCommand(platform, cache, this.localeManager), "iammuted");
+        registerIfEnabled(configuredCommandAliases, new WarnCommand(asyncCommandExecutor, httpClientHolder, platform, cache, this.localeManager), "warn");
+        registerIfEnabled(configuredCommandAliases, new IAmMutedCommand(asyncCommandExecutor, platform, cache, this.localeManager), "iammuted");
         registerIfEnabled(configuredCommandAliases, new StandingCommand(httpClientHolder, platform, this.localeManager, configManager, cache), "standing");
 
         ModlHttpClient httpClient = httpManager.getHttpClient();
@@ -338,7 +366,7 @@ public class PluginLoader {
         TicketService ticketService = new TicketService(cache, httpClient, platform, this.localeManager, panelUrl);
         pluginServices.setTicketService(ticketService);
         registerIfEnabled(configuredCommandAliases, new ReportCommand(asyncCommandExecutor, platform, httpClient, panelUrl, this.localeManager, chatMessageCache, ticketService), "report");
-        registerIfEnabled(configuredCommandAliases, new ChatReportCommand(platform, this.localeManager, chatMessageCache, ticketService), "chatreport");
+        registerIfEnabled(configuredCommandAliases, new ChatReportCommand(asyncCommandExecutor, platform, this.localeManager, chatMessageCache, ticketService), "chatreport");
         registerIfEnabled(configuredCommandAliases, new HackReportCommand(platform, this.localeManager, ticketService), "hackreport");
         registerIfEnabled(configuredCommandAliases, new ApplyCommand(ticketService), "apply");
         registerIfEnabled(configuredCommandAliases, new BugReportCommand(ticketService), "bugreport");
@@ -346,8 +374,12 @@ public class PluginLoader {
         registerIfEnabled(configuredCommandAliases, new ClaimTicketCommand(platform, httpClient, panelUrl, this.localeManager, ticketService), "tclaim");
 
         this.punishmentTypeCacheManager = new PunishmentTypeCacheManager();
-        this.punishmentTypeCacheManager.initialize(httpManager.getHttpClient(), logger);
         syncService.addPunishmentTypesListener(this.punishmentTypeCacheManager::update);
+        syncService.addPunishmentTypesListener(bootstrapSnapshot::savePunishmentTypes);
+        if (snapshotLoaded && bootstrapSnapshot.getPunishmentTypes() != null) {
+            this.punishmentTypeCacheManager.update(bootstrapSnapshot.getPunishmentTypes());
+            if (punishEnabled) punishCommand.updatePunishmentTypesCache(bootstrapSnapshot.getPunishmentTypes());
+        }
 
         InspectCommand inspectCommand = new InspectCommand(httpClientHolder, platform, cache, this.localeManager, httpManager.getPanelUrl(), this.punishmentTypeCacheManager);
         registerIfEnabled(configuredCommandAliases, inspectCommand, "inspect");
@@ -364,9 +396,11 @@ public class PluginLoader {
                 this.punishmentMessageService,
                 new BanEnforcementAcknowledger(httpClientHolder, logger, debugMode),
                 new PlayerNotificationMapper(logger));
+        this.loginFallback = new LoginFallback(PluginConfiguration.loadLoginFallbackPolicy(configYml, logger),
+                platform, loginCache, this.loginService, logger);
         this.playerSessionService = new PlayerSessionService(platform, cache, this.localeManager, staff2faService,
                 syncService, httpClientHolder, loginCache, chatMessageCache, bridgeService, cachedProfileRegistry);
-        this.serverSwitchService = new ServerSwitchService(httpClientHolder, cache, this.localeManager, platform);
+        this.serverSwitchService = new ServerSwitchService(syncService, cache, this.localeManager, platform);
         this.chatService = new ChatService(platform, cache, this.localeManager, chatMessageCache,
                 staffChatService, configManager.getStaffChatConfig(), chatManagementService,
                 freezeService, chatCommandLogService, networkChatInterceptService, this.punishmentMessageService);
@@ -380,10 +414,10 @@ public class PluginLoader {
         registerIfEnabled(configuredCommandAliases, new InterceptNetworkChatCommand(networkChatInterceptService, this.localeManager), "interceptnetworkchat");
         registerIfEnabled(configuredCommandAliases, new ChatLogsCommand(httpClientHolder, chatCommandLogService, this.localeManager, this.dateFormatter), "chatlogs");
         registerIfEnabled(configuredCommandAliases, new CommandLogsCommand(httpClientHolder, chatCommandLogService, this.localeManager, this.dateFormatter), "commandlogs");
-        registerIfEnabled(configuredCommandAliases, new FreezeCommand(platform, cache, this.localeManager, freezeService, bridgeService), "freeze");
+        registerIfEnabled(configuredCommandAliases, new FreezeCommand(asyncCommandExecutor, platform, cache, this.localeManager, freezeService, bridgeService), "freeze");
         registerIfEnabled(configuredCommandAliases, new StaffModeCommand(platform, cache, this.localeManager, staffModeService, vanishService, bridgeService), "staffmode");
         registerIfEnabled(configuredCommandAliases, new VanishCommand(platform, cache, this.localeManager, vanishService, bridgeService), "vanish");
-        registerIfEnabled(configuredCommandAliases, new TargetCommand(platform, cache, this.localeManager, staffModeService, bridgeService), "target");
+        registerIfEnabled(configuredCommandAliases, new TargetCommand(asyncCommandExecutor, platform, cache, this.localeManager, staffModeService, bridgeService), "target");
         registerIfEnabled(configuredCommandAliases, new ReplayCommand(platform, this.localeManager, httpManager.getPanelUrl()), "replay");
 
         registerAsyncAliases(configuredCommandAliases,
@@ -394,6 +428,13 @@ public class PluginLoader {
             "staffmode", "vanish", "target", "verify", "interceptnetworkchat", "chatlogs",
             "commandlogs", "replay");
         platform.finalizeLampRegistration(lamp);
+
+        new StartupGraph(logger, debugMode)
+                .asyncStep("punishment_types", syncService::refreshPunishmentTypesNow)
+                .asyncStep("staff_permissions", syncService::refreshStaffPermissionsNow)
+                .step("report_gui_config", () -> cache.cacheReportGuiConfig(
+                        ReportGuiConfig.load(dataDirectory, logger)))
+                .run();
     }
 
     private static Collection<Annotation> remapCommandAnnotation(Command annotation, ConfiguredCommandAliases commandAliases) {
@@ -438,9 +479,14 @@ public class PluginLoader {
         if (realtimeClient != null) realtimeClient.stop();
         if (updateCheckerService != null) updateCheckerService.stop();
         if (syncService != null) syncService.stop();
+        if (cache != null) cache.getNotificationStore().flush();
         if (loginCache != null) loginCache.shutdown();
+        if (serverSwitchService != null) serverSwitchService.shutdown();
         if (asyncCommandExecutor != null) asyncCommandExecutor.shutdown();
+        if (playerLookupService != null) playerLookupService.shutdown();
         if (ipEnrichmentService != null) ipEnrichmentService.shutdown();
+        if (metricsEndpoint != null) metricsEndpoint.stop();
+        if (loginFallback != null) loginFallback.shutdown();
         MojangProfiles.shutdown();
         PlayerHeadItemBuilder.shutdown();
         Java8Collections.shutdown();
@@ -485,6 +531,18 @@ public class PluginLoader {
         Map<String, Object> freshConfig = configManager.getRuntimeConfigSource().root();
         PluginConfiguration.UpdateCheckerConfig updateCheckerConfig = PluginConfiguration.loadUpdateCheckerConfig(freshConfig, this.logger);
         updateCheckerService.reload(updateCheckerConfig.enabled, updateCheckerConfig.intervalMinutes);
+        applyMetricsConfig(PluginConfiguration.loadMetricsConfig(freshConfig, this.logger));
+        loginFallback.setPolicy(PluginConfiguration.loadLoginFallbackPolicy(freshConfig, this.logger));
+    }
+
+    private synchronized void applyMetricsConfig(PluginConfiguration.MetricsConfig metricsConfig) {
+        if (metricsEndpoint != null) {
+            metricsEndpoint.stop();
+            metricsEndpoint = null;
+        }
+        if (metricsConfig.endpointEnabled) {
+            metricsEndpoint = MetricsEndpoint.start(metricsConfig.bind, metricsConfig.port, logger);
+        }
     }
 }
 
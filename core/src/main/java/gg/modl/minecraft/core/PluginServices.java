@@ -3,7 +3,10 @@ package gg.modl.minecraft.core;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.service.TicketService;
 import gg.modl.minecraft.core.impl.menus.util.ChatInputManager;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
 import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.player.OnlinePlayerIndex;
+import gg.modl.minecraft.core.player.PlayerNameCache;
 import gg.modl.minecraft.core.punishment.PunishmentActionMessageService;
 import gg.modl.minecraft.core.punishment.PunishmentMessageService;
 import gg.modl.minecraft.core.service.BridgeService;
@@ -29,6 +32,9 @@ public final class PluginServices implements StaffAudience {
     private final ChatInputManager chatInputManager;
     private final PunishmentMessageService punishmentMessageService;
     private final PunishmentActionMessageService punishmentActionMessageService;
+    private final MenuDataCache menuDataCache = new MenuDataCache();
+    private final PlayerNameCache playerNameCache = new PlayerNameCache();
+    private final OnlinePlayerIndex onlinePlayerIndex = new OnlinePlayerIndex();
 
     private volatile ReplayService replayService;
     private volatile TicketService ticketService;
@@ -69,6 +75,18 @@ public final class PluginServices implements StaffAudience {
         return instance == null ? null : instance.punishmentActionMessageService;
     }
 
+    public static MenuDataCache menuData() {
+        return instance == null ? null : instance.menuDataCache;
+    }
+
+    public static PlayerNameCache playerNames() {
+        return instance == null ? null : instance.playerNameCache;
+    }
+
+    public static OnlinePlayerIndex onlinePlayers() {
+        return instance == null ? null : instance.onlinePlayerIndex;
+    }
+
     public static ReplayService replay() {
         return instance == null ? null : instance.replayService;
     }
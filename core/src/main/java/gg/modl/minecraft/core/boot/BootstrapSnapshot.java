@@ -0,0 +1,97 @@
+package gg.modl.minecraft.core.boot;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
+import gg.modl.minecraft.api.http.response.StaffPermissionsResponse;
+import gg.modl.minecraft.core.util.PluginLogger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BootstrapSnapshot {
+    static final String FILE_NAME = "bootstrap-snapshot.json";
+    private static final Gson GSON = new Gson();
+
+    private final Path file;
+    private final String panelUrl;
+    private final PluginLogger logger;
+    private State state = new State();
+
+    public BootstrapSnapshot(Path dataDirectory, String panelUrl, PluginLogger logger) {
+        this.file = dataDirectory.resolve(FILE_NAME);
+        this.panelUrl = panelUrl;
+        this.logger = logger;
+    }
+
+    public synchronized boolean load() {
+        if (!Files.exists(file)) return false;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            State loaded = GSON.fromJson(reader, State.class);
+            if (loaded == null || panelUrl == null || !panelUrl.equals(loaded.panelUrl)) return false;
+            state = loaded;
+            return true;
+        } catch (IOException | JsonParseException e) {
+            logger.warning("Ignoring unreadable bootstrap snapshot: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public synchronized List<PunishmentTypesResponse.PunishmentTypeData> getPunishmentTypes() {
+        return state.punishmentTypes;
+    }
+
+    public synchronized List<StaffPermissionsResponse.StaffMember> getStaff() {
+        return state.staff;
+    }
+
+    public synchronized long getSavedAt() {
+        return state.savedAt;
+    }
+
+    public synchronized void savePunishmentTypes(List<PunishmentTypesResponse.PunishmentTypeData> punishmentTypes) {
+        if (punishmentTypes == null) return;
+        state.punishmentTypes = new ArrayList<>(punishmentTypes);
+        write();
+    }
+
+    public synchronized void saveStaff(List<StaffPermissionsResponse.StaffMember> staff) {
+        if (staff == null) return;
+        state.staff = new ArrayList<>(staff);
+        write();
+    }
+
+    private void write() {
+        state.panelUrl = panelUrl;
+        state.savedAt = System.currentTimeMillis();
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(state, writer);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write bootstrap snapshot: " + e.getMessage());
+        }
+    }
+
+    private static final class State {
+        private String panelUrl;
+        private long savedAt;
+        private List<PunishmentTypesResponse.PunishmentTypeData> punishmentTypes;
+        private List<StaffPermissionsResponse.StaffMember> staff;
+    }
+}
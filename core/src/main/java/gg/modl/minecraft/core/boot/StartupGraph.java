@@ -0,0 +1,111 @@
+package gg.modl.minecraft.core.boot;
+
+import gg.modl.minecraft.core.metrics.Metrics;
+import gg.modl.minecraft.core.util.PluginLogger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public final class StartupGraph {
+    private static final int THREADS = 4;
+
+    private final PluginLogger logger;
+    private final boolean debugMode;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    public StartupGraph(PluginLogger logger, boolean debugMode) {
+        this.logger = logger;
+        this.debugMode = debugMode;
+    }
+
+    public StartupGraph step(String name, Runnable action, String... dependsOn) {
+        return asyncStep(name, () -> {
+            action.run();
+            return CompletableFuture.completedFuture(null);
+        }, dependsOn);
+    }
+
+    public StartupGraph asyncStep(String name, Supplier<? extends CompletableFuture<?>> action, String... dependsOn) {
+        if (steps.containsKey(name)) throw new IllegalArgumentException("Duplicate startup step: " + name);
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Startup step " + name + " depends on undeclared step " + dependency);
+            }
+        }
+        steps.put(name, new Step(name, action, dependsOn));
+        return this;
+    }
+
+    public CompletableFuture<Void> run() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, Math.max(1, steps.size())), r -> {
+            Thread t = new Thread(r, "modl-startup-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        long startNanos = System.nanoTime();
+        Map<String, CompletableFuture<Void>> started = new LinkedHashMap<>();
+        for (Step step : steps.values()) {
+            List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+            for (String dependency : step.dependsOn) dependencies.add(started.get(dependency));
+            CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]));
+            started.put(step.name, ready.thenComposeAsync(ignored -> runStep(step), executor));
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture.allOf(started.values().toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            executor.shutdown();
+            if (debugMode) {
+                logger.info("Startup graph finished in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms");
+            }
+            done.complete(null);
+        });
+        return done;
+    }
+
+    private CompletableFuture<Void> runStep(Step step) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<?> pending;
+        try {
+            pending = step.action.get();
+        } catch (RuntimeException e) {
+            pending = new CompletableFuture<>();
+            pending.completeExceptionally(e);
+        }
+        return pending.handle((ignored, error) -> {
+            Metrics.registry().histogram("modl_startup_step_duration_seconds", "Time spent in each startup step",
+                    "step", step.name).observeSinceNanos(startNanos);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                logger.warning("Startup step " + step.name + " failed: " + cause.getMessage());
+                throw new CompletionException(cause);
+            }
+            if (debugMode) {
+                logger.info("Startup step " + step.name + " completed in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms");
+            }
+            return null;
+        });
+    }
+
+    private static final class Step {
+        private final String name;
+        private final Supplier<? extends CompletableFuture<?>> action;
+        private final String[] dependsOn;
+
+        private Step(String name, Supplier<? extends CompletableFuture<?>> action, String[] dependsOn) {
+            this.name = name;
+            this.action = action;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class Cache {
     private static final int TEXTURE_CACHE_MAX_SIZE = 500;
 
     @Getter private final CachedProfileRegistry registry;
+    @Getter private final PendingNotificationStore notificationStore = new PendingNotificationStore();
     private final Map<UUID, StaffPermissions> staffPermissionsCache = new ConcurrentHashMap<>();
     private final Object skinTextureLock = new Object();
     private final Map<UUID, CachedTexture> skinTextureCache =
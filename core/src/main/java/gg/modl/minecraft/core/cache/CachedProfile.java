@@ -8,10 +8,6 @@ import gg.modl.minecraft.core.service.Staff2faService;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,7 +32,6 @@ public class CachedProfile {
     @Setter private volatile Staff2faService.AuthState authState;
     @Setter private volatile boolean twoFaNotified;
 
-    private final List<PendingNotification> pendingNotifications = Collections.synchronizedList(new ArrayList<>());
     private final AtomicLong lastChatMessageTime = new AtomicLong(0L);
     private final CooldownTracker cooldowns = new CooldownTracker();
 
@@ -76,44 +71,6 @@ public class CachedProfile {
         return true;
     }
 
-    public void addNotification(SyncResponse.PlayerNotification notification) {
-        pendingNotifications.add(new PendingNotification(
-            notification.getId(), notification.getMessage(), notification.getType(),
-            notification.getTimestamp(), notification.getData(), System.currentTimeMillis()
-        ));
-    }
-
-    public boolean removeNotification(String notificationId) {
-        return pendingNotifications.removeIf(n -> n.getId().equals(notificationId));
-    }
-
-    public void cleanupExpiredNotifications() {
-        pendingNotifications.removeIf(PendingNotification::isExpired);
-    }
-
-    @Getter
-    public static class PendingNotification {
-        private static final long NOTIFICATION_EXPIRY_MS = 24 * 60 * 60 * 1000L;
-
-        private final String id, message, type;
-        private final Long timestamp;
-        private final Map<String, Object> data;
-        private final long cachedTime;
-
-        public PendingNotification(String id, String message, String type, Long timestamp, Map<String, Object> data, long cachedTime) {
-            this.id = id;
-            this.message = message;
-            this.type = type;
-            this.timestamp = timestamp;
-            this.data = data != null ? new HashMap<>(data) : new HashMap<>();
-            this.cachedTime = cachedTime;
-        }
-
-        public boolean isExpired() {
-            return (System.currentTimeMillis() - cachedTime) > NOTIFICATION_EXPIRY_MS;
-        }
-    }
-
     public static class CooldownTracker {
         private final Map<String, Long> cooldowns = new ConcurrentHashMap<>();
 
@@ -0,0 +1,37 @@
+package gg.modl.minecraft.core.cache;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+@Getter
+public final class PendingNotification {
+    static final long NOTIFICATION_EXPIRY_MS = 24 * 60 * 60 * 1000L;
+
+    private final String id, message, type;
+    private final Long timestamp;
+    private final Map<String, Object> data;
+    private final long cachedTime;
+
+    public PendingNotification(String id, String message, String type, Long timestamp, Map<String, Object> data, long cachedTime) {
+        this.id = id;
+        this.message = message;
+        this.type = type;
+        this.timestamp = timestamp;
+        this.data = data != null ? Collections.unmodifiableMap(data) : Collections.emptyMap();
+        this.cachedTime = cachedTime;
+    }
+
+    public long getExpiresAt() {
+        return cachedTime + NOTIFICATION_EXPIRY_MS;
+    }
+
+    public boolean isExpired() {
+        return isExpired(System.currentTimeMillis());
+    }
+
+    public boolean isExpired(long now) {
+        return now > getExpiresAt();
+    }
+}
@@ -0,0 +1,256 @@
+package gg.modl.minecraft.core.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import gg.modl.minecraft.api.http.response.SyncResponse;
+import gg.modl.minecraft.core.util.PluginLogger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Pending player notifications keyed by player and notification id. Expiry is driven by a time-ordered index so
+ * sweeps only touch expired entries, and delivered ids are remembered for the expiry window so a notification
+ * replayed by login or a baseline fetch is not shown twice. Optionally mirrored to disk to survive restarts.
+ */
+public final class PendingNotificationStore {
+    static final String FILE_NAME = "pending-notifications.json";
+    private static final Gson GSON = new Gson();
+
+    private final LongSupplier clock;
+    private final Map<UUID, LinkedHashMap<String, PendingNotification>> byPlayer = new HashMap<>();
+    private final TreeSet<Expiry> expiryIndex = new TreeSet<>();
+    private final LinkedHashMap<String, Long> deliveredUntil = new LinkedHashMap<>();
+    private final Object writeLock = new Object();
+    private Path file;
+    private volatile PluginLogger logger;
+    private boolean dirty;
+
+    public PendingNotificationStore() {
+        this(System::currentTimeMillis);
+    }
+
+    PendingNotificationStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public boolean add(UUID playerUuid, SyncResponse.PlayerNotification notification) {
+        if (playerUuid == null || notification == null || notification.getId() == null) return false;
+        return add(playerUuid, new PendingNotification(notification.getId(), notification.getMessage(),
+                notification.getType(), notification.getTimestamp(), notification.getData(), clock.getAsLong()));
+    }
+
+    private synchronized boolean add(UUID playerUuid, PendingNotification notification) {
+        if (notification.isExpired(clock.getAsLong())) return false;
+        if (deliveredUntil.containsKey(deliveredKey(playerUuid, notification.getId()))) return false;
+        LinkedHashMap<String, PendingNotification> pending = byPlayer.computeIfAbsent(playerUuid, ignored -> new LinkedHashMap<>());
+        if (pending.containsKey(notification.getId())) return false;
+        pending.put(notification.getId(), notification);
+        expiryIndex.add(new Expiry(notification.getExpiresAt(), playerUuid, notification.getId()));
+        dirty = true;
+        return true;
+    }
+
+    public synchronized List<PendingNotification> pending(UUID playerUuid) {
+        LinkedHashMap<String, PendingNotification> pending = byPlayer.get(playerUuid);
+        if (pending == null) return Collections.emptyList();
+        long now = clock.getAsLong();
+        List<PendingNotification> live = new ArrayList<>(pending.size());
+        for (PendingNotification notification : pending.values()) {
+            if (!notification.isExpired(now)) live.add(notification);
+        }
+        return live;
+    }
+
+    public synchronized boolean remove(UUID playerUuid, String notificationId) {
+        LinkedHashMap<String, PendingNotification> pending = byPlayer.get(playerUuid);
+        if (pending == null) return false;
+        PendingNotification removed = pending.remove(notificationId);
+        if (removed == null) return false;
+        if (pending.isEmpty()) byPlayer.remove(playerUuid);
+        expiryIndex.remove(new Expiry(removed.getExpiresAt(), playerUuid, notificationId));
+        dirty = true;
+        return true;
+    }
+
+    public synchronized void markDelivered(UUID playerUuid, Collection<String> notificationIds) {
+        long until = clock.getAsLong() + PendingNotification.NOTIFICATION_EXPIRY_MS;
+        for (String id : notificationIds) {
+            remove(playerUuid, id);
+            String key = deliveredKey(playerUuid, id);
+            deliveredUntil.remove(key);
+            deliveredUntil.put(key, until);
+        }
+        if (!notificationIds.isEmpty()) dirty = true;
+    }
+
+    public synchronized boolean wasDelivered(UUID playerUuid, String notificationId) {
+        if (playerUuid == null || notificationId == null) return false;
+        Long until = deliveredUntil.get(deliveredKey(playerUuid, notificationId));
+        return until != null && until >= clock.getAsLong();
+    }
+
+    public synchronized int sweepExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        while (!expiryIndex.isEmpty() && expiryIndex.first().expiresAt < now) {
+            Expiry expiry = expiryIndex.pollFirst();
+            LinkedHashMap<String, PendingNotification> pending = byPlayer.get(expiry.playerUuid);
+            if (pending != null && pending.remove(expiry.notificationId) != null) {
+                if (pending.isEmpty()) byPlayer.remove(expiry.playerUuid);
+                removed++;
+            }
+        }
+        Iterator<Long> delivered = deliveredUntil.values().iterator();
+        while (delivered.hasNext() && delivered.next() < now) {
+            delivered.remove();
+            removed++;
+        }
+        if (removed > 0) dirty = true;
+        return removed;
+    }
+
+    public synchronized int size() {
+        return expiryIndex.size();
+    }
+
+    /**
+     * Mirrors the store to {@code dataDirectory}, restoring any entries saved by a previous run.
+     */
+    public synchronized int persistTo(Path dataDirectory, PluginLogger logger) {
+        this.file = dataDirectory.resolve(FILE_NAME);
+        this.logger = logger;
+        if (!Files.exists(file)) return 0;
+        State state;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            state = GSON.fromJson(reader, State.class);
+        } catch (IOException | JsonParseException e) {
+            logger.warning("Ignoring unreadable pending notification store: " + e.getMessage());
+            return 0;
+        }
+        if (state == null) return 0;
+        if (state.delivered != null) deliveredUntil.putAll(state.delivered);
+        int restored = 0;
+        if (state.pending != null) {
+            for (Record record : state.pending) {
+                if (record.playerUuid == null || record.id == null) continue;
+                try {
+                    if (add(UUID.fromString(record.playerUuid), new PendingNotification(record.id, record.message,
+                            record.type, record.timestamp, record.data, record.cachedTime))) restored++;
+                } catch (IllegalArgumentException ignored) {}
+            }
+        }
+        sweepExpired();
+        dirty = false;
+        return restored;
+    }
+
+    /**
+     * Snapshots the store under the lock and writes it outside, so a slow disk never blocks delivery or sync.
+     */
+    public void flush() {
+        Path target;
+        State state;
+        synchronized (this) {
+            if (file == null || !dirty) return;
+            target = file;
+            state = snapshot();
+            dirty = false;
+        }
+
+        synchronized (writeLock) {
+            Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+            try {
+                Files.createDirectories(target.getParent());
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    GSON.toJson(state, writer);
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    dirty = true;
+                }
+                logger.warning("Failed to write pending notification store: " + e.getMessage());
+            }
+        }
+    }
+
+    private State snapshot() {
+        State state = new State();
+        state.pending = new ArrayList<>(expiryIndex.size());
+        for (Map.Entry<UUID, LinkedHashMap<String, PendingNotification>> player : byPlayer.entrySet()) {
+            for (PendingNotification notification : player.getValue().values()) {
+                state.pending.add(new Record(player.getKey().toString(), notification));
+            }
+        }
+        state.delivered = new LinkedHashMap<>(deliveredUntil);
+        return state;
+    }
+
+    private static String deliveredKey(UUID playerUuid, String notificationId) {
+        return playerUuid + ":" + notificationId;
+    }
+
+    private static final class Expiry implements Comparable<Expiry> {
+        private final long expiresAt;
+        private final UUID playerUuid;
+        private final String notificationId;
+
+        private Expiry(long expiresAt, UUID playerUuid, String notificationId) {
+            this.expiresAt = expiresAt;
+            this.playerUuid = playerUuid;
+            this.notificationId = notificationId;
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            if (byTime != 0) return byTime;
+            int byPlayer = playerUuid.compareTo(other.playerUuid);
+            return byPlayer != 0 ? byPlayer : notificationId.compareTo(other.notificationId);
+        }
+    }
+
+    private static final class State {
+        private List<Record> pending;
+        private Map<String, Long> delivered;
+    }
+
+    private static final class Record {
+        private String playerUuid, id, message, type;
+        private Long timestamp;
+        private Map<String, Object> data;
+        private long cachedTime;
+
+        private Record(String playerUuid, PendingNotification notification) {
+            this.playerUuid = playerUuid;
+            this.id = notification.getId();
+            this.message = notification.getMessage();
+            this.type = notification.getType();
+            this.timestamp = notification.getTimestamp();
+            this.data = notification.getData();
+            this.cachedTime = notification.getCachedTime();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package gg.modl.minecraft.core.command;
 
 import gg.modl.minecraft.api.AbstractPlayer;
 import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.PluginServices;
+import gg.modl.minecraft.core.player.OnlinePlayerIndex;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.autocomplete.SuggestionProvider;
 
@@ -15,7 +17,20 @@ public final class PlayerQuerySuggestions {
     }
 
     public static <A extends CommandActor> SuggestionProvider<A> onlinePlayerNames(final Platform platform) {
-        return context -> onlinePlayerNames(platform.getOnlinePlayers());
+        return context -> {
+            OnlinePlayerIndex onlinePlayers = PluginServices.onlinePlayers();
+            if (onlinePlayers == null) {
+                return onlinePlayerNames(platform.getOnlinePlayers());
+            }
+            return onlinePlayers.namesWithPrefix(currentToken(context.input().source()), Integer.MAX_VALUE);
+        };
+    }
+
+    static String currentToken(String input) {
+        if (input == null || input.isEmpty()) {
+            return "";
+        }
+        return input.substring(input.lastIndexOf(' ') + 1);
     }
 
     static List<String> onlinePlayerNames(Collection<? extends AbstractPlayer> onlinePlayers) {
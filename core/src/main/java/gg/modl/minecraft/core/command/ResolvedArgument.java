@@ -0,0 +1,61 @@
+package gg.modl.minecraft.core.command;
+
+import gg.modl.minecraft.core.AsyncCommandExecutor;
+import gg.modl.minecraft.core.Scheduler;
+import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.util.CommandUtil;
+import revxrsal.commands.command.CommandActor;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public final class ResolvedArgument {
+    private ResolvedArgument() {
+    }
+
+    public static Class<?> futureArgumentType(Type type) {
+        if (!(type instanceof ParameterizedType)) return null;
+        ParameterizedType parameterized = (ParameterizedType) type;
+        if (parameterized.getRawType() != CompletableFuture.class) return null;
+        Type argument = parameterized.getActualTypeArguments()[0];
+        return argument instanceof Class ? (Class<?>) argument : null;
+    }
+
+    /**
+     * Runs {@code action} once the argument resolves, on the thread kind the command was dispatched on: inline when it
+     * has already resolved, back on the issuer's lane for commands the async executor dispatched, and on the main
+     * thread otherwise, since command bodies make platform calls that Spigot and Fabric require there.
+     */
+    public static <T> void whenResolved(CommandActor actor, CompletableFuture<T> argument, Scheduler scheduler,
+                                        AsyncCommandExecutor commandExecutor, LocaleManager localeManager,
+                                        Consumer<T> action) {
+        if (argument == null) {
+            actor.reply(localeManager.getMessage("general.player_not_found"));
+            return;
+        }
+        if (argument.isDone() && !argument.isCompletedExceptionally()) {
+            accept(actor, argument.join(), localeManager, action);
+            return;
+        }
+        boolean onLane = commandExecutor != null && commandExecutor.isOnLane();
+        UUID issuer = actor.uniqueId();
+        argument.whenComplete((value, throwable) -> {
+            Runnable continuation = () -> {
+                if (throwable != null) CommandUtil.handleException(actor, throwable, localeManager);
+                else accept(actor, value, localeManager, action);
+            };
+            if (!onLane || !commandExecutor.continueOnLane(issuer, continuation)) scheduler.runOnMainThread(continuation);
+        });
+    }
+
+    private static <T> void accept(CommandActor actor, T value, LocaleManager localeManager, Consumer<T> action) {
+        if (value == null) {
+            actor.reply(localeManager.getMessage("general.player_not_found"));
+            return;
+        }
+        action.accept(value);
+    }
+}
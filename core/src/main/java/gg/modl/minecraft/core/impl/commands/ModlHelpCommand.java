@@ -91,6 +91,7 @@ public class ModlHelpCommand {
 
             if (isAdmin || senderUuid == null) {
                 addEntry(entries, "staff_commands.modl_reload");
+                addEntry(entries, "staff_commands.modl_metrics");
             }
         }
 
@@ -5,19 +5,23 @@ import revxrsal.commands.annotation.Description;
 import revxrsal.commands.command.CommandActor;
 import gg.modl.minecraft.api.AbstractPlayer;
 import gg.modl.minecraft.api.http.request.CreateTicketRequest;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.command.PlayerOnly;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.service.ChatMessageCache;
 import gg.modl.minecraft.core.service.TicketService;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.listOf;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
 @RequiredArgsConstructor
 public class ChatReportCommand {
+    private final AsyncCommandExecutor commandExecutor;
     private final Platform platform;
     private final LocaleManager localeManager;
     private final ChatMessageCache chatMessageCache;
@@ -26,7 +30,12 @@ public class ChatReportCommand {
     @Command("chatreport")
     @Description("Report a player for chat violations (automatically includes recent chat logs)")
     @PlayerOnly
-    public void chatReport(CommandActor actor, AbstractPlayer targetPlayer) {
+    public void chatReport(CommandActor actor, CompletableFuture<AbstractPlayer> targetPlayer) {
+        ResolvedArgument.whenResolved(actor, targetPlayer, platform, commandExecutor, localeManager,
+                player -> submitChatReport(actor, player));
+    }
+
+    private void submitChatReport(CommandActor actor, AbstractPlayer targetPlayer) {
         if (ticketUtil.checkCooldown(actor, "chat")) return;
 
         AbstractPlayer reporter = platform.getAbstractPlayer(actor.uniqueId(), false);
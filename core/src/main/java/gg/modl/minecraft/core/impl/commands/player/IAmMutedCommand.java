@@ -5,14 +5,17 @@ import revxrsal.commands.annotation.Description;
 import revxrsal.commands.annotation.Named;
 import revxrsal.commands.command.CommandActor;
 import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.cache.CachedProfile;
 import gg.modl.minecraft.core.command.PlayerOnly;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
@@ -22,6 +25,7 @@ public class IAmMutedCommand {
     private static final String COOLDOWN_KEY = "iammuted";
     private static final int SECONDS_PER_MINUTE = 60;
 
+    private final AsyncCommandExecutor commandExecutor;
     private final Platform platform;
     private final Cache cache;
     private final LocaleManager localeManager;
@@ -29,7 +33,12 @@ public class IAmMutedCommand {
     @Command("iammuted")
     @Description("Send a message to another player informing them you are muted (only usable if you are actually muted)")
     @PlayerOnly
-    public void iAmMuted(CommandActor actor, @Named("player") AbstractPlayer targetPlayer) {
+    public void iAmMuted(CommandActor actor, @Named("player") CompletableFuture<AbstractPlayer> targetPlayer) {
+        ResolvedArgument.whenResolved(actor, targetPlayer, platform, commandExecutor, localeManager,
+                player -> notifyTarget(actor, player));
+    }
+
+    private void notifyTarget(CommandActor actor, AbstractPlayer targetPlayer) {
         UUID senderUuid = actor.uniqueId();
 
         CachedProfile senderProfile = cache.getPlayerProfile(senderUuid);
@@ -13,12 +13,14 @@ import gg.modl.minecraft.core.service.TicketService;
 import gg.modl.minecraft.core.config.ReportGuiConfig;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.command.PlayerOnly;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.impl.menus.ReportMenu;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.service.ChatMessageCache;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 public class ReportCommand {
@@ -33,7 +35,12 @@ public class ReportCommand {
     @Command("report")
     @Description("Report a player")
     @PlayerOnly
-    public void report(CommandActor actor, AbstractPlayer targetPlayer) {
+    public void report(CommandActor actor, CompletableFuture<AbstractPlayer> targetPlayer) {
+        ResolvedArgument.whenResolved(actor, targetPlayer, platform, commandExecutor, localeManager,
+                player -> openReportMenu(actor, player));
+    }
+
+    private void openReportMenu(CommandActor actor, AbstractPlayer targetPlayer) {
         if (ticketUtil.checkCooldown(actor, "player")) return;
 
         AbstractPlayer reporter = platform.getAbstractPlayer(actor.uniqueId(), false);
@@ -55,10 +62,10 @@ public class ReportCommand {
             return;
         }
 
-        commandExecutor.execute(() -> {
+        UUID senderUuid = actor.uniqueId();
+        commandExecutor.execute(senderUuid, () -> {
             ReportGuiConfig guiConfig = getOrLoadReportGuiConfig();
 
-            UUID senderUuid = actor.uniqueId();
             ReportMenu menu = new ReportMenu(
                 reporter, targetPlayer, httpClient, localeManager, platform, panelUrl,
                 guiConfig, chatMessageCache
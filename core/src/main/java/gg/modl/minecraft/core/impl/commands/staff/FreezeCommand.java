@@ -1,9 +1,11 @@
 package gg.modl.minecraft.core.impl.commands.staff;
 
 import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.command.RequiresPermission;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.command.StaffOnly;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.service.BridgeService;
@@ -17,10 +19,12 @@ import revxrsal.commands.annotation.Description;
 import revxrsal.commands.command.CommandActor;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
 @Command("freeze") @StaffOnly @RequiredArgsConstructor
 public class FreezeCommand {
+    private final AsyncCommandExecutor commandExecutor;
     private final Platform platform;
     private final Cache cache;
     private final LocaleManager localeManager;
@@ -29,7 +33,12 @@ public class FreezeCommand {
 
     @Description("Freeze or unfreeze a player")
     @RequiresPermission(Permissions.MOD_ACTIONS)
-    public void onFreeze(CommandActor actor, AbstractPlayer target) {
+    public void onFreeze(CommandActor actor, CompletableFuture<AbstractPlayer> target) {
+        ResolvedArgument.whenResolved(actor, target, platform, commandExecutor, localeManager,
+                player -> toggleFreeze(actor, player));
+    }
+
+    private void toggleFreeze(CommandActor actor, AbstractPlayer target) {
         UUID targetUuid = target.getUuid();
         String targetName = target.getName();
         StaffDisplay display = StaffCommandUtil.resolveActorDisplay(actor, platform, cache, "Console", "Staff", false);
@@ -1,7 +1,9 @@
 package gg.modl.minecraft.core.impl.commands.staff;
 
+import gg.modl.minecraft.api.AbstractPlayer;
 import gg.modl.minecraft.api.Account;
 import gg.modl.minecraft.api.Note;
+import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
 import gg.modl.minecraft.api.http.request.PlayerLookupRequest;
 import gg.modl.minecraft.api.http.response.LinkedAccountsResponse;
@@ -15,9 +17,11 @@ import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.command.StaffOnly;
 import gg.modl.minecraft.core.impl.menus.inspect.InspectMenu;
 import gg.modl.minecraft.core.impl.menus.util.InspectContext;
+import gg.modl.minecraft.core.impl.menus.util.InspectSession;
 import gg.modl.minecraft.core.util.ClickableJsonMessage;
 import gg.modl.minecraft.core.PluginServices;
 import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.player.PlayerNameCache;
 import gg.modl.minecraft.core.util.CommandUtil;
 import gg.modl.minecraft.core.util.Constants;
 import gg.modl.minecraft.core.punishment.PunishmentTypeCacheManager;
@@ -35,6 +39,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
@@ -73,21 +78,41 @@ public class InspectCommand {
         }
 
         UUID senderUuid = actor.uniqueId();
-        ProfileMenuOpener.openProfileMenu(actor, httpClientHolder.getClient(), platform, cache, localeManager, playerQuery,
+        ModlHttpClient httpClient = httpClientHolder.getClient();
+        actor.reply(localeManager.getMessage("player_lookup.looking_up", mapOf("player", playerQuery)));
+
+        CompletableFuture<PlayerProfileResponse> profileLookup = StaffProfileLookup.lookupPlayerProfile(httpClient, platform, playerQuery);
+        UUID knownUuid = resolveKnownUuid(playerQuery);
+        InspectSession prefetched = knownUuid != null ? InspectSession.open(httpClient, knownUuid, profileLookup) : null;
+
+        ProfileMenuOpener.openProfileMenu(actor, platform, cache, localeManager, playerQuery, profileLookup,
                 (profileResponse, senderName, viewer) -> {
+                    UUID targetUuid = profileResponse.getProfile().getMinecraftUuid();
+                    InspectSession session = prefetched != null && prefetched.getTargetUuid().equals(targetUuid)
+                        ? prefetched
+                        : InspectSession.open(httpClient, targetUuid, CompletableFuture.completedFuture(profileResponse));
                     InspectContext context = new InspectContext(
                         profileResponse.getProfile(),
                         profileResponse.getPunishmentCount(),
-                        profileResponse.getNoteCount()
+                        profileResponse.getNoteCount(),
+                        session
                     );
                     new InspectMenu(
-                        platform, httpClientHolder.getClient(), senderUuid, senderName,
+                        platform, httpClient, senderUuid, senderName,
                         profileResponse.getProfile(), null, context
                     ).display(viewer);
                 },
                 this::logInspectFailure);
     }
 
+    private UUID resolveKnownUuid(String playerQuery) {
+        AbstractPlayer online = platform.getAbstractPlayer(playerQuery, false);
+        if (online != null) return online.getUuid();
+        PlayerNameCache names = PluginServices.playerNames();
+        AbstractPlayer cached = names != null ? names.getPlayer(playerQuery) : null;
+        return cached != null ? cached.getUuid() : null;
+    }
+
     private void printPunishmentDetail(CommandActor actor, String punishmentId) {
         actor.reply(localeManager.getMessage("player_lookup.looking_up", mapOf("player", "#" + punishmentId)));
 
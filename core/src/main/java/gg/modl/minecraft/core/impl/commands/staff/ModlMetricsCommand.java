@@ -0,0 +1,43 @@
+package gg.modl.minecraft.core.impl.commands.staff;
+
+import gg.modl.minecraft.core.command.AdminOnly;
+import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.metrics.Metrics;
+import gg.modl.minecraft.core.metrics.MetricsEndpoint;
+import lombok.RequiredArgsConstructor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Description;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.command.CommandActor;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
+
+@RequiredArgsConstructor @Command("modl")
+public class ModlMetricsCommand {
+    private final LocaleManager localeManager;
+    private final Supplier<MetricsEndpoint> endpoint;
+
+    @Subcommand("metrics")
+    @Description("Show plugin metrics, optionally filtered by name")
+    @AdminOnly
+    public void metrics(CommandActor actor, @Optional String filter) {
+        MetricsEndpoint current = endpoint.get();
+        actor.reply(localeManager.getMessage("general.metrics_header", mapOf(
+                "endpoint", current != null ? current.getUrl() : "disabled")));
+
+        Map<String, String> summary = Metrics.registry().summary(filter);
+        if (summary.isEmpty()) {
+            actor.reply(localeManager.getMessage("general.metrics_empty"));
+            return;
+        }
+        for (Map.Entry<String, String> entry : summary.entrySet()) {
+            actor.reply(localeManager.getMessage("general.metrics_entry", mapOf(
+                    "name", entry.getKey(),
+                    "value", entry.getValue())));
+        }
+    }
+}
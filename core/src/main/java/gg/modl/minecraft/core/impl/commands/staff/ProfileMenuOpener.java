@@ -10,6 +10,7 @@ import gg.modl.minecraft.core.util.CommandUtil;
 import revxrsal.commands.command.CommandActor;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
@@ -28,10 +29,16 @@ final class ProfileMenuOpener {
     static void openProfileMenu(CommandActor actor, ModlHttpClient httpClient, Platform platform, Cache cache,
                                 LocaleManager localeManager, String playerQuery, MenuDisplay display,
                                 BiConsumer<String, Throwable> onFailure) {
-        UUID senderUuid = actor.uniqueId();
         actor.reply(localeManager.getMessage("player_lookup.looking_up", mapOf("player", playerQuery)));
+        openProfileMenu(actor, platform, cache, localeManager, playerQuery,
+                StaffProfileLookup.lookupPlayerProfile(httpClient, platform, playerQuery), display, onFailure);
+    }
 
-        StaffProfileLookup.lookupPlayerProfile(httpClient, platform, playerQuery).thenAccept(profileResponse -> {
+    static void openProfileMenu(CommandActor actor, Platform platform, Cache cache, LocaleManager localeManager,
+                                String playerQuery, CompletableFuture<PlayerProfileResponse> profileLookup,
+                                MenuDisplay display, BiConsumer<String, Throwable> onFailure) {
+        UUID senderUuid = actor.uniqueId();
+        profileLookup.thenAccept(profileResponse -> {
             if (profileResponse.getStatus() == 200) {
                 String senderName = CommandUtil.resolveSenderName(senderUuid, cache, platform);
                 CirrusPlayerWrapper viewer = platform.getPlayerWrapper(senderUuid);
@@ -33,7 +33,7 @@ public class StaffCommand {
         boolean isAdmin = cache.hasPermission(senderUuid, Permissions.ADMIN);
         String senderName = CommandUtil.resolveSenderName(senderUuid, cache, platform);
 
-        commandExecutor.execute(() -> {
+        commandExecutor.execute(senderUuid, () -> {
             StaffMenu menu = new StaffMenu(
                 platform, httpClientHolder.getClient(), senderUuid, senderName,
                 isAdmin, panelUrl, null
@@ -1,10 +1,12 @@
 package gg.modl.minecraft.core.impl.commands.staff;
 
 import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.command.PlayerOnly;
 import gg.modl.minecraft.core.command.RequiresPermission;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.command.StaffOnly;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.service.BridgeService;
@@ -19,10 +21,12 @@ import revxrsal.commands.annotation.Optional;
 import revxrsal.commands.command.CommandActor;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
 @Command("target") @PlayerOnly @StaffOnly @RequiredArgsConstructor
 public class TargetCommand {
+    private final AsyncCommandExecutor commandExecutor;
     private final Platform platform;
     private final Cache cache;
     private final LocaleManager localeManager;
@@ -31,13 +35,17 @@ public class TargetCommand {
 
     @Description("Target a player for moderation")
     @RequiresPermission(Permissions.MOD_ACTIONS)
-    public void onTarget(CommandActor actor, @Optional AbstractPlayer target) {
-        UUID staffUuid = actor.uniqueId();
-
+    public void onTarget(CommandActor actor, @Optional CompletableFuture<AbstractPlayer> target) {
         if (target == null) {
-            handleNoTarget(actor, staffUuid);
+            handleNoTarget(actor, actor.uniqueId());
             return;
         }
+        ResolvedArgument.whenResolved(actor, target, platform, commandExecutor, localeManager,
+                player -> applyTarget(actor, player));
+    }
+
+    private void applyTarget(CommandActor actor, AbstractPlayer target) {
+        UUID staffUuid = actor.uniqueId();
         if (target.getUuid().equals(staffUuid)) {
             actor.reply(localeManager.getMessage("target.cannot_target_self"));
             return;
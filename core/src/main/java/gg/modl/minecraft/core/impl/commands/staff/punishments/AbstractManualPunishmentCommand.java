@@ -4,9 +4,11 @@ import revxrsal.commands.command.CommandActor;
 import gg.modl.minecraft.api.Account;
 import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.request.PunishmentCreateRequest;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.punishment.PunishmentFlagParser;
 import gg.modl.minecraft.core.punishment.PunishmentIssuer;
 import gg.modl.minecraft.core.locale.LocaleManager;
@@ -18,10 +20,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractManualPunishmentCommand {
+    protected final AsyncCommandExecutor commandExecutor;
     protected final HttpClientHolder httpClientHolder;
     protected final Platform platform;
     protected final Cache cache;
@@ -36,6 +40,11 @@ public abstract class AbstractManualPunishmentCommand {
         return httpClientHolder.getClient();
     }
 
+    protected void executePunishment(CommandActor actor, CompletableFuture<Account> target, String args) {
+        ResolvedArgument.whenResolved(actor, target, platform, commandExecutor, localeManager,
+                account -> executePunishment(actor, account, args));
+    }
+
     protected void executePunishment(CommandActor actor, Account target, String args) {
         if (target == null) {
             actor.reply(localeManager.getPunishmentMessage("general.player_not_found", mapOf()));
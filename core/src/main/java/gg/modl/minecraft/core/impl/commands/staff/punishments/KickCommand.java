@@ -6,6 +6,7 @@ import revxrsal.commands.annotation.Optional;
 import revxrsal.commands.command.CommandActor;
 import gg.modl.minecraft.api.Account;
 import gg.modl.minecraft.api.PunishmentTypeClassifier;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
@@ -14,12 +15,14 @@ import gg.modl.minecraft.core.command.RequiresPermission;
 import gg.modl.minecraft.core.locale.LocaleManager;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.setOf;
 
 @Command("kick")
 public class KickCommand extends AbstractManualPunishmentCommand {
-    public KickCommand(HttpClientHolder httpClientHolder, Platform platform, Cache cache, LocaleManager localeManager) {
-        super(httpClientHolder, platform, cache, localeManager);
+    public KickCommand(AsyncCommandExecutor commandExecutor, HttpClientHolder httpClientHolder, Platform platform,
+                       Cache cache, LocaleManager localeManager) {
+        super(commandExecutor, httpClientHolder, platform, cache, localeManager);
     }
 
     @Override protected int getOrdinal() { return PunishmentTypeClassifier.ORDINAL_KICK; }
@@ -28,7 +31,7 @@ public class KickCommand extends AbstractManualPunishmentCommand {
     @Override protected Set<Flag> getSupportedFlags() { return setOf(); }
 
     @RequiresPermission("punishment.apply.kick")
-    public void kick(CommandActor actor, @Named("target") Account target, @Optional @ConsumeRemaining String args) {
+    public void kick(CommandActor actor, @Named("target") CompletableFuture<Account> target, @Optional @ConsumeRemaining String args) {
         executePunishment(actor, target, args);
     }
 }
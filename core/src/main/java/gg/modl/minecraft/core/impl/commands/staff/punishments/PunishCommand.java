@@ -11,9 +11,11 @@ import gg.modl.minecraft.api.RebuildablePunishmentTypeClassifier;
 import gg.modl.minecraft.api.http.request.PunishmentCreateRequest;
 import gg.modl.minecraft.api.http.response.PunishmentCreateResponse;
 import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.command.StaffOnly;
 import gg.modl.minecraft.core.impl.menus.inspect.PunishMenu;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
@@ -22,7 +24,6 @@ import gg.modl.minecraft.core.integration.mojang.WebPlayer;
 import gg.modl.minecraft.core.punishment.PunishmentFlagParser;
 import gg.modl.minecraft.core.punishment.PunishmentIssuer;
 import gg.modl.minecraft.core.punishment.PunishmentTypeParser;
-import gg.modl.minecraft.core.staff.StaffPermissionService;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.util.CommandUtil;
 import gg.modl.minecraft.core.util.Constants;
@@ -50,19 +51,24 @@ public class PunishCommand {
     private static final String DEFAULT_SEVERITY = "regular";
     private static final int MANUAL_PUNISHMENT_MAX_ORDINAL = PunishmentTypeClassifier.ORDINAL_BLACKLIST, MAX_TYPE_WORD_LENGTH = 4;
 
+    private final AsyncCommandExecutor commandExecutor;
     private final HttpClientHolder httpClientHolder;
     private final Platform platform;
     private final Cache cache;
     private final LocaleManager localeManager;
     private final RebuildablePunishmentTypeClassifier punishmentTypeClassifier;
-    private final StaffPermissionService staffPermissionService;
 
     private volatile List<PunishmentTypesResponse.PunishmentTypeData> cachedPunishmentTypes = new ArrayList<>();
     private volatile boolean cacheInitialized = false;
 
     @Description("Issue a punishment to a player. With no type specified and as a player, opens the punishment GUI.")
     @StaffOnly
-    public void punish(CommandActor actor, @Named("target") Account target, @Named("args") String[] args) {
+    public void punish(CommandActor actor, @Named("target") CompletableFuture<Account> target, @Named("args") String[] args) {
+        ResolvedArgument.whenResolved(actor, target, platform, commandExecutor, localeManager,
+                account -> issuePunishment(actor, account, args));
+    }
+
+    private void issuePunishment(CommandActor actor, Account target, String[] args) {
         if (target == null) {
             actor.reply(localeManager.getPunishmentMessage("general.player_not_found", mapOf()));
             return;
@@ -160,29 +166,6 @@ public class PunishCommand {
         MenuAsync.displayWhenLoaded(platform, menu.getDataFuture(), player, menu::display);
     }
 
-    public void initializePunishmentTypes() {
-        httpClientHolder.getClient().getPunishmentTypes().thenAccept(response -> {
-            if (response.isSuccess()) {
-                PunishmentTypeParser.populate(punishmentTypeClassifier, response.getData());
-                cachedPunishmentTypes = response.getData().stream()
-                        .filter(pt -> pt.getOrdinal() > MANUAL_PUNISHMENT_MAX_ORDINAL)
-                        .collect(Collectors.toList());
-                cacheInitialized = true;
-                platform.runOnMainThread(() ->
-                    platform.log("Loaded " + cachedPunishmentTypes.size() + " punishment types from API"));
-            } else {
-                platform.runOnMainThread(() ->
-                    platform.log("Failed to load punishment types from API: " + response.getStatus()));
-            }
-        }).exceptionally(throwable -> {
-            platform.runOnMainThread(() ->
-                platform.log("Error loading punishment types: " + throwable.getMessage()));
-            return null;
-        });
-
-        staffPermissionService.reload();
-    }
-
     public List<String> getPunishmentTypeNames() {
         return cachedPunishmentTypes.stream()
                 .map(PunishmentTypesResponse.PunishmentTypeData::getName)
@@ -8,10 +8,12 @@ import gg.modl.minecraft.api.AbstractPlayer;
 import gg.modl.minecraft.api.Account;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
 import gg.modl.minecraft.api.http.request.CreatePlayerNoteRequest;
+import gg.modl.minecraft.core.AsyncCommandExecutor;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.command.ConsumeRemaining;
+import gg.modl.minecraft.core.command.ResolvedArgument;
 import gg.modl.minecraft.core.command.StaffOnly;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.punishment.PunishmentFlagParser;
@@ -19,6 +21,7 @@ import gg.modl.minecraft.core.util.CommandUtil;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
 @RequiredArgsConstructor
@@ -26,13 +29,19 @@ import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 public class WarnCommand {
     private static final String WARNING_NOTE_PREFIX = "WARNING: ";
 
+    private final AsyncCommandExecutor commandExecutor;
     private final HttpClientHolder httpClientHolder;
     private final Platform platform;
     private final Cache cache;
     private final LocaleManager localeManager;
 
     @StaffOnly
-    public void warn(CommandActor actor, @Named("target") Account target, @Optional @ConsumeRemaining String args) {
+    public void warn(CommandActor actor, @Named("target") CompletableFuture<Account> target, @Optional @ConsumeRemaining String args) {
+        ResolvedArgument.whenResolved(actor, target, platform, commandExecutor, localeManager,
+                account -> issueWarning(actor, account, args));
+    }
+
+    private void issueWarning(CommandActor actor, Account target, String args) {
         if (target == null) {
             actor.reply(localeManager.getPunishmentMessage("general.player_not_found", mapOf()));
             return;
@@ -2,10 +2,13 @@ package gg.modl.minecraft.core.impl.http;
 
 import gg.modl.minecraft.api.http.ApiClientException;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
+import gg.modl.minecraft.core.metrics.Counter;
+import gg.modl.minecraft.core.metrics.Metrics;
 import gg.modl.minecraft.core.util.CircuitBreaker;
 import gg.modl.minecraft.core.util.Java8Collections;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,14 +17,18 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,9 +43,12 @@ abstract class AbstractModlHttpTransport {
 
     protected final @NotNull String baseUrl, apiKey, serverDomain;
     protected final @NotNull ThreadPoolExecutor executor;
+    private final @NotNull ScheduledExecutorService hedgeScheduler;
     protected final @NotNull Logger logger;
     protected final @NotNull CircuitBreaker backgroundCircuitBreaker;
     protected final @NotNull CircuitBreaker loginCircuitBreaker;
+    private final @NotNull AdaptiveLoginPolicy loginPolicy;
+    private final @NotNull Counter rejected;
     protected final boolean debugMode;
     private final @NotNull String versionTag;
 
@@ -49,8 +59,16 @@ abstract class AbstractModlHttpTransport {
         this.serverDomain = serverDomain;
         this.debugMode = debugMode;
         this.versionTag = versionTag;
-        this.backgroundCircuitBreaker = new CircuitBreaker();
-        this.loginCircuitBreaker = new CircuitBreaker();
+        String api = versionTag.toLowerCase(Locale.ROOT);
+        this.backgroundCircuitBreaker = new CircuitBreaker("http_" + api + "_background");
+        this.loginCircuitBreaker = new CircuitBreaker("http_" + api + "_login");
+        this.hedgeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, threadNamePrefix + "login-hedge");
+            t.setDaemon(true);
+            return t;
+        });
+        this.loginPolicy = new AdaptiveLoginPolicy(LOGIN_TIMEOUT, AdaptiveLoginPolicy.hedgingEnabledFromEnvironment(),
+            hedgeScheduler);
 
         AtomicInteger threadCounter = new AtomicInteger();
         this.executor = new ThreadPoolExecutor(0, 8, 60L, TimeUnit.SECONDS,
@@ -61,9 +79,16 @@ abstract class AbstractModlHttpTransport {
             return t;
         });
         this.logger = Logger.getLogger(getClass().getName());
+        Metrics.registry().gauge("modl_executor_queue_depth", "Tasks waiting in an executor queue",
+            () -> executor.getQueue().size(), "executor", "http_" + api);
+        Metrics.registry().gauge("modl_executor_active_threads", "Threads currently running tasks",
+            executor::getActiveCount, "executor", "http_" + api);
+        this.rejected = Metrics.registry().counter("modl_executor_rejected_total", "Tasks rejected by a saturated executor",
+            "executor", "http_" + api);
     }
 
     public void shutdown() {
+        hedgeScheduler.shutdownNow();
         executor.shutdown();
         try {
             if (!executor.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) executor.shutdownNow();
@@ -79,10 +104,26 @@ abstract class AbstractModlHttpTransport {
 
     protected final <R> CompletableFuture<R> execute(HttpRequest request, String operation, CircuitBreaker breaker,
                                                      ResponseDecoder<R> decoder) {
+        return dispatch(request, operation, breaker, decoder, null);
+    }
+
+    protected final <R> CompletableFuture<R> executeLogin(Function<Duration, HttpRequest> request, String operation,
+                                                          ResponseDecoder<R> decoder) {
+        return loginPolicy.run(timeout -> execute(request.apply(timeout), operation, loginCircuitBreaker, decoder));
+    }
+
+    protected final <R> CompletableFuture<R> executeStreaming(HttpRequest request, String operation, CircuitBreaker breaker,
+                                                              StreamDecoder<R> decoder) {
+        return dispatch(request, operation, breaker, null, decoder);
+    }
+
+    private <R> CompletableFuture<R> dispatch(HttpRequest request, String operation, CircuitBreaker breaker,
+                                              ResponseDecoder<R> decoder, StreamDecoder<R> streamDecoder) {
         final Instant startTime = Instant.now();
         final String requestId = generateRequestId();
 
         if (!breaker.allowRequest()) {
+            recordRequest(request, operation, "circuit_open", startTime);
             return Java8Collections.failedFuture(new PanelUnavailableException(request.url,
                 HttpURLConnection.HTTP_UNAVAILABLE, versionTag + " API is temporarily unavailable (circuit breaker open)"));
         }
@@ -91,9 +132,11 @@ abstract class AbstractModlHttpTransport {
 
         final CompletableFuture<R> pending;
         try {
-            pending = submit(request, operation, breaker, decoder, startTime, requestId);
-        } catch (RejectedExecutionException rejected) {
+            pending = submit(request, operation, breaker, decoder, streamDecoder, startTime, requestId);
+        } catch (RejectedExecutionException e) {
+            rejected.inc();
             breaker.releaseProbe();
+            recordRequest(request, operation, "rejected", startTime);
             return Java8Collections.failedFuture(new PanelUnavailableException(request.url,
                 HttpURLConnection.HTTP_UNAVAILABLE, versionTag + " API request rejected (local executor saturated)"));
         }
@@ -108,20 +151,37 @@ abstract class AbstractModlHttpTransport {
     }
 
     private <R> CompletableFuture<R> submit(HttpRequest request, String operation, CircuitBreaker breaker,
-                                            ResponseDecoder<R> decoder, Instant startTime, String requestId) {
+                                            ResponseDecoder<R> decoder, StreamDecoder<R> streamDecoder,
+                                            Instant startTime, String requestId) {
         return CompletableFuture.supplyAsync(() -> {
             HttpURLConnection connection = null;
+            String status = "unreachable";
             try {
                 connection = open(request);
                 int statusCode = connection.getResponseCode();
+                status = Integer.toString(statusCode);
+                boolean success = statusCode >= 200 && statusCode < 300;
+
+                if (success && streamDecoder != null && !debugMode) {
+                    R decoded;
+                    try (InputStream in = connection.getInputStream()) {
+                        decoded = streamDecoder.decode(requestId, in);
+                    }
+                    breaker.recordSuccess();
+                    return decoded;
+                }
+
                 byte[] responseBody = readBody(requestId, connection, statusCode);
                 long durationMs = Duration.between(startTime, Instant.now()).toMillis();
 
                 if (debugMode) logResponse(requestId, statusCode, responseBody, durationMs, operation);
 
-                if (statusCode >= 200 && statusCode < 300) {
+                if (success) {
+                    R decoded = streamDecoder != null
+                        ? streamDecoder.decode(requestId, new ByteArrayInputStream(responseBody))
+                        : decoder.decode(requestId, responseBody);
                     breaker.recordSuccess();
-                    return decoder.decode(requestId, responseBody);
+                    return decoded;
                 }
                 throw toError(requestId, request, statusCode, responseBody);
             } catch (RuntimeException e) {
@@ -133,10 +193,46 @@ abstract class AbstractModlHttpTransport {
                 throw new RuntimeException(versionTag + " HTTP request failed", e);
             } finally {
                 if (connection != null) connection.disconnect();
+                recordRequest(request, operation, status, startTime);
             }
         }, executor);
     }
 
+    private void recordRequest(HttpRequest request, String operation, String status, Instant startTime) {
+        String api = versionTag.toLowerCase(Locale.ROOT);
+        String label = operation != null ? operation : routeOf(request);
+        Metrics.registry().counter("modl_http_requests_total", "Panel API requests by operation and status",
+            "api", api, "operation", label, "status", status).inc();
+        Metrics.registry().histogram("modl_http_request_duration_seconds", "Panel API request latency",
+            "api", api, "operation", label).observe(Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    static String routeOf(HttpRequest request) {
+        String path = request.url;
+        int query = path.indexOf('?');
+        if (query >= 0) path = path.substring(0, query);
+        int root = path.indexOf("/minecraft/");
+        if (root >= 0) {
+            path = path.substring(root);
+        } else {
+            int scheme = path.indexOf("://");
+            int slash = path.indexOf('/', scheme >= 0 ? scheme + 3 : 0);
+            path = slash >= 0 ? path.substring(slash) : "/";
+        }
+
+        StringBuilder route = new StringBuilder(request.method).append(' ');
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) continue;
+            route.append('/').append(isStaticSegment(segment) ? segment : ":id");
+        }
+        return route.toString();
+    }
+
+    private static boolean isStaticSegment(String segment) {
+        if (segment.matches("[a-z-]+")) return true;
+        return segment.length() < 8 && segment.matches("[a-z0-9-]+");
+    }
+
     private HttpURLConnection open(HttpRequest request) throws IOException {
         URL url = new URL(request.url);
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
@@ -192,6 +288,11 @@ abstract class AbstractModlHttpTransport {
         R decode(String requestId, byte[] body) throws Exception;
     }
 
+    @FunctionalInterface
+    protected interface StreamDecoder<R> {
+        R decode(String requestId, InputStream body) throws Exception;
+    }
+
     protected static final class HttpRequest {
         final String url;
         final String method;
@@ -0,0 +1,117 @@
+package gg.modl.minecraft.core.impl.http;
+
+import gg.modl.minecraft.core.metrics.Metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+final class AdaptiveLoginPolicy {
+    static final String HEDGE_PROPERTY = "modl.http.login.hedge.enabled", HEDGE_ENV = "MODL_HTTP_LOGIN_HEDGE_ENABLED";
+    static final int WINDOW_SIZE = 256, MIN_SAMPLES = 20;
+    static final long MIN_TIMEOUT_MS = 2_000, MIN_HEDGE_DELAY_MS = 50;
+    private static final int TIMEOUT_MULTIPLIER = 3;
+    private static final Logger logger = Logger.getLogger(AdaptiveLoginPolicy.class.getName());
+
+    private final long maxTimeoutMs;
+    private final boolean hedgingEnabled;
+    private final ScheduledExecutorService hedgeScheduler;
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int sampleCount;
+    private int nextSample;
+
+    AdaptiveLoginPolicy(Duration maxTimeout, boolean hedgingEnabled, ScheduledExecutorService hedgeScheduler) {
+        this.maxTimeoutMs = maxTimeout.toMillis();
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgeScheduler = hedgeScheduler;
+    }
+
+    static boolean hedgingEnabledFromEnvironment() {
+        String value = System.getProperty(HEDGE_PROPERTY);
+        if (value == null) value = System.getenv(HEDGE_ENV);
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
+    Duration currentTimeout() {
+        long p99 = percentile(0.99);
+        if (p99 < 0) return Duration.ofMillis(maxTimeoutMs);
+        return Duration.ofMillis(Math.max(MIN_TIMEOUT_MS, Math.min(maxTimeoutMs, p99 * TIMEOUT_MULTIPLIER)));
+    }
+
+    long hedgeDelayMillis() {
+        if (!hedgingEnabled) return -1;
+        long p95 = percentile(0.95);
+        return p95 < 0 ? -1 : Math.max(MIN_HEDGE_DELAY_MS, p95);
+    }
+
+    <R> CompletableFuture<R> run(Function<Duration, CompletableFuture<R>> attempt) {
+        Duration timeout = currentTimeout();
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        launch(attempt, timeout, result, outstanding, firstFailure);
+
+        long hedgeDelay = hedgeDelayMillis();
+        if (hedgeDelay >= 0 && hedgeDelay < timeout.toMillis()) {
+            try {
+                ScheduledFuture<?> hedge = hedgeScheduler.schedule(() -> {
+                    if (result.isDone()) return;
+                    outstanding.incrementAndGet();
+                    Metrics.registry().counter("modl_login_hedged_requests_total", "Hedged login requests fired").inc();
+                    launch(attempt, Duration.ofMillis(timeout.toMillis() - hedgeDelay), result, outstanding, firstFailure);
+                }, hedgeDelay, TimeUnit.MILLISECONDS);
+                result.whenComplete((value, error) -> hedge.cancel(false));
+            } catch (RejectedExecutionException e) {
+                logger.fine("Login hedge not scheduled: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private <R> void launch(Function<Duration, CompletableFuture<R>> attempt, Duration timeout, CompletableFuture<R> result,
+                            AtomicInteger outstanding, AtomicReference<Throwable> firstFailure) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<R> pending;
+        try {
+            pending = attempt.apply(timeout);
+        } catch (RuntimeException e) {
+            pending = new CompletableFuture<>();
+            pending.completeExceptionally(e);
+        }
+        pending.whenComplete((value, error) -> {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            if (error == null) {
+                record(elapsedMs);
+                result.complete(value);
+                return;
+            }
+            if (elapsedMs >= timeout.toMillis()) record(elapsedMs);
+            firstFailure.compareAndSet(null, error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error);
+            if (outstanding.decrementAndGet() == 0) result.completeExceptionally(firstFailure.get());
+        });
+    }
+
+    synchronized void record(long millis) {
+        samples[nextSample] = millis;
+        nextSample = (nextSample + 1) % WINDOW_SIZE;
+        if (sampleCount < WINDOW_SIZE) sampleCount++;
+    }
+
+    synchronized long percentile(double quantile) {
+        if (sampleCount < MIN_SAMPLES) return -1;
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * sampleCount) - 1;
+        return sorted[Math.max(0, Math.min(sampleCount - 1, index))];
+    }
+}
@@ -7,7 +7,12 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import gg.modl.minecraft.api.Account;
+import gg.modl.minecraft.api.Note;
+import gg.modl.minecraft.api.Punishment;
 import gg.modl.minecraft.api.http.ApiClientException;
+import gg.modl.minecraft.api.http.ChatLogEntry;
+import gg.modl.minecraft.api.http.CommandLogEntry;
 import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
 import gg.modl.minecraft.api.http.request.AddPunishmentEvidenceRequest;
@@ -76,6 +81,7 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
@@ -99,6 +105,7 @@ import java.util.logging.Level;
 public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements ModlHttpClient {
     private static final String CONTENT_TYPE_JSON = "application/json";
     private static final int MAX_LOG_BODY_LENGTH = 1000;
+    public static final int DEFAULT_MAX_LIST_ELEMENTS = 1000;
     private static final String[] FALLBACK_DATE_PATTERNS = {
             "yyyy-MM-dd'T'HH:mm:ss.SSSX",
             "yyyy-MM-dd'T'HH:mm:ssX",
@@ -107,9 +114,16 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
     };
 
     private @NotNull final Gson gson;
+    private final int maxListElements;
 
     public ModlHttpClientV2Impl(@NotNull String baseUrl, @NotNull String apiKey, @NotNull String serverDomain, boolean debugMode) {
+        this(baseUrl, apiKey, serverDomain, debugMode, DEFAULT_MAX_LIST_ELEMENTS);
+    }
+
+    public ModlHttpClientV2Impl(@NotNull String baseUrl, @NotNull String apiKey, @NotNull String serverDomain,
+                                boolean debugMode, int maxListElements) {
         super(baseUrl, apiKey, serverDomain, debugMode, "V2", "modl-http-");
+        this.maxListElements = maxListElements > 0 ? maxListElements : DEFAULT_MAX_LIST_ELEMENTS;
         this.gson = new GsonBuilder()
                 .registerTypeAdapter(Date.class, flexibleDateDeserializer())
                 .create();
@@ -239,9 +253,9 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
 
     @NotNull @Override
     public CompletableFuture<LinkedAccountsResponse> getLinkedAccounts(@NotNull UUID uuid) {
-        return sendAsync(requestBuilder("/minecraft/players/" + uuid + "/linked-accounts")
+        return sendListAsync(requestBuilder("/minecraft/players/" + uuid + "/linked-accounts")
                 .GET()
-                .build(), LinkedAccountsResponse.class);
+                .build(), "linkedAccounts", Account.class, this::toLinkedAccountsResponse);
     }
 
     @NotNull @Override
@@ -249,11 +263,11 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
         String requestBody = gson.toJson(request);
         if (debugMode) logger.info(String.format("[V2] Player login request body: %s", requestBody));
 
-        return sendAsync(requestBuilder("/minecraft/players/login")
+        return executeLogin(timeout -> toHttpRequest(requestBuilder("/minecraft/players/login")
                 .header(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
-                .timeout(LOGIN_TIMEOUT)
+                .timeout(timeout)
                 .POST(requestBody)
-                .build(), PlayerLoginResponse.class, "LOGIN", loginCircuitBreaker);
+                .build()), "LOGIN", (requestId, responseBody) -> decodeJson(requestId, responseBody, PlayerLoginResponse.class));
     }
 
     @NotNull @Override
@@ -453,18 +467,20 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
     public CompletableFuture<ReportsResponse> getReports(String status) {
         String endpoint = "/minecraft/reports";
         if (status != null && !status.isEmpty()) endpoint += "?status=" + status;
-        return sendAsync(requestBuilder(endpoint)
+        return sendListAsync(requestBuilder(endpoint)
                 .GET()
-                .build(), ReportsResponse.class);
+                .build(), "reports", ReportsResponse.Report.class,
+                (envelope, items) -> new ReportsResponse(items, envelope.getInt("status", 0)));
     }
 
     @NotNull @Override
     public CompletableFuture<ReportsResponse> getPlayerReports(@NotNull UUID playerUuid, String status) {
         String endpoint = "/minecraft/reports/player/" + playerUuid;
         if (status != null && !status.isEmpty()) endpoint += "?status=" + status;
-        return sendAsync(requestBuilder(endpoint)
+        return sendListAsync(requestBuilder(endpoint)
                 .GET()
-                .build(), ReportsResponse.class);
+                .build(), "reports", ReportsResponse.Report.class,
+                (envelope, items) -> new ReportsResponse(items, envelope.getInt("status", 0)));
     }
 
     @NotNull @Override
@@ -769,37 +785,41 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
 
     @NotNull @Override
     public CompletableFuture<ChatLogsResponse> getChatLogs(@NotNull String playerUuid, int limit) {
-        return sendAsync(requestBuilder("/minecraft/players/" + playerUuid + "/chat-logs?limit=" + limit)
+        return sendListAsync(requestBuilder("/minecraft/players/" + playerUuid + "/chat-logs?limit=" + limit)
                 .GET()
-                .build(), ChatLogsResponse.class);
+                .build(), "entries", ChatLogEntry.class, (envelope, items) -> new ChatLogsResponse(items));
     }
 
     @NotNull @Override
     public CompletableFuture<CommandLogsResponse> getCommandLogs(@NotNull String playerUuid, int limit) {
-        return sendAsync(requestBuilder("/minecraft/players/" + playerUuid + "/command-logs?limit=" + limit)
+        return sendListAsync(requestBuilder("/minecraft/players/" + playerUuid + "/command-logs?limit=" + limit)
                 .GET()
-                .build(), CommandLogsResponse.class);
+                .build(), "entries", CommandLogEntry.class, (envelope, items) -> new CommandLogsResponse(items));
     }
 
     @NotNull @Override
     public CompletableFuture<PaginatedPunishmentsResponse> getPlayerPunishments(@NotNull UUID uuid, int page, int limit) {
-        return sendAsync(requestBuilder("/minecraft/players/" + uuid + "/punishments?page=" + page + "&limit=" + limit)
+        return sendListAsync(requestBuilder("/minecraft/players/" + uuid + "/punishments?page=" + page + "&limit=" + limit)
                 .GET()
-                .build(), PaginatedPunishmentsResponse.class);
+                .build(), "punishments", Punishment.class, (envelope, items) -> new PaginatedPunishmentsResponse(items,
+                envelope.getInt("totalCount", 0), envelope.getInt("page", 0), envelope.getBoolean("hasMore"),
+                envelope.getInt("status", 0)));
     }
 
     @NotNull @Override
     public CompletableFuture<PaginatedNotesResponse> getPlayerNotes(@NotNull UUID uuid, int page, int limit) {
-        return sendAsync(requestBuilder("/minecraft/players/" + uuid + "/notes?page=" + page + "&limit=" + limit)
+        return sendListAsync(requestBuilder("/minecraft/players/" + uuid + "/notes?page=" + page + "&limit=" + limit)
                 .GET()
-                .build(), PaginatedNotesResponse.class);
+                .build(), "notes", Note.class, (envelope, items) -> new PaginatedNotesResponse(items,
+                envelope.getInt("totalCount", 0), envelope.getInt("page", 0), envelope.getBoolean("hasMore"),
+                envelope.getInt("status", 0)));
     }
 
     @NotNull @Override
     public CompletableFuture<LinkedAccountsResponse> getLinkedAccounts(@NotNull UUID uuid, int page, int limit) {
-        return sendAsync(requestBuilder("/minecraft/players/" + uuid + "/linked-accounts?page=" + page + "&limit=" + limit)
+        return sendListAsync(requestBuilder("/minecraft/players/" + uuid + "/linked-accounts?page=" + page + "&limit=" + limit)
                 .GET()
-                .build(), LinkedAccountsResponse.class);
+                .build(), "linkedAccounts", Account.class, this::toLinkedAccountsResponse);
     }
 
     private <T> CompletableFuture<T> sendAsync(RequestConfig request, Class<T> responseType) {
@@ -812,12 +832,41 @@ public class ModlHttpClientV2Impl extends AbstractModlHttpTransport implements M
 
     private <T> CompletableFuture<T> sendAsync(RequestConfig request, Class<T> responseType, String operation,
                                                CircuitBreaker breaker) {
-        byte[] body = request.body == null ? null : request.body.getBytes(StandardCharsets.UTF_8);
-        HttpRequest httpRequest = new HttpRequest(request.url, request.method, body, request.timeout, request.headers);
-        return execute(httpRequest, operation, breaker,
+        return execute(toHttpRequest(request), operation, breaker,
                 (requestId, responseBody) -> decodeJson(requestId, responseBody, responseType));
     }
 
+    private HttpRequest toHttpRequest(RequestConfig request) {
+        byte[] body = request.body == null ? null : request.body.getBytes(StandardCharsets.UTF_8);
+        return new HttpRequest(request.url, request.method, body, request.timeout, request.headers);
+    }
+
+    private <E, T> CompletableFuture<T> sendListAsync(RequestConfig request, String listField, Class<E> elementType,
+                                                      StreamingListDecoder.Assembler<E, T> assembler) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        StreamingListDecoder<E, T> decoder = new StreamingListDecoder<>(gson, listField, elementType, maxListElements, assembler);
+        return executeStreaming(httpRequest, null, backgroundCircuitBreaker, (requestId, responseBody) -> {
+            try {
+                StreamingListDecoder.Result<T> result = decoder.decode(responseBody);
+                if (result.dropped > 0) {
+                    logger.warning(String.format("[V2-REQ-%s] Dropped %d %s beyond the %d element decode cap",
+                            requestId, result.dropped, listField, maxListElements));
+                }
+                return result.value;
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.severe(String.format("[V2-REQ-%s] Failed to parse response: %s", requestId, e.getMessage()));
+                throw new RuntimeException("Failed to parse V2 response: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private LinkedAccountsResponse toLinkedAccountsResponse(StreamingListDecoder.Envelope envelope, List<Account> items) {
+        return new LinkedAccountsResponse(items, envelope.getInt("status", 0), envelope.getInt("totalCount", -1),
+                envelope.getInt("page", -1), envelope.getBoolean("hasMore"));
+    }
+
     private <T> T decodeJson(String requestId, byte[] responseBody, Class<T> responseType) {
         if (responseType == Void.class) return null;
         String text = new String(responseBody, StandardCharsets.UTF_8);
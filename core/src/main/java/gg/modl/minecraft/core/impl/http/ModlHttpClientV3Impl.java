@@ -61,6 +61,7 @@ import gg.modl.minecraft.api.http.response.SyncResponse;
 import gg.modl.minecraft.api.http.response.TicketsResponse;
 import gg.modl.minecraft.core.boot.StartupClient;
 import gg.modl.minecraft.core.impl.http.proto.PlayerProtoMapper;
+import gg.modl.minecraft.core.impl.http.proto.PlayerProtoMapper.AccountMapping;
 import gg.modl.minecraft.core.impl.http.proto.PunishmentProtoMapper;
 import gg.modl.minecraft.core.impl.http.proto.StaffRoleProtoMapper;
 import gg.modl.minecraft.core.impl.http.proto.SyncProtoMapper;
@@ -109,9 +110,10 @@ public class ModlHttpClientV3Impl extends AbstractModlHttpTransport implements M
 
     @NotNull @Override
     public CompletableFuture<PlayerLoginResponse> playerLogin(@NotNull PlayerLoginRequest request) {
-        return post("/minecraft/players/login", PlayerProtoMapper.toProto(request).toByteArray(), LOGIN_TIMEOUT,
-            gg.modl.proto.modl.v1.PlayerLoginResponse.parser(), PlayerProtoMapper::toLoginResponse, "LOGIN",
-            loginCircuitBreaker);
+        byte[] body = PlayerProtoMapper.toProto(request).toByteArray();
+        return executeLogin(timeout -> request("/minecraft/players/login", "POST", body, timeout, null), "LOGIN",
+            (requestId, responseBody) -> decodeProto(requestId, responseBody,
+                gg.modl.proto.modl.v1.PlayerLoginResponse.parser(), PlayerProtoMapper::toLoginResponse));
     }
 
     @NotNull @Override
@@ -149,13 +151,15 @@ public class ModlHttpClientV3Impl extends AbstractModlHttpTransport implements M
     @NotNull @Override
     public CompletableFuture<PlayerGetResponse> getPlayer(@NotNull PlayerGetRequest request) {
         return get("/minecraft/players?minecraftUuid=" + request.getMinecraftUuid() + "&queryMojang=true",
-            gg.modl.proto.modl.v1.PlayerGetResponse.parser(), PlayerProtoMapper::toPlayerGetResponse);
+            gg.modl.proto.modl.v1.PlayerGetResponse.parser(),
+            proto -> PlayerProtoMapper.toPlayerGetResponse(proto, AccountMapping.LAZY));
     }
 
     @NotNull @Override
     public CompletableFuture<PlayerNameResponse> getPlayer(@NotNull PlayerNameRequest request) {
         return get("/minecraft/players/by-name?username=" + request.getMinecraftUsername() + "&queryMojang=true",
-            gg.modl.proto.modl.v1.PlayerNameResponse.parser(), PlayerProtoMapper::toPlayerNameResponse);
+            gg.modl.proto.modl.v1.PlayerNameResponse.parser(),
+            proto -> PlayerProtoMapper.toPlayerNameResponse(proto, AccountMapping.LAZY));
     }
 
     @NotNull @Override
@@ -186,13 +190,15 @@ public class ModlHttpClientV3Impl extends AbstractModlHttpTransport implements M
     @NotNull @Override
     public CompletableFuture<LinkedAccountsResponse> getLinkedAccounts(@NotNull UUID uuid) {
         return get("/minecraft/players/" + uuid + "/linked-accounts",
-            gg.modl.proto.modl.v1.LinkedAccountsResponse.parser(), PlayerProtoMapper::toLinkedAccountsResponse);
+            gg.modl.proto.modl.v1.LinkedAccountsResponse.parser(),
+            proto -> PlayerProtoMapper.toLinkedAccountsResponse(proto, AccountMapping.LAZY));
     }
 
     @NotNull @Override
     public CompletableFuture<LinkedAccountsResponse> getLinkedAccounts(@NotNull UUID uuid, int page, int limit) {
         return get("/minecraft/players/" + uuid + "/linked-accounts?page=" + page + "&limit=" + limit,
-            gg.modl.proto.modl.v1.LinkedAccountsResponse.parser(), PlayerProtoMapper::toLinkedAccountsResponse);
+            gg.modl.proto.modl.v1.LinkedAccountsResponse.parser(),
+            proto -> PlayerProtoMapper.toLinkedAccountsResponse(proto, AccountMapping.LAZY));
     }
 
     @NotNull @Override
@@ -467,12 +473,6 @@ public class ModlHttpClientV3Impl extends AbstractModlHttpTransport implements M
         return send(request(endpoint, "POST", body, timeout, null), parser, mapper, operation, backgroundCircuitBreaker);
     }
 
-    private <P extends Message, R> CompletableFuture<R> post(String endpoint, byte[] body, Duration timeout,
-                                                             Parser<P> parser, Function<P, R> mapper, String operation,
-                                                             CircuitBreaker breaker) {
-        return send(request(endpoint, "POST", body, timeout, null), parser, mapper, operation, breaker);
-    }
-
     private CompletableFuture<Void> postVoid(String endpoint, byte[] body) {
         return sendVoid(request(endpoint, "POST", body, null, null));
     }
@@ -0,0 +1,107 @@
+package gg.modl.minecraft.core.impl.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class StreamingListDecoder<E, R> {
+    private final Gson gson;
+    private final String listField;
+    private final Type elementType;
+    private final int maxElements;
+    private final Assembler<E, R> assembler;
+
+    StreamingListDecoder(Gson gson, String listField, Type elementType, int maxElements, Assembler<E, R> assembler) {
+        this.gson = gson;
+        this.listField = listField;
+        this.elementType = elementType;
+        this.maxElements = maxElements;
+        this.assembler = assembler;
+    }
+
+    Result<R> decode(InputStream body) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return new Result<>(null, 0);
+        }
+
+        JsonObject envelope = new JsonObject();
+        List<E> items = null;
+        int dropped = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals(listField) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                items = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (items.size() < maxElements) {
+                        E element = gson.fromJson(reader, elementType);
+                        if (element != null) items.add(element);
+                    } else {
+                        reader.skipValue();
+                        dropped++;
+                    }
+                }
+                reader.endArray();
+            } else if (reader.peek() == JsonToken.BEGIN_OBJECT || reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+            } else {
+                envelope.add(name, gson.fromJson(reader, JsonElement.class));
+            }
+        }
+        reader.endObject();
+
+        return new Result<>(assembler.assemble(new Envelope(envelope),
+                items != null ? items : Collections.<E>emptyList()), dropped);
+    }
+
+    @FunctionalInterface
+    interface Assembler<E, R> {
+        R assemble(Envelope envelope, List<E> items);
+    }
+
+    static final class Envelope {
+        private final JsonObject fields;
+
+        private Envelope(JsonObject fields) {
+            this.fields = fields;
+        }
+
+        int getInt(String name, int fallback) {
+            JsonElement value = fields.get(name);
+            if (!(value instanceof JsonPrimitive) || !((JsonPrimitive) value).isNumber()) return fallback;
+            return value.getAsInt();
+        }
+
+        boolean getBoolean(String name) {
+            JsonElement value = fields.get(name);
+            return value instanceof JsonPrimitive && ((JsonPrimitive) value).isBoolean() && value.getAsBoolean();
+        }
+    }
+
+    static final class Result<R> {
+        final R value;
+        final int dropped;
+
+        private Result(R value, int dropped) {
+            this.value = value;
+            this.dropped = dropped;
+        }
+    }
+}
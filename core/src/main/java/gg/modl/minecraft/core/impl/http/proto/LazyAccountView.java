@@ -0,0 +1,82 @@
+package gg.modl.minecraft.core.impl.http.proto;
+
+import gg.modl.minecraft.api.Account;
+import gg.modl.minecraft.api.IPAddress;
+import gg.modl.minecraft.api.Note;
+import gg.modl.minecraft.api.Punishment;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class LazyAccountView extends Account {
+    private final gg.modl.proto.modl.v1.Account proto;
+    private volatile UUID minecraftUuid;
+    private volatile List<Username> usernames;
+    private volatile List<Note> notes;
+    private volatile List<IPAddress> ipList;
+    private volatile List<Punishment> punishments;
+    private volatile List<Map<String, Object>> pendingNotifications;
+    private volatile Map<String, Object> data;
+
+    LazyAccountView(gg.modl.proto.modl.v1.Account proto) {
+        this.proto = proto;
+    }
+
+    @Override
+    public String getId() {
+        return proto.getId();
+    }
+
+    @Override
+    public UUID getMinecraftUuid() {
+        UUID uuid = minecraftUuid;
+        if (uuid == null) minecraftUuid = uuid = PlayerProtoMapper.parseUuid(proto.getMinecraftUuid());
+        return uuid;
+    }
+
+    @Override
+    public @NotNull List<Username> getUsernames() {
+        List<Username> value = usernames;
+        if (value == null) usernames = value = PlayerProtoMapper.toUsernames(proto);
+        return value;
+    }
+
+    @Override
+    public @NotNull List<Note> getNotes() {
+        List<Note> value = notes;
+        if (value == null) notes = value = PlayerProtoMapper.toNotes(proto);
+        return value;
+    }
+
+    @Override
+    public @NotNull List<IPAddress> getIpList() {
+        List<IPAddress> value = ipList;
+        if (value == null) ipList = value = PlayerProtoMapper.toIpList(proto);
+        return value;
+    }
+
+    @Override
+    public @NotNull List<Punishment> getPunishments() {
+        List<Punishment> value = punishments;
+        if (value == null) punishments = value = PlayerProtoMapper.toPunishments(proto);
+        return value;
+    }
+
+    @Override
+    public List<Map<String, Object>> getPendingNotifications() {
+        List<Map<String, Object>> value = pendingNotifications;
+        if (value == null) pendingNotifications = value = PlayerProtoMapper.toPendingNotifications(proto);
+        return value;
+    }
+
+    @Override
+    public @NotNull Map<String, Object> getData() {
+        if (!proto.hasData()) return Collections.emptyMap();
+        Map<String, Object> value = data;
+        if (value == null) data = value = PlayerProtoMapper.toData(proto);
+        return value;
+    }
+}
@@ -231,11 +231,21 @@ public final class PlayerProtoMapper {
     }
 
     public static PlayerGetResponse toPlayerGetResponse(gg.modl.proto.modl.v1.PlayerGetResponse proto) {
-        return new PlayerGetResponse(proto.getMessage(), toAccount(proto.getPlayer()), proto.getStatus());
+        return toPlayerGetResponse(proto, AccountMapping.EAGER);
+    }
+
+    public static PlayerGetResponse toPlayerGetResponse(gg.modl.proto.modl.v1.PlayerGetResponse proto,
+                                                        AccountMapping mapping) {
+        return new PlayerGetResponse(proto.getMessage(), toAccount(proto.getPlayer(), mapping), proto.getStatus());
     }
 
     public static PlayerNameResponse toPlayerNameResponse(gg.modl.proto.modl.v1.PlayerNameResponse proto) {
-        return new PlayerNameResponse(proto.getMessage(), toAccount(proto.getPlayer()), proto.getStatus());
+        return toPlayerNameResponse(proto, AccountMapping.EAGER);
+    }
+
+    public static PlayerNameResponse toPlayerNameResponse(gg.modl.proto.modl.v1.PlayerNameResponse proto,
+                                                          AccountMapping mapping) {
+        return new PlayerNameResponse(proto.getMessage(), toAccount(proto.getPlayer(), mapping), proto.getStatus());
     }
 
     public static PlayerNoteCreateResponse toPlayerNoteCreateResponse(gg.modl.proto.modl.v1.PlayerNoteCreateResponse proto) {
@@ -247,8 +257,13 @@ public final class PlayerProtoMapper {
     }
 
     public static LinkedAccountsResponse toLinkedAccountsResponse(gg.modl.proto.modl.v1.LinkedAccountsResponse proto) {
-        List<Account> accounts = new ArrayList<>();
-        proto.getLinkedAccountsList().forEach(a -> accounts.add(toAccount(a)));
+        return toLinkedAccountsResponse(proto, AccountMapping.EAGER);
+    }
+
+    public static LinkedAccountsResponse toLinkedAccountsResponse(gg.modl.proto.modl.v1.LinkedAccountsResponse proto,
+                                                                  AccountMapping mapping) {
+        List<Account> accounts = new ArrayList<>(proto.getLinkedAccountsCount());
+        proto.getLinkedAccountsList().forEach(a -> accounts.add(toAccount(a, mapping)));
         return new LinkedAccountsResponse(accounts, proto.getStatus(),
             proto.hasTotalCount() ? proto.getTotalCount() : -1, proto.getPage(), proto.getHasMore());
     }
@@ -278,34 +293,61 @@ public final class PlayerProtoMapper {
         return new PardonResponse(proto.getMessage(), proto.getStatus(), proto.getPardonedCount(), proto.getSuccess());
     }
 
+    public enum AccountMapping {
+        EAGER,
+        LAZY
+    }
+
     private static Account toAccount(gg.modl.proto.modl.v1.Account proto) {
-        List<Account.Username> usernames = new ArrayList<>();
+        return toAccount(proto, AccountMapping.EAGER);
+    }
+
+    private static Account toAccount(gg.modl.proto.modl.v1.Account proto, AccountMapping mapping) {
+        if (mapping == AccountMapping.LAZY) return new LazyAccountView(proto);
+        return new Account(
+            proto.getId(),
+            parseUuid(proto.getMinecraftUuid()),
+            toUsernames(proto),
+            toNotes(proto),
+            toIpList(proto),
+            toPunishments(proto),
+            toPendingNotifications(proto),
+            toData(proto));
+    }
+
+    static List<Account.Username> toUsernames(gg.modl.proto.modl.v1.Account proto) {
+        List<Account.Username> usernames = new ArrayList<>(proto.getUsernamesCount());
         proto.getUsernamesList().forEach(u -> usernames.add(
             new Account.Username(u.getUsername(), ProtoConversions.parseDate(u.getDate()))));
+        return usernames;
+    }
 
-        List<Note> notes = new ArrayList<>();
+    static List<Note> toNotes(gg.modl.proto.modl.v1.Account proto) {
+        List<Note> notes = new ArrayList<>(proto.getNotesCount());
         proto.getNotesList().forEach(n -> notes.add(toNote(n)));
+        return notes;
+    }
 
-        List<IPAddress> ipList = new ArrayList<>();
+    static List<IPAddress> toIpList(gg.modl.proto.modl.v1.Account proto) {
+        List<IPAddress> ipList = new ArrayList<>(proto.getIpAddressesCount());
         proto.getIpAddressesList().forEach(ip -> ipList.add(toIpAddress(ip)));
+        return ipList;
+    }
 
-        List<Punishment> punishments = new ArrayList<>();
+    static List<Punishment> toPunishments(gg.modl.proto.modl.v1.Account proto) {
+        List<Punishment> punishments = new ArrayList<>(proto.getPunishmentsCount());
         proto.getPunishmentsList().forEach(p -> punishments.add(toPunishmentFromFlatResponse(p)));
+        return punishments;
+    }
 
-        List<Map<String, Object>> notifications = new ArrayList<>();
+    static List<Map<String, Object>> toPendingNotifications(gg.modl.proto.modl.v1.Account proto) {
+        List<Map<String, Object>> notifications = new ArrayList<>(proto.getPendingNotificationsCount());
         proto.getPendingNotificationsList().forEach(s -> notifications.add(ProtoConversions.structToMap(s)));
+        return notifications;
+    }
 
-        Map<String, Object> data = proto.hasData() ? ProtoConversions.structToMap(proto.getData()) : null;
-
-        return new Account(
-            proto.getId(),
-            parseUuid(proto.getMinecraftUuid()),
-            usernames,
-            notes,
-            ipList,
-            punishments,
-            notifications,
-            data);
+    static Map<String, Object> toData(gg.modl.proto.modl.v1.Account proto) {
+        return proto.hasData() ? ProtoConversions.structToMap(proto.getData()) : null;
     }
 
     private static IPAddress toIpAddress(IPEntry proto) {
@@ -485,7 +527,7 @@ public final class PlayerProtoMapper {
             proto.getIsOnline());
     }
 
-    private static UUID parseUuid(String value) {
+    static UUID parseUuid(String value) {
         if (value == null || value.isEmpty()) return null;
         try {
             return UUID.fromString(value);
@@ -9,13 +9,17 @@ import dev.simplix.cirrus.player.CirrusPlayerWrapper;
 import dev.simplix.cirrus.text.CirrusChatElement;
 import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.PluginServices;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import dev.simplix.cirrus.model.CallResult;
 
 public abstract class BaseListMenu<T> extends AbstractBrowser<T> {
@@ -81,4 +85,10 @@ public abstract class BaseListMenu<T> extends AbstractBrowser<T> {
         platform.sendMessage(viewerUuid, message);
     }
 
+    protected <R> CompletableFuture<R> cachedFetch(MenuDataCache.Endpoint endpoint, String params,
+                                                   Supplier<CompletableFuture<R>> loader) {
+        MenuDataCache cache = PluginServices.menuData();
+        return cache != null ? cache.get(endpoint, params, loader) : loader.get();
+    }
+
 }
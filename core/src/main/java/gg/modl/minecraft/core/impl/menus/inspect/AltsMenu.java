@@ -10,18 +10,19 @@ import dev.simplix.cirrus.text.CirrusChatElement;
 import gg.modl.minecraft.api.Account;
 import gg.modl.minecraft.api.Punishment;
 import gg.modl.minecraft.api.http.ModlHttpClient;
+import gg.modl.minecraft.api.http.response.LinkedAccountsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.PaginatedInspectListMenu;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource.FetchResult;
 import gg.modl.minecraft.core.impl.menus.util.InspectContext;
+import gg.modl.minecraft.core.impl.menus.util.InspectSession;
 import gg.modl.minecraft.core.impl.menus.util.InspectTabItems.InspectTab;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.ReportRenderUtil;
 import gg.modl.minecraft.core.impl.menus.util.SkinTextureCache;
 import gg.modl.minecraft.core.locale.LocaleManager;
-import gg.modl.minecraft.core.integration.mojang.MojangProfiles;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import static gg.modl.minecraft.core.impl.menus.util.InspectSession.PAGE_SIZE;
+import static gg.modl.minecraft.core.impl.menus.util.InspectSession.PREFETCHED_PAGES;
 import static gg.modl.minecraft.core.util.Java8Collections.listOf;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -41,8 +44,6 @@ import lombok.Getter;
 
 public class AltsMenu extends PaginatedInspectListMenu<Account> {
     private static final Logger logger = Logger.getLogger(AltsMenu.class.getName());
-    private static final int PAGE_SIZE = 7;
-    private static final int INITIAL_LOAD_PAGES = 2;
 
     @Getter private final CompletableFuture<Void> dataFuture;
 
@@ -90,8 +91,12 @@ public class AltsMenu extends PaginatedInspectListMenu<Account> {
     }
 
     private CompletableFuture<Void> loadLinkedAccounts() {
-        return httpClient.getLinkedAccounts(targetUuid, 1, PAGE_SIZE * INITIAL_LOAD_PAGES).thenAccept(response -> {
-            if (response.getStatus() == 200) {
+        InspectSession session = inspectContext != null ? inspectContext.session() : null;
+        CompletableFuture<LinkedAccountsResponse> request = session != null
+                ? session.getLinkedAccounts()
+                : httpClient.getLinkedAccounts(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES);
+        return request.thenAccept(response -> {
+            if (response != null && response.getStatus() == 200) {
                 List<Account> initialAccounts = new ArrayList<>(response.getLinkedAccounts());
                 cacheSkinTextures(initialAccounts);
                 dataSource.initialize(initialAccounts, response.getTotalCount());
@@ -103,16 +108,11 @@ public class AltsMenu extends PaginatedInspectListMenu<Account> {
     }
 
     private void cacheSkinTextures(List<Account> accounts) {
+        List<UUID> uuids = new ArrayList<>(accounts.size());
         for (Account alt : accounts) {
-            if (alt.getMinecraftUuid() != null && PluginServices.cache().getSkinTexture(alt.getMinecraftUuid()) == null) {
-                final UUID altUuid = alt.getMinecraftUuid();
-                MojangProfiles.client().get(altUuid).thenAccept(wp -> {
-                    if (wp != null && wp.isValid() && wp.getTextureValue() != null) {
-                        PluginServices.cache().cacheSkinTexture(altUuid, wp.getTextureValue());
-                    }
-                });
-            }
+            if (alt.getMinecraftUuid() != null) uuids.add(alt.getMinecraftUuid());
         }
+        SkinTextureCache.prefetch(uuids);
     }
 
     @Override
@@ -13,7 +13,9 @@ import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.PaginatedInspectListMenu;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource.FetchResult;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.InspectContext;
+import gg.modl.minecraft.core.impl.menus.util.InspectSession;
 import gg.modl.minecraft.core.impl.menus.util.InspectTabItems.InspectTab;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.PunishmentItemRenderer;
@@ -27,12 +29,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import static gg.modl.minecraft.core.impl.menus.util.InspectSession.PAGE_SIZE;
 import static gg.modl.minecraft.core.util.Java8Collections.listOf;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class HistoryMenu extends PaginatedInspectListMenu<Punishment> {
-    private static final int PAGE_SIZE = 7;
 
     private final Map<Integer, PunishmentTypesResponse.PunishmentTypeData> typesByOrdinal = new HashMap<>();
     @Getter private final CompletableFuture<Void> dataFuture;
@@ -47,8 +49,6 @@ public class HistoryMenu extends PaginatedInspectListMenu<Punishment> {
         super("History: " + ReportRenderUtil.getPlayerName(targetAccount), platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext, PAGE_SIZE);
         activeTab = InspectTab.HISTORY;
 
-        this.dataFuture = loadPunishmentTypes();
-
         int totalCount = inspectContext != null ? inspectContext.punishmentCount() : targetAccount.getPunishments().size();
         dataSource = new PaginatedDataSource<>(PAGE_SIZE, (page, limit) -> {
             CompletableFuture<FetchResult<Punishment>> future = new CompletableFuture<>();
@@ -68,10 +68,23 @@ public class HistoryMenu extends PaginatedInspectListMenu<Punishment> {
         List<Punishment> initial = new ArrayList<>(targetAccount.getPunishments());
         initial.sort(Comparator.comparing(Punishment::getIssued, Comparator.nullsLast(Comparator.reverseOrder())));
         dataSource.initialize(initial, totalCount);
+
+        InspectSession session = inspectContext != null ? inspectContext.session() : null;
+        this.dataFuture = session != null
+                ? CompletableFuture.allOf(loadPunishmentTypes(), loadSessionPunishments(session))
+                : loadPunishmentTypes();
+    }
+
+    private CompletableFuture<Void> loadSessionPunishments(InspectSession session) {
+        return session.punishments().thenAccept(response -> {
+            if (response != null && response.getStatus() == 200 && response.getPunishments() != null) {
+                dataSource.initialize(response.getPunishments(), response.getTotalCount());
+            }
+        });
     }
 
     private CompletableFuture<Void> loadPunishmentTypes() {
-        return httpClient.getPunishmentTypes().thenAccept(response -> {
+        return cachedFetch(Endpoint.PUNISHMENT_TYPES, "", httpClient::getPunishmentTypes).thenAccept(response -> {
             if (response.isSuccess() && response.getData() != null) {
                 for (PunishmentTypesResponse.PunishmentTypeData type : response.getData()) {
                     typesByOrdinal.put(type.getOrdinal(), type);
@@ -134,6 +147,7 @@ public class HistoryMenu extends PaginatedInspectListMenu<Punishment> {
         ActionHandlers.openMenu(
                 new ModifyPunishmentMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, punishment, backAction,
                         p -> {
+                            if (inspectContext != null && inspectContext.session() != null) inspectContext.session().refreshPunishments();
                             HistoryMenu m = new HistoryMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext);
                             MenuAsync.displayWhenLoaded(platform, m.getDataFuture(), p, m::display);
                         }))
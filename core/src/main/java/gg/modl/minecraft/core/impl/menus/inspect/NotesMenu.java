@@ -15,23 +15,28 @@ import gg.modl.minecraft.core.impl.menus.base.PaginatedInspectListMenu;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource;
 import gg.modl.minecraft.core.impl.menus.pagination.PaginatedDataSource.FetchResult;
 import gg.modl.minecraft.core.impl.menus.util.InspectContext;
+import gg.modl.minecraft.core.impl.menus.util.InspectSession;
 import gg.modl.minecraft.core.impl.menus.util.InspectTabItems.InspectTab;
+import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.ReportRenderUtil;
 import gg.modl.minecraft.core.locale.LocaleManager;
+import lombok.Getter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import static gg.modl.minecraft.core.impl.menus.util.InspectSession.PAGE_SIZE;
 import static gg.modl.minecraft.core.util.Java8Collections.listOf;
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class NotesMenu extends PaginatedInspectListMenu<Note> {
-    private static final int PAGE_SIZE = 7;
+
+    @Getter private final CompletableFuture<Void> dataFuture;
 
     public NotesMenu(Platform platform, ModlHttpClient httpClient, UUID viewerUuid, String viewerName,
                      Account targetAccount, Consumer<CirrusPlayerWrapper> backAction) {
@@ -62,6 +67,17 @@ public class NotesMenu extends PaginatedInspectListMenu<Note> {
         List<Note> initial = new ArrayList<>(targetAccount.getNotes());
         initial.sort((n1, n2) -> n2.getDate().compareTo(n1.getDate()));
         dataSource.initialize(initial, totalCount);
+
+        InspectSession session = inspectContext != null ? inspectContext.session() : null;
+        this.dataFuture = session != null ? loadSessionNotes(session) : CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> loadSessionNotes(InspectSession session) {
+        return session.notes().thenAccept(response -> {
+            if (response != null && response.getStatus() == 200 && response.getNotes() != null) {
+                dataSource.initialize(response.getNotes(), response.getTotalCount());
+            }
+        });
     }
 
     @Override
@@ -167,12 +183,14 @@ public class NotesMenu extends PaginatedInspectListMenu<Note> {
                         sendMessage(PluginServices.locale().getMessage("menus.notes.created"));
                         httpClient.getPlayerProfile(targetUuid).thenAccept(response -> {
                             if (response.getStatus() == 200) {
+                                InspectSession session = inspectContext != null ? inspectContext.session() : null;
+                                if (session != null) session.refreshNotes();
                                 InspectContext newContext = new InspectContext(response.getProfile(),
                                         inspectContext != null ? inspectContext.punishmentCount() : response.getPunishmentCount(),
-                                        response.getNoteCount());
-                                new NotesMenu(platform, httpClient, viewerUuid, viewerName,
-                                    response.getProfile(), backAction, newContext)
-                                    .display(click.player());
+                                        response.getNoteCount(), session);
+                                NotesMenu menu = new NotesMenu(platform, httpClient, viewerUuid, viewerName,
+                                    response.getProfile(), backAction, newContext);
+                                MenuAsync.displayWhenLoaded(platform, menu.getDataFuture(), click.player(), menu::display);
                             }
                         });
                     }).exceptionally(e -> {
@@ -17,6 +17,7 @@ import gg.modl.minecraft.core.impl.menus.LinkReportsMenu;
 import gg.modl.minecraft.core.impl.menus.base.BaseInspectMenu;
 import gg.modl.minecraft.core.impl.menus.base.InspectChrome;
 import gg.modl.minecraft.core.impl.menus.util.InspectTabItems.InspectTab;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
@@ -352,6 +353,8 @@ public class PunishSeverityMenu extends BaseInspectMenu {
 
                     httpClient.createPunishmentWithResponse(request).thenAccept(response -> {
                         if (response.isSuccess()) {
+                            MenuDataCache.invalidateShared(MenuDataCache.Endpoint.RECENT_PUNISHMENTS,
+                                    MenuDataCache.Endpoint.REPORTS, MenuDataCache.Endpoint.PLAYER_REPORTS);
                             LocaleManager localeManager = PluginServices.locale();
 
                             String successMessage = localeManager.punishment()
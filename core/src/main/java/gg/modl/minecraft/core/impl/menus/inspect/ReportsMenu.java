@@ -12,7 +12,11 @@ import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.response.ReportsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.BaseInspectListMenu;
+import gg.modl.minecraft.core.impl.menus.util.InspectContext;
+import gg.modl.minecraft.core.impl.menus.util.InspectSession;
 import gg.modl.minecraft.core.impl.menus.util.InspectTabItems.InspectTab;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
@@ -56,15 +60,25 @@ public class ReportsMenu extends BaseInspectListMenu<ReportsMenu.Report> {
 
     public ReportsMenu(Platform platform, ModlHttpClient httpClient, UUID viewerUuid, String viewerName,
                        Account targetAccount, Consumer<CirrusPlayerWrapper> backAction) {
-        super("Reports: " + ReportRenderUtil.getPlayerName(targetAccount), platform, httpClient, viewerUuid, viewerName, targetAccount, backAction);
+        this(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, null);
+    }
+
+    public ReportsMenu(Platform platform, ModlHttpClient httpClient, UUID viewerUuid, String viewerName,
+                       Account targetAccount, Consumer<CirrusPlayerWrapper> backAction, InspectContext inspectContext) {
+        super("Reports: " + ReportRenderUtil.getPlayerName(targetAccount), platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext);
         activeTab = InspectTab.REPORTS;
 
         this.dataFuture = fetchReports();
     }
 
     private CompletableFuture<Void> fetchReports() {
-        return httpClient.getPlayerReports(targetAccount.getMinecraftUuid(), "all").thenAccept(response -> {
-            if (response.isSuccess() && response.getReports() != null) {
+        InspectSession session = inspectContext != null ? inspectContext.session() : null;
+        CompletableFuture<ReportsResponse> request = session != null
+                ? session.reports()
+                : cachedFetch(Endpoint.PLAYER_REPORTS, targetAccount.getMinecraftUuid() + ":all",
+                        () -> httpClient.getPlayerReports(targetAccount.getMinecraftUuid(), "all"));
+        return request.thenAccept(response -> {
+            if (response != null && response.isSuccess() && response.getReports() != null) {
                 reports.clear();
                 for (ReportsResponse.Report report : response.getReports()) {
                     reports.add(new Report(
@@ -164,9 +178,11 @@ public class ReportsMenu extends BaseInspectListMenu<ReportsMenu.Report> {
         sendMessage(MenuItems.COLOR_YELLOW + "Dismissing report...");
 
         httpClient.dismissReport(report.getId(), viewerName, "Insufficient evidence").thenAccept(v -> {
+            MenuDataCache.invalidateShared(Endpoint.REPORTS, Endpoint.PLAYER_REPORTS);
+            if (inspectContext != null && inspectContext.session() != null) inspectContext.session().refreshReports();
             sendMessage(MenuItems.COLOR_GREEN + "Report dismissed.");
 
-            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction)
+            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext)
                     .withFilter(currentFilter).withStatusFilter(currentStatusFilter);
             MenuAsync.displayWhenLoaded(platform, refreshed.getDataFuture(), click.player(), refreshed::display);
         }).exceptionally(e -> {
@@ -186,7 +202,7 @@ public class ReportsMenu extends BaseInspectListMenu<ReportsMenu.Report> {
     private void handleFilter(Click click) {
         if (click.clickType().equals(CirrusClickType.RIGHT_CLICK)) {
             String newStatus = "open".equalsIgnoreCase(currentStatusFilter) ? "closed" : "open";
-            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction)
+            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext)
                     .withFilter(currentFilter)
                     .withStatusFilter(newStatus);
             MenuAsync.displayWhenLoaded(platform, refreshed.getDataFuture(), click.player(), refreshed::display);
@@ -195,7 +211,7 @@ public class ReportsMenu extends BaseInspectListMenu<ReportsMenu.Report> {
             int nextIndex = (currentIndex + 1) % filterOptions.size();
             String newFilter = filterOptions.get(nextIndex);
 
-            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction)
+            ReportsMenu refreshed = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext)
                     .withFilter(newFilter)
                     .withStatusFilter(currentStatusFilter);
             MenuAsync.displayWhenLoaded(platform, refreshed.getDataFuture(), click.player(), refreshed::display);
@@ -13,6 +13,7 @@ import gg.modl.minecraft.api.http.response.ReportsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
 import gg.modl.minecraft.core.impl.menus.inspect.InspectMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.ReportRenderUtil;
@@ -101,7 +102,7 @@ public class OnlinePlayersMenu extends BaseStaffListMenu<OnlinePlayersMenu.Onlin
     }
 
     private CompletableFuture<Void> fetchOnlinePlayers() {
-        return httpClient.getOnlinePlayers().thenAccept(response -> {
+        return cachedFetch(Endpoint.ONLINE_PLAYERS, "", httpClient::getOnlinePlayers).thenAccept(response -> {
             if (response.isSuccess() && response.getPlayers() != null) {
                 onlinePlayers.clear();
                 for (OnlinePlayersResponse.OnlinePlayer player : response.getPlayers()) {
@@ -119,7 +120,7 @@ public class OnlinePlayersMenu extends BaseStaffListMenu<OnlinePlayersMenu.Onlin
     }
 
     private CompletableFuture<Void> fetchReportData() {
-        return httpClient.getReports("open").thenAccept(response -> {
+        return cachedFetch(Endpoint.REPORTS, "open", () -> httpClient.getReports("open")).thenAccept(response -> {
             if (!response.isSuccess() || response.getReports() == null) return;
 
             Map<String, List<ReportSummary>> reportsByPlayer = new HashMap<>();
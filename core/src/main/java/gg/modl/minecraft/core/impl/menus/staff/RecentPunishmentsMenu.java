@@ -11,6 +11,7 @@ import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.response.RecentPunishmentsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.PunishmentItemRenderer;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
@@ -62,7 +63,7 @@ public class RecentPunishmentsMenu extends BaseStaffListMenu<RecentPunishmentsMe
     }
 
     private CompletableFuture<Void> fetchRecentPunishments() {
-        return httpClient.getRecentPunishments(48).thenAccept(response -> {
+        return cachedFetch(Endpoint.RECENT_PUNISHMENTS, "48", () -> httpClient.getRecentPunishments(48)).thenAccept(response -> {
             if (response.isSuccess() && response.getPunishments() != null) {
                 recentPunishments.clear();
                 for (RecentPunishmentsResponse.RecentPunishment p : response.getPunishments()) {
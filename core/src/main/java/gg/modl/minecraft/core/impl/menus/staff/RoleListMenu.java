@@ -12,6 +12,7 @@ import gg.modl.minecraft.api.http.response.RolesListResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuAsync;
 import gg.modl.minecraft.core.impl.menus.util.StaffTabItems.StaffTab;
@@ -60,7 +61,7 @@ public class RoleListMenu extends BaseStaffListMenu<RoleListMenu.Role> {
     }
 
     private CompletableFuture<Void> fetchRoles() {
-        return httpClient.getRoles().thenAccept(response -> {
+        return cachedFetch(Endpoint.ROLES, "", httpClient::getRoles).thenAccept(response -> {
             if (response != null && response.getRoles() != null) {
                 roles.clear();
                 for (RolesListResponse.RoleEntry entry : response.getRoles()) {
@@ -13,6 +13,7 @@ import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.StaffTabItems.StaffTab;
@@ -247,6 +248,7 @@ public class RolePermissionEditMenu extends BaseStaffListMenu<RolePermissionEdit
 
         String actingStaffId = PluginServices.cache() != null ? PluginServices.cache().getStaffId(viewerUuid) : null;
         httpClient.updateRolePermissions(role.getId(), new ArrayList<>(enabledPermissions), actingStaffId).thenAccept(v -> {
+            MenuDataCache.invalidateShared(MenuDataCache.Endpoint.ROLES);
             sendMessage(MenuItems.COLOR_GREEN + "Permissions saved successfully!");
             if (backAction != null) backAction.accept(click.player());
         }).exceptionally(e -> {
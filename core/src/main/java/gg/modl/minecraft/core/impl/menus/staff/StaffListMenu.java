@@ -14,6 +14,8 @@ import gg.modl.minecraft.api.http.response.StaffListResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.SkinTextureCache;
 import gg.modl.minecraft.core.impl.menus.util.StaffTabItems.StaffTab;
@@ -90,7 +92,7 @@ public class StaffListMenu extends BaseStaffListMenu<StaffListMenu.StaffMember>
     }
 
     private CompletableFuture<Void> fetchStaffAndRoles() {
-        CompletableFuture<Void> rolesFuture = httpClient.getRoles().thenAccept(response -> {
+        CompletableFuture<Void> rolesFuture = cachedFetch(Endpoint.ROLES, "", httpClient::getRoles).thenAccept(response -> {
             if (response == null || !response.isSuccess() || response.getRoles() == null) {
                 throw new IllegalStateException("Failed to load staff roles");
             }
@@ -104,7 +106,7 @@ public class StaffListMenu extends BaseStaffListMenu<StaffListMenu.StaffMember>
             }
         });
 
-        CompletableFuture<Void> staffFuture = httpClient.getStaffList().thenAccept(response -> {
+        CompletableFuture<Void> staffFuture = cachedFetch(Endpoint.STAFF_LIST, "", httpClient::getStaffList).thenAccept(response -> {
             if (response == null || !response.isSuccess() || response.getStaff() == null) {
                 throw new IllegalStateException("Failed to load staff members");
             }
@@ -281,6 +283,7 @@ public class StaffListMenu extends BaseStaffListMenu<StaffListMenu.StaffMember>
 
         String actingStaffId = PluginServices.cache() != null ? PluginServices.cache().getStaffId(viewerUuid) : null;
         httpClient.updateStaffRole(staff.getId(), selectedRole, actingStaffId).thenAccept(v -> {
+            MenuDataCache.invalidateShared(Endpoint.STAFF_LIST);
             sendMessage(MenuItems.COLOR_GREEN + "Role updated successfully!");
             selectedRoles.remove(staff.getId());
 
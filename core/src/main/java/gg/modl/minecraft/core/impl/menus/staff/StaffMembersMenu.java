@@ -13,6 +13,7 @@ import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.CachedProfile;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.SkinTextureCache;
@@ -77,7 +78,7 @@ public class StaffMembersMenu extends BaseStaffListMenu<StaffMembersMenu.StaffMe
 
     private CompletableFuture<Void> fetchStaffMembers() {
         Cache cache = PluginServices.cache();
-        return httpClient.getStaffList().thenAccept(response -> {
+        return cachedFetch(Endpoint.STAFF_LIST, "", httpClient::getStaffList).thenAccept(response -> {
             if (response == null || !response.isSuccess() || response.getStaff() == null) {
                 throw new IllegalStateException("Failed to load staff members");
             }
@@ -12,6 +12,8 @@ import gg.modl.minecraft.api.http.response.ReportsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
 import gg.modl.minecraft.core.impl.menus.inspect.InspectMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.ReportRenderUtil;
@@ -67,7 +69,7 @@ public class StaffReportsMenu extends BaseStaffListMenu<StaffReportsMenu.Report>
     }
 
     private CompletableFuture<Void> fetchReports() {
-        return httpClient.getReports("all").thenAccept(response -> {
+        return cachedFetch(Endpoint.REPORTS, "all", () -> httpClient.getReports("all")).thenAccept(response -> {
             if (response.isSuccess() && response.getReports() != null) {
                 reports.clear();
                 for (ReportsResponse.Report report : response.getReports()) {
@@ -172,6 +174,7 @@ public class StaffReportsMenu extends BaseStaffListMenu<StaffReportsMenu.Report>
         sendMessage(MenuItems.COLOR_YELLOW + "Dismissing report...");
 
         httpClient.dismissReport(report.getId(), viewerName, "Insufficient evidence").thenAccept(v -> {
+            MenuDataCache.invalidateShared(Endpoint.REPORTS, Endpoint.PLAYER_REPORTS);
             sendMessage(MenuItems.COLOR_GREEN + "Report dismissed.");
 
             StaffReportsMenu refreshed = new StaffReportsMenu(platform, httpClient, viewerUuid, viewerName, isAdmin, panelUrl, backAction)
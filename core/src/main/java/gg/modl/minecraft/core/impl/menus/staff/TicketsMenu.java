@@ -10,6 +10,7 @@ import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.response.TicketsResponse;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.impl.menus.base.BaseStaffListMenu;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
 import gg.modl.minecraft.core.impl.menus.util.MenuItems;
 import gg.modl.minecraft.core.impl.menus.util.MenuSlots;
 import gg.modl.minecraft.core.impl.menus.util.ReportRenderUtil;
@@ -61,7 +62,7 @@ public class TicketsMenu extends BaseStaffListMenu<TicketsMenu.Ticket> {
     }
 
     private CompletableFuture<Void> fetchTickets() {
-        return httpClient.getTickets(null, null).thenAccept(response -> {
+        return cachedFetch(Endpoint.TICKETS, "", () -> httpClient.getTickets(null, null)).thenAccept(response -> {
             if (response.isSuccess() && response.getTickets() != null) {
                 tickets.clear();
                 for (TicketsResponse.Ticket ticket : response.getTickets()) {
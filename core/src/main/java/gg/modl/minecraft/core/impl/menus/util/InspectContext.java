@@ -11,4 +11,5 @@ public class InspectContext {
     Account account;
     int punishmentCount;
     int noteCount;
+    InspectSession session;
 }
@@ -1,6 +1,5 @@
 package gg.modl.minecraft.core.impl.menus.util;
 
-import dev.simplix.cirrus.actionhandler.ActionHandlers;
 import dev.simplix.cirrus.model.Click;
 import dev.simplix.cirrus.player.CirrusPlayerWrapper;
 import gg.modl.minecraft.api.Account;
@@ -36,8 +35,10 @@ public final class InspectNavigationHandlers {
             Consumer<CirrusPlayerWrapper> backAction,
             InspectContext inspectContext) {
 
-        registrar.accept("openNotes", click ->
-                ActionHandlers.openMenu(new NotesMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext)).handle(click));
+        registrar.accept("openNotes", click -> {
+            NotesMenu menu = new NotesMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext);
+            MenuAsync.displayWhenLoaded(platform, menu.getDataFuture(), click.player(), menu::display);
+        });
 
         registrar.accept("openAlts", click -> {
             AltsMenu menu = new AltsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext);
@@ -50,7 +51,7 @@ public final class InspectNavigationHandlers {
         });
 
         registrar.accept("openReports", click -> {
-            ReportsMenu menu = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction);
+            ReportsMenu menu = new ReportsMenu(platform, httpClient, viewerUuid, viewerName, targetAccount, backAction, inspectContext);
             MenuAsync.displayWhenLoaded(platform, menu.getDataFuture(), click.player(), menu::display);
         });
 
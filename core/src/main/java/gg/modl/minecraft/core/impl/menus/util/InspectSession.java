@@ -0,0 +1,100 @@
+package gg.modl.minecraft.core.impl.menus.util;
+
+import gg.modl.minecraft.api.Account;
+import gg.modl.minecraft.api.http.ModlHttpClient;
+import gg.modl.minecraft.api.http.response.LinkedAccountsResponse;
+import gg.modl.minecraft.api.http.response.PaginatedNotesResponse;
+import gg.modl.minecraft.api.http.response.PaginatedPunishmentsResponse;
+import gg.modl.minecraft.api.http.response.PlayerProfileResponse;
+import gg.modl.minecraft.api.http.response.ReportsResponse;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class InspectSession {
+    private static final Logger logger = Logger.getLogger(InspectSession.class.getName());
+    public static final int PAGE_SIZE = 7, PREFETCHED_PAGES = 2;
+
+    private final ModlHttpClient httpClient;
+    @Getter private final UUID targetUuid;
+    @Getter private final CompletableFuture<PlayerProfileResponse> profile;
+    @Getter private final CompletableFuture<LinkedAccountsResponse> linkedAccounts;
+    private volatile CompletableFuture<PaginatedPunishmentsResponse> punishments;
+    private volatile CompletableFuture<PaginatedNotesResponse> notes;
+    private volatile CompletableFuture<ReportsResponse> reports;
+
+    private InspectSession(ModlHttpClient httpClient, UUID targetUuid, CompletableFuture<PlayerProfileResponse> profile) {
+        this.httpClient = httpClient;
+        this.targetUuid = targetUuid;
+        this.profile = profile;
+        this.punishments = request("punishments", () -> httpClient.getPlayerPunishments(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES));
+        this.notes = request("notes", () -> httpClient.getPlayerNotes(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES));
+        this.reports = request("reports", () -> httpClient.getPlayerReports(targetUuid, "all"));
+        this.linkedAccounts = request("linked accounts", () -> httpClient.getLinkedAccounts(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES));
+        this.linkedAccounts.thenAccept(this::prefetchVisibleSkins);
+    }
+
+    public static InspectSession open(ModlHttpClient httpClient, UUID targetUuid) {
+        return open(httpClient, targetUuid, httpClient.getPlayerProfile(targetUuid));
+    }
+
+    public static InspectSession open(ModlHttpClient httpClient, UUID targetUuid,
+                                      CompletableFuture<PlayerProfileResponse> profile) {
+        return new InspectSession(httpClient, targetUuid, profile);
+    }
+
+    public CompletableFuture<PaginatedPunishmentsResponse> punishments() {
+        return punishments;
+    }
+
+    public CompletableFuture<PaginatedNotesResponse> notes() {
+        return notes;
+    }
+
+    public CompletableFuture<ReportsResponse> reports() {
+        return reports;
+    }
+
+    public void refreshPunishments() {
+        punishments = request("punishments", () -> httpClient.getPlayerPunishments(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES));
+    }
+
+    public void refreshNotes() {
+        notes = request("notes", () -> httpClient.getPlayerNotes(targetUuid, 1, PAGE_SIZE * PREFETCHED_PAGES));
+    }
+
+    public void refreshReports() {
+        reports = request("reports", () -> httpClient.getPlayerReports(targetUuid, "all"));
+    }
+
+    private void prefetchVisibleSkins(LinkedAccountsResponse response) {
+        if (response == null || response.getStatus() != 200 || response.getLinkedAccounts() == null) return;
+        List<UUID> visible = new ArrayList<>();
+        for (Account alt : response.getLinkedAccounts()) {
+            if (visible.size() >= PAGE_SIZE) break;
+            if (alt.getMinecraftUuid() != null) visible.add(alt.getMinecraftUuid());
+        }
+        SkinTextureCache.prefetch(visible);
+    }
+
+    private <T> CompletableFuture<T> request(String label, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Inspect " + label + " request failed for " + targetUuid, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (future == null) return CompletableFuture.completedFuture(null);
+        return future.exceptionally(e -> {
+            logger.log(Level.FINE, "Inspect " + label + " request failed for " + targetUuid, e);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package gg.modl.minecraft.core.impl.menus.util;
+
+import gg.modl.minecraft.api.http.response.StatusResponse;
+import gg.modl.minecraft.core.PluginServices;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public final class MenuDataCache {
+    private static final int PRUNE_THRESHOLD = 256;
+
+    public enum Endpoint {
+        ONLINE_PLAYERS(TimeUnit.SECONDS.toMillis(5), TimeUnit.SECONDS.toMillis(30)),
+        REPORTS(TimeUnit.SECONDS.toMillis(10), TimeUnit.MINUTES.toMillis(1)),
+        PLAYER_REPORTS(TimeUnit.SECONDS.toMillis(10), TimeUnit.MINUTES.toMillis(1)),
+        RECENT_PUNISHMENTS(TimeUnit.SECONDS.toMillis(10), TimeUnit.MINUTES.toMillis(1)),
+        TICKETS(TimeUnit.SECONDS.toMillis(10), TimeUnit.MINUTES.toMillis(1)),
+        STAFF_LIST(TimeUnit.SECONDS.toMillis(30), TimeUnit.MINUTES.toMillis(5)),
+        ROLES(TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(10)),
+        PUNISHMENT_TYPES(TimeUnit.MINUTES.toMillis(5), TimeUnit.MINUTES.toMillis(30));
+
+        private final long freshMillis;
+        private final long staleMillis;
+
+        Endpoint(long freshMillis, long staleMillis) {
+            this.freshMillis = freshMillis;
+            this.staleMillis = staleMillis;
+        }
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public MenuDataCache() {
+        this(System::currentTimeMillis);
+    }
+
+    MenuDataCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static void invalidateShared(Endpoint... endpoints) {
+        MenuDataCache cache = PluginServices.menuData();
+        if (cache != null) cache.invalidate(endpoints);
+    }
+
+    public <T> CompletableFuture<T> get(Endpoint endpoint, Supplier<CompletableFuture<T>> loader) {
+        return get(endpoint, "", loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> get(Endpoint endpoint, String params, Supplier<CompletableFuture<T>> loader) {
+        Key key = new Key(endpoint, params != null ? params : "");
+        if (entries.size() > PRUNE_THRESHOLD) prune();
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        CompletableFuture<Object> result;
+        CompletableFuture<Object> refresh = null;
+        synchronized (entry) {
+            long age = clock.getAsLong() - entry.loadedAt;
+            if (entry.value != null && age <= endpoint.freshMillis) {
+                return CompletableFuture.completedFuture((T) entry.value);
+            }
+            if (entry.value != null && age <= endpoint.staleMillis) {
+                result = CompletableFuture.completedFuture(entry.value);
+                if (entry.loading == null) refresh = entry.loading = new CompletableFuture<>();
+            } else {
+                if (entry.loading == null) refresh = entry.loading = new CompletableFuture<>();
+                result = entry.loading;
+            }
+        }
+        if (refresh != null) load(key, entry, refresh, (Supplier<CompletableFuture<Object>>) (Supplier<?>) loader);
+        return (CompletableFuture<T>) result;
+    }
+
+    public void invalidate(Endpoint... endpoints) {
+        for (Endpoint endpoint : endpoints) {
+            entries.keySet().removeIf(key -> key.endpoint == endpoint);
+        }
+    }
+
+    public void invalidate(Endpoint endpoint, String params) {
+        entries.remove(new Key(endpoint, params != null ? params : ""));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void prune() {
+        long now = clock.getAsLong();
+        entries.entrySet().removeIf(e -> {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                return entry.loading == null && now - entry.loadedAt > e.getKey().endpoint.staleMillis;
+            }
+        });
+    }
+
+    private void load(Key key, Entry entry, CompletableFuture<Object> loading,
+                      Supplier<CompletableFuture<Object>> loader) {
+        CompletableFuture<Object> request;
+        try {
+            request = loader.get();
+        } catch (RuntimeException e) {
+            request = new CompletableFuture<>();
+            request.completeExceptionally(e);
+        }
+
+        request.whenComplete((value, throwable) -> {
+            synchronized (entry) {
+                entry.loading = null;
+                if (throwable == null && isCacheable(value) && entries.get(key) == entry) {
+                    entry.value = value;
+                    entry.loadedAt = clock.getAsLong();
+                }
+            }
+            if (throwable != null) {
+                loading.completeExceptionally(throwable);
+            } else {
+                loading.complete(value);
+            }
+        });
+    }
+
+    private static boolean isCacheable(Object value) {
+        return value != null && (!(value instanceof StatusResponse) || ((StatusResponse) value).isSuccess());
+    }
+
+    private static final class Key {
+        private final Endpoint endpoint;
+        private final String params;
+
+        private Key(Endpoint endpoint, String params) {
+            this.endpoint = endpoint;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return endpoint == other.endpoint && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, params);
+        }
+    }
+
+    private static final class Entry {
+        private Object value;
+        private long loadedAt;
+        private CompletableFuture<Object> loading;
+    }
+}
@@ -5,9 +5,14 @@ import gg.modl.minecraft.core.PluginServices;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.integration.mojang.MojangProfiles;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class SkinTextureCache {
+    private static final Set<UUID> IN_FLIGHT = ConcurrentHashMap.newKeySet();
+
     private SkinTextureCache() {}
 
     public static void ensureCached(UUID uuid) {
@@ -17,6 +22,14 @@ public final class SkinTextureCache {
         fetchAndCache(cache, uuid);
     }
 
+    public static void prefetch(Collection<UUID> uuids) {
+        Cache cache = PluginServices.cache();
+        if (uuids == null || cache == null) return;
+        for (UUID uuid : uuids) {
+            if (uuid != null && cache.getSkinTexture(uuid) == null) fetchAndCache(cache, uuid);
+        }
+    }
+
     public static CirrusItem applyCached(CirrusItem item, UUID uuid) {
         Cache cache = PluginServices.cache();
         if (uuid == null || cache == null) return item;
@@ -34,7 +47,9 @@ public final class SkinTextureCache {
     }
 
     private static void fetchAndCache(Cache cache, UUID uuid) {
-        MojangProfiles.client().get(uuid).thenAccept(wp -> {
+        if (!IN_FLIGHT.add(uuid)) return;
+        MojangProfiles.client().get(uuid).whenComplete((wp, throwable) -> {
+            IN_FLIGHT.remove(uuid);
             if (wp != null && wp.isValid() && wp.getTextureValue() != null) {
                 cache.cacheSkinTexture(uuid, wp.getTextureValue());
             }
@@ -19,6 +19,15 @@ public final class MojangProfiles {
         return local;
     }
 
+    public static void install(MojangProfileClient replacement) {
+        MojangProfileClient previous;
+        synchronized (MojangProfiles.class) {
+            previous = client;
+            client = replacement;
+        }
+        if (previous != null && previous != replacement) previous.shutdown();
+    }
+
     public static void shutdown() {
         MojangProfileClient local = client;
         if (local != null) local.shutdown();
@@ -1,44 +1,78 @@
 package gg.modl.minecraft.core.locale;
 
+import gg.modl.minecraft.core.util.RenderCache;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class LegacyTextRenderer {
     private static final char SECTION = '\u00a7';
-    private static final Pattern MINIMESSAGE_TAG_PATTERN = Pattern.compile("<[a-zA-Z_/!#][^>]*>");
-    private static final Pattern MINIMESSAGE_TAG_REPLACE_PATTERN = Pattern.compile("<(/?)([^>\\s]+)(?:\\s[^>]*)?>");
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRr";
+    private static final int CACHE_MAX_ENTRIES = 1024, CACHE_MAX_KEY_LENGTH = 512;
     private static final Map<String, String> TAGS = createTags();
+    private static final RenderCache<String> CACHE = new RenderCache<>(CACHE_MAX_ENTRIES, CACHE_MAX_KEY_LENGTH);
 
     private LegacyTextRenderer() {}
 
     public static boolean isMiniMessage(String text) {
-        return text != null && !text.isEmpty() && MINIMESSAGE_TAG_PATTERN.matcher(text).find();
+        if (text == null) return false;
+        int length = text.length();
+        for (int i = text.indexOf('<'); i >= 0 && i < length - 2; i = text.indexOf('<', i + 1)) {
+            if (!isTagStart(text.charAt(i + 1))) continue;
+            return text.indexOf('>', i + 2) >= 0;
+        }
+        return false;
     }
 
     public static String colorize(String text) {
         if (text == null || text.isEmpty()) return text;
+        return CACHE.get(text, LegacyTextRenderer::render);
+    }
+
+    static String render(String text) {
         return translateLegacyColorCodes(translateMiniMessageTags(text));
     }
 
     private static String translateMiniMessageTags(String text) {
-        Matcher matcher = MINIMESSAGE_TAG_REPLACE_PATTERN.matcher(text);
-        StringBuffer sb = new StringBuffer(text.length());
-        while (matcher.find()) {
-            String replacement = resolveTag(matcher.group(1), matcher.group(2));
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        int tagStart = text.indexOf('<');
+        if (tagStart < 0) return text;
+
+        int length = text.length();
+        StringBuilder sb = new StringBuilder(length);
+        int copiedUpTo = 0;
+        while (tagStart >= 0) {
+            int tagEnd = matchTag(text, tagStart);
+            if (tagEnd < 0) {
+                tagStart = text.indexOf('<', tagStart + 1);
+                continue;
+            }
+            sb.append(text, copiedUpTo, tagStart).append(resolveTag(text, tagStart + 1, tagEnd));
+            copiedUpTo = tagEnd + 1;
+            tagStart = text.indexOf('<', copiedUpTo);
+        }
+        return sb.append(text, copiedUpTo, length).toString();
+    }
+
+    private static int matchTag(String text, int tagStart) {
+        int nameStart = tagStart + 1;
+        if (nameStart < text.length() && text.charAt(nameStart) == '/') nameStart++;
+        if (nameStart >= text.length()) return -1;
+        char first = text.charAt(nameStart);
+        if (first == '>' || isWhitespace(first)) {
+            if (nameStart == tagStart + 1) return -1;
+            nameStart--;
         }
-        matcher.appendTail(sb);
-        return sb.toString();
+        return text.indexOf('>', nameStart + 1);
     }
 
-    private static String resolveTag(String closingMarker, String rawTag) {
-        if (closingMarker != null && !closingMarker.isEmpty()) return "";
+    private static String resolveTag(String text, int contentStart, int contentEnd) {
+        if (text.charAt(contentStart) == '/') return "";
 
-        String tag = rawTag.toLowerCase(Locale.ROOT);
+        int nameEnd = contentStart;
+        while (nameEnd < contentEnd && !isWhitespace(text.charAt(nameEnd))) nameEnd++;
+        String tag = text.substring(contentStart, nameEnd).toLowerCase(Locale.ROOT);
         int argumentIndex = tag.indexOf(':');
         if (argumentIndex >= 0) {
             String name = tag.substring(0, argumentIndex);
@@ -52,8 +86,21 @@ public final class LegacyTextRenderer {
         return legacyCode != null ? legacyCode : "";
     }
 
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isTagStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '/' || c == '!' || c == '#';
+    }
+
     private static boolean isHexColor(String tag) {
-        return tag.length() == 7 && tag.charAt(0) == '#' && tag.substring(1).matches("[0-9a-f]{6}");
+        if (tag.length() != 7 || tag.charAt(0) != '#') return false;
+        for (int i = 1; i < 7; i++) {
+            char c = tag.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) return false;
+        }
+        return true;
     }
 
     private static String hexToLegacy(String tag) {
@@ -66,9 +113,10 @@ public final class LegacyTextRenderer {
     }
 
     private static String translateLegacyColorCodes(String text) {
+        if (text.indexOf('&') < 0) return text;
         char[] chars = text.toCharArray();
         for (int i = 0; i < chars.length - 1; i++) {
-            if (chars[i] == '&' && "0123456789AaBbCcDdEeFfKkLlMmNnOoRr".indexOf(chars[i + 1]) > -1) {
+            if (chars[i] == '&' && LEGACY_CODES.indexOf(chars[i + 1]) > -1) {
                 chars[i] = SECTION;
                 chars[i + 1] = Character.toLowerCase(chars[i + 1]);
             }
@@ -1,5 +1,6 @@
 package gg.modl.minecraft.core.locale;
 
+import java.util.HashMap;
 import java.util.Map;
 
 public final class YamlMessageResolver {
@@ -33,7 +34,26 @@ public final class YamlMessageResolver {
         return result;
     }
 
+    /**
+     * Colorizes the template and each placeholder value separately, then substitutes. The template render is cached
+     * on the shared template rather than on player-specific text, while values such as {@code "&c"} status colours
+     * are still translated.
+     */
     public String render(String template, Map<String, String> placeholders) {
-        return colorizer.colorize(applyPlaceholders(template, placeholders));
+        return applyPlaceholders(colorizer.colorize(template), colorizeValues(placeholders));
+    }
+
+    private Map<String, String> colorizeValues(Map<String, String> placeholders) {
+        if (placeholders == null || placeholders.isEmpty()) return placeholders;
+        Map<String, String> colorized = new HashMap<>(placeholders.size() * 2);
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            String value = entry.getValue();
+            colorized.put(entry.getKey(), hasMarkup(value) ? colorizer.colorize(value) : value);
+        }
+        return colorized;
+    }
+
+    private static boolean hasMarkup(String value) {
+        return value != null && (value.indexOf('&') >= 0 || value.indexOf('<') >= 0);
     }
 }
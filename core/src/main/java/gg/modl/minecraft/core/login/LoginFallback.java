@@ -0,0 +1,113 @@
+package gg.modl.minecraft.core.login;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.api.http.ApiClientException;
+import gg.modl.minecraft.api.http.response.PlayerLoginResponse;
+import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.cache.LoginCache;
+import gg.modl.minecraft.core.metrics.Metrics;
+import gg.modl.minecraft.core.util.PluginLogger;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class LoginFallback {
+    private static final long ENFORCEMENT_RETRY_SECONDS = 3;
+
+    public enum Policy {
+        DENY,
+        CACHED,
+        ALLOW;
+
+        public static Policy parse(String value, Policy fallback) {
+            if (value == null) return fallback;
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return fallback;
+            }
+        }
+    }
+
+    private final Platform platform;
+    private final LoginCache loginCache;
+    private final LoginService loginService;
+    private final PluginLogger logger;
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "modl-login-fallback");
+        t.setDaemon(true);
+        return t;
+    });
+    @Getter @Setter private volatile Policy policy;
+
+    public LoginFallback(Policy policy, Platform platform, LoginCache loginCache, LoginService loginService, PluginLogger logger) {
+        this.policy = policy;
+        this.platform = platform;
+        this.loginCache = loginCache;
+        this.loginService = loginService;
+        this.logger = logger;
+    }
+
+    LoginService.LoginResult resolve(UUID uuid, String username, Exception error,
+                                     CompletableFuture<PlayerLoginResponse> inFlight) {
+        Throwable cause = error instanceof ExecutionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ApiClientException) return null;
+
+        switch (policy) {
+            case CACHED: {
+                LoginCache.CachedLoginResult cached = loginCache.getCachedLoginResult(uuid);
+                if (cached == null || cached.getResponse() == null) return null;
+                record("cached");
+                logger.warning("Panel login check for " + username + " failed (" + cause.getMessage() + "); using cached result");
+                return loginService.processLoginResponse(cached.getResponse(), uuid);
+            }
+            case ALLOW:
+                record("allow");
+                logger.warning("Panel login check for " + username + " failed (" + cause.getMessage()
+                        + "); allowing login and enforcing once the panel responds");
+                if (inFlight != null) inFlight.thenAccept(response -> enforceLate(uuid, username, response));
+                return new LoginService.LoginResult.Allowed(null);
+            default:
+                return null;
+        }
+    }
+
+    private void enforceLate(UUID uuid, String username, PlayerLoginResponse response) {
+        if (response == null) return;
+        loginCache.cacheLoginResult(uuid, response, null, null);
+        LoginService.LoginResult result = loginService.processLoginResponse(response, uuid);
+        if (!(result instanceof LoginService.LoginResult.Denied)) return;
+
+        String message = ((LoginService.LoginResult.Denied) result).getMessage();
+        record("late_kick");
+        logger.info("Late login check denied " + username + "; removing player");
+        platform.runOnMainThread(() -> {
+            if (kickIfOnline(uuid, message)) return;
+            retryExecutor.schedule(() -> platform.runOnMainThread(() -> kickIfOnline(uuid, message)),
+                    ENFORCEMENT_RETRY_SECONDS, TimeUnit.SECONDS);
+        });
+    }
+
+    private boolean kickIfOnline(UUID uuid, String message) {
+        AbstractPlayer player = platform.getPlayer(uuid);
+        if (player == null) return false;
+        platform.kickPlayer(player, message);
+        return true;
+    }
+
+    private static void record(String outcome) {
+        Metrics.registry().counter("modl_login_fallbacks_total", "Logins resolved by the fallback policy",
+                "outcome", outcome).inc();
+    }
+
+    public void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+}
@@ -18,18 +18,19 @@ public final class LoginRequestBuilder {
     public PlayerLoginRequest build(String uuid, String username, String ipAddress, String serverName,
                                     CompletableFuture<Map<String, Object>> ipInfoFuture,
                                     CompletableFuture<String> skinHashFuture,
-                                    long awaitTimeoutSeconds) {
-        Map<String, Object> ipInfo = awaitQuietly(ipInfoFuture, awaitTimeoutSeconds, "ipInfo");
-        String skinHash = awaitQuietly(skinHashFuture, awaitTimeoutSeconds, "skinHash");
+                                    long awaitTimeout, TimeUnit unit) {
+        long deadlineNanos = System.nanoTime() + unit.toNanos(awaitTimeout);
+        Map<String, Object> ipInfo = awaitQuietly(ipInfoFuture, deadlineNanos, "ipInfo");
+        String skinHash = awaitQuietly(skinHashFuture, deadlineNanos, "skinHash");
 
         return new PlayerLoginRequest(uuid, username, ipAddress, skinHash, serverName, ipInfo,
                 StartupClient.getServerInstanceId());
     }
 
-    private <T> T awaitQuietly(CompletableFuture<T> future, long timeoutSeconds, String label) {
+    private <T> T awaitQuietly(CompletableFuture<T> future, long deadlineNanos, String label) {
         if (future == null) return null;
         try {
-            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return null;
@@ -110,7 +110,7 @@ public final class LoginService {
                 SyncResponse.PlayerNotification notification =
                         notificationMapper.mapToPlayerNotification(notificationData);
                 if (notification != null) {
-                    profile.addNotification(notification);
+                    cache.getNotificationStore().add(uuid, notification);
                 }
             }
         }
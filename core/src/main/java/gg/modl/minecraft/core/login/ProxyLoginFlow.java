@@ -7,6 +7,7 @@ import gg.modl.minecraft.core.cache.LoginCache;
 import gg.modl.minecraft.core.integration.iplookup.IpEnrichmentService;
 import gg.modl.minecraft.core.integration.iplookup.PendingIpLookupService;
 import gg.modl.minecraft.core.integration.mojang.MojangProfiles;
+import gg.modl.minecraft.core.metrics.Metrics;
 
 import java.util.Map;
 import java.util.UUID;
@@ -22,10 +23,12 @@ public final class ProxyLoginFlow {
     private final IpEnrichmentService ipEnrichmentService;
     private final PendingIpLookupService pendingIpLookupService;
     private final long timeoutSeconds;
+    private final LoginFallback loginFallback;
 
     public ProxyLoginFlow(HttpClientHolder httpClientHolder, LoginCache loginCache, LoginService loginService,
                           LoginRequestBuilder loginRequestBuilder, IpEnrichmentService ipEnrichmentService,
-                          PendingIpLookupService pendingIpLookupService, long timeoutSeconds) {
+                          PendingIpLookupService pendingIpLookupService, long timeoutSeconds,
+                          LoginFallback loginFallback) {
         this.httpClientHolder = httpClientHolder;
         this.loginCache = loginCache;
         this.loginService = loginService;
@@ -33,10 +36,24 @@ public final class ProxyLoginFlow {
         this.ipEnrichmentService = ipEnrichmentService;
         this.pendingIpLookupService = pendingIpLookupService;
         this.timeoutSeconds = timeoutSeconds;
+        this.loginFallback = loginFallback;
     }
 
     public void execute(UUID uuid, String username, String ipAddress, String serverName,
                         Consumer<String> deniedSink, Runnable allowedSink) throws Exception {
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        try {
+            outcome = login(uuid, username, ipAddress, serverName, deniedSink, allowedSink,
+                    startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        } finally {
+            Metrics.registry().histogram("modl_login_duration_seconds", "Proxy login latency including the panel round trip",
+                    "outcome", outcome).observeSinceNanos(startNanos);
+        }
+    }
+
+    private String login(UUID uuid, String username, String ipAddress, String serverName,
+                         Consumer<String> deniedSink, Runnable allowedSink, long deadlineNanos) throws Exception {
         CompletableFuture<Map<String, Object>> ipInfoFuture = ipEnrichmentService.getIpInfo(ipAddress);
         CompletableFuture<String> skinHashFuture = MojangProfiles.client().get(uuid)
                 .thenApply(profile -> profile != null && profile.isValid() ? profile.getSkin() : null)
@@ -44,18 +61,34 @@ public final class ProxyLoginFlow {
 
         PlayerLoginRequest request = loginRequestBuilder.build(
                 uuid.toString(), username, ipAddress, serverName,
-                ipInfoFuture, skinHashFuture, timeoutSeconds);
+                ipInfoFuture, skinHashFuture, TimeUnit.SECONDS.toMillis(timeoutSeconds) / 2, TimeUnit.MILLISECONDS);
 
-        PlayerLoginResponse response = httpClientHolder.getClient()
-                .playerLogin(request).get(timeoutSeconds, TimeUnit.SECONDS);
+        CompletableFuture<PlayerLoginResponse> pending = null;
+        PlayerLoginResponse response;
+        try {
+            pending = httpClientHolder.getClient().playerLogin(request);
+            response = pending.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            LoginService.LoginResult fallback = loginFallback != null
+                    ? loginFallback.resolve(uuid, username, e, pending) : null;
+            if (fallback == null) throw e;
+            return complete(fallback, deniedSink, allowedSink, "fallback_");
+        }
         loginCache.cacheLoginResult(uuid, response, request.getIpInfo(), request.getSkinHash());
         pendingIpLookupService.handlePendingIpLookups(response, uuid.toString(), ipAddress, ipInfoFuture);
 
-        LoginService.LoginResult result = loginService.processLoginResponse(response, uuid);
+        return complete(loginService.processLoginResponse(response, uuid), deniedSink, allowedSink, "");
+    }
+
+    private static String complete(LoginService.LoginResult result, Consumer<String> deniedSink, Runnable allowedSink,
+                                   String outcomePrefix) {
         if (result instanceof LoginService.LoginResult.Denied) {
             deniedSink.accept(((LoginService.LoginResult.Denied) result).getMessage());
-        } else {
-            allowedSink.run();
+            return outcomePrefix + "denied";
         }
+        allowedSink.run();
+        return outcomePrefix + "allowed";
     }
 }
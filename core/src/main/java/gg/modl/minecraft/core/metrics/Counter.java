@@ -0,0 +1,21 @@
+package gg.modl.minecraft.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+    private final LongAdder value = new LongAdder();
+
+    Counter() {}
+
+    public void inc() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        if (amount > 0) value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
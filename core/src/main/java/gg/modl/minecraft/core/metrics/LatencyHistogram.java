@@ -0,0 +1,67 @@
+package gg.modl.minecraft.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+    static final int BUCKETS = 18;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 1);
+    private final LongAdder sumMillis = new LongAdder();
+    private final LongAdder count = new LongAdder();
+
+    LatencyHistogram() {}
+
+    public void observe(long millis) {
+        long value = Math.max(0, millis);
+        counts.incrementAndGet(bucketIndex(value));
+        sumMillis.add(value);
+        count.increment();
+    }
+
+    public void observeSinceNanos(long startNanos) {
+        observe((System.nanoTime() - startNanos) / 1_000_000L);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumMillis() {
+        return sumMillis.sum();
+    }
+
+    public long quantileMillis(double quantile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS + 1];
+        for (int i = 0; i <= BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(1, rank)) return upperBoundMillis(i);
+        }
+        return upperBoundMillis(BUCKETS - 1);
+    }
+
+    long cumulativeCount(int bucket) {
+        long cumulative = 0;
+        for (int i = 0; i <= bucket; i++) cumulative += counts.get(i);
+        return cumulative;
+    }
+
+    static long upperBoundMillis(int bucket) {
+        return 1L << bucket;
+    }
+
+    static int bucketIndex(long millis) {
+        if (millis <= 1) return 0;
+        int index = 64 - Long.numberOfLeadingZeros(millis - 1);
+        return Math.min(index, BUCKETS);
+    }
+}
@@ -0,0 +1,15 @@
+package gg.modl.minecraft.core.metrics;
+
+public final class Metrics {
+    private static volatile MetricsRegistry registry = new MetricsRegistry();
+
+    private Metrics() {}
+
+    public static MetricsRegistry registry() {
+        return registry;
+    }
+
+    public static void install(MetricsRegistry replacement) {
+        registry = replacement != null ? replacement : new MetricsRegistry();
+    }
+}
@@ -0,0 +1,71 @@
+package gg.modl.minecraft.core.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import gg.modl.minecraft.core.util.PluginLogger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class MetricsEndpoint {
+    public static final String PATH = "/metrics";
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsEndpoint(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static MetricsEndpoint start(String bindAddress, int port, PluginLogger logger) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+            ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "modl-metrics");
+                t.setDaemon(true);
+                return t;
+            });
+            server.createContext(PATH, MetricsEndpoint::handle);
+            server.setExecutor(executor);
+            server.start();
+            logger.info("Metrics endpoint listening on http://" + bindAddress + ":" + port + PATH);
+            return new MetricsEndpoint(server, executor);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to start metrics endpoint on " + bindAddress + ":" + port + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public String getUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + PATH;
+    }
+
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdownNow();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = Metrics.registry().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package gg.modl.minecraft.core.metrics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public final class MetricsRegistry {
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, Type.COUNTER).series(labels, Counter::new).metric;
+    }
+
+    public LatencyHistogram histogram(String name, String help, String... labels) {
+        return (LatencyHistogram) family(name, help, Type.HISTOGRAM).series(labels, LatencyHistogram::new).metric;
+    }
+
+    public void gauge(String name, String help, LongSupplier value, String... labels) {
+        family(name, help, Type.GAUGE).replace(labels, value);
+    }
+
+    public void removeGauge(String name, String... labels) {
+        Family family = families.get(name);
+        if (family != null) family.remove(labels);
+    }
+
+    public String scrape() {
+        return PrometheusTextFormat.write(this);
+    }
+
+    public Map<String, String> summary(String filter) {
+        Map<String, String> lines = new LinkedHashMap<>();
+        for (Family family : families.values()) {
+            if (filter != null && !family.name.contains(filter)) continue;
+            for (Series series : family.series()) {
+                lines.put(family.name + PrometheusTextFormat.labels(series.labels), describe(family.type, series.metric));
+            }
+        }
+        return lines;
+    }
+
+    private static String describe(Type type, Object metric) {
+        switch (type) {
+            case COUNTER:
+                return Long.toString(((Counter) metric).get());
+            case GAUGE:
+                return Long.toString(PrometheusTextFormat.readGauge((LongSupplier) metric));
+            default:
+                LatencyHistogram histogram = (LatencyHistogram) metric;
+                return "n=" + histogram.getCount() + " p50<=" + histogram.quantileMillis(0.5) + "ms p99<="
+                        + histogram.quantileMillis(0.99) + "ms";
+        }
+    }
+
+    Collection<Family> families() {
+        return families.values();
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        HISTOGRAM("histogram");
+
+        final String exposition;
+
+        Type(String exposition) {
+            this.exposition = exposition;
+        }
+    }
+
+    static final class Family {
+        final String name;
+        final String help;
+        final Type type;
+        private final Map<String, Series> series = new ConcurrentSkipListMap<>();
+
+        private Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        Collection<Series> series() {
+            return series.values();
+        }
+
+        private Series series(String[] labels, Supplier<Object> factory) {
+            return series.computeIfAbsent(key(labels), key -> new Series(labels.clone(), factory.get()));
+        }
+
+        private void replace(String[] labels, Object metric) {
+            series.put(key(labels), new Series(labels.clone(), metric));
+        }
+
+        private void remove(String[] labels) {
+            series.remove(key(labels));
+        }
+
+        private static String key(String[] labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels must be key/value pairs");
+            }
+            return String.join("\u0000", labels);
+        }
+    }
+
+    static final class Series {
+        final String[] labels;
+        final Object metric;
+
+        private Series(String[] labels, Object metric) {
+            this.labels = labels;
+            this.metric = metric;
+        }
+    }
+}
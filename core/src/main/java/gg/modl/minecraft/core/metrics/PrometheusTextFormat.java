@@ -0,0 +1,91 @@
+package gg.modl.minecraft.core.metrics;
+
+import java.util.function.LongSupplier;
+
+final class PrometheusTextFormat {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusTextFormat() {}
+
+    static String write(MetricsRegistry registry) {
+        StringBuilder out = new StringBuilder(4096);
+        for (MetricsRegistry.Family family : registry.families()) {
+            if (family.series().isEmpty()) continue;
+            out.append("# HELP ").append(family.name).append(' ').append(escapeHelp(family.help)).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ').append(family.type.exposition).append('\n');
+            for (MetricsRegistry.Series series : family.series()) {
+                switch (family.type) {
+                    case COUNTER:
+                        sample(out, family.name, series.labels, null, ((Counter) series.metric).get());
+                        break;
+                    case GAUGE:
+                        sample(out, family.name, series.labels, null, readGauge((LongSupplier) series.metric));
+                        break;
+                    case HISTOGRAM:
+                        histogram(out, family.name, series.labels, (LatencyHistogram) series.metric);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void histogram(StringBuilder out, String name, String[] labels, LatencyHistogram histogram) {
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            String le = Double.toString(LatencyHistogram.upperBoundMillis(bucket) / 1000.0);
+            sample(out, name + "_bucket", labels, le, histogram.cumulativeCount(bucket));
+        }
+        long count = histogram.cumulativeCount(LatencyHistogram.BUCKETS);
+        sample(out, name + "_bucket", labels, "+Inf", count);
+        out.append(name).append("_sum");
+        appendLabels(out, labels, null);
+        out.append(' ').append(histogram.getSumMillis() / 1000.0).append('\n');
+        sample(out, name + "_count", labels, null, count);
+    }
+
+    static long readGauge(LongSupplier supplier) {
+        try {
+            return supplier.getAsLong();
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    static String labels(String[] labels) {
+        StringBuilder out = new StringBuilder();
+        appendLabels(out, labels, null);
+        return out.toString();
+    }
+
+    private static void sample(StringBuilder out, String name, String[] labels, String le, long value) {
+        out.append(name);
+        appendLabels(out, labels, le);
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void appendLabels(StringBuilder out, String[] labels, String le) {
+        if (labels.length == 0 && le == null) return;
+        out.append('{');
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) out.append(',');
+            out.append(labels[i]).append("=\"").append(escapeLabel(labels[i + 1])).append('"');
+        }
+        if (le != null) {
+            if (labels.length > 0) out.append(',');
+            out.append("le=\"").append(le).append('"');
+        }
+        out.append('}');
+    }
+
+    private static String escapeLabel(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,167 @@
+package gg.modl.minecraft.core.player;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Projection of the players online on this instance, maintained from join, quit and server switch events so
+ * tab completion and menus can answer prefix and per-server queries without scanning the platform's player list.
+ */
+public final class OnlinePlayerIndex {
+    private final Map<UUID, Entry> byUuid = new HashMap<>();
+    private final Map<String, Integer> serverCounts = new HashMap<>();
+    private final Node root = new Node();
+
+    public synchronized void join(UUID uuid, String username, String server) {
+        if (uuid == null || username == null || username.isEmpty()) return;
+        Entry previous = byUuid.remove(uuid);
+        if (previous != null) unlink(previous);
+        Entry entry = new Entry(username, server);
+        byUuid.put(uuid, entry);
+        insert(username);
+        if (server != null) serverCounts.merge(server, 1, Integer::sum);
+    }
+
+    public synchronized void quit(UUID uuid) {
+        Entry entry = byUuid.remove(uuid);
+        if (entry != null) unlink(entry);
+    }
+
+    public synchronized void switchServer(UUID uuid, String server) {
+        Entry entry = byUuid.get(uuid);
+        if (entry == null || (server == null ? entry.server == null : server.equals(entry.server))) return;
+        decrementServer(entry.server);
+        entry.server = server;
+        if (server != null) serverCounts.merge(server, 1, Integer::sum);
+    }
+
+    public synchronized void replaceAll(Collection<AbstractPlayer> players, Function<UUID, String> serverLookup) {
+        byUuid.clear();
+        serverCounts.clear();
+        root.children.clear();
+        root.names.clear();
+        root.count = 0;
+        for (AbstractPlayer player : players) {
+            if (player != null && player.isOnline()) {
+                join(player.getUuid(), player.getUsername(), serverLookup.apply(player.getUuid()));
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} online usernames starting with {@code prefix} (case-insensitive), in
+     * case-insensitive order. Only the trie branch under the prefix is visited.
+     */
+    public synchronized List<String> namesWithPrefix(String prefix, int limit) {
+        if (limit <= 0 || root.count == 0) return Collections.emptyList();
+        Node node = root;
+        String key = prefix == null ? "" : key(prefix);
+        for (int i = 0; i < key.length() && node != null; i++) node = node.children.get(key.charAt(i));
+        if (node == null) return Collections.emptyList();
+        List<String> names = new ArrayList<>(Math.min(limit, node.count));
+        collect(node, names, limit);
+        return names;
+    }
+
+    public synchronized boolean isOnline(UUID uuid) {
+        return byUuid.containsKey(uuid);
+    }
+
+    public synchronized String getUsername(UUID uuid) {
+        Entry entry = byUuid.get(uuid);
+        return entry != null ? entry.username : null;
+    }
+
+    public synchronized String getServer(UUID uuid) {
+        Entry entry = byUuid.get(uuid);
+        return entry != null ? entry.server : null;
+    }
+
+    public synchronized int countOn(String server) {
+        return serverCounts.getOrDefault(server, 0);
+    }
+
+    public synchronized Map<String, Integer> serverCounts() {
+        return new HashMap<>(serverCounts);
+    }
+
+    public synchronized int size() {
+        return byUuid.size();
+    }
+
+    private void unlink(Entry entry) {
+        remove(entry.username);
+        decrementServer(entry.server);
+    }
+
+    private void decrementServer(String server) {
+        if (server != null) serverCounts.computeIfPresent(server, (ignored, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void insert(String username) {
+        String key = key(username);
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), ignored -> new Node());
+            node.count++;
+        }
+        node.names.merge(username, 1, Integer::sum);
+    }
+
+    private void remove(String username) {
+        String key = key(username);
+        Node node = root;
+        node.count--;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (--child.count == 0) {
+                node.children.remove(key.charAt(i));
+                return;
+            }
+            node = child;
+        }
+        node.names.computeIfPresent(username, (ignored, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static void collect(Node node, List<String> out, int limit) {
+        for (String name : node.names.keySet()) {
+            if (out.size() >= limit) return;
+            out.add(name);
+        }
+        for (Node child : node.children.values()) {
+            if (out.size() >= limit) return;
+            collect(child, out, limit);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String username;
+        private String server;
+
+        private Entry(String username, String server) {
+            this.username = username;
+            this.server = server;
+        }
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final TreeMap<String, Integer> names = new TreeMap<>();
+        private int count;
+    }
+}
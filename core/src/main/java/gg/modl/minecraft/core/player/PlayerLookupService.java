@@ -6,52 +6,91 @@ import gg.modl.minecraft.api.http.request.PlayerNameRequest;
 import gg.modl.minecraft.api.http.response.PlayerNameResponse;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.util.BoundedLookupExecutor;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public final class PlayerLookupService {
     private static final Logger logger = Logger.getLogger(PlayerLookupService.class.getName());
+    private static final int MOJANG_LOOKUP_THREADS = 2, MOJANG_LOOKUP_QUEUE = 32;
 
     private final Platform platform;
     private final HttpClientHolder httpClientHolder;
+    private final PlayerNameCache nameCache;
     private final boolean queryMojang;
+    private final BoundedLookupExecutor mojangLookups =
+            new BoundedLookupExecutor("modl-player-lookup", 0, MOJANG_LOOKUP_THREADS, MOJANG_LOOKUP_QUEUE, true);
 
-    public PlayerLookupService(Platform platform, HttpClientHolder httpClientHolder, boolean queryMojang) {
+    public PlayerLookupService(Platform platform, HttpClientHolder httpClientHolder, PlayerNameCache nameCache,
+                               boolean queryMojang) {
         this.platform = platform;
         this.httpClientHolder = httpClientHolder;
+        this.nameCache = nameCache;
         this.queryMojang = queryMojang;
     }
 
-    public AbstractPlayer fetchPlayer(String target) {
-        AbstractPlayer player = platform.getAbstractPlayer(target, false);
-        if (player != null) return player;
+    public CompletableFuture<AbstractPlayer> resolvePlayer(String target) {
+        AbstractPlayer online = platform.getAbstractPlayer(target, false);
+        if (online != null) {
+            nameCache.record(online);
+            return CompletableFuture.completedFuture(online);
+        }
 
-        try {
-            Account account = httpClientHolder.getClient().getPlayer(new PlayerNameRequest(target)).join().getPlayer();
+        AbstractPlayer cached = nameCache.getPlayer(target);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return requestAccount(target).thenCompose(account -> {
             if (account != null) {
                 String username = !account.getUsernames().isEmpty()
                         ? account.getUsernames().get(account.getUsernames().size() - 1).getUsername()
                         : target;
-                return new AbstractPlayer(account.getMinecraftUuid(), username, false);
+                return CompletableFuture.completedFuture(new AbstractPlayer(account.getMinecraftUuid(), username, false));
             }
-        } catch (Exception e) {
-            logger.log(Level.FINE, "Backend player lookup failed for: " + target, e);
-        }
+            return queryMojang ? lookupMojang(target) : CompletableFuture.completedFuture(null);
+        });
+    }
 
-        if (queryMojang)
-            return platform.getAbstractPlayer(target, true);
+    public CompletableFuture<Account> resolveAccount(String target) {
+        return requestAccount(target);
+    }
 
-        return null;
+    public void shutdown() {
+        mojangLookups.shutdown();
     }
 
-    public Account fetchAccount(String target) {
+    private CompletableFuture<Account> requestAccount(String target) {
+        CompletableFuture<PlayerNameResponse> request;
         try {
-            PlayerNameResponse response = httpClientHolder.getClient().getPlayer(new PlayerNameRequest(target)).join();
-            if (response != null && response.isSuccess()) return response.getPlayer();
+            request = httpClientHolder.getClient().getPlayer(new PlayerNameRequest(target));
         } catch (Exception e) {
-            logger.log(Level.FINE, "Backend account lookup failed for: " + target, e);
+            logger.log(Level.FINE, "Backend player lookup failed for: " + target, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        return request.handle((response, throwable) -> {
+            if (throwable != null) {
+                logger.log(Level.FINE, "Backend player lookup failed for: " + target, throwable);
+                return null;
+            }
+            if (response == null || !response.isSuccess()) return null;
+            Account account = response.getPlayer();
+            nameCache.record(account);
+            return account;
+        });
+    }
+
+    private CompletableFuture<AbstractPlayer> lookupMojang(String target) {
+        try {
+            return mojangLookups.supplyAsync(() -> {
+                AbstractPlayer player = platform.getAbstractPlayer(target, true);
+                nameCache.record(player);
+                return player;
+            });
+        } catch (RejectedExecutionException e) {
+            logger.log(Level.FINE, "Mojang lookup queue full, skipping lookup for: " + target, e);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
     }
 }
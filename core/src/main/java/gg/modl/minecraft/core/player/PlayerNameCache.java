@@ -0,0 +1,107 @@
+package gg.modl.minecraft.core.player;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.api.Account;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public final class PlayerNameCache {
+    private static final int DEFAULT_MAX_ENTRIES = 4096;
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.HOURS.toMillis(6);
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final LinkedHashMap<UUID, Entry> byUuid = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, UUID> uuidByName = new HashMap<>();
+
+    public PlayerNameCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MILLIS, System::currentTimeMillis);
+    }
+
+    PlayerNameCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public synchronized void record(UUID uuid, String username) {
+        if (uuid == null || username == null || username.isEmpty()) return;
+        String key = key(username);
+
+        Entry previous = byUuid.remove(uuid);
+        if (previous != null) uuidByName.remove(key(previous.username), uuid);
+        UUID previousOwner = uuidByName.put(key, uuid);
+        if (previousOwner != null && !previousOwner.equals(uuid)) byUuid.remove(previousOwner);
+
+        byUuid.put(uuid, new Entry(username, clock.getAsLong()));
+        while (byUuid.size() > maxEntries) {
+            Map.Entry<UUID, Entry> eldest = byUuid.entrySet().iterator().next();
+            byUuid.remove(eldest.getKey());
+            uuidByName.remove(key(eldest.getValue().username), eldest.getKey());
+        }
+    }
+
+    public void record(AbstractPlayer player) {
+        if (player != null) record(player.getUuid(), player.getUsername());
+    }
+
+    public void record(Account account) {
+        if (account == null) return;
+        List<Account.Username> usernames = account.getUsernames();
+        if (usernames.isEmpty()) return;
+        record(account.getMinecraftUuid(), usernames.get(usernames.size() - 1).getUsername());
+    }
+
+    public void recordAll(Collection<AbstractPlayer> players) {
+        for (AbstractPlayer player : players) record(player);
+    }
+
+    public synchronized AbstractPlayer getPlayer(String username) {
+        if (username == null) return null;
+        UUID uuid = uuidByName.get(key(username));
+        if (uuid == null) return null;
+        Entry entry = liveEntry(uuid);
+        return entry != null ? new AbstractPlayer(uuid, entry.username, false) : null;
+    }
+
+    public synchronized String getUsername(UUID uuid) {
+        Entry entry = liveEntry(uuid);
+        return entry != null ? entry.username : null;
+    }
+
+    public synchronized int size() {
+        return byUuid.size();
+    }
+
+    private Entry liveEntry(UUID uuid) {
+        Entry entry = byUuid.get(uuid);
+        if (entry == null) return null;
+        if (clock.getAsLong() - entry.recordedAt <= ttlMillis) return entry;
+        byUuid.remove(uuid);
+        uuidByName.remove(key(entry.username), uuid);
+        return null;
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String username;
+        private final long recordedAt;
+
+        private Entry(String username, long recordedAt) {
+            this.username = username;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
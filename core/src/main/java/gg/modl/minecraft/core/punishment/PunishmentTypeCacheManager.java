@@ -2,9 +2,7 @@ package gg.modl.minecraft.core.punishment;
 
 import gg.modl.minecraft.api.PunishmentTypeClassifier;
 import gg.modl.minecraft.api.PunishmentTypeClassifiers;
-import gg.modl.minecraft.api.http.ModlHttpClient;
 import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
-import gg.modl.minecraft.core.util.PluginLogger;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -15,15 +13,6 @@ public final class PunishmentTypeCacheManager {
     private volatile Map<Integer, String> namesByOrdinal = Collections.emptyMap();
     private volatile Map<String, Integer> ordinalsByName = Collections.emptyMap();
 
-    public void initialize(ModlHttpClient httpClient, PluginLogger logger) {
-        httpClient.getPunishmentTypes().thenAccept(response -> {
-            if (response.isSuccess()) update(response.getData());
-        }).exceptionally(throwable -> {
-            if (logger != null) logger.debug("Error loading punishment types for cache: " + throwable.getMessage());
-            return null;
-        });
-    }
-
     public void update(List<PunishmentTypesResponse.PunishmentTypeData> allTypes) {
         if (allTypes == null) return;
         Map<Integer, String> newNamesByOrdinal = new HashMap<>();
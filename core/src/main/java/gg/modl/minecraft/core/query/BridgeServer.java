@@ -2,6 +2,7 @@ package gg.modl.minecraft.core.query;
 
 import gg.modl.minecraft.core.bridge.protocol.BridgeAction;
 import gg.modl.minecraft.core.bridge.protocol.BridgeProtocol;
+import gg.modl.minecraft.core.metrics.Metrics;
 import gg.modl.minecraft.core.service.sync.StatWipeExecutor;
 import gg.modl.minecraft.core.util.PluginLogger;
 import io.netty.bootstrap.ServerBootstrap;
@@ -53,6 +54,10 @@ public class BridgeServer implements StatWipeExecutor, BridgeBroadcaster {
         this.dispatcher = dispatcher;
         this.logger = logger;
         this.panelUrl = panelUrl != null ? panelUrl : "";
+        Metrics.registry().gauge("modl_bridge_connected_backends", "Authenticated bridge backends",
+                authenticatedChannels::size);
+        Metrics.registry().gauge("modl_bridge_pending_messages", "Bridge messages queued until a backend connects",
+                pendingMessages::size);
     }
 
     public void start() {
@@ -150,10 +155,15 @@ public class BridgeServer implements StatWipeExecutor, BridgeBroadcaster {
     }
 
     private String describeChannel(Channel ch) {
+        String name = backendName(ch);
+        return name != null ? name : String.valueOf(ch.remoteAddress());
+    }
+
+    private String backendName(Channel ch) {
         for (Map.Entry<String, Channel> e : connectedServers.entrySet()) {
             if (e.getValue().equals(ch)) return e.getKey();
         }
-        return String.valueOf(ch.remoteAddress());
+        return null;
     }
 
     private void rebroadcastToOtherBackends(byte[] data, Channel origin) {
@@ -189,7 +199,17 @@ public class BridgeServer implements StatWipeExecutor, BridgeBroadcaster {
         }
     }
 
+    private void recordTraffic(Channel channel, String direction, int bytes) {
+        String name = backendName(channel);
+        String backend = name != null ? name : "unregistered";
+        Metrics.registry().counter("modl_bridge_messages_total", "Bridge messages by backend and direction",
+                "backend", backend, "direction", direction).inc();
+        Metrics.registry().counter("modl_bridge_bytes_total", "Bridge payload bytes by backend and direction",
+                "backend", backend, "direction", direction).add(bytes);
+    }
+
     private void sendRaw(Channel channel, byte[] data) {
+        recordTraffic(channel, "out", data.length);
         ByteBuf buf = channel.alloc().buffer(data.length);
         buf.writeBytes(data);
         channel.writeAndFlush(buf);
@@ -282,6 +302,7 @@ public class BridgeServer implements StatWipeExecutor, BridgeBroadcaster {
         private void handleMessage(ChannelHandlerContext ctx, ByteBuf buf) {
             byte[] data = new byte[buf.readableBytes()];
             buf.readBytes(data);
+            recordTraffic(ctx.channel(), "in", data.length);
 
             try {
                 DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
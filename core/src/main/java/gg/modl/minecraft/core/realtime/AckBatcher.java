@@ -0,0 +1,66 @@
+package gg.modl.minecraft.core.realtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Collects acks and hands them to the sink in batches: after {@code flushDelayMillis}, or straight away once
+ * {@code batchSize} are waiting. At most one delayed and one immediate flush are scheduled at any time.
+ */
+class AckBatcher<T> {
+    private final ScheduledExecutorService executor;
+    private final int batchSize;
+    private final long flushDelayMillis;
+    private final Consumer<List<T>> sink;
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean delayedFlushScheduled = new AtomicBoolean();
+    private final AtomicBoolean immediateFlushScheduled = new AtomicBoolean();
+
+    AckBatcher(ScheduledExecutorService executor, int batchSize, long flushDelayMillis, Consumer<List<T>> sink) {
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.flushDelayMillis = flushDelayMillis;
+        this.sink = sink;
+    }
+
+    void add(T ack) {
+        pending.add(ack);
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            if (immediateFlushScheduled.compareAndSet(false, true)) schedule(immediateFlushScheduled, 0);
+        } else if (delayedFlushScheduled.compareAndSet(false, true)) {
+            schedule(delayedFlushScheduled, flushDelayMillis);
+        }
+    }
+
+    int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private void schedule(AtomicBoolean flag, long delayMillis) {
+        try {
+            executor.schedule(() -> flush(flag), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flag.set(false);
+        }
+    }
+
+    private void flush(AtomicBoolean flag) {
+        flag.set(false);
+        List<T> batch = new ArrayList<>();
+        T ack;
+        while ((ack = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(ack);
+        }
+        if (!batch.isEmpty()) sink.accept(batch);
+    }
+}
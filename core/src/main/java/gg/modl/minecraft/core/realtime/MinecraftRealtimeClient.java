@@ -3,6 +3,10 @@ package gg.modl.minecraft.core.realtime;
 import gg.modl.minecraft.api.http.response.StartupResponse;
 import gg.modl.minecraft.api.http.response.SyncResponse;
 import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.PluginServices;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
+import gg.modl.minecraft.core.metrics.Metrics;
 import gg.modl.minecraft.core.service.sync.SyncService;
 import gg.modl.minecraft.core.util.PluginLogger;
 import gg.modl.proto.modl.v1.Ack;
@@ -23,6 +27,8 @@ import gg.modl.proto.modl.v1.StatWipePushEvent;
 import gg.modl.proto.modl.v1.Subscribe;
 import gg.modl.proto.modl.v1.Topic;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.framing.BinaryFrame;
+import org.java_websocket.framing.Framedata;
 import org.java_websocket.handshake.ServerHandshake;
 
 import java.net.URI;
@@ -33,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
@@ -49,6 +56,9 @@ public class MinecraftRealtimeClient {
     private static final long MAX_RECONNECT_DELAY_MS = 30000;
     private static final long MAX_ADVISED_RECONNECT_DELAY_MS = 60000;
     private static final int RECENT_EVENT_ID_CAPACITY = 256;
+    private static final int APPLY_WORKER_THREADS = 2;
+    private static final int ACK_BATCH_SIZE = 32;
+    private static final long ACK_FLUSH_DELAY_MILLIS = 50;
     private static final Set<Topic> ALLOWED_STARTUP_TOPICS = allowedStartupTopics();
 
     private enum State { DISCONNECTED, CONNECTING, CONNECTED, TERMINAL }
@@ -63,6 +73,9 @@ public class MinecraftRealtimeClient {
     private final PluginLogger logger;
     private final boolean debugMode;
     private final ScheduledExecutorService executor;
+    private final ExecutorService applyWorkers;
+    private final RealtimeTopicLanes lanes;
+    private final AckBatcher<PendingAck> acks;
     private final AtomicLong heartbeatSequence = new AtomicLong(0);
     private final RecentRealtimeEventIds recentEventIds = new RecentRealtimeEventIds(RECENT_EVENT_ID_CAPACITY);
     private final Random random = new Random();
@@ -96,6 +109,15 @@ public class MinecraftRealtimeClient {
             thread.setDaemon(true);
             return thread;
         });
+        this.applyWorkers = Executors.newFixedThreadPool(APPLY_WORKER_THREADS, r -> {
+            Thread thread = new Thread(r, "modl-realtime-apply");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lanes = new RealtimeTopicLanes(applyWorkers, RealtimeTopicLanes.DEFAULT_CAPACITY, logger);
+        this.acks = new AckBatcher<>(executor, ACK_BATCH_SIZE, ACK_FLUSH_DELAY_MILLIS, this::sendAcks);
+        Metrics.registry().gauge("modl_realtime_connected", "Whether the realtime WebSocket is connected (1) or not (0)",
+            () -> state == State.CONNECTED ? 1 : 0);
     }
 
     public static boolean canStart(boolean localEnabled, StartupResponse startupResponse) {
@@ -118,6 +140,7 @@ public class MinecraftRealtimeClient {
     public void stop() {
         terminate();
         executor.shutdownNow();
+        applyWorkers.shutdown();
     }
 
     private boolean isTerminated() {
@@ -205,7 +228,7 @@ public class MinecraftRealtimeClient {
         try {
             RealtimeEnvelope envelope = RealtimeEnvelope.parseFrom(bytes);
             if (!envelope.getEventId().isEmpty()) {
-                send(source, buildTransportAck(envelope.getEventId()));
+                queueAck(source, envelope.getEventId());
             }
 
             switch (envelope.getPayloadCase()) {
@@ -219,35 +242,41 @@ public class MinecraftRealtimeClient {
                     handleReconnectAdvice(envelope);
                     break;
                 case PERMISSION_INVALIDATED:
-                    applyDomainEvent(envelope, () -> syncService.refreshStaffPermissionsNow());
+                    MenuDataCache.invalidateShared(Endpoint.ROLES, Endpoint.STAFF_LIST);
+                    applyDomainEvent(envelope, "permissions", () -> syncService.refreshStaffPermissionsNow());
                     break;
                 case PUNISHMENT_TYPE_INVALIDATED:
-                    applyDomainEvent(envelope, () -> syncService.refreshPunishmentTypesNow());
+                    MenuDataCache.invalidateShared(Endpoint.PUNISHMENT_TYPES);
+                    applyDomainEvent(envelope, "punishment_types", () -> syncService.refreshPunishmentTypesNow());
                     break;
                 case PUNISHMENT_PUSH:
-                    applyDomainEvent(envelope, () -> applyPunishmentPush(envelope.getPunishmentPush()));
+                    MenuDataCache.invalidateShared(Endpoint.RECENT_PUNISHMENTS);
+                    applyDomainEvent(envelope, "punishments", () -> applyPunishmentPush(envelope.getPunishmentPush()));
                     break;
                 case PLAYER_NOTIFICATION_PUSH:
-                    applyDomainEvent(envelope, () -> applyPlayerNotificationPush(envelope.getPlayerNotificationPush()));
+                    applyDomainEvent(envelope, "player_notifications", () -> applyPlayerNotificationPush(envelope.getPlayerNotificationPush()));
                     break;
                 case STAFF_NOTIFICATION_PUSH:
-                    applyDomainEvent(envelope, () -> applyStaffNotificationPush(envelope.getStaffNotificationPush()));
+                    MenuDataCache.invalidateShared(Endpoint.REPORTS, Endpoint.PLAYER_REPORTS, Endpoint.TICKETS);
+                    applyDomainEvent(envelope, "staff_notifications", () -> applyStaffNotificationPush(envelope.getStaffNotificationPush()));
                     break;
                 case STAT_WIPE_PUSH:
-                    applyDomainEvent(envelope, () -> applyStatWipePush(envelope.getStatWipePush()));
+                    applyDomainEvent(envelope, "stat_wipes", () -> applyStatWipePush(envelope.getStatWipePush()));
                     break;
                 case STAFF_2FA_PUSH:
-                    applyDomainEvent(envelope, () -> applyStaff2faPush(envelope.getStaff2FaPush()));
+                    applyDomainEvent(envelope, "staff_2fa", () -> applyStaff2faPush(envelope.getStaff2FaPush()));
                     break;
                 case MIGRATION_TASK_PUSH:
-                    applyDomainEvent(envelope, () -> applyMigrationTaskPush(envelope.getMigrationTaskPush()));
+                    applyDomainEvent(envelope, "migration_tasks", () -> applyMigrationTaskPush(envelope.getMigrationTaskPush()));
                     break;
                 case ACTIVE_STAFF_PUSH:
-                    applyDomainEvent(envelope, () -> applyActiveStaffPush(envelope.getActiveStaffPush()));
+                    MenuDataCache.invalidateShared(Endpoint.STAFF_LIST);
+                    applyDomainEvent(envelope, "active_staff", () -> applyActiveStaffPush(envelope.getActiveStaffPush()));
                     break;
                 case PRESENCE_INVALIDATED:
                 case PRESENCE_SNAPSHOT:
                 case PRESENCE_DELTA:
+                    MenuDataCache.invalidateShared(Endpoint.ONLINE_PLAYERS);
                     if (debugMode) logger.info("[Realtime] Ignored advisory payload: " + envelope.getPayloadCase());
                     break;
                 case ERROR:
@@ -275,14 +304,25 @@ public class MinecraftRealtimeClient {
             connectedOnce = true;
         }
         send(source, buildSubscribe());
+        MenuDataCache menuData = PluginServices.menuData();
+        if (menuData != null) menuData.invalidateAll();
         syncService.setRealtimeConnected(true);
         syncService.runBaselineFetch(firstConnect ? "realtime connect" : "realtime reconnect");
         if (debugMode) logger.info("[Realtime] ServerHello accepted " + envelope.getServerHello().getAcceptedTopicsCount() + " topics");
     }
 
-    private void applyDomainEvent(RealtimeEnvelope envelope, Runnable apply) {
+    private void applyDomainEvent(RealtimeEnvelope envelope, String topic, Runnable apply) {
         String eventId = envelope.getEventId();
-        boolean accepted = syncService.submitRealtimeApply(() -> {
+        long receivedNanos = System.nanoTime();
+        if (!syncService.isRunning()) {
+            if (!isTerminated() && debugMode) {
+                logger.info("[Realtime] Dropped " + envelope.getPayloadCase() + "; sync service unavailable");
+            }
+            return;
+        }
+        boolean accepted = lanes.submit(topic, () -> {
+            Metrics.registry().histogram("modl_realtime_event_lag_seconds", "Delay between receiving a realtime event and applying it",
+                "topic", topic).observeSinceNanos(receivedNanos);
             if (recentEventIds.contains(eventId)) {
                 if (debugMode) logger.info("[Realtime] Suppressed duplicate event " + eventId);
                 return;
@@ -295,8 +335,9 @@ public class MinecraftRealtimeClient {
                     + " (reconciled on next baseline sync): " + e.getMessage());
             }
         });
-        if (!accepted && !isTerminated() && debugMode) {
-            logger.info("[Realtime] Dropped " + envelope.getPayloadCase() + "; sync service unavailable");
+        if (!accepted && !isTerminated()) {
+            if (debugMode) logger.info("[Realtime] " + topic + " queue full; dropped " + envelope.getPayloadCase());
+            syncService.runBaselineFetch("realtime " + topic + " backlog");
         }
     }
 
@@ -470,6 +511,7 @@ public class MinecraftRealtimeClient {
         }
         try {
             executor.schedule(this::connectOnce, delayMs, TimeUnit.MILLISECONDS);
+            Metrics.registry().counter("modl_realtime_reconnects_total", "Realtime reconnect attempts scheduled").inc();
         } catch (RejectedExecutionException e) {
             synchronized (stateLock) {
                 reconnectScheduled = false;
@@ -539,6 +581,31 @@ public class MinecraftRealtimeClient {
             .build();
     }
 
+    private void queueAck(WebSocketClient source, String eventId) {
+        acks.add(new PendingAck(source, eventId));
+    }
+
+    private void sendAcks(List<PendingAck> batch) {
+        WebSocketClient target;
+        synchronized (stateLock) {
+            target = client;
+        }
+        List<Framedata> frames = new ArrayList<>();
+        for (PendingAck ack : batch) {
+            if (ack.source != target) continue;
+            BinaryFrame frame = new BinaryFrame();
+            frame.setPayload(ByteBuffer.wrap(buildTransportAck(ack.eventId).toByteArray()));
+            frames.add(frame);
+        }
+        if (frames.isEmpty() || isTerminated() || target == null || !target.isOpen()) return;
+        try {
+            target.sendFrame(frames);
+            Metrics.registry().counter("modl_realtime_acks_sent_total", "Transport acks sent to the backend").add(frames.size());
+        } catch (Exception e) {
+            logger.warning("[Realtime] Failed to send acks: " + e.getMessage());
+        }
+    }
+
     private RealtimeEnvelope heartbeat(long sequence) {
         return baseEnvelope()
             .setHeartbeat(Heartbeat.newBuilder().setSequence(sequence))
@@ -594,4 +661,14 @@ public class MinecraftRealtimeClient {
         topics.add(Topic.TOPIC_MINECRAFT_STAT_WIPES);
         return topics;
     }
+
+    private static final class PendingAck {
+        private final WebSocketClient source;
+        private final String eventId;
+
+        private PendingAck(WebSocketClient source, String eventId) {
+            this.source = source;
+            this.eventId = eventId;
+        }
+    }
 }
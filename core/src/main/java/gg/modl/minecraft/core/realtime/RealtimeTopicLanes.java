@@ -0,0 +1,100 @@
+package gg.modl.minecraft.core.realtime;
+
+import gg.modl.minecraft.core.metrics.Metrics;
+import gg.modl.minecraft.core.util.PluginLogger;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-topic bounded queues for decoded realtime events. Each topic drains serially, topics drain independently
+ * on a shared worker pool, and a full topic rejects new work instead of delaying the others.
+ */
+final class RealtimeTopicLanes {
+    static final int DEFAULT_CAPACITY = 256;
+    static final int MAX_PER_DRAIN = 32;
+
+    private final Executor workers;
+    private final int capacity;
+    private final PluginLogger logger;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    RealtimeTopicLanes(Executor workers, int capacity, PluginLogger logger) {
+        this.workers = workers;
+        this.capacity = Math.max(1, capacity);
+        this.logger = logger;
+    }
+
+    boolean submit(String topic, Runnable task) {
+        Lane lane = lanes.computeIfAbsent(topic, this::newLane);
+        if (lane.depth.incrementAndGet() > capacity) {
+            lane.depth.decrementAndGet();
+            Metrics.registry().counter("modl_realtime_events_dropped_total", "Realtime events rejected by a full topic queue",
+                "topic", topic).inc();
+            return false;
+        }
+        lane.tasks.add(task);
+        lane.scheduleDrain();
+        return true;
+    }
+
+    int depth(String topic) {
+        Lane lane = lanes.get(topic);
+        return lane == null ? 0 : lane.depth.get();
+    }
+
+    private Lane newLane(String topic) {
+        Lane lane = new Lane(topic);
+        Metrics.registry().gauge("modl_realtime_queue_depth", "Realtime events waiting in a topic queue",
+            lane.depth::get, "topic", topic);
+        return lane;
+    }
+
+    private final class Lane {
+        private final String topic;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(String topic) {
+            this.topic = topic;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                workers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                int dropped = 0;
+                while (tasks.poll() != null) {
+                    depth.decrementAndGet();
+                    dropped++;
+                }
+                draining.set(false);
+                if (dropped > 0) logger.warning("[Realtime] Dropped " + dropped + " queued " + topic + " events during shutdown");
+            }
+        }
+
+        private void drain() {
+            int ran = 0;
+            Runnable task;
+            while (ran < MAX_PER_DRAIN && (task = tasks.poll()) != null) {
+                depth.decrementAndGet();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.warning("[Realtime] Unhandled error in " + topic + " handler: " + e.getMessage());
+                }
+                ran++;
+            }
+            draining.set(false);
+            if (!tasks.isEmpty()) scheduleDrain();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,47 +48,34 @@ final class LiteBansMigrationRepository {
     }
 
     PlayerRecord extractPlayerData(String uuid) throws SQLException {
+        List<UsernameRecord> usernames = new ArrayList<>();
+        List<IpRecord> ipList = new ArrayList<>();
+        extractHistory(uuid, usernames, ipList);
         return PlayerRecord.builder()
                 .minecraftUuid(uuid)
-                .usernames(extractUsernames(uuid))
-                .ipList(extractIpAddresses(uuid))
+                .usernames(usernames)
+                .ipList(ipList)
                 .punishments(extractPunishments(uuid))
                 .build();
     }
 
-    private List<UsernameRecord> extractUsernames(String uuid) throws SQLException {
-        List<UsernameRecord> usernames = new ArrayList<>();
-        String query = "SELECT NAME, DATE FROM {history} WHERE UUID = ? ORDER BY DATE ASC";
+    private void extractHistory(String uuid, List<UsernameRecord> usernames, List<IpRecord> ipList) throws SQLException {
+        Map<String, IpAccumulator> ipMap = new LinkedHashMap<>();
+        String query = "SELECT NAME, IP, DATE FROM {history} WHERE UUID = ? ORDER BY DATE ASC";
 
         try (PreparedStatement stmt = databaseProvider.prepareStatement(query)) {
             stmt.setString(1, uuid);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("NAME");
+                    String ip = rs.getString("IP");
                     Timestamp date = rs.getTimestamp("DATE");
                     if (name != null && !name.isEmpty()) {
                         String isoDate = date != null ? formatTimestamp(date) : formatMillisToIso(System.currentTimeMillis());
                         usernames.add(new UsernameRecord(name, isoDate));
                     }
-                }
-            }
-        }
-
-        return usernames;
-    }
-
-    private List<IpRecord> extractIpAddresses(String uuid) throws SQLException {
-        Map<String, IpAccumulator> ipMap = new HashMap<>();
-        String query = "SELECT IP, DATE FROM {history} WHERE UUID = ? AND IP IS NOT NULL ORDER BY DATE ASC";
-
-        try (PreparedStatement stmt = databaseProvider.prepareStatement(query)) {
-            stmt.setString(1, uuid);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String ip = rs.getString("IP");
                     if (ip == null || ip.isEmpty()) continue;
 
-                    Timestamp date = rs.getTimestamp("DATE");
                     IpAccumulator acc = ipMap.computeIfAbsent(ip, IpAccumulator::new);
                     Timestamp loginDate = date != null ? date : new Timestamp(System.currentTimeMillis());
                     String loginTime = formatTimestamp(loginDate);
@@ -100,14 +88,12 @@ final class LiteBansMigrationRepository {
             }
         }
 
-        List<IpRecord> ipList = new ArrayList<>();
         for (IpAccumulator acc : ipMap.values()) {
             String firstLogin = acc.firstLogin != null
                     ? acc.firstLogin
                     : (acc.logins.isEmpty() ? formatMillisToIso(System.currentTimeMillis()) : acc.logins.iterator().next());
             ipList.add(new IpRecord(acc.ipAddress, null, null, null, false, false, firstLogin, acc.logins));
         }
-        return ipList;
     }
 
     private List<PunishmentRecord> extractPunishments(String uuid) throws SQLException {
@@ -11,6 +11,10 @@ public interface ReplayService {
                 result.getStatus() == ReplayCaptureStatus.OK ? result.getReplayId() : null);
     }
 
+    default CompletableFuture<String> captureAutomaticReplay(UUID targetUuid, String targetName) {
+        return captureReplay(targetUuid, targetName);
+    }
+
     default ReplayCaptureStatus getReplayStatus(UUID playerUuid) {
         return ReplayCaptureStatus.NO_ACTIVE_RECORDING;
     }
@@ -11,6 +11,7 @@ public class DatabaseConfig {
     DatabaseType type;
     String tablePrefix;
     int port;
+    int poolSize, fetchSize, statementCacheSize;
 
     @RequiredArgsConstructor
     public enum DatabaseType {
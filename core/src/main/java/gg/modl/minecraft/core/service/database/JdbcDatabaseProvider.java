@@ -1,11 +1,27 @@
 package gg.modl.minecraft.core.service.database;
 
 import gg.modl.minecraft.api.DatabaseProvider;
+import gg.modl.minecraft.core.metrics.Metrics;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import gg.modl.minecraft.core.util.PluginLogger;
 
 public class JdbcDatabaseProvider implements DatabaseProvider {
@@ -13,48 +29,126 @@ public class JdbcDatabaseProvider implements DatabaseProvider {
         {"{bans}", "bans"}, {"{mutes}", "mutes"}, {"{warnings}", "warnings"},
         {"{kicks}", "kicks"}, {"{history}", "history"}, {"{servers}", "servers"}
     };
+    private static final long BORROW_TIMEOUT_SECONDS = 30;
 
     private final DatabaseConfig config;
     private final PluginLogger logger;
-    private Connection connection;
+    private final ConnectionFactory connectionFactory;
+    private final Map<String, String> resolvedQueries = new ConcurrentHashMap<>();
+    private final BlockingQueue<PooledConnection> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final int poolSize;
+    private volatile boolean closed;
 
     public JdbcDatabaseProvider(DatabaseConfig config, PluginLogger logger) throws SQLException {
+        this(config, logger, loadDriver(config, logger));
+    }
+
+    JdbcDatabaseProvider(DatabaseConfig config, PluginLogger logger, ConnectionFactory connectionFactory) throws SQLException {
         this.config = config;
         this.logger = logger;
-        this.connection = establishConnection();
+        this.connectionFactory = connectionFactory;
+        this.poolSize = Math.max(1, config.getPoolSize());
+        openConnections.incrementAndGet();
+        try {
+            idle.add(new PooledConnection(establishConnection()));
+        } catch (SQLException e) {
+            openConnections.decrementAndGet();
+            throw e;
+        }
     }
 
-    private Connection establishConnection() throws SQLException {
+    private static ConnectionFactory loadDriver(DatabaseConfig config, PluginLogger logger) throws SQLException {
         try {
             Class.forName(config.getDriverClass());
-            logger.info("Connecting to database: " + config.getJdbcUrl());
-            return DriverManager.getConnection(config.getJdbcUrl(), config.getUsername(), config.getPassword());
         } catch (ClassNotFoundException e) {
             throw new SQLException("Database driver not found: " + config.getDriverClass(), e);
         }
+        logger.info("Connecting to database: " + config.getJdbcUrl());
+        return () -> DriverManager.getConnection(config.getJdbcUrl(), config.getUsername(), config.getPassword());
+    }
+
+    private Connection establishConnection() throws SQLException {
+        Connection connection = connectionFactory.open();
+        try {
+            connection.setReadOnly(true);
+        } catch (SQLException e) {
+            logger.warning("Database driver rejected read-only mode: " + e.getMessage());
+        }
+        return connection;
     }
 
     @Override
     public PreparedStatement prepareStatement(String query) throws SQLException {
-        String processedQuery = replaceTableTokens(query);
-        if (connection == null || connection.isClosed()) {
+        String processedQuery = resolvedQueries.computeIfAbsent(query, this::replaceTableTokens);
+        PooledConnection pooled = borrow();
+        try {
+            PreparedStatement statement = pooled.statement(processedQuery);
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new StatementLease(pooled, processedQuery, statement));
+        } catch (SQLException | RuntimeException e) {
+            release(pooled);
+            throw e;
+        }
+    }
+
+    private PooledConnection borrow() throws SQLException {
+        while (true) {
+            if (closed) throw new SQLException("Database provider is closed");
+            PooledConnection pooled = idle.poll();
+            if (pooled == null) pooled = openIfBelowLimit();
+            if (pooled == null) {
+                try {
+                    pooled = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a database connection", e);
+                }
+                if (pooled == null) throw new SQLException("Timed out waiting for a database connection");
+            }
+            if (!pooled.connection.isClosed()) return pooled;
             logger.warning("Database connection was closed, reconnecting...");
-            connection = establishConnection();
+            discard(pooled);
         }
-        return connection.prepareStatement(processedQuery);
     }
 
-    @Override
-    public void close() {
-        if (connection == null) return;
+    private PooledConnection openIfBelowLimit() throws SQLException {
+        int open;
+        do {
+            open = openConnections.get();
+            if (open >= poolSize) return null;
+        } while (!openConnections.compareAndSet(open, open + 1));
         try {
-            connection.close();
-            logger.info("Database connection closed");
+            return new PooledConnection(establishConnection());
         } catch (SQLException e) {
-            logger.warning("Failed to close database connection: " + e.getMessage());
+            openConnections.decrementAndGet();
+            throw e;
         }
     }
 
+    private void release(PooledConnection pooled) {
+        if (closed) {
+            discard(pooled);
+            return;
+        }
+        idle.add(pooled);
+        if (closed && idle.remove(pooled)) discard(pooled);
+    }
+
+    private void discard(PooledConnection pooled) {
+        openConnections.decrementAndGet();
+        pooled.close();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        List<PooledConnection> drained = new ArrayList<>();
+        idle.drainTo(drained);
+        for (PooledConnection pooled : drained) discard(pooled);
+        logger.info("Database connection closed");
+    }
+
     private String replaceTableTokens(String query) {
         String result = query;
         for (String[] token : TABLE_TOKENS) {
@@ -62,4 +156,100 @@ public class JdbcDatabaseProvider implements DatabaseProvider {
         }
         return result;
     }
+
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final class PooledConnection {
+        private final Connection connection;
+        private final LinkedHashMap<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private PreparedStatement statement(String sql) throws SQLException {
+            PreparedStatement cached = statements.remove(sql);
+            if (cached != null && !cached.isClosed()) {
+                Metrics.registry().counter("modl_jdbc_statement_cache_total", "Prepared statement cache lookups",
+                        "result", "hit").inc();
+                return cached;
+            }
+            Metrics.registry().counter("modl_jdbc_statement_cache_total", "Prepared statement cache lookups",
+                    "result", "miss").inc();
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if (config.getFetchSize() > 0) statement.setFetchSize(config.getFetchSize());
+            return statement;
+        }
+
+        private void recycle(String sql, PreparedStatement statement) {
+            try {
+                statement.clearParameters();
+            } catch (SQLException e) {
+                closeQuietly(statement);
+                return;
+            }
+            PreparedStatement previous = statements.put(sql, statement);
+            if (previous != null && previous != statement) closeQuietly(previous);
+            Iterator<PreparedStatement> eldest = statements.values().iterator();
+            while (statements.size() > config.getStatementCacheSize() && eldest.hasNext()) {
+                closeQuietly(eldest.next());
+                eldest.remove();
+            }
+        }
+
+        private void close() {
+            for (PreparedStatement statement : statements.values()) closeQuietly(statement);
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warning("Failed to close database connection: " + e.getMessage());
+            }
+        }
+
+        private void closeQuietly(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {}
+        }
+    }
+
+    private final class StatementLease implements InvocationHandler {
+        private final PooledConnection owner;
+        private final String sql;
+        private final PreparedStatement statement;
+        private boolean released;
+
+        private StatementLease(PooledConnection owner, String sql, PreparedStatement statement) {
+            this.owner = owner;
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        owner.recycle(sql, statement);
+                        release(owner);
+                    }
+                    return null;
+                case "isClosed":
+                    return released;
+                default:
+                    break;
+            }
+            if (released) throw new SQLException("Statement has already been closed");
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
 }
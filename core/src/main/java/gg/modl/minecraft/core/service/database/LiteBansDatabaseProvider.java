@@ -11,20 +11,25 @@ public class LiteBansDatabaseProvider implements DatabaseProvider {
 
     private final Object databaseInstance;
     private final Method prepareStatementMethod;
+    private final int fetchSize;
 
-    public LiteBansDatabaseProvider() throws Exception {
+    public LiteBansDatabaseProvider(int fetchSize) throws Exception {
         Class<?> databaseClass = Class.forName(LITEBANS_DATABASE_CLASS);
         this.databaseInstance = databaseClass.getMethod("get").invoke(null);
         this.prepareStatementMethod = databaseClass.getMethod("prepareStatement", String.class);
+        this.fetchSize = fetchSize;
     }
 
     @Override
     public PreparedStatement prepareStatement(String query) throws SQLException {
+        PreparedStatement statement;
         try {
-            return (PreparedStatement) prepareStatementMethod.invoke(databaseInstance, query);
+            statement = (PreparedStatement) prepareStatementMethod.invoke(databaseInstance, query);
         } catch (Exception e) {
             throw new SQLException("Failed to prepare statement using LiteBans API", e);
         }
+        if (fetchSize > 0) statement.setFetchSize(fetchSize);
+        return statement;
     }
 
     @Override
@@ -2,6 +2,8 @@ package gg.modl.minecraft.core.service.sync;
 
 import gg.modl.minecraft.api.http.ApiClientException;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
+import gg.modl.minecraft.core.metrics.Counter;
+import gg.modl.minecraft.core.metrics.Metrics;
 import gg.modl.minecraft.core.util.PluginLogger;
 import gg.modl.minecraft.core.util.StringUtil;
 
@@ -21,6 +23,9 @@ final class BufferedLogChannel<T> {
     private final int maxRebuffered;
     private final int maxBatchSize;
     private final List<T> pending = new ArrayList<>();
+    private final Counter uploaded;
+    private final Counter rejected;
+    private final Counter overflowed;
 
     BufferedLogChannel(String kind, Supplier<List<T>> drainSource, Function<T, String> usernameAccessor,
                        Function<T, String> contentAccessor, Function<List<T>, CompletableFuture<Void>> submit,
@@ -33,6 +38,23 @@ final class BufferedLogChannel<T> {
         this.logger = logger;
         this.maxRebuffered = maxRebuffered;
         this.maxBatchSize = maxBatchSize;
+        this.uploaded = Metrics.registry().counter("modl_log_upload_entries_total", "Log entries uploaded to the panel",
+                "kind", kind);
+        this.rejected = dropCounter("rejected");
+        this.overflowed = dropCounter("overflow");
+        Metrics.registry().gauge("modl_log_upload_buffered_entries", "Log entries waiting to be re-sent",
+                this::pendingSize, "kind", kind);
+    }
+
+    int pendingSize() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private Counter dropCounter(String reason) {
+        return Metrics.registry().counter("modl_log_upload_dropped_total", "Log entries dropped before upload",
+                "kind", kind, "reason", reason);
     }
 
     CompletableFuture<Void> flush() {
@@ -59,7 +81,7 @@ final class BufferedLogChannel<T> {
     }
 
     private CompletableFuture<Void> submitChunk(List<T> chunk) {
-        return submit.apply(chunk).exceptionally(throwable -> {
+        return submit.apply(chunk).thenRun(() -> uploaded.add(chunk.size())).exceptionally(throwable -> {
             handleUploadFailure(chunk, throwable);
             return null;
         });
@@ -87,6 +109,7 @@ final class BufferedLogChannel<T> {
     private void handleUploadFailure(List<T> entries, Throwable throwable) {
         Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
         if (cause instanceof ApiClientException) {
+            rejected.add(entries.size());
             logger.warning("Dropped " + entries.size() + " " + kind + " logs rejected by panel (HTTP "
                     + ((ApiClientException) cause).getStatusCode() + "): " + cause.getMessage());
             return;
@@ -110,6 +133,7 @@ final class BufferedLogChannel<T> {
         int overflow = pending.size() - maxRebuffered;
         if (overflow > 0) {
             pending.subList(0, overflow).clear();
+            overflowed.add(overflow);
             logger.warning("Dropped " + overflow + " buffered " + kind + " logs (re-buffer cap " + maxRebuffered + " reached)");
         }
     }
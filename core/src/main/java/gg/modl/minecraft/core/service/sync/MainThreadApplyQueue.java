@@ -0,0 +1,124 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.core.Scheduler;
+import gg.modl.minecraft.core.util.PluginLogger;
+import lombok.Setter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+final class MainThreadApplyQueue {
+    static final int DEFAULT_MAX_PER_TICK = 50;
+    static final long DEFAULT_TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long TICK_MILLIS = 50;
+
+    private final Scheduler mainThread;
+    private final PluginLogger logger;
+    private final int maxPerTick;
+    private final long tickBudgetNanos;
+    private final LongSupplier nanoClock;
+    private final boolean debugMode;
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private volatile long maxLatencyNanos;
+
+    @Setter private volatile ScheduledExecutorService executor;
+
+    MainThreadApplyQueue(Scheduler mainThread, PluginLogger logger, boolean debugMode) {
+        this(mainThread, logger, DEFAULT_MAX_PER_TICK, DEFAULT_TICK_BUDGET_NANOS, System::nanoTime, debugMode);
+    }
+
+    MainThreadApplyQueue(Scheduler mainThread, PluginLogger logger, int maxPerTick, long tickBudgetNanos,
+                         LongSupplier nanoClock, boolean debugMode) {
+        this.mainThread = mainThread;
+        this.logger = logger;
+        this.maxPerTick = Math.max(1, maxPerTick);
+        this.tickBudgetNanos = tickBudgetNanos;
+        this.nanoClock = nanoClock;
+        this.debugMode = debugMode;
+    }
+
+    void submit(Runnable action) {
+        tasks.add(new Task(action, nanoClock.getAsLong()));
+        depth.incrementAndGet();
+        if (drainScheduled.compareAndSet(false, true)) mainThread.runOnMainThread(this::drain);
+    }
+
+    void drain() {
+        long start = nanoClock.getAsLong();
+        int ran = 0;
+        Task task;
+        while (ran < maxPerTick && (ran == 0 || nanoClock.getAsLong() - start < tickBudgetNanos)
+                && (task = tasks.poll()) != null) {
+            depth.decrementAndGet();
+            recordLatency(nanoClock.getAsLong() - task.enqueuedAt);
+            try {
+                task.action.run();
+            } catch (Exception e) {
+                logger.warning("Error applying queued sync update: " + e.getMessage());
+            }
+            ran++;
+        }
+
+        drainScheduled.set(false);
+        if (tasks.isEmpty() || !drainScheduled.compareAndSet(false, true)) return;
+        if (debugMode) logger.info("Applied " + ran + " sync updates this tick, " + depth.get() + " still queued");
+        scheduleNextTick();
+    }
+
+    private void scheduleNextTick() {
+        ScheduledExecutorService next = executor;
+        if (next != null && !next.isShutdown()) {
+            try {
+                next.schedule(() -> mainThread.runOnMainThread(this::drain), TICK_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException ignored) {
+            }
+        }
+        mainThread.runOnMainThread(this::drain);
+    }
+
+    private void recordLatency(long latencyNanos) {
+        applied.incrementAndGet();
+        totalLatencyNanos.addAndGet(latencyNanos);
+        if (latencyNanos > maxLatencyNanos) maxLatencyNanos = latencyNanos;
+    }
+
+    int getQueueDepth() {
+        return depth.get();
+    }
+
+    long getAppliedCount() {
+        return applied.get();
+    }
+
+    long getMaxApplyLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+    }
+
+    long getAverageApplyLatencyMillis() {
+        long count = applied.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / count);
+    }
+
+    private static final class Task {
+        private final Runnable action;
+        private final long enqueuedAt;
+
+        private Task(Runnable action, long enqueuedAt) {
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -15,22 +15,24 @@ class MigrationServiceFactory {
     private final Platform platform;
     private final HttpClientHolder httpClientHolder;
     private final DatabaseConfig databaseConfig;
+    private final int liteBansFetchSize;
     private final File dataFolder;
     private final LocaleManager localeManager;
     private final PluginLogger logger;
 
     MigrationServiceFactory(Platform platform, HttpClientHolder httpClientHolder, DatabaseConfig databaseConfig,
-                            File dataFolder, LocaleManager localeManager, PluginLogger logger) {
+                            int liteBansFetchSize, File dataFolder, LocaleManager localeManager, PluginLogger logger) {
         this.platform = platform;
         this.httpClientHolder = httpClientHolder;
         this.databaseConfig = databaseConfig;
+        this.liteBansFetchSize = liteBansFetchSize;
         this.dataFolder = dataFolder;
         this.localeManager = localeManager;
         this.logger = logger;
     }
 
     MigrationService create() throws Exception {
-        DatabaseProvider databaseProvider = platform.createLiteBansDatabaseProvider();
+        DatabaseProvider databaseProvider = platform.createLiteBansDatabaseProvider(liteBansFetchSize);
         if (databaseProvider == null) {
             if (databaseConfig == null) {
                 logger.warning("LiteBans migration is not configured (database block missing or contains sentinel placeholders); skipping migration");
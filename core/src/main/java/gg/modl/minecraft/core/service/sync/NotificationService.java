@@ -7,7 +7,8 @@ import gg.modl.minecraft.api.http.response.SyncResponse;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.cache.Cache;
-import gg.modl.minecraft.core.cache.CachedProfile;
+import gg.modl.minecraft.core.cache.PendingNotification;
+import gg.modl.minecraft.core.cache.PendingNotificationStore;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.util.ClickableJsonMessage;
 import gg.modl.minecraft.core.util.PluginLogger;
@@ -37,27 +38,30 @@ class NotificationService {
     private final PluginLogger logger;
     private final LocaleManager localeManager;
     private final String panelUrl;
+    private final MainThreadApplyQueue applyQueue;
     private final boolean debugMode;
 
     @Setter private volatile ScheduledExecutorService executor;
 
-    NotificationService(Platform platform, HttpClientHolder httpClientHolder, Cache cache,
-                        PluginLogger logger, LocaleManager localeManager, String panelUrl, boolean debugMode) {
+    NotificationService(Platform platform, HttpClientHolder httpClientHolder, Cache cache, PluginLogger logger,
+                        LocaleManager localeManager, String panelUrl, MainThreadApplyQueue applyQueue, boolean debugMode) {
         this.platform = platform;
         this.httpClientHolder = httpClientHolder;
         this.cache = cache;
         this.logger = logger;
         this.localeManager = localeManager;
         this.panelUrl = panelUrl;
+        this.applyQueue = applyQueue;
         this.debugMode = debugMode;
     }
 
     void processStaffNotification(SyncResponse.StaffNotification notification) {
         try {
             if (TICKET_CREATED_TYPE.equals(notification.getType()) && notification.getData() != null) {
-                processTicketCreatedNotification(notification);
+                String json = buildTicketCreatedJson(notification);
+                applyQueue.submit(() -> platform.staffJsonBroadcast(json));
             } else {
-                platform.staffBroadcast("&7&o[" + notification.getMessage() + "&7&o]");
+                applyQueue.submit(() -> platform.staffBroadcast("&7&o[" + notification.getMessage() + "&7&o]"));
             }
             if (debugMode) logger.info("Processed staff notification: " + notification.getMessage());
         } catch (Exception e) {
@@ -65,7 +69,7 @@ class NotificationService {
         }
     }
 
-    private void processTicketCreatedNotification(SyncResponse.StaffNotification notification) {
+    private String buildTicketCreatedJson(SyncResponse.StaffNotification notification) {
         Map<String, Object> data = notification.getData();
         String ticketUrl = resolveTicketUrl(data);
         String subject = extractString(data, "subject");
@@ -100,10 +104,9 @@ class NotificationService {
             link.openUrl(clickValue);
         }
 
-        String json = ClickableJsonMessage.empty()
+        return ClickableJsonMessage.empty()
                 .extra(link)
                 .toJson();
-        platform.staffJsonBroadcast(json);
     }
 
     void processPlayerNotification(SyncResponse.PlayerNotification notification) {
@@ -125,7 +128,14 @@ class NotificationService {
                 return;
             }
 
+            PendingNotificationStore store = cache.getNotificationStore();
+            if (store.wasDelivered(playerUuid, notification.getId())) {
+                if (debugMode) logger.info("Notification " + notification.getId() + " already delivered to " + playerUuid);
+                acknowledgeNotification(playerUuid, notification.getId());
+                return;
+            }
             if (deliverNotificationToPlayerAndCheck(playerUuid, notification)) {
+                store.markDelivered(playerUuid, listOf(notification.getId()));
                 acknowledgeNotification(playerUuid, notification.getId());
             }
         } catch (Exception e) {
@@ -147,7 +157,7 @@ class NotificationService {
             String message = localeManager.getMessage(
                 "notification.ticket_reply", mapOf("message", notification.getMessage()));
 
-            platform.runOnMainThread(() -> platform.sendMessage(playerUuid, message));
+            applyQueue.submit(() -> platform.sendMessage(playerUuid, message));
         }
 
         if (debugMode) logger.info("Delivered notification " + notification.getId() + " to " + player.getName());
@@ -159,16 +169,20 @@ class NotificationService {
         String ticketUrl = resolveTicketUrl(data);
         String json = buildClickableTicketJson(notification.getMessage(), ticketUrl, ticketId);
         if (debugMode) logger.info("Sending clickable notification JSON: " + json);
-        platform.runOnMainThread(() -> platform.sendJsonMessage(playerUuid, json));
+        applyQueue.submit(() -> platform.sendJsonMessage(playerUuid, json));
     }
 
     private void handleNotificationForAllOnlinePlayers(SyncResponse.PlayerNotification notification) {
         for (AbstractPlayer player : platform.getOnlinePlayers()) {
             try {
                 UUID playerUuid = player.getUuid();
-                CachedProfile profile = cache.getPlayerProfile(playerUuid);
-                if (profile != null) profile.addNotification(notification);
-                deliverNotificationToPlayerAndCheck(playerUuid, notification);
+                PendingNotificationStore store = cache.getNotificationStore();
+                if (store.wasDelivered(playerUuid, notification.getId())) continue;
+                if (deliverNotificationToPlayerAndCheck(playerUuid, notification)) {
+                    store.markDelivered(playerUuid, listOf(notification.getId()));
+                } else if (cache.getPlayerProfile(playerUuid) != null) {
+                    store.add(playerUuid, notification);
+                }
             } catch (Exception e) {
                 logger.warning("Error handling notification for player " + player.getName() + ": " + e.getMessage());
             }
@@ -177,14 +191,11 @@ class NotificationService {
 
     void deliverPendingNotifications(UUID playerUuid) {
         try {
-            CachedProfile profile = cache.getPlayerProfile(playerUuid);
-            if (profile == null) return;
+            if (cache.getPlayerProfile(playerUuid) == null) return;
 
-            List<CachedProfile.PendingNotification> pending = profile.getPendingNotifications();
-            pending.removeIf(CachedProfile.PendingNotification::isExpired);
-            if (pending.isEmpty()) return;
+            List<PendingNotification> toProcess = cache.getNotificationStore().pending(playerUuid);
+            if (toProcess.isEmpty()) return;
 
-            List<CachedProfile.PendingNotification> toProcess = new ArrayList<>(pending);
             if (debugMode) logger.info("Delivering " + toProcess.size() + " pending notifications to " + playerUuid);
 
             List<String> deliveredIds = new ArrayList<>();
@@ -195,7 +206,7 @@ class NotificationService {
         }
     }
 
-    private void deliverPendingNotificationToPlayer(UUID playerUuid, CachedProfile.PendingNotification pending) {
+    private void deliverPendingNotificationToPlayer(UUID playerUuid, PendingNotification pending) {
         AbstractPlayer player = platform.getPlayer(playerUuid);
         if (player == null || !player.isOnline()) return;
 
@@ -204,30 +215,30 @@ class NotificationService {
             String ticketId = extractString(data, "ticketId");
             String ticketUrl = resolveTicketUrl(data);
             String json = buildClickableTicketJson(pending.getMessage(), ticketUrl, ticketId);
-            platform.runOnMainThread(() -> platform.sendJsonMessage(playerUuid, json));
+            applyQueue.submit(() -> platform.sendJsonMessage(playerUuid, json));
         } else {
             String message = pending.getMessage();
-            platform.runOnMainThread(() -> platform.sendMessage(playerUuid, message));
+            applyQueue.submit(() -> platform.sendMessage(playerUuid, message));
         }
     }
 
-    private void deliverNotificationsWithDelay(UUID playerUuid, List<CachedProfile.PendingNotification> notifications,
+    private void deliverNotificationsWithDelay(UUID playerUuid, List<PendingNotification> notifications,
                                              List<String> deliveredIds, List<String> expiredIds) {
         if (notifications.isEmpty() || executor == null) return;
         executor.schedule(() ->
-            platform.runOnMainThread(() ->
+            applyQueue.submit(() ->
                 deliverNotificationAtIndex(playerUuid, notifications, 0, deliveredIds, expiredIds)),
             NOTIFICATION_INITIAL_DELAY_MS, TimeUnit.MILLISECONDS);
     }
 
-    private void deliverNotificationAtIndex(UUID playerUuid, List<CachedProfile.PendingNotification> notifications,
+    private void deliverNotificationAtIndex(UUID playerUuid, List<PendingNotification> notifications,
                                           int index, List<String> deliveredIds, List<String> expiredIds) {
         if (index >= notifications.size()) {
             finalizePendingNotificationDelivery(playerUuid, deliveredIds, expiredIds);
             return;
         }
 
-        CachedProfile.PendingNotification pending = notifications.get(index);
+        PendingNotification pending = notifications.get(index);
         try {
             if (pending.isExpired()) {
                 expiredIds.add(pending.getId());
@@ -247,18 +258,16 @@ class NotificationService {
         }
 
         executor.schedule(() ->
-            platform.runOnMainThread(() ->
+            applyQueue.submit(() ->
                 deliverNotificationAtIndex(playerUuid, notifications, index + 1, deliveredIds, expiredIds)),
             NOTIFICATION_INTER_DELAY_MS, TimeUnit.MILLISECONDS);
     }
 
     private void finalizePendingNotificationDelivery(UUID playerUuid, List<String> deliveredIds, List<String> expiredIds) {
         try {
-            CachedProfile profile = cache.getPlayerProfile(playerUuid);
-            if (profile != null) {
-                for (String id : expiredIds) profile.removeNotification(id);
-                for (String id : deliveredIds) profile.removeNotification(id);
-            }
+            PendingNotificationStore store = cache.getNotificationStore();
+            for (String id : expiredIds) store.remove(playerUuid, id);
+            store.markDelivered(playerUuid, deliveredIds);
             if (!deliveredIds.isEmpty()) acknowledgeNotifications(playerUuid, deliveredIds);
             if (debugMode) logger.info("Notification delivery complete for " + playerUuid + ". Delivered: " + deliveredIds.size() + ", Expired: " + expiredIds.size());
         } catch (Exception e) {
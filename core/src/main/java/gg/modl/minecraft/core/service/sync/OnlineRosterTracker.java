@@ -0,0 +1,136 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import lombok.Getter;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class OnlineRosterTracker {
+    static final int CHECKSUM_INTERVAL = 10;
+    private static final int MAX_UNACKED_SNAPSHOTS = 8;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final LinkedHashMap<Long, Map<String, Entry>> unacknowledged = new LinkedHashMap<>();
+    private Map<String, Entry> acknowledged;
+    private long acknowledgedVersion;
+    private long nextVersion = 1;
+    private int requestsSinceChecksum;
+    private boolean fullRequested;
+
+    synchronized Roster next(Collection<AbstractPlayer> onlinePlayers) {
+        Map<String, Entry> snapshot = new HashMap<>(onlinePlayers.size() * 2);
+        Map<String, AbstractPlayer> players = new HashMap<>(onlinePlayers.size() * 2);
+        for (AbstractPlayer player : onlinePlayers) {
+            String uuid = player.getUuid().toString();
+            snapshot.put(uuid, new Entry(player.getName(), player.getIpAddress()));
+            players.put(uuid, player);
+        }
+
+        long version = nextVersion++;
+        unacknowledged.put(version, snapshot);
+        while (unacknowledged.size() > MAX_UNACKED_SNAPSHOTS) {
+            Iterator<Long> oldest = unacknowledged.keySet().iterator();
+            oldest.next();
+            oldest.remove();
+        }
+
+        String checksum = null;
+        if (++requestsSinceChecksum >= CHECKSUM_INTERVAL) {
+            requestsSinceChecksum = 0;
+            checksum = checksum(snapshot);
+        }
+
+        if (acknowledged == null || fullRequested) {
+            return new Roster(version, null, checksum, null, null);
+        }
+
+        List<AbstractPlayer> upserted = new ArrayList<>();
+        for (Map.Entry<String, Entry> current : snapshot.entrySet()) {
+            if (!current.getValue().equals(acknowledged.get(current.getKey()))) {
+                upserted.add(players.get(current.getKey()));
+            }
+        }
+        List<String> left = new ArrayList<>();
+        for (String uuid : acknowledged.keySet()) {
+            if (!snapshot.containsKey(uuid)) left.add(uuid);
+        }
+        return new Roster(version, acknowledgedVersion, checksum, upserted, left);
+    }
+
+    synchronized void onResponse(Long ackVersion, boolean resyncRequired) {
+        if (resyncRequired) {
+            acknowledged = null;
+            fullRequested = true;
+            requestsSinceChecksum = 0;
+            return;
+        }
+        if (ackVersion == null) return;
+
+        Map<String, Entry> snapshot = unacknowledged.get(ackVersion);
+        if (snapshot == null) return;
+        unacknowledged.keySet().removeIf(version -> version <= ackVersion);
+        acknowledged = snapshot;
+        acknowledgedVersion = ackVersion;
+        fullRequested = false;
+    }
+
+    static String checksum(Map<String, Entry> roster) {
+        long sum = 0L;
+        for (Map.Entry<String, Entry> entry : roster.entrySet()) {
+            sum += fnv1a(entry.getKey() + '|' + nullToEmpty(entry.getValue().getUsername())
+                    + '|' + nullToEmpty(entry.getValue().getIpAddress()));
+        }
+        return String.format("%016x", sum);
+    }
+
+    private static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @Getter
+    static final class Roster {
+        private final long version;
+        private final Long baseVersion;
+        private final String checksum;
+        private final List<AbstractPlayer> upserted;
+        private final List<String> left;
+
+        private Roster(long version, Long baseVersion, String checksum,
+                       List<AbstractPlayer> upserted, List<String> left) {
+            this.version = version;
+            this.baseVersion = baseVersion;
+            this.checksum = checksum;
+            this.upserted = upserted != null ? upserted : Collections.emptyList();
+            this.left = left != null ? left : Collections.emptyList();
+        }
+
+        boolean isDelta() {
+            return baseVersion != null;
+        }
+    }
+
+    @Value
+    static class Entry {
+        String username;
+        String ipAddress;
+    }
+}
@@ -0,0 +1,34 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.http.request.SyncRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class PendingServerSwitches {
+    private final Map<String, SyncRequest.ServerSwitch> pending = new LinkedHashMap<>();
+
+    synchronized boolean record(UUID uuid, String serverName, long switchedAt) {
+        String key = uuid.toString();
+        return pending.put(key, new SyncRequest.ServerSwitch(key, serverName, switchedAt)) != null;
+    }
+
+    synchronized List<SyncRequest.ServerSwitch> drain() {
+        if (pending.isEmpty()) return Collections.emptyList();
+        List<SyncRequest.ServerSwitch> batch = new ArrayList<>(pending.values());
+        pending.clear();
+        return batch;
+    }
+
+    synchronized void restore(List<SyncRequest.ServerSwitch> batch) {
+        for (SyncRequest.ServerSwitch serverSwitch : batch) pending.putIfAbsent(serverSwitch.getUuid(), serverSwitch);
+    }
+
+    synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+}
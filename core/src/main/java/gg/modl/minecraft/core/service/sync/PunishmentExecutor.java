@@ -28,15 +28,17 @@ class PunishmentExecutor {
     private final Cache cache;
     private final PluginLogger logger;
     private final PunishmentMessageService punishmentMessages;
+    private final MainThreadApplyQueue applyQueue;
     private final boolean debugMode;
 
-    PunishmentExecutor(Platform platform, HttpClientHolder httpClientHolder, Cache cache,
-                       PluginLogger logger, PunishmentMessageService punishmentMessages, boolean debugMode) {
+    PunishmentExecutor(Platform platform, HttpClientHolder httpClientHolder, Cache cache, PluginLogger logger,
+                       PunishmentMessageService punishmentMessages, MainThreadApplyQueue applyQueue, boolean debugMode) {
         this.platform = platform;
         this.httpClientHolder = httpClientHolder;
         this.cache = cache;
         this.logger = logger;
         this.punishmentMessages = punishmentMessages;
+        this.applyQueue = applyQueue;
         this.debugMode = debugMode;
     }
 
@@ -51,7 +53,7 @@ class PunishmentExecutor {
                     punishment.isBan(), punishment.isMute(), punishment.isKick()));
         }
 
-        platform.runOnMainThread(() -> {
+        applyQueue.submit(() -> {
             boolean success = executePunishment(playerUuid, username, punishment);
             acknowledgePunishment(punishment.getId(), playerUuid, success);
         });
@@ -62,7 +64,7 @@ class PunishmentExecutor {
         String username = modified.getUsername();
         SyncResponse.PunishmentWithModifications punishment = modified.getPunishment();
 
-        platform.runOnMainThread(() -> {
+        applyQueue.submit(() -> {
             for (SyncResponse.PunishmentModification mod : punishment.getModifications()) {
                 applyModification(playerUuid, username, punishment.getId(), mod);
             }
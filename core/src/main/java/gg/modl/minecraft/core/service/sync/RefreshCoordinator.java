@@ -3,9 +3,11 @@ package gg.modl.minecraft.core.service.sync;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.staff.StaffPermissionService;
+import gg.modl.minecraft.core.staff.StaffStateTracker;
 import gg.modl.minecraft.core.util.PluginLogger;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -35,9 +37,16 @@ class RefreshCoordinator {
         punishmentTypesListeners.add(listener);
     }
 
-    void onSyncTimestamps(Long staffPermissionsUpdatedAt, Long punishmentTypesUpdatedAt) {
+    /**
+     * Once a baseline is loaded, a staff permissions bump that coincides with role changes in the active staff list
+     * only rewrites the members holding those roles; any other bump falls back to a full reload, since the change
+     * then concerns staff the sync does not carry.
+     */
+    void onSyncTimestamps(Long staffPermissionsUpdatedAt, Long punishmentTypesUpdatedAt, StaffStateTracker.Diff staffDiff) {
+        boolean scoped = lastKnownStaffPermissionsTimestamp != null && !staffDiff.getChangedRolePermissions().isEmpty();
+        Runnable staffRefresh = scoped ? () -> refreshChangedRoles(staffDiff) : this::refreshStaffPermissions;
         refreshIfTimestampChanged(staffPermissionsUpdatedAt, lastKnownStaffPermissionsTimestamp,
-                "Staff permissions", this::refreshStaffPermissions, ts -> lastKnownStaffPermissionsTimestamp = ts);
+                "Staff permissions", staffRefresh, ts -> lastKnownStaffPermissionsTimestamp = ts);
         refreshIfTimestampChanged(punishmentTypesUpdatedAt, lastKnownPunishmentTypesTimestamp,
                 "Punishment types", this::refreshPunishmentTypes, ts -> lastKnownPunishmentTypesTimestamp = ts);
     }
@@ -50,12 +59,18 @@ class RefreshCoordinator {
         updateLastKnown.accept(newTimestamp);
     }
 
-    void refreshStaffPermissions() {
-        orTimeout(staffPermissionService.reload(), HTTP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    private void refreshChangedRoles(StaffStateTracker.Diff staffDiff) {
+        int updated = staffPermissionService.applyRoleChanges(staffDiff);
+        if (debugMode) logger.info("Staff permissions refreshed for roles "
+                + staffDiff.getChangedRolePermissions().keySet() + ": " + updated + " members updated");
     }
 
-    void refreshPunishmentTypes() {
-        orTimeout(httpClientHolder.getClient().getPunishmentTypes().thenAccept(response -> {
+    CompletableFuture<Void> refreshStaffPermissions() {
+        return orTimeout(staffPermissionService.reload(), HTTP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    CompletableFuture<Void> refreshPunishmentTypes() {
+        return orTimeout(httpClientHolder.getClient().getPunishmentTypes().thenAccept(response -> {
             if (!response.isSuccess()) return;
             for (SyncService.PunishmentTypesRefreshListener listener : punishmentTypesListeners) {
                 try {
@@ -7,10 +7,14 @@ import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.cache.CachedProfile;
 import gg.modl.minecraft.core.locale.LocaleManager;
 import gg.modl.minecraft.core.service.Staff2faService;
+import gg.modl.minecraft.core.staff.StaffStateTracker;
 import gg.modl.minecraft.core.util.PluginLogger;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -23,6 +27,7 @@ class StaffSyncProcessor {
     private final LocaleManager localeManager;
     private final Staff2faService staff2faService;
     private final boolean debugMode;
+    private final StaffStateTracker tracker = new StaffStateTracker();
 
     StaffSyncProcessor(Platform platform, Cache cache, PluginLogger logger, LocaleManager localeManager,
                        Staff2faService staff2faService, boolean debugMode) {
@@ -34,18 +39,52 @@ class StaffSyncProcessor {
         this.debugMode = debugMode;
     }
 
-    void reconcileActiveStaff(List<SyncResponse.ActiveStaffMember> staffMembers) {
-        Set<UUID> activeStaffUuids = new HashSet<>();
+    StaffStateTracker.Diff reconcileActiveStaff(List<SyncResponse.ActiveStaffMember> staffMembers) {
+        Map<UUID, SyncResponse.ActiveStaffMember> byUuid = new LinkedHashMap<>(staffMembers.size() * 2);
+        List<StaffStateTracker.Member> members = new ArrayList<>(staffMembers.size());
         for (SyncResponse.ActiveStaffMember staffMember : staffMembers) {
-            processActiveStaffMember(staffMember);
             try {
-                activeStaffUuids.add(UUID.fromString(staffMember.getMinecraftUuid()));
-            } catch (IllegalArgumentException ignored) {}
+                UUID uuid = UUID.fromString(staffMember.getMinecraftUuid());
+                byUuid.put(uuid, staffMember);
+                members.add(new StaffStateTracker.Member(uuid, staffMember.getStaffUsername(), staffMember.getStaffId(),
+                        staffMember.getStaffRole(), staffMember.getPermissions()));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Error processing staff member data: " + e.getMessage());
+            }
+        }
+
+        StaffStateTracker.Diff diff = tracker.reconcile(members);
+        Set<UUID> dirty = new HashSet<>();
+        for (StaffStateTracker.Member member : diff.getAdded()) dirty.add(member.getUuid());
+        for (StaffStateTracker.Member member : diff.getChanged()) dirty.add(member.getUuid());
+
+        for (Map.Entry<UUID, SyncResponse.ActiveStaffMember> entry : byUuid.entrySet()) {
+            if (dirty.contains(entry.getKey()) || needsRefresh(entry.getKey())) processActiveStaffMember(entry.getValue());
         }
-        evictStaleStaff(activeStaffUuids);
+        evictStaleStaff(diff.getRemoved());
+        if (debugMode && !diff.getChangedRoles().isEmpty()) logger.info("Staff roles changed: " + diff.getChangedRoles());
+        return diff;
+    }
+
+    private boolean needsRefresh(UUID uuid) {
+        if (staff2faService != null && staff2faService.isEnabled() && staff2faService.isAwaitingVerification(uuid)) return true;
+        CachedProfile profile = cache.getPlayerProfile(uuid);
+        return profile != null && profile.getStaffMember() == null;
     }
 
-    void processActiveStaffMember(SyncResponse.ActiveStaffMember staffMember) {
+    void applyActiveStaffMember(SyncResponse.ActiveStaffMember staffMember) {
+        try {
+            tracker.put(new StaffStateTracker.Member(UUID.fromString(staffMember.getMinecraftUuid()),
+                    staffMember.getStaffUsername(), staffMember.getStaffId(), staffMember.getStaffRole(),
+                    staffMember.getPermissions()));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Error processing staff member data: " + e.getMessage());
+            return;
+        }
+        processActiveStaffMember(staffMember);
+    }
+
+    private void processActiveStaffMember(SyncResponse.ActiveStaffMember staffMember) {
         try {
             UUID uuid = UUID.fromString(staffMember.getMinecraftUuid());
             AbstractPlayer player = platform.getPlayer(uuid);
@@ -59,13 +98,13 @@ class StaffSyncProcessor {
         }
     }
 
-    private void evictStaleStaff(Set<UUID> activeStaffUuids) {
-        for (CachedProfile profile : cache.getRegistry().getAllProfiles()) {
-            if (profile.getStaffMember() != null && !activeStaffUuids.contains(profile.getUuid())) {
-                profile.setStaffMember(null);
-                cache.removeStaffPermissions(profile.getUuid());
-                if (debugMode) logger.info("Evicted stale staff data for " + profile.getUuid());
-            }
+    private void evictStaleStaff(List<UUID> removed) {
+        for (UUID uuid : removed) {
+            CachedProfile profile = cache.getPlayerProfile(uuid);
+            if (profile == null || profile.getStaffMember() == null) continue;
+            profile.setStaffMember(null);
+            cache.removeStaffPermissions(uuid);
+            if (debugMode) logger.info("Evicted stale staff data for " + uuid);
         }
     }
 
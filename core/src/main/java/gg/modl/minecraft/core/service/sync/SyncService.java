@@ -10,10 +10,14 @@ import gg.modl.minecraft.api.http.response.SyncResponse;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
 import gg.modl.minecraft.core.boot.StartupClient;
+import gg.modl.minecraft.core.player.PlayerNameCache;
 import gg.modl.minecraft.core.plugin.PluginInfo;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.cache.CachedProfile;
+import gg.modl.minecraft.core.cache.PendingNotificationStore;
+import gg.modl.minecraft.core.metrics.Metrics;
 import gg.modl.minecraft.core.service.MigrationService;
+import gg.modl.minecraft.core.staff.StaffStateTracker;
 import lombok.Setter;
 
 import static gg.modl.minecraft.core.util.Java8Collections.orTimeout;
@@ -22,11 +26,13 @@ import java.io.File;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -46,6 +52,7 @@ public class SyncService {
     private static final int INITIAL_SYNC_DELAY_SECONDS = 5;
     private static final long FALLBACK_FETCH_INTERVAL_SECONDS = 60, MIN_FALLBACK_FETCH_INTERVAL_SECONDS = 30,
             MAINTENANCE_INTERVAL_SECONDS = 60;
+    private static final long SERVER_SWITCH_FLUSH_DELAY_MILLIS = 2000;
     private static final long SYNC_HTTP_TIMEOUT_SECONDS = 5, SYNC_TASK_TIMEOUT_SECONDS = 10, EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
     private static final Pattern MINECRAFT_USERNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_.]{2,16}$");
 
@@ -56,6 +63,7 @@ public class SyncService {
     private final int fallbackFetchRateSeconds;
     private final boolean debugMode;
 
+    private final MainThreadApplyQueue applyQueue;
     private final PunishmentExecutor punishmentExecutor;
     private final NotificationService notificationService;
     private final LogUploadService logUploadService;
@@ -63,6 +71,8 @@ public class SyncService {
     private final Staff2faSyncProcessor staff2faSyncProcessor;
     private final RefreshCoordinator refreshCoordinator;
     private final MigrationServiceFactory migrationServiceFactory;
+    private final OnlineRosterTracker rosterTracker = new OnlineRosterTracker();
+    private final PendingServerSwitches pendingServerSwitches = new PendingServerSwitches();
 
     private volatile String lastSyncTimestamp;
     private volatile ScheduledExecutorService syncExecutor;
@@ -72,6 +82,8 @@ public class SyncService {
     private volatile boolean isRunning = false;
     private volatile boolean realtimeConnected = false;
     private final AtomicBoolean forcedSyncPending = new AtomicBoolean(false);
+    private final AtomicBoolean serverSwitchFlushScheduled = new AtomicBoolean(false);
+    private volatile boolean serverSwitchBatchUnsupported = false;
 
     public SyncService(SyncServiceContext context) {
         this.platform = context.getPlatform();
@@ -81,10 +93,11 @@ public class SyncService {
         this.fallbackFetchRateSeconds = context.getPollingRateSeconds();
         this.debugMode = context.isDebugMode();
 
+        this.applyQueue = new MainThreadApplyQueue(platform, logger, debugMode);
         this.punishmentExecutor = new PunishmentExecutor(platform, httpClientHolder, cache, logger,
-                context.getPunishmentMessageService(), debugMode);
+                context.getPunishmentMessageService(), applyQueue, debugMode);
         this.notificationService = new NotificationService(platform, httpClientHolder, cache, logger,
-                context.getLocaleManager(), context.getPanelUrl(), debugMode);
+                context.getLocaleManager(), context.getPanelUrl(), applyQueue, debugMode);
         this.logUploadService = new LogUploadService(httpClientHolder, context.getChatCommandLogService(), logger, debugMode);
         this.staffSyncProcessor = new StaffSyncProcessor(platform, cache, logger, context.getLocaleManager(),
                 context.getStaff2faService(), debugMode);
@@ -92,7 +105,12 @@ public class SyncService {
                 context.getStaff2faService());
         this.refreshCoordinator = new RefreshCoordinator(context.getStaffPermissionService(), httpClientHolder, logger, debugMode);
         this.migrationServiceFactory = new MigrationServiceFactory(platform, httpClientHolder,
-                context.getDatabaseConfig(), context.getDataFolder(), context.getLocaleManager(), logger);
+                context.getDatabaseConfig(), context.getLiteBansFetchSize(), context.getDataFolder(), context.getLocaleManager(), logger);
+
+        Metrics.registry().gauge("modl_executor_queue_depth", "Tasks waiting in an executor queue",
+                this::getApplyQueueDepth, "executor", "main_thread_apply");
+        Metrics.registry().gauge("modl_main_thread_apply_max_latency_milliseconds", "Slowest main-thread apply batch",
+                this::getMaxApplyLatencyMillis);
     }
 
     public interface PunishmentTypesRefreshListener {
@@ -125,6 +143,7 @@ public class SyncService {
             return t;
         });
         notificationService.setExecutor(syncExecutor);
+        applyQueue.setExecutor(syncExecutor);
         syncExecutor.scheduleWithFixedDelay(this::runFallbackFetchIfDisconnected,
                 INITIAL_SYNC_DELAY_SECONDS, fallbackInterval, TimeUnit.SECONDS);
         syncExecutor.scheduleWithFixedDelay(this::runMaintenance,
@@ -168,9 +187,9 @@ public class SyncService {
 
     private void runMaintenance() {
         try {
-            for (CachedProfile profile : cache.getRegistry().getAllProfiles()) {
-                profile.cleanupExpiredNotifications();
-            }
+            PendingNotificationStore notifications = cache.getNotificationStore();
+            notifications.sweepExpired();
+            notifications.flush();
             PluginServices.chatInput().cleanupExpired();
         } catch (Exception e) {
             logger.warning("Sync maintenance pass failed: " + e.getMessage());
@@ -207,15 +226,64 @@ public class SyncService {
         }
     }
 
+    public void queueServerSwitch(UUID uuid, String serverName) {
+        if (pendingServerSwitches.record(uuid, serverName, System.currentTimeMillis())) {
+            Metrics.registry().counter("modl_server_switches_coalesced_total",
+                    "Server switches superseded by a later switch before being reported").inc();
+        }
+        scheduleServerSwitchFlush();
+    }
+
+    private void scheduleServerSwitchFlush() {
+        if (!serverSwitchFlushScheduled.compareAndSet(false, true)) return;
+        ScheduledExecutorService executor = syncExecutor;
+        if (isRunning && executor != null && !executor.isShutdown()) {
+            try {
+                executor.schedule(this::flushServerSwitches, SERVER_SWITCH_FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException ignored) {}
+        }
+        serverSwitchFlushScheduled.set(false);
+        postServerSwitches(pendingServerSwitches.drain());
+    }
+
+    private void flushServerSwitches() {
+        serverSwitchFlushScheduled.set(false);
+        if (pendingServerSwitches.isEmpty()) return;
+        if (serverSwitchBatchUnsupported) postServerSwitches(pendingServerSwitches.drain());
+        else runBaselineFetch("server switches");
+    }
+
+    private void postServerSwitches(List<SyncRequest.ServerSwitch> switches) {
+        for (SyncRequest.ServerSwitch serverSwitch : switches) {
+            httpClientHolder.getClient().updatePlayerServer(serverSwitch.getUuid(), serverSwitch.getServerName())
+                    .exceptionally(throwable -> {
+                        logger.warning("Failed to update server for " + serverSwitch.getUuid() + ": " + throwable.getMessage());
+                        return null;
+                    });
+        }
+    }
+
     private void performSync() {
         final Callable<Void> work = () -> {
+            List<SyncRequest.ServerSwitch> switches = serverSwitchBatchUnsupported
+                    ? Collections.emptyList() : pendingServerSwitches.drain();
+            boolean switchesDelivered = false;
             try {
                 Collection<AbstractPlayer> onlinePlayers = platform.getOnlinePlayers();
-                SyncRequest request = buildSyncRequest(onlinePlayers);
+                PlayerNameCache playerNames = PluginServices.playerNames();
+                if (playerNames != null) playerNames.recordAll(onlinePlayers);
+                SyncRequest request = buildSyncRequest(onlinePlayers, switches);
 
                 SyncResponse response = orTimeout(httpClientHolder.getClient().sync(request),
                     SYNC_HTTP_TIMEOUT_SECONDS, TimeUnit.SECONDS)
                     .join();
+                if (!switches.isEmpty() && !Boolean.TRUE.equals(response.getServerSwitchesApplied())) {
+                    if (debugMode) logger.info("Panel did not apply batched server switches; reporting them individually");
+                    serverSwitchBatchUnsupported = true;
+                    postServerSwitches(switches);
+                }
+                switchesDelivered = true;
                 handleSyncResponse(response);
             } catch (CompletionException e) {
                 handleSyncException(e);
@@ -223,6 +291,9 @@ public class SyncService {
                 logger.warning("Sync request failed: " + e.getMessage());
             } catch (Throwable t) {
                 logger.severe("Error during sync: " + t.getMessage());
+            } finally {
+                if (!switchesDelivered) pendingServerSwitches.restore(switches);
+                else if (!pendingServerSwitches.isEmpty()) scheduleServerSwitchFlush();
             }
             return null;
         };
@@ -238,11 +309,24 @@ public class SyncService {
         }
     }
 
-    private SyncRequest buildSyncRequest(Collection<AbstractPlayer> onlinePlayers) {
+    private SyncRequest buildSyncRequest(Collection<AbstractPlayer> onlinePlayers, List<SyncRequest.ServerSwitch> switches) {
+        List<SyncRequest.ServerSwitch> serverSwitches = switches.isEmpty() ? null : switches;
         SyncRequest.ServerStatus serverStatus = new SyncRequest.ServerStatus(onlinePlayers.size(), platform.getMaxPlayers(),
                 platform.getServerVersion(), platform.getPlatformType(), PluginInfo.VERSION, System.currentTimeMillis());
-        return new SyncRequest(lastSyncTimestamp, buildOnlinePlayersList(onlinePlayers), platform.getServerName(),
-                StartupClient.getServerInstanceId(), null, null, serverStatus);
+        OnlineRosterTracker.Roster roster = rosterTracker.next(onlinePlayers);
+        if (!roster.isDelta()) {
+            return new SyncRequest(lastSyncTimestamp, buildOnlinePlayersList(onlinePlayers), platform.getServerName(),
+                    StartupClient.getServerInstanceId(), null, null, serverStatus,
+                    roster.getVersion(), null, null, roster.getChecksum(), serverSwitches);
+        }
+
+        SyncRequest.RosterDelta delta = new SyncRequest.RosterDelta(buildOnlinePlayersList(roster.getUpserted()),
+                roster.getLeft());
+        if (debugMode) logger.info("Sending roster delta v" + roster.getVersion() + " against v" + roster.getBaseVersion()
+                + " (" + delta.getJoined().size() + " joined, " + delta.getLeft().size() + " left)");
+        return new SyncRequest(lastSyncTimestamp, Collections.emptyList(), platform.getServerName(),
+                StartupClient.getServerInstanceId(), null, null, serverStatus,
+                roster.getVersion(), roster.getBaseVersion(), delta, roster.getChecksum(), serverSwitches);
     }
 
     static <T> List<T> filterByUsername(List<T> entries, Function<T, String> usernameAccessor) {
@@ -280,12 +364,13 @@ public class SyncService {
 
     private void handleSyncResponse(SyncResponse response) {
         this.lastSyncTimestamp = response.getTimestamp();
+        rosterTracker.onResponse(response.getRosterAckVersion(), Boolean.TRUE.equals(response.getRosterResyncRequired()));
         SyncResponse.SyncData data = response.getData();
 
         for (SyncResponse.ModifiedPunishment modified : data.getRecentlyModifiedPunishments()) punishmentExecutor.processModifiedPunishment(modified);
         for (SyncResponse.PendingPunishment pending : data.getPendingPunishments()) punishmentExecutor.processPendingPunishment(pending);
 
-        staffSyncProcessor.reconcileActiveStaff(data.getActiveStaffMembers());
+        StaffStateTracker.Diff staffDiff = staffSyncProcessor.reconcileActiveStaff(data.getActiveStaffMembers());
 
         for (SyncResponse.PlayerNotification notification : data.getPlayerNotifications()) notificationService.processPlayerNotification(notification);
 
@@ -295,7 +380,8 @@ public class SyncService {
 
         if (data.getMigrationTask() != null) processMigrationTask(data.getMigrationTask());
 
-        refreshCoordinator.onSyncTimestamps(data.getStaffPermissionsUpdatedAt(), data.getPunishmentTypesUpdatedAt());
+        refreshCoordinator.onSyncTimestamps(data.getStaffPermissionsUpdatedAt(), data.getPunishmentTypesUpdatedAt(),
+                staffDiff);
 
         staff2faSyncProcessor.processVerifications(data.getStaff2faVerifications());
     }
@@ -380,16 +466,20 @@ public class SyncService {
         notificationService.deliverPendingNotifications(playerUuid);
     }
 
-    public boolean submitRealtimeApply(Runnable apply) {
-        ScheduledExecutorService executor = syncExecutor;
-        if (!isRunning || executor == null || executor.isShutdown()) return false;
-        try {
-            executor.execute(apply);
-            return true;
-        } catch (RejectedExecutionException e) {
-            if (debugMode) logger.warning("Realtime apply rejected: " + e.getMessage());
-            return false;
-        }
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public int getApplyQueueDepth() {
+        return applyQueue.getQueueDepth();
+    }
+
+    public long getAverageApplyLatencyMillis() {
+        return applyQueue.getAverageApplyLatencyMillis();
+    }
+
+    public long getMaxApplyLatencyMillis() {
+        return applyQueue.getMaxApplyLatencyMillis();
     }
 
     public void applyPendingPunishment(SyncResponse.PendingPunishment pending) {
@@ -417,18 +507,18 @@ public class SyncService {
     }
 
     public void applyActiveStaffMember(SyncResponse.ActiveStaffMember staffMember) {
-        staffSyncProcessor.processActiveStaffMember(staffMember);
+        staffSyncProcessor.applyActiveStaffMember(staffMember);
     }
 
     public void applyStatWipe(SyncResponse.PendingStatWipe statWipe) {
         executeStatWipeFromLogin(statWipe);
     }
 
-    public void refreshStaffPermissionsNow() {
-        refreshCoordinator.refreshStaffPermissions();
+    public CompletableFuture<Void> refreshStaffPermissionsNow() {
+        return refreshCoordinator.refreshStaffPermissions();
     }
 
-    public void refreshPunishmentTypesNow() {
-        refreshCoordinator.refreshPunishmentTypes();
+    public CompletableFuture<Void> refreshPunishmentTypesNow() {
+        return refreshCoordinator.refreshPunishmentTypes();
     }
 }
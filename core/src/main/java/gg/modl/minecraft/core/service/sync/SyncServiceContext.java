@@ -27,6 +27,7 @@ public class SyncServiceContext {
     int pollingRateSeconds;
     File dataFolder;
     DatabaseConfig databaseConfig;
+    int liteBansFetchSize;
     boolean debugMode;
     Staff2faService staff2faService;
     ChatCommandLogService chatCommandLogService;
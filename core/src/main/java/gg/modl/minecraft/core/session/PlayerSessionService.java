@@ -11,6 +11,8 @@ import gg.modl.minecraft.core.cache.CachedProfile;
 import gg.modl.minecraft.core.cache.CachedProfileRegistry;
 import gg.modl.minecraft.core.cache.LoginCache;
 import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.player.OnlinePlayerIndex;
+import gg.modl.minecraft.core.player.PlayerNameCache;
 import gg.modl.minecraft.core.service.BridgeService;
 import gg.modl.minecraft.core.service.ChatMessageCache;
 import gg.modl.minecraft.core.service.ReplayService;
@@ -58,6 +60,10 @@ public final class PlayerSessionService {
         }
 
         cache.getRegistry().createProfile(uuid);
+        PlayerNameCache playerNames = PluginServices.playerNames();
+        if (playerNames != null) playerNames.record(uuid, playerName);
+        OnlinePlayerIndex onlinePlayers = PluginServices.onlinePlayers();
+        if (onlinePlayers != null) onlinePlayers.join(uuid, playerName, platform.getPlayerServer(uuid));
 
         if (staff2faService != null && staff2faService.isEnabled() && PermissionUtil.isStaff(uuid, cache)) staff2faService.onStaffJoin(uuid);
 
@@ -108,6 +114,8 @@ public final class PlayerSessionService {
             replayService.onPlayerDisconnect(uuid);
         }
 
+        OnlinePlayerIndex onlinePlayers = PluginServices.onlinePlayers();
+        if (onlinePlayers != null) onlinePlayers.quit(uuid);
         registry.destroyProfile(uuid);
         cache.setOffline(uuid);
         loginCache.invalidateLoginResult(uuid);
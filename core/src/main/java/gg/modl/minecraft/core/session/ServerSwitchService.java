@@ -1,42 +1,113 @@
 package gg.modl.minecraft.core.session;
 
-import gg.modl.minecraft.api.http.ModlHttpClient;
-import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.PluginServices;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.locale.LocaleManager;
+import gg.modl.minecraft.core.player.OnlinePlayerIndex;
+import gg.modl.minecraft.core.service.sync.SyncService;
 import gg.modl.minecraft.core.staff.PermissionUtil;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static gg.modl.minecraft.core.util.Java8Collections.mapOf;
 
+/**
+ * Staff switch notices are rate limited per player: the first switch in a window is announced immediately and any
+ * further switches inside it collapse into one trailing notice carrying the latest destination.
+ */
 public final class ServerSwitchService {
-    private final HttpClientHolder httpClientHolder;
+    private static final long STAFF_NOTICE_COOLDOWN_MILLIS = 5000;
+
+    private final SyncService syncService;
     private final Cache cache;
     private final LocaleManager localeManager;
     private final Platform platform;
+    private final Map<UUID, Notice> lastStaffNotice = new ConcurrentHashMap<>();
+    private final Map<UUID, Notice> trailingStaffNotice = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService noticeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "modl-staff-switch-notice");
+        t.setDaemon(true);
+        return t;
+    });
 
-    public ServerSwitchService(HttpClientHolder httpClientHolder, Cache cache, LocaleManager localeManager, Platform platform) {
-        this.httpClientHolder = httpClientHolder;
+    public ServerSwitchService(SyncService syncService, Cache cache, LocaleManager localeManager, Platform platform) {
+        this.syncService = syncService;
         this.cache = cache;
         this.localeManager = localeManager;
         this.platform = platform;
     }
 
     public void handleServerSwitch(UUID uuid, String username, String serverName) {
-        ModlHttpClient httpClient = httpClientHolder.getClient();
-        httpClient.updatePlayerServer(uuid.toString(), serverName)
-                .exceptionally(throwable -> {
-                    platform.getLogger().warning("Failed to update server for " + username + ": " + throwable.getMessage());
-                    return null;
-                });
+        syncService.queueServerSwitch(uuid, serverName);
+        OnlinePlayerIndex onlinePlayers = PluginServices.onlinePlayers();
+        if (onlinePlayers != null) onlinePlayers.switchServer(uuid, serverName);
+
+        if (!PermissionUtil.isStaff(uuid, cache)) return;
+        Notice notice = new Notice(username, serverName, System.currentTimeMillis());
+        if (tryAcquireStaffNotice(uuid, notice)) {
+            broadcastStaffSwitch(uuid, notice);
+        } else {
+            deferStaffNotice(uuid, notice);
+        }
+    }
+
+    public void handlePlayerDisconnect(UUID uuid) {
+        lastStaffNotice.remove(uuid);
+        trailingStaffNotice.remove(uuid);
+    }
+
+    public void shutdown() {
+        noticeScheduler.shutdownNow();
+    }
 
+    private boolean tryAcquireStaffNotice(UUID uuid, Notice notice) {
+        Notice last = lastStaffNotice.get(uuid);
+        if (last == null) return lastStaffNotice.putIfAbsent(uuid, notice) == null;
+        if (notice.at - last.at < STAFF_NOTICE_COOLDOWN_MILLIS) return false;
+        return lastStaffNotice.replace(uuid, last, notice);
+    }
+
+    private void deferStaffNotice(UUID uuid, Notice notice) {
+        if (trailingStaffNotice.put(uuid, notice) != null) return;
+        Notice last = lastStaffNotice.get(uuid);
+        long delay = last == null ? 0 : Math.max(0, last.at + STAFF_NOTICE_COOLDOWN_MILLIS - notice.at);
+        noticeScheduler.schedule(() -> sendTrailingStaffNotice(uuid), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void sendTrailingStaffNotice(UUID uuid) {
+        Notice pending = trailingStaffNotice.remove(uuid);
+        if (pending == null) return;
+        Notice last = lastStaffNotice.get(uuid);
+        if (last == null) return;
+        Notice sent = new Notice(pending.username, pending.serverName, System.currentTimeMillis());
+        if (!lastStaffNotice.replace(uuid, last, sent)) return;
+        if (Objects.equals(pending.serverName, last.serverName)) return;
         if (!PermissionUtil.isStaff(uuid, cache)) return;
+        broadcastStaffSwitch(uuid, pending);
+    }
 
+    private void broadcastStaffSwitch(UUID uuid, Notice notice) {
         String panelName = cache.getStaffDisplayName(uuid);
-        if (panelName == null) panelName = username;
+        if (panelName == null) panelName = notice.username;
         platform.staffBroadcast(localeManager.getMessage("staff_notifications.switch",
-                mapOf("staff", panelName, "in-game-name", username, "server", serverName)));
+                mapOf("staff", panelName, "in-game-name", notice.username, "server", notice.serverName)));
+    }
+
+    private static final class Notice {
+        private final String username, serverName;
+        private final long at;
+
+        private Notice(String username, String serverName, long at) {
+            this.username = username;
+            this.serverName = serverName;
+            this.at = at;
+        }
     }
 }
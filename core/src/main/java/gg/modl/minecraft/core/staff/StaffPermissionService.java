@@ -6,15 +6,21 @@ import gg.modl.minecraft.api.http.response.StaffPermissionsResponse;
 import gg.modl.minecraft.core.HttpClientHolder;
 import gg.modl.minecraft.core.cache.Cache;
 import gg.modl.minecraft.core.util.PluginLogger;
+import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public final class StaffPermissionService {
     private final HttpClientHolder httpClientHolder;
     private final Cache cache;
     private final PluginLogger logger;
     private final boolean debugMode;
+    private final StaffStateTracker tracker = new StaffStateTracker();
+    @Setter private volatile Consumer<List<StaffPermissionsResponse.StaffMember>> loadListener;
 
     public StaffPermissionService(HttpClientHolder httpClientHolder, Cache cache, PluginLogger logger, boolean debugMode) {
         this.httpClientHolder = httpClientHolder;
@@ -23,32 +29,21 @@ public final class StaffPermissionService {
         this.debugMode = debugMode;
     }
 
-    public CompletableFuture<Void> initialLoad() {
-        return load(false);
+    public int restore(List<StaffPermissionsResponse.StaffMember> staff) {
+        return apply(staff).getAdded().size();
     }
 
     public CompletableFuture<Void> reload() {
-        return load(true);
-    }
-
-    private CompletableFuture<Void> load(boolean clearFirst) {
         if (debugMode) logger.info("Loading staff permissions...");
         ModlHttpClient httpClient = httpClientHolder.getClient();
         return httpClient.getStaffPermissions().thenAccept(response -> {
-            if (clearFirst) cache.clearStaffPermissions();
-            int loadedCount = 0;
-            for (StaffPermissionsResponse.StaffMember staffMember : response.getData().getStaff()) {
-                if (staffMember.getMinecraftUuid() != null) {
-                    try {
-                        UUID uuid = UUID.fromString(staffMember.getMinecraftUuid());
-                        cache.cacheStaffPermissions(uuid, staffMember.getStaffUsername(), staffMember.getStaffId(), staffMember.getStaffRole(), staffMember.getPermissions());
-                        loadedCount++;
-                    } catch (IllegalArgumentException e) {
-                        logger.warning("Invalid UUID for staff member: " + staffMember.getMinecraftUuid());
-                    }
-                }
-            }
-            if (debugMode) logger.info("Staff permissions loaded: " + loadedCount + " staff members");
+            List<StaffPermissionsResponse.StaffMember> staff = response.getData().getStaff();
+            StaffStateTracker.Diff diff = apply(staff);
+            if (debugMode) logger.info("Staff permissions loaded: " + tracker.size() + " staff members ("
+                    + diff.getAdded().size() + " added, " + diff.getChanged().size() + " changed, "
+                    + diff.getRemoved().size() + " removed, roles changed: " + diff.getChangedRoles() + ")");
+            Consumer<List<StaffPermissionsResponse.StaffMember>> listener = loadListener;
+            if (listener != null) listener.accept(staff);
         }).exceptionally(throwable -> {
             Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
             if (cause instanceof PanelUnavailableException) logger.warning("Failed to load staff permissions: Panel temporarily unavailable");
@@ -56,4 +51,45 @@ public final class StaffPermissionService {
             return null;
         });
     }
+
+    public int applyRoleChanges(StaffStateTracker.Diff diff) {
+        List<StaffStateTracker.Member> updated = new ArrayList<>();
+        for (StaffStateTracker.Member member : diff.getAdded()) {
+            if (tracker.put(member)) updated.add(member);
+        }
+        for (StaffStateTracker.Member member : diff.getChanged()) {
+            if (tracker.put(member)) updated.add(member);
+        }
+        updated.addAll(tracker.applyRolePermissions(diff.getChangedRolePermissions()));
+        for (StaffStateTracker.Member member : updated) cacheMember(member);
+        return updated.size();
+    }
+
+    private StaffStateTracker.Diff apply(List<StaffPermissionsResponse.StaffMember> staff) {
+        List<StaffStateTracker.Member> members = new ArrayList<>(staff.size());
+        for (StaffPermissionsResponse.StaffMember staffMember : staff) {
+            if (staffMember.getMinecraftUuid() == null) continue;
+            try {
+                UUID uuid = UUID.fromString(staffMember.getMinecraftUuid());
+                members.add(new StaffStateTracker.Member(uuid, staffMember.getStaffUsername(), staffMember.getStaffId(),
+                        staffMember.getStaffRole(), staffMember.getPermissions()));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid UUID for staff member: " + staffMember.getMinecraftUuid());
+            }
+        }
+
+        StaffStateTracker.Diff diff = tracker.reconcile(members);
+        for (UUID uuid : diff.getRemoved()) cache.removeStaffPermissions(uuid);
+        for (StaffStateTracker.Member member : diff.getAdded()) cacheMember(member);
+        for (StaffStateTracker.Member member : diff.getChanged()) cacheMember(member);
+        for (StaffStateTracker.Member member : members) {
+            if (!cache.isStaffMemberByPermissions(member.getUuid())) cacheMember(member);
+        }
+        return diff;
+    }
+
+    private void cacheMember(StaffStateTracker.Member member) {
+        cache.cacheStaffPermissions(member.getUuid(), member.getStaffUsername(), member.getStaffId(),
+                member.getStaffRole(), member.getPermissions());
+    }
 }
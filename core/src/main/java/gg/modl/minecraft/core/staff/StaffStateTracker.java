@@ -0,0 +1,120 @@
+package gg.modl.minecraft.core.staff;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+public final class StaffStateTracker {
+    private Map<UUID, Member> members = new HashMap<>();
+    private Map<String, Set<String>> rolePermissions = new HashMap<>();
+
+    public synchronized Diff reconcile(Collection<Member> next) {
+        Map<UUID, Member> nextMembers = new HashMap<>(next.size() * 2);
+        for (Member member : next) nextMembers.put(member.getUuid(), member);
+
+        List<Member> added = new ArrayList<>(), changed = new ArrayList<>();
+        for (Member member : nextMembers.values()) {
+            Member previous = members.get(member.getUuid());
+            if (previous == null) added.add(member);
+            else if (!previous.equals(member)) changed.add(member);
+        }
+        List<UUID> removed = new ArrayList<>();
+        for (UUID uuid : members.keySet()) {
+            if (!nextMembers.containsKey(uuid)) removed.add(uuid);
+        }
+
+        Map<String, Set<String>> nextRolePermissions = rolePermissions(nextMembers.values());
+        Set<String> changedRoles = new HashSet<>();
+        for (Map.Entry<String, Set<String>> role : nextRolePermissions.entrySet()) {
+            if (!role.getValue().equals(rolePermissions.get(role.getKey()))) changedRoles.add(role.getKey());
+        }
+        for (String role : rolePermissions.keySet()) {
+            if (!nextRolePermissions.containsKey(role)) changedRoles.add(role);
+        }
+        Map<String, Set<String>> changedRolePermissions = new HashMap<>();
+        for (String role : changedRoles) {
+            Set<String> permissions = nextRolePermissions.get(role);
+            if (permissions != null) changedRolePermissions.put(role, Collections.unmodifiableSet(permissions));
+        }
+
+        members = nextMembers;
+        rolePermissions = nextRolePermissions;
+        return new Diff(added, changed, removed, changedRoles, changedRolePermissions);
+    }
+
+    public synchronized boolean put(Member member) {
+        Member previous = members.put(member.getUuid(), member);
+        if (member.equals(previous)) return false;
+        rolePermissions = rolePermissions(members.values());
+        return true;
+    }
+
+    public synchronized List<Member> applyRolePermissions(Map<String, Set<String>> roles) {
+        List<Member> updated = new ArrayList<>();
+        for (Map.Entry<UUID, Member> entry : members.entrySet()) {
+            Member member = entry.getValue();
+            Set<String> permissions = roles.get(member.getStaffRole());
+            if (permissions == null || permissions.equals(new TreeSet<>(member.getPermissions()))) continue;
+            Member next = new Member(member.getUuid(), member.getStaffUsername(), member.getStaffId(),
+                    member.getStaffRole(), new ArrayList<>(permissions));
+            entry.setValue(next);
+            updated.add(next);
+        }
+        if (!updated.isEmpty()) rolePermissions = rolePermissions(members.values());
+        return updated;
+    }
+
+    public synchronized int size() {
+        return members.size();
+    }
+
+    private static Map<String, Set<String>> rolePermissions(Collection<Member> members) {
+        Map<String, Set<String>> roles = new HashMap<>();
+        for (Member member : members) {
+            if (member.getStaffRole() == null) continue;
+            roles.computeIfAbsent(member.getStaffRole(), ignored -> new TreeSet<>()).addAll(member.getPermissions());
+        }
+        return roles;
+    }
+
+    @Value
+    public static class Member {
+        UUID uuid;
+        String staffUsername, staffId, staffRole;
+        List<String> permissions;
+
+        public Member(UUID uuid, String staffUsername, String staffId, String staffRole, List<String> permissions) {
+            this.uuid = uuid;
+            this.staffUsername = staffUsername;
+            this.staffId = staffId;
+            this.staffRole = staffRole;
+            this.permissions = permissions == null ? Collections.emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(permissions));
+        }
+    }
+
+    @Value
+    public static class Diff {
+        List<Member> added, changed;
+        List<UUID> removed;
+        Set<String> changedRoles;
+        Map<String, Set<String>> changedRolePermissions;
+
+        public boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+        }
+
+        public int size() {
+            return added.size() + changed.size() + removed.size();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package gg.modl.minecraft.core.util;
 
+import gg.modl.minecraft.core.metrics.Metrics;
+
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -19,25 +21,42 @@ public final class CircuitBreaker {
     private final AtomicInteger failureCount = new AtomicInteger(0);
     private final AtomicLong nextRetryTime = new AtomicLong(0);
     private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+    private final String name;
     private final int failureThreshold;
     private final long timeoutMillis, retryTimeoutMillis;
 
     public CircuitBreaker() {
-        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_TIMEOUT_MS, DEFAULT_RETRY_TIMEOUT_MS);
+        this("default", DEFAULT_FAILURE_THRESHOLD, DEFAULT_TIMEOUT_MS, DEFAULT_RETRY_TIMEOUT_MS);
+    }
+
+    public CircuitBreaker(String name) {
+        this(name, DEFAULT_FAILURE_THRESHOLD, DEFAULT_TIMEOUT_MS, DEFAULT_RETRY_TIMEOUT_MS);
+        Metrics.registry().gauge("modl_circuit_breaker_state", "Circuit breaker state (0=closed, 1=open, 2=half-open)",
+            () -> state.get().ordinal(), "breaker", name);
     }
 
     public CircuitBreaker(int failureThreshold, long timeoutMillis, long retryTimeoutMillis) {
+        this("default", failureThreshold, timeoutMillis, retryTimeoutMillis);
+    }
+
+    private CircuitBreaker(String name, int failureThreshold, long timeoutMillis, long retryTimeoutMillis) {
+        this.name = name;
         this.failureThreshold = failureThreshold;
         this.timeoutMillis = timeoutMillis;
         this.retryTimeoutMillis = retryTimeoutMillis;
     }
 
+    public State getState() {
+        return state.get();
+    }
+
     public boolean allowRequest() {
         State currentState = state.get();
         long currentTime = System.currentTimeMillis();
 
         if (currentState == State.OPEN) {
             if (currentTime >= nextRetryTime.get() && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                recordTransition(State.HALF_OPEN);
                 return probeInFlight.compareAndSet(false, true);
             }
             return false;
@@ -52,7 +71,10 @@ public final class CircuitBreaker {
         State currentState = state.get();
 
         if (currentState == State.HALF_OPEN) {
-            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) reset();
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                recordTransition(State.CLOSED);
+                reset();
+            }
         } else if (currentState == State.CLOSED) {
             int currentFailures = failureCount.get();
             if (currentFailures > 0) failureCount.set(Math.max(0, currentFailures - 1));
@@ -67,16 +89,21 @@ public final class CircuitBreaker {
 
         if (currentState == State.HALF_OPEN) {
             if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+                recordTransition(State.OPEN);
                 nextRetryTime.set(currentTime + retryTimeoutMillis);
                 probeInFlight.set(false);
             }
         } else if (currentState == State.CLOSED && failures >= failureThreshold) {
-            if (state.compareAndSet(State.CLOSED, State.OPEN)) nextRetryTime.set(currentTime + timeoutMillis);
+            if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+                recordTransition(State.OPEN);
+                nextRetryTime.set(currentTime + timeoutMillis);
+            }
         }
     }
 
     public void releaseProbe() {
         if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            recordTransition(State.OPEN);
             nextRetryTime.set(System.currentTimeMillis() + retryTimeoutMillis);
         }
         probeInFlight.set(false);
@@ -88,4 +115,9 @@ public final class CircuitBreaker {
         nextRetryTime.set(0);
         probeInFlight.set(false);
     }
+
+    private void recordTransition(State to) {
+        Metrics.registry().counter("modl_circuit_breaker_transitions_total", "Circuit breaker state transitions",
+            "breaker", name, "to", to.name().toLowerCase()).inc();
+    }
 }
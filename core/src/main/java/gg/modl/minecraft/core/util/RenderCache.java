@@ -0,0 +1,39 @@
+package gg.modl.minecraft.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class RenderCache<V> {
+    private final int maxKeyLength;
+    private final Map<String, V> entries;
+
+    public RenderCache(int maxEntries, int maxKeyLength) {
+        this.maxKeyLength = maxKeyLength;
+        this.entries = new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public V get(String raw, Function<String, V> renderer) {
+        if (raw.length() > maxKeyLength) return renderer.apply(raw);
+        synchronized (entries) {
+            V cached = entries.get(raw);
+            if (cached != null) return cached;
+        }
+        V rendered = renderer.apply(raw);
+        synchronized (entries) {
+            entries.put(raw, rendered);
+        }
+        return rendered;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package io.github._4drian3d.signedvelocity.common.queue;
 
 import io.github._4drian3d.signedvelocity.shared.PropertyHolder;
-import org.jetbrains.annotations.Nullable;
 
-import java.util.Queue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -18,76 +14,62 @@ import java.util.function.Consumer;
 public final class QueuedData implements AutoCloseable {
     private static final int timeout = PropertyHolder.readInt("io.github._4drian3d.signedvelocity.timeout", 20);
     private static final long WAIT_GRACE_MILLIS = 50L;
-    private static final QueuedData CLOSED_DATA = new QueuedData(null, timeout, false, true);
+    private static final QueuedData CLOSED_DATA = new QueuedData(null, timeout, true);
 
-    private final Queue<SignedResult> results = new ConcurrentLinkedQueue<>();
-    private final Queue<PendingResult> unSyncronizedQueue = new ConcurrentLinkedQueue<>();
-    private final ScheduledExecutorService timeoutExecutor;
+    private final Object lock = new Object();
+    private final ArrayDeque<SignedResult> results = new ArrayDeque<>();
+    private final ArrayDeque<PendingResult> unSyncronizedQueue = new ArrayDeque<>();
+    private final TimeoutWheel timeoutWheel;
     private final int timeoutMillis;
-    private final boolean shutdownExecutor;
     private volatile boolean closed;
 
     public QueuedData() {
-        this(createTimeoutExecutor(), timeout, true, false);
+        this(TimeoutWheel.defaultWheel(), timeout, false);
     }
 
-    QueuedData(final ScheduledExecutorService timeoutExecutor, final int timeoutMillis) {
-        this(timeoutExecutor, timeoutMillis, false, false);
+    QueuedData(final TimeoutWheel timeoutWheel, final int timeoutMillis) {
+        this(timeoutWheel, timeoutMillis, false);
     }
 
-    private QueuedData(
-            final ScheduledExecutorService timeoutExecutor,
-            final int timeoutMillis,
-            final boolean shutdownExecutor,
-            final boolean closed
-    ) {
-        this.timeoutExecutor = timeoutExecutor;
+    private QueuedData(final TimeoutWheel timeoutWheel, final int timeoutMillis, final boolean closed) {
+        this.timeoutWheel = timeoutWheel;
         this.timeoutMillis = timeoutMillis;
-        this.shutdownExecutor = shutdownExecutor;
         this.closed = closed;
     }
 
     public void complete(final SignedResult result) {
-        if (closed) {
-            return;
-        }
         // Satisfy every pending non-advancing (peek) waiter and 1 advancing (consume) waiter,
         // since a single proxy result consumes exactly one message. Store the result only if no advancing
         // waiter consumed it (peekers/nobody were waiting), preserving the single-message decorate -> chat flow.
-        boolean consumedByAdvancing = false;
-        PendingResult pending;
-        while ((pending = unSyncronizedQueue.poll()) != null) {
-            if (!pending.complete(result)) {
-                continue;
+        final List<PendingResult> satisfied = new ArrayList<>(1);
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            boolean consumedByAdvancing = false;
+            PendingResult pending;
+            while ((pending = unSyncronizedQueue.poll()) != null) {
+                satisfied.add(pending);
+                if (pending.advance) {
+                    consumedByAdvancing = true;
+                    break;
+                }
             }
-            if (pending.advance()) {
-                consumedByAdvancing = true;
-                break;
+            if (!consumedByAdvancing) {
+                this.results.add(result);
             }
         }
-        if (!consumedByAdvancing) {
-            this.results.add(result);
+        for (final PendingResult pending : satisfied) {
+            pending.complete(result);
         }
     }
 
     public CompletableFuture<SignedResult> nextResult() {
-        if (closed) {
-            return CompletableFuture.completedFuture(SignedResult.allowed());
-        }
-        SignedResult result = results.poll();
-        return futureFrom(result);
+        return next(true);
     }
 
     public CompletableFuture<SignedResult> nextResultWithoutAdvance() {
-        if (closed) {
-            return CompletableFuture.completedFuture(SignedResult.allowed());
-        }
-        SignedResult result = results.peek();
-        if (result == null) {
-            return registerPendingResult(false);
-        } else {
-            return CompletableFuture.completedFuture(result);
-        }
+        return next(false);
     }
 
     public void acceptNextResult(final Consumer<SignedResult> consumer) {
@@ -98,53 +80,24 @@ public final class QueuedData implements AutoCloseable {
         consumer.accept(awaitResult(nextResultWithoutAdvance()));
     }
 
-    private CompletableFuture<SignedResult> futureFrom(@Nullable final SignedResult result) {
-        if (result == null) {
-            return registerPendingResult(true);
-        } else {
-            return CompletableFuture.completedFuture(result);
-        }
-    }
-
-    private CompletableFuture<SignedResult> registerPendingResult(final boolean advance) {
+    private CompletableFuture<SignedResult> next(final boolean advance) {
         if (closed) {
             return CompletableFuture.completedFuture(SignedResult.allowed());
         }
-        final CompletableFuture<SignedResult> future = new CompletableFuture<>();
-        final PendingResult pending = new PendingResult(future, advance);
-        unSyncronizedQueue.add(pending);
-        if (closed) {
-            if (unSyncronizedQueue.remove(pending)) {
-                pending.complete(SignedResult.allowed());
-            }
-            return future;
-        }
-
-        final SignedResult raced = results.poll();
-        if (raced != null) {
-            if (unSyncronizedQueue.remove(pending)) {
-                pending.complete(raced);
-                if (!advance) {
-                    results.add(raced);
-                }
-            } else {
-                results.add(raced);
+        final PendingResult pending;
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.completedFuture(SignedResult.allowed());
             }
-            return future;
-        }
-        try {
-            final ScheduledFuture<?> timeoutTask = timeoutExecutor.schedule(
-                    () -> pending.timeout(unSyncronizedQueue),
-                    timeoutMillis,
-                    TimeUnit.MILLISECONDS
-            );
-            pending.timeoutTask(timeoutTask);
-        } catch (RejectedExecutionException exception) {
-            if (unSyncronizedQueue.remove(pending)) {
-                pending.complete(SignedResult.allowed());
+            final SignedResult result = advance ? results.poll() : results.peek();
+            if (result != null) {
+                return CompletableFuture.completedFuture(result);
             }
+            pending = new PendingResult(advance);
+            unSyncronizedQueue.add(pending);
         }
-        return future;
+        pending.timeoutTask(timeoutWheel.schedule(pending::timeout, timeoutMillis));
+        return pending.future;
     }
 
     private SignedResult awaitResult(final CompletableFuture<SignedResult> future) {
@@ -159,22 +112,23 @@ public final class QueuedData implements AutoCloseable {
     }
 
     int pendingWaiters() {
-        return unSyncronizedQueue.size();
+        synchronized (lock) {
+            return unSyncronizedQueue.size();
+        }
     }
 
     @Override
     public void close() {
-        closed = true;
-        results.clear();
-
-        PendingResult pending;
-        while ((pending = unSyncronizedQueue.poll()) != null) {
+        final List<PendingResult> waiting;
+        synchronized (lock) {
+            closed = true;
+            results.clear();
+            waiting = new ArrayList<>(unSyncronizedQueue);
+            unSyncronizedQueue.clear();
+        }
+        for (final PendingResult pending : waiting) {
             pending.complete(SignedResult.allowed());
         }
-
-        if (shutdownExecutor && timeoutExecutor != null) {
-            timeoutExecutor.shutdownNow();
-        }
     }
 
     static QueuedData closedData() {
@@ -185,50 +139,38 @@ public final class QueuedData implements AutoCloseable {
         return timeout;
     }
 
-    static ScheduledExecutorService createTimeoutExecutor() {
-        return Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "SignedVelocity-Timeout");
-            t.setDaemon(true);
-            return t;
-        });
-    }
-
-    private static final class PendingResult {
-        private final CompletableFuture<SignedResult> future;
+    private final class PendingResult {
+        private final CompletableFuture<SignedResult> future = new CompletableFuture<>();
         private final boolean advance;
-        private volatile ScheduledFuture<?> timeoutTask;
+        private volatile TimeoutWheel.Timeout timeoutTask;
 
-        private PendingResult(final CompletableFuture<SignedResult> future, final boolean advance) {
-            this.future = future;
+        private PendingResult(final boolean advance) {
             this.advance = advance;
         }
 
-        private boolean advance() {
-            return advance;
-        }
-
-        private void timeoutTask(final ScheduledFuture<?> timeoutTask) {
+        private void timeoutTask(final TimeoutWheel.Timeout timeoutTask) {
             this.timeoutTask = timeoutTask;
             if (future.isDone()) {
-                timeoutTask.cancel(false);
+                timeoutTask.cancel();
             }
         }
 
-        private boolean complete(final SignedResult result) {
-            final boolean completed = future.complete(result);
-            if (completed) {
-                final ScheduledFuture<?> task = timeoutTask;
+        private void complete(final SignedResult result) {
+            if (future.complete(result)) {
+                final TimeoutWheel.Timeout task = timeoutTask;
                 if (task != null) {
-                    task.cancel(false);
+                    task.cancel();
                 }
             }
-            return completed;
         }
 
-        private void timeout(final Queue<PendingResult> queue) {
-            if (future.complete(SignedResult.allowed())) {
-                queue.remove(this);
+        private void timeout() {
+            synchronized (lock) {
+                if (!unSyncronizedQueue.remove(this)) {
+                    return;
+                }
             }
+            future.complete(SignedResult.allowed());
         }
     }
 }
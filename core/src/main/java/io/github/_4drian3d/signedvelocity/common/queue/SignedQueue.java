@@ -5,38 +5,44 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class SignedQueue implements AutoCloseable {
     private final Map<UUID, QueuedData> signedResults = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutWheel timeoutWheel;
     private final int timeoutMillis;
-    private final boolean shutdownExecutor;
-    private volatile boolean closed;
+    private final boolean closeWheel;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public SignedQueue() {
-        this(QueuedData.createTimeoutExecutor(), QueuedData.timeoutMillis(), true);
+        this(TimeoutWheel.started(TimeoutWheel.createSweepExecutor(), QueuedData.timeoutMillis(), true),
+                QueuedData.timeoutMillis(), true);
     }
 
-    SignedQueue(final ScheduledExecutorService timeoutExecutor, final int timeoutMillis) {
-        this(timeoutExecutor, timeoutMillis, false);
+    SignedQueue(final TimeoutWheel timeoutWheel, final int timeoutMillis) {
+        this(timeoutWheel, timeoutMillis, false);
     }
 
-    private SignedQueue(
-            final ScheduledExecutorService timeoutExecutor,
-            final int timeoutMillis,
-            final boolean shutdownExecutor
-    ) {
-        this.timeoutExecutor = timeoutExecutor;
+    private SignedQueue(final TimeoutWheel timeoutWheel, final int timeoutMillis, final boolean closeWheel) {
+        this.timeoutWheel = timeoutWheel;
         this.timeoutMillis = timeoutMillis;
-        this.shutdownExecutor = shutdownExecutor;
+        this.closeWheel = closeWheel;
     }
 
-    public synchronized @NotNull QueuedData dataFrom(final @NotNull UUID uuid) {
-        if (closed) {
+    public @NotNull QueuedData dataFrom(final @NotNull UUID uuid) {
+        if (closed.get()) {
             return QueuedData.closedData();
         }
-        return signedResults.computeIfAbsent(uuid, ignored -> new QueuedData(timeoutExecutor, timeoutMillis));
+        QueuedData data = signedResults.get(uuid);
+        if (data == null) {
+            data = signedResults.computeIfAbsent(uuid, ignored -> new QueuedData(timeoutWheel, timeoutMillis));
+            if (closed.get()) {
+                signedResults.remove(uuid, data);
+                data.close();
+                return QueuedData.closedData();
+            }
+        }
+        return data;
     }
 
     public void removeData(final UUID uuid) {
@@ -44,12 +50,14 @@ public final class SignedQueue implements AutoCloseable {
     }
 
     @Override
-    public synchronized void close() {
-        closed = true;
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         signedResults.values().forEach(QueuedData::close);
         signedResults.clear();
-        if (shutdownExecutor) {
-            timeoutExecutor.shutdownNow();
+        if (closeWheel) {
+            timeoutWheel.close();
         }
     }
 
@@ -0,0 +1,155 @@
+package io.github._4drian3d.signedvelocity.common.queue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+final class TimeoutWheel implements AutoCloseable {
+    static final int WHEEL_SIZE = 64;
+    private static final Object DEFAULT_LOCK = new Object();
+    private static volatile TimeoutWheel defaultWheel;
+
+    private final Queue<Timeout>[] slots;
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long lastSweptTick;
+    private volatile ScheduledFuture<?> sweepTask;
+    private volatile ScheduledExecutorService ownedExecutor;
+
+    @SuppressWarnings("unchecked")
+    TimeoutWheel(final long tickMillis, final LongSupplier clock) {
+        this.tickMillis = Math.max(1L, tickMillis);
+        this.clock = clock;
+        this.slots = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastSweptTick = currentTick();
+    }
+
+    static TimeoutWheel started(final ScheduledExecutorService executor, final int timeoutMillis, final boolean ownsExecutor) {
+        final TimeoutWheel wheel = new TimeoutWheel(tickFor(timeoutMillis), System::currentTimeMillis);
+        wheel.sweepTask = executor.scheduleAtFixedRate(wheel::sweep, wheel.tickMillis, wheel.tickMillis, TimeUnit.MILLISECONDS);
+        if (ownsExecutor) {
+            wheel.ownedExecutor = executor;
+        }
+        return wheel;
+    }
+
+    static TimeoutWheel defaultWheel() {
+        TimeoutWheel wheel = defaultWheel;
+        if (wheel == null) {
+            synchronized (DEFAULT_LOCK) {
+                wheel = defaultWheel;
+                if (wheel == null) {
+                    wheel = started(createSweepExecutor(), QueuedData.timeoutMillis(), false);
+                    defaultWheel = wheel;
+                }
+            }
+        }
+        return wheel;
+    }
+
+    static ScheduledExecutorService createSweepExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SignedVelocity-Timeout");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    static long tickFor(final int timeoutMillis) {
+        return Math.max(1L, timeoutMillis / 4L);
+    }
+
+    Timeout schedule(final Runnable task, final long delayMillis) {
+        final long deadlineTick = Math.max(
+                currentTick() + (Math.max(0L, delayMillis) + tickMillis - 1) / tickMillis,
+                lastSweptTick + 1
+        );
+        final Timeout timeout = new Timeout(task, deadlineTick);
+        pending.incrementAndGet();
+        slots[(int) (deadlineTick % WHEEL_SIZE)].add(timeout);
+        return timeout;
+    }
+
+    void sweep() {
+        final long nowTick = currentTick();
+        if (pending.get() == 0) {
+            lastSweptTick = nowTick;
+            return;
+        }
+        final long from = Math.max(lastSweptTick + 1, nowTick - WHEEL_SIZE + 1);
+        for (long tick = from; tick <= nowTick; tick++) {
+            lastSweptTick = tick;
+            final Queue<Timeout> slot = slots[(int) (tick % WHEEL_SIZE)];
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                final Timeout timeout = slot.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.state.get() != Timeout.PENDING) {
+                    pending.decrementAndGet();
+                } else if (timeout.deadlineTick <= nowTick) {
+                    pending.decrementAndGet();
+                    timeout.fire();
+                } else {
+                    slot.add(timeout);
+                }
+            }
+        }
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    private long currentTick() {
+        return clock.getAsLong() / tickMillis;
+    }
+
+    @Override
+    public void close() {
+        final ScheduledFuture<?> task = sweepTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+        final ScheduledExecutorService executor = ownedExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    static final class Timeout {
+        private static final int PENDING = 0, CANCELLED = 1, FIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Timeout(final Runnable task, final long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void fire() {
+            if (state.compareAndSet(PENDING, FIRED)) {
+                task.run();
+            }
+        }
+    }
+}
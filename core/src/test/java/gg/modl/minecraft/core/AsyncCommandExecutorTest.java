@@ -0,0 +1,96 @@
+package gg.modl.minecraft.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncCommandExecutorTest {
+    private final ExecutorService runner = Executors.newCachedThreadPool();
+    private final AsyncCommandExecutor executor = new AsyncCommandExecutor(runner, 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void busyIssuerDoesNotStarveOthers() throws Exception {
+        UUID spammer = UUID.randomUUID(), other = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+        for (int i = 0; i < AsyncCommandExecutor.PER_ISSUER_QUEUE; i++) executor.execute(spammer, () -> await(release));
+
+        executor.execute(other, otherRan::countDown);
+
+        assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void perIssuerConcurrencyIsCapped() throws Exception {
+        UUID issuer = UUID.randomUUID();
+        AtomicInteger concurrent = new AtomicInteger(), peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(issuer, () -> {
+                peak.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                sleep(20);
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(AsyncCommandExecutor.PER_ISSUER_CONCURRENCY, peak.get());
+    }
+
+    @Test
+    void overflowingIssuerOnlyDropsItsOwnCommands() throws Exception {
+        UUID spammer = UUID.randomUUID(), other = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> ran = new CopyOnWriteArrayList<>();
+        executor.execute(spammer, () -> await(release));
+        for (int i = 0; i < AsyncCommandExecutor.PER_ISSUER_QUEUE + 3; i++) executor.execute(spammer, () -> ran.add("spammer"));
+        CountDownLatch otherRan = new CountDownLatch(1);
+        executor.execute(other, () -> {
+            ran.add("other");
+            otherRan.countDown();
+        });
+
+        assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.queuedCount() > 0 || executor.runningCount() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            sleep(5);
+        }
+        assertEquals(AsyncCommandExecutor.PER_ISSUER_QUEUE + 1, ran.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
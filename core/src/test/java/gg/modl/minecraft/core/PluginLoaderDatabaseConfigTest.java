@@ -76,6 +76,23 @@ class PluginLoaderDatabaseConfigTest {
         assertEquals("real_db", config.getDatabase());
         assertEquals(3307, config.getPort());
         assertEquals("lb_", config.getTablePrefix());
+        assertEquals(2, config.getPoolSize());
+        assertEquals(500, config.getFetchSize());
+        assertEquals(32, config.getStatementCacheSize());
+    }
+
+    @Test
+    void loadLiteBansFetchSize_readsValueEvenWithPlaceholderCredentials() {
+        Map<String, Object> database = new LinkedHashMap<>();
+        database.put("host", PluginConfiguration.LITEBANS_HOST_PLACEHOLDER);
+        database.put("username", PluginConfiguration.LITEBANS_USERNAME_PLACEHOLDER);
+        database.put("password", PluginConfiguration.LITEBANS_PASSWORD_PLACEHOLDER);
+        database.put("fetch_size", 2000);
+
+        assertNull(PluginConfiguration.loadDatabaseConfig(buildConfig(database), tempDir, logger));
+        assertEquals(2000, PluginConfiguration.loadLiteBansFetchSize(buildConfig(database), logger));
+        assertEquals(PluginConfiguration.DEFAULT_LITEBANS_FETCH_SIZE,
+                PluginConfiguration.loadLiteBansFetchSize(new HashMap<>(), logger));
     }
 
     private static Map<String, Object> buildConfig(Map<String, Object> database) {
@@ -0,0 +1,64 @@
+package gg.modl.minecraft.core.boot;
+
+import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
+import gg.modl.minecraft.api.http.response.StaffPermissionsResponse;
+import gg.modl.minecraft.core.support.RecordingPluginLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BootstrapSnapshotTest {
+    private static final String PANEL_URL = "https://test.modl.gg";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripsPunishmentTypesAndStaff() {
+        BootstrapSnapshot snapshot = new BootstrapSnapshot(tempDir, PANEL_URL, new RecordingPluginLogger());
+        snapshot.savePunishmentTypes(Collections.singletonList(new PunishmentTypesResponse.PunishmentTypeData(
+                "Chat Abuse", "MUTE", null, null, null, null, null, false, false, false, false, false, 8, 8, true)));
+        snapshot.saveStaff(Collections.singletonList(new StaffPermissionsResponse.StaffMember(
+                "c9f2a3c1-3f8b-4a52-9b1e-2d6f5e0a7b11", "Steve", "steve", "staff-1", "Moderator", null,
+                Arrays.asList("punishment.apply.chat-abuse", "admin.reports.view"))));
+
+        BootstrapSnapshot restored = new BootstrapSnapshot(tempDir, PANEL_URL, new RecordingPluginLogger());
+
+        assertTrue(restored.load());
+        assertEquals("Chat Abuse", restored.getPunishmentTypes().get(0).getName());
+        assertEquals(8, restored.getPunishmentTypes().get(0).getOrdinal());
+        assertEquals("Moderator", restored.getStaff().get(0).getStaffRole());
+        assertEquals(2, restored.getStaff().get(0).getPermissions().size());
+        assertTrue(restored.getSavedAt() > 0);
+    }
+
+    @Test
+    void ignoresSnapshotFromAnotherPanel() {
+        new BootstrapSnapshot(tempDir, PANEL_URL, new RecordingPluginLogger())
+                .saveStaff(Collections.<StaffPermissionsResponse.StaffMember>emptyList());
+
+        BootstrapSnapshot other = new BootstrapSnapshot(tempDir, "https://other.modl.gg", new RecordingPluginLogger());
+
+        assertFalse(other.load());
+        assertNull(other.getStaff());
+    }
+
+    @Test
+    void ignoresCorruptSnapshot() throws Exception {
+        Files.write(tempDir.resolve(BootstrapSnapshot.FILE_NAME), "{not json".getBytes(StandardCharsets.UTF_8));
+        RecordingPluginLogger logger = new RecordingPluginLogger();
+
+        assertFalse(new BootstrapSnapshot(tempDir, PANEL_URL, logger).load());
+        assertEquals(1, logger.warnings().size());
+    }
+}
@@ -0,0 +1,81 @@
+package gg.modl.minecraft.core.boot;
+
+import gg.modl.minecraft.core.support.RecordingPluginLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupGraphTest {
+    private final RecordingPluginLogger logger = new RecordingPluginLogger();
+
+    @Test
+    void independentStepsRunConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable awaitPeer = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        new StartupGraph(logger, false)
+                .step("first", awaitPeer)
+                .step("second", awaitPeer)
+                .run().get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, bothStarted.getCount());
+        assertTrue(logger.warnings().isEmpty());
+    }
+
+    @Test
+    void dependentsWaitForTheirDependencies() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> slow = new CompletableFuture<>();
+
+        CompletableFuture<Void> done = new StartupGraph(logger, false)
+                .asyncStep("types", () -> slow.thenRun(() -> order.add("types")))
+                .step("menus", () -> order.add("menus"), "types")
+                .run();
+        Thread.sleep(50);
+        assertTrue(order.isEmpty());
+        slow.complete(null);
+        done.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, order.size());
+        assertEquals("types", order.get(0));
+    }
+
+    @Test
+    void failedStepSkipsDependentsButNotOthers() throws Exception {
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        new StartupGraph(logger, false)
+                .step("broken", () -> {
+                    throw new IllegalStateException("panel down");
+                })
+                .step("dependent", () -> ran.add("dependent"), "broken")
+                .step("independent", () -> ran.add("independent"))
+                .run().get(5, TimeUnit.SECONDS);
+
+        assertFalse(ran.contains("dependent"));
+        assertTrue(ran.contains("independent"));
+        assertEquals(1, logger.warnings().size());
+    }
+
+    @Test
+    void rejectsUndeclaredDependencies() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StartupGraph(logger, false).step("menus", () -> {}, "types"));
+    }
+}
@@ -0,0 +1,91 @@
+package gg.modl.minecraft.core.cache;
+
+import gg.modl.minecraft.api.http.response.SyncResponse;
+import gg.modl.minecraft.core.util.PluginLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PendingNotificationStoreTest {
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final PluginLogger LOGGER = PluginLogger.fromJul(Logger.getLogger("pending-notification-test"));
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keepsInsertionOrderAndIgnoresDuplicates() {
+        PendingNotificationStore store = new PendingNotificationStore(now::get);
+
+        assertTrue(store.add(PLAYER, notification("b")));
+        assertTrue(store.add(PLAYER, notification("a")));
+        assertFalse(store.add(PLAYER, notification("b")));
+        assertTrue(store.remove(PLAYER, "b"));
+
+        assertEquals(Collections.singletonList("a"), ids(store.pending(PLAYER)));
+    }
+
+    @Test
+    void sweepDropsOnlyExpiredEntries() {
+        PendingNotificationStore store = new PendingNotificationStore(now::get);
+        store.add(PLAYER, notification("old"));
+        now.addAndGet(60_000L);
+        store.add(PLAYER, notification("new"));
+
+        now.addAndGet(PendingNotification.NOTIFICATION_EXPIRY_MS - 30_000L);
+        store.sweepExpired();
+
+        assertEquals(Collections.singletonList("new"), ids(store.pending(PLAYER)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void deliveredIdsAreNotQueuedAgainAcrossRestarts() {
+        PendingNotificationStore store = new PendingNotificationStore(now::get);
+        store.persistTo(tempDir, LOGGER);
+        store.add(PLAYER, notification("shown"));
+        store.add(PLAYER, notification("waiting"));
+        store.markDelivered(PLAYER, Collections.singletonList("shown"));
+        store.flush();
+
+        PendingNotificationStore restarted = new PendingNotificationStore(now::get);
+        assertEquals(1, restarted.persistTo(tempDir, LOGGER));
+
+        assertFalse(restarted.add(PLAYER, notification("shown")));
+        assertEquals(Arrays.asList("waiting"), ids(restarted.pending(PLAYER)));
+    }
+
+    @Test
+    void wasDeliveredHoldsForTheExpiryWindow() {
+        PendingNotificationStore store = new PendingNotificationStore(now::get);
+        store.markDelivered(PLAYER, Collections.singletonList("shown"));
+
+        assertTrue(store.wasDelivered(PLAYER, "shown"));
+        assertFalse(store.wasDelivered(PLAYER, "other"));
+
+        now.addAndGet(PendingNotification.NOTIFICATION_EXPIRY_MS + 1);
+        assertFalse(store.wasDelivered(PLAYER, "shown"));
+    }
+
+    private static SyncResponse.PlayerNotification notification(String id) {
+        return new SyncResponse.PlayerNotification(id, "message " + id, "TICKET_REPLY", PLAYER.toString(), null, null);
+    }
+
+    private static List<String> ids(List<PendingNotification> notifications) {
+        return notifications.stream().map(PendingNotification::getId).collect(Collectors.toList());
+    }
+}
@@ -22,4 +22,11 @@ class PlayerQuerySuggestionsTest {
 
         assertEquals(Arrays.asList("Alpha", "bravo", "zulu"), PlayerQuerySuggestions.onlinePlayerNames(players));
     }
+
+    @Test
+    void currentTokenIsTextAfterLastSpace() {
+        assertEquals("", PlayerQuerySuggestions.currentToken("ban "));
+        assertEquals("Al", PlayerQuerySuggestions.currentToken("ban Al"));
+        assertEquals("", PlayerQuerySuggestions.currentToken(null));
+    }
 }
@@ -0,0 +1,80 @@
+package gg.modl.minecraft.core.command;
+
+import gg.modl.minecraft.core.AsyncCommandExecutor;
+import gg.modl.minecraft.core.support.FakeCommandActor;
+import gg.modl.minecraft.core.support.FakePlatform;
+import gg.modl.minecraft.core.support.MapLocaleManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolvedArgumentTest {
+    private final UUID issuer = UUID.randomUUID();
+    private final FakeCommandActor actor = new FakeCommandActor(issuer, "ModlStaff");
+    private final FakePlatform platform = new FakePlatform().autoRunMainThread(false);
+    private final MapLocaleManager localeManager = new MapLocaleManager().put("general.player_not_found", "not found");
+    private final AsyncCommandExecutor executor = new AsyncCommandExecutor();
+    private final List<String> resolved = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void pendingArgumentFromMainThreadCommandContinuesOnMainThread() {
+        CompletableFuture<String> argument = new CompletableFuture<>();
+        ResolvedArgument.whenResolved(actor, argument, platform, executor, localeManager, resolved::add);
+
+        argument.complete("Target");
+
+        assertTrue(resolved.isEmpty());
+        assertEquals(1, platform.mainThreadScheduleCount());
+        platform.runScheduledTasks();
+        assertEquals(1, resolved.size());
+    }
+
+    @Test
+    void pendingArgumentFromFullLaneIsStillDelivered() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(issuer, () -> {
+            CompletableFuture<String> argument = new CompletableFuture<>();
+            ResolvedArgument.whenResolved(actor, argument, platform, executor, localeManager, value -> {
+                resolved.add(value);
+                done.countDown();
+            });
+            for (int i = 0; i < 8; i++) executor.execute(issuer, () -> {});
+            argument.complete("Target");
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, platform.mainThreadScheduleCount());
+    }
+
+    @Test
+    void rejectedLaneContinuationFallsBackToMainThread() throws Exception {
+        CompletableFuture<String> argument = new CompletableFuture<>();
+        CountDownLatch registered = new CountDownLatch(1);
+        executor.execute(issuer, () -> {
+            ResolvedArgument.whenResolved(actor, argument, platform, executor, localeManager, resolved::add);
+            registered.countDown();
+        });
+        assertTrue(registered.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        argument.complete("Target");
+
+        assertEquals(1, platform.mainThreadScheduleCount());
+        platform.runScheduledTasks();
+        assertEquals(1, resolved.size());
+    }
+}
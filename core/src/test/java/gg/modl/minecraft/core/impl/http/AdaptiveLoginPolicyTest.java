@@ -0,0 +1,96 @@
+package gg.modl.minecraft.core.impl.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveLoginPolicyTest {
+    private static final Duration MAX_TIMEOUT = Duration.ofSeconds(15);
+    private final ScheduledExecutorService hedgeScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdownScheduler() {
+        hedgeScheduler.shutdownNow();
+    }
+
+    @Test
+    void usesMaxTimeoutUntilEnoughSamples() {
+        AdaptiveLoginPolicy policy = new AdaptiveLoginPolicy(MAX_TIMEOUT, true, hedgeScheduler);
+        for (int i = 0; i < AdaptiveLoginPolicy.MIN_SAMPLES - 1; i++) policy.record(100);
+
+        assertEquals(MAX_TIMEOUT, policy.currentTimeout());
+        assertEquals(-1, policy.hedgeDelayMillis());
+    }
+
+    @Test
+    void timeoutTracksObservedLatencyWithinBounds() {
+        AdaptiveLoginPolicy fast = new AdaptiveLoginPolicy(MAX_TIMEOUT, false, hedgeScheduler);
+        AdaptiveLoginPolicy slow = new AdaptiveLoginPolicy(MAX_TIMEOUT, false, hedgeScheduler);
+        AdaptiveLoginPolicy moderate = new AdaptiveLoginPolicy(MAX_TIMEOUT, false, hedgeScheduler);
+        for (int i = 0; i < 100; i++) {
+            fast.record(50);
+            slow.record(9_000);
+            moderate.record(1_000);
+        }
+
+        assertEquals(Duration.ofMillis(AdaptiveLoginPolicy.MIN_TIMEOUT_MS), fast.currentTimeout());
+        assertEquals(MAX_TIMEOUT, slow.currentTimeout());
+        assertEquals(Duration.ofMillis(3_000), moderate.currentTimeout());
+        assertEquals(-1, fast.hedgeDelayMillis());
+    }
+
+    @Test
+    void hedgedAttemptWinsWhenPrimaryStalls() throws Exception {
+        AdaptiveLoginPolicy policy = new AdaptiveLoginPolicy(MAX_TIMEOUT, true, hedgeScheduler);
+        for (int i = 0; i < AdaptiveLoginPolicy.MIN_SAMPLES; i++) policy.record(10);
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = policy.run(timeout -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            attempts.add(attempt);
+            if (attempts.size() == 2) attempt.complete("hedge");
+            return attempt;
+        });
+
+        assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+    }
+
+    @Test
+    void stillRunsPrimaryAttemptAfterSchedulerShutdown() throws Exception {
+        AdaptiveLoginPolicy policy = new AdaptiveLoginPolicy(MAX_TIMEOUT, true, hedgeScheduler);
+        for (int i = 0; i < AdaptiveLoginPolicy.MIN_SAMPLES; i++) policy.record(10);
+        hedgeScheduler.shutdownNow();
+
+        CompletableFuture<String> result = policy.run(timeout -> CompletableFuture.completedFuture("primary"));
+
+        assertEquals("primary", result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failsWithFirstErrorOnlyWhenEveryAttemptFails() {
+        AdaptiveLoginPolicy policy = new AdaptiveLoginPolicy(MAX_TIMEOUT, false, hedgeScheduler);
+        IllegalStateException failure = new IllegalStateException("panel down");
+
+        CompletableFuture<String> result = policy.run(timeout -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            attempt.completeExceptionally(failure);
+            return attempt;
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertSame(failure, error.getCause());
+    }
+}
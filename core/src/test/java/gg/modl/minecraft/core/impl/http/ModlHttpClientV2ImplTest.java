@@ -2,23 +2,31 @@ package gg.modl.minecraft.core.impl.http;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpServer;
 import gg.modl.minecraft.api.http.ChatLogEntry;
 import gg.modl.minecraft.api.http.CommandLogEntry;
 import gg.modl.minecraft.api.http.request.SyncRequest;
 import gg.modl.minecraft.api.http.PanelUnavailableException;
+import gg.modl.minecraft.api.http.response.ChatLogsResponse;
 import gg.modl.minecraft.api.http.response.PlayerProfileResponse;
 import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
 import gg.modl.minecraft.api.http.response.ReportsResponse;
 import gg.modl.minecraft.api.http.response.TicketsResponse;
+import gg.modl.minecraft.core.util.CircuitBreaker;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ModlHttpClientV2ImplTest {
@@ -138,6 +146,36 @@ class ModlHttpClientV2ImplTest {
         assertTrue(captured[0] instanceof PanelUnavailableException);
     }
 
+    @Test
+    void streamingDecodeFailureReopensHalfOpenBreaker() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "{\"entries\":[{\"message\":".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            ModlHttpClientV2Impl client = new ModlHttpClientV2Impl(
+                    "http://127.0.0.1:" + server.getAddress().getPort(), "api-key", "example.com", false);
+            CircuitBreaker breaker = new CircuitBreaker(2, 0, 60_000);
+            Field field = findField(ModlHttpClientV2Impl.class, "backgroundCircuitBreaker");
+            field.setAccessible(true);
+            field.set(client, breaker);
+            breaker.recordFailure();
+            breaker.recordFailure();
+
+            CompletableFuture<ChatLogsResponse> future = client.getChatLogs(UUID.randomUUID().toString(), 10);
+
+            assertThrows(CompletionException.class, future::join);
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+            client.shutdown();
+        } finally {
+            server.stop(0);
+        }
+    }
+
     private Gson extractGson() throws Exception {
         ModlHttpClientV2Impl client = new ModlHttpClientV2Impl("http://localhost", "api-key", "example.com", false);
         Field field = findField(ModlHttpClientV2Impl.class, "gson");
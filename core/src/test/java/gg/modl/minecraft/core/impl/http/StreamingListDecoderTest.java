@@ -0,0 +1,71 @@
+package gg.modl.minecraft.core.impl.http;
+
+import com.google.gson.Gson;
+import gg.modl.minecraft.api.Note;
+import gg.modl.minecraft.api.http.response.PaginatedNotesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingListDecoderTest {
+    private static final String BODY = "{"
+            + "\"status\":200,"
+            + "\"meta\":{\"ignored\":[1,2,3]},"
+            + "\"notes\":[{\"text\":\"one\"},{\"text\":\"two\"},{\"text\":\"three\"}],"
+            + "\"totalCount\":3,"
+            + "\"page\":1,"
+            + "\"hasMore\":true"
+            + "}";
+
+    @Test
+    void decodesListAndEnvelopeFieldsInAnyOrder() throws IOException {
+        StreamingListDecoder.Result<PaginatedNotesResponse> result = decoder(10).decode(stream(BODY));
+
+        PaginatedNotesResponse response = result.value;
+        assertEquals(0, result.dropped);
+        assertEquals(3, response.getNotes().size());
+        assertEquals("two", response.getNotes().get(1).getText());
+        assertEquals(200, response.getStatus());
+        assertEquals(3, response.getTotalCount());
+        assertEquals(1, response.getPage());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void capsDecodedElementsAndCountsTheRest() throws IOException {
+        StreamingListDecoder.Result<PaginatedNotesResponse> result = decoder(2).decode(stream(BODY));
+
+        assertEquals(2, result.value.getNotes().size());
+        assertEquals(1, result.dropped);
+        assertEquals(3, result.value.getTotalCount());
+    }
+
+    @Test
+    void missingListDecodesToEmpty() throws IOException {
+        StreamingListDecoder.Result<PaginatedNotesResponse> result = decoder(10).decode(stream("{\"status\":404}"));
+
+        assertTrue(result.value.getNotes().isEmpty());
+        assertEquals(404, result.value.getStatus());
+    }
+
+    @Test
+    void nonObjectBodyDecodesToNull() throws IOException {
+        assertNull(decoder(10).decode(stream("null")).value);
+    }
+
+    private static StreamingListDecoder<Note, PaginatedNotesResponse> decoder(int maxElements) {
+        return new StreamingListDecoder<>(new Gson(), "notes", Note.class, maxElements,
+                (envelope, items) -> new PaginatedNotesResponse(items, envelope.getInt("totalCount", 0),
+                        envelope.getInt("page", 0), envelope.getBoolean("hasMore"), envelope.getInt("status", 0)));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
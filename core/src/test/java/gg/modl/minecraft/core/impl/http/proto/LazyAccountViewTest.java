@@ -0,0 +1,62 @@
+package gg.modl.minecraft.core.impl.http.proto;
+
+import gg.modl.minecraft.api.Account;
+import gg.modl.minecraft.api.http.response.PlayerNameResponse;
+import gg.modl.minecraft.core.impl.http.proto.PlayerProtoMapper.AccountMapping;
+import gg.modl.proto.modl.v1.NoteEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyAccountViewTest {
+    private static final UUID TARGET = UUID.fromString("123e4567-e89b-12d3-a456-426614174222");
+
+    private final gg.modl.proto.modl.v1.Account proto = gg.modl.proto.modl.v1.Account.newBuilder()
+            .setId("player-1")
+            .setMinecraftUuid(TARGET.toString())
+            .addNotes(NoteEntry.newBuilder().setText("watch chat").setIssuerName("Staff").build())
+            .build();
+
+    @Test
+    void lazyViewMatchesEagerMapping() {
+        Account eager = PlayerProtoMapper.toPlayerNameResponse(response(), AccountMapping.EAGER).getPlayer();
+        Account lazy = PlayerProtoMapper.toPlayerNameResponse(response(), AccountMapping.LAZY).getPlayer();
+
+        assertInstanceOf(LazyAccountView.class, lazy);
+        assertEquals(eager.getId(), lazy.getId());
+        assertEquals(eager.getMinecraftUuid(), lazy.getMinecraftUuid());
+        assertEquals(eager.getNotes().size(), lazy.getNotes().size());
+        assertEquals("watch chat", lazy.getNotes().get(0).getText());
+        assertTrue(lazy.getIpList().isEmpty());
+        assertTrue(lazy.getPunishments().isEmpty());
+        assertTrue(lazy.getData().isEmpty());
+    }
+
+    @Test
+    void nestedListsAreMaterializedOnce() {
+        LazyAccountView view = new LazyAccountView(proto);
+
+        assertSame(view.getNotes(), view.getNotes());
+        assertSame(view.getUsernames(), view.getUsernames());
+    }
+
+    @Test
+    void invalidUuidMapsToNull() {
+        LazyAccountView view = new LazyAccountView(proto.toBuilder().setMinecraftUuid("not-a-uuid").build());
+
+        assertNull(view.getMinecraftUuid());
+    }
+
+    private gg.modl.proto.modl.v1.PlayerNameResponse response() {
+        return gg.modl.proto.modl.v1.PlayerNameResponse.newBuilder()
+                .setStatus(200)
+                .setPlayer(proto)
+                .build();
+    }
+}
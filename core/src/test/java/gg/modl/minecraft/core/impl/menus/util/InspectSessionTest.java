@@ -0,0 +1,135 @@
+package gg.modl.minecraft.core.impl.menus.util;
+
+import gg.modl.minecraft.api.Punishment;
+import gg.modl.minecraft.api.http.ModlHttpClient;
+import gg.modl.minecraft.api.http.response.LinkedAccountsResponse;
+import gg.modl.minecraft.api.http.response.PaginatedNotesResponse;
+import gg.modl.minecraft.api.http.response.PaginatedPunishmentsResponse;
+import gg.modl.minecraft.api.http.response.PlayerProfileResponse;
+import gg.modl.minecraft.api.http.response.PunishmentTypesResponse;
+import gg.modl.minecraft.api.http.response.ReportsResponse;
+import gg.modl.minecraft.core.cache.Cache;
+import gg.modl.minecraft.core.cache.CachedProfileRegistry;
+import gg.modl.minecraft.core.impl.menus.inspect.HistoryMenu;
+import gg.modl.minecraft.core.impl.menus.inspect.ReportsMenu;
+import gg.modl.minecraft.core.support.FakeModlHttpClient;
+import gg.modl.minecraft.core.support.FakePlatform;
+import gg.modl.minecraft.core.support.TestAccounts;
+import gg.modl.minecraft.core.support.TestPluginServices;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InspectSessionTest {
+    private static final UUID VIEWER = UUID.fromString("123e4567-e89b-12d3-a456-426614174111");
+    private static final UUID TARGET = UUID.fromString("123e4567-e89b-12d3-a456-426614174222");
+
+    private final List<String> requests = new ArrayList<>();
+    private final CompletableFuture<PaginatedPunishmentsResponse> punishments = new CompletableFuture<>();
+    private final CompletableFuture<ReportsResponse> reports = new CompletableFuture<>();
+
+    @Test
+    void firesListRequestsWithoutWaitingForProfile() {
+        CompletableFuture<PlayerProfileResponse> profile = new CompletableFuture<>();
+
+        InspectSession session = InspectSession.open(httpClient(), TARGET, profile);
+
+        assertFalse(session.getProfile().isDone());
+        assertEquals(4, requests.size());
+        assertTrue(requests.contains("punishments:1:" + InspectSession.PAGE_SIZE * InspectSession.PREFETCHED_PAGES));
+        assertTrue(requests.contains("notes:1:" + InspectSession.PAGE_SIZE * InspectSession.PREFETCHED_PAGES));
+        assertTrue(requests.contains("alts:1:" + InspectSession.PAGE_SIZE * InspectSession.PREFETCHED_PAGES));
+        assertTrue(requests.contains("reports:all"));
+    }
+
+    @Test
+    void failedRequestResolvesToNull() {
+        InspectSession session = InspectSession.open(new FakeModlHttpClient(), TARGET,
+                CompletableFuture.completedFuture(TestAccounts.profileResponse(TARGET, "modltarget")));
+
+        assertNull(session.notes().join());
+        assertNull(session.punishments().join());
+        assertNull(session.getLinkedAccounts().join());
+        assertNull(session.reports().join());
+    }
+
+    @Test
+    void historyMenuReusesSessionPunishments() {
+        TestPluginServices.install(new Cache(new CachedProfileRegistry()));
+        ModlHttpClient httpClient = httpClient();
+        InspectSession session = InspectSession.open(httpClient, TARGET,
+                CompletableFuture.completedFuture(TestAccounts.profileResponse(TARGET, "modltarget")));
+        InspectContext context = new InspectContext(TestAccounts.account(TARGET, "modltarget"), 9, 0, session);
+
+        HistoryMenu first = new HistoryMenu(new FakePlatform(), httpClient, VIEWER, "Staff", context.account(), null, context);
+        HistoryMenu second = new HistoryMenu(new FakePlatform(), httpClient, VIEWER, "Staff", context.account(), null, context);
+        assertFalse(first.getDataFuture().isDone());
+
+        punishments.complete(new PaginatedPunishmentsResponse(Collections.nCopies(9, new Punishment()), 9, 1, false, 200));
+
+        assertTrue(first.getDataFuture().isDone());
+        assertTrue(second.getDataFuture().isDone());
+        assertEquals(1, requests.stream().filter(request -> request.startsWith("punishments")).count());
+    }
+
+    @Test
+    void reportsMenuReusesSessionReports() {
+        TestPluginServices.install(new Cache(new CachedProfileRegistry()));
+        ModlHttpClient httpClient = httpClient();
+        InspectSession session = InspectSession.open(httpClient, TARGET,
+                CompletableFuture.completedFuture(TestAccounts.profileResponse(TARGET, "modltarget")));
+        InspectContext context = new InspectContext(TestAccounts.account(TARGET, "modltarget"), 0, 0, session);
+
+        ReportsMenu first = new ReportsMenu(new FakePlatform(), httpClient, VIEWER, "Staff", context.account(), null, context);
+        ReportsMenu second = new ReportsMenu(new FakePlatform(), httpClient, VIEWER, "Staff", context.account(), null, context);
+        assertFalse(first.getDataFuture().isDone());
+
+        reports.complete(new ReportsResponse(Collections.emptyList(), 200));
+
+        assertTrue(first.getDataFuture().isDone());
+        assertTrue(second.getDataFuture().isDone());
+        assertEquals(1, requests.stream().filter(request -> request.startsWith("reports")).count());
+    }
+
+    private ModlHttpClient httpClient() {
+        return new FakeModlHttpClient() {
+            @Override
+            public CompletableFuture<PaginatedPunishmentsResponse> getPlayerPunishments(UUID uuid, int page, int limit) {
+                requests.add("punishments:" + page + ":" + limit);
+                return punishments;
+            }
+
+            @Override
+            public CompletableFuture<PaginatedNotesResponse> getPlayerNotes(UUID uuid, int page, int limit) {
+                requests.add("notes:" + page + ":" + limit);
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public CompletableFuture<LinkedAccountsResponse> getLinkedAccounts(UUID uuid, int page, int limit) {
+                requests.add("alts:" + page + ":" + limit);
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public CompletableFuture<ReportsResponse> getPlayerReports(UUID playerUuid, String status) {
+                requests.add("reports:" + status);
+                return reports;
+            }
+
+            @Override
+            public CompletableFuture<PunishmentTypesResponse> getPunishmentTypes() {
+                return CompletableFuture.completedFuture(new PunishmentTypesResponse(Collections.emptyList(), 200));
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package gg.modl.minecraft.core.impl.menus.util;
+
+import gg.modl.minecraft.api.http.response.ReportsResponse;
+import gg.modl.minecraft.core.impl.menus.util.MenuDataCache.Endpoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MenuDataCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final MenuDataCache cache = new MenuDataCache(now::get);
+
+    @Test
+    void concurrentMissesShareOneRequest() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.get(Endpoint.REPORTS, "open", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = cache.get(Endpoint.REPORTS, "open", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        pending.complete("reports");
+
+        assertEquals(1, loads.get());
+        assertEquals("reports", first.join());
+        assertEquals("reports", second.join());
+    }
+
+    @Test
+    void paramsAreSeparateKeys() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Endpoint.REPORTS, "open", () -> completed(loads, "open"));
+        cache.get(Endpoint.REPORTS, "all", () -> completed(loads, "all"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void freshEntriesAreServedWithoutRefreshing() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "v1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(4));
+        CompletableFuture<String> result = cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "v2"));
+
+        assertEquals("v1", result.join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void staleEntriesAreServedWhileRevalidating() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "v1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(10));
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        CompletableFuture<String> stale = cache.get(Endpoint.ONLINE_PLAYERS, () -> {
+            loads.incrementAndGet();
+            return refresh;
+        });
+        CompletableFuture<String> stillStale = cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "unused"));
+
+        assertEquals("v1", stale.join());
+        assertEquals("v1", stillStale.join());
+        assertEquals(2, loads.get());
+
+        refresh.complete("v2");
+        assertEquals("v2", cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "unused")).join());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void expiredEntriesWaitForAFreshLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(Endpoint.ONLINE_PLAYERS, () -> completed(loads, "v1"));
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> result = cache.get(Endpoint.ONLINE_PLAYERS, () -> pending);
+
+        assertFalse(result.isDone());
+        pending.complete("v2");
+        assertEquals("v2", result.join());
+    }
+
+    @Test
+    void invalidationDropsEntriesAndIgnoresInFlightResults() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+        cache.get(Endpoint.REPORTS, "open", () -> inFlight);
+
+        cache.invalidate(Endpoint.REPORTS);
+        inFlight.complete("before-invalidation");
+
+        assertEquals("after", cache.get(Endpoint.REPORTS, "open", () -> completed(loads, "after")).join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void unsuccessfulResponsesAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        ReportsResponse forbidden = new ReportsResponse(Collections.emptyList(), 403);
+        ReportsResponse ok = new ReportsResponse(Collections.emptyList(), 200);
+
+        assertSame(forbidden, cache.get(Endpoint.REPORTS, "all", () -> completed(loads, forbidden)).join());
+        assertSame(ok, cache.get(Endpoint.REPORTS, "all", () -> completed(loads, ok)).join());
+        assertSame(ok, cache.get(Endpoint.REPORTS, "all", () -> completed(loads, forbidden)).join());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failedLoadsPropagateAndAreRetried() {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("panel down"));
+
+        assertTrue(cache.get(Endpoint.TICKETS, () -> failed).isCompletedExceptionally());
+        assertEquals("ok", cache.get(Endpoint.TICKETS, () -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    private static <T> CompletableFuture<T> completed(AtomicInteger loads, T value) {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture(value);
+    }
+}
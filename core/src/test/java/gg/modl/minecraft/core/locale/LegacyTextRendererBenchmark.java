@@ -0,0 +1,42 @@
+package gg.modl.minecraft.core.locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+@Tag("benchmark")
+class LegacyTextRendererBenchmark {
+    private static final int WARMUP_ROUNDS = 20_000, MEASURED_ROUNDS = 200_000;
+    private static final String[] MESSAGES = {
+            "&7[&cStaff&7] &fNotch &7switched to &bsurvival-1",
+            "<red>You are muted for <white>2 days</white>. Reason: <gray>Spam</gray></red>",
+            "<gradient:#ff0000:#00ff00>modl</gradient> <#55ff55>Punishment issued by <bold>Console</bold>",
+            "&cYou have been banned from this server.\n&7Appeal at &fhttps://example.modl.gg/appeal",
+            "Plain message without any formatting at all, long enough to matter"
+    };
+
+    @Test
+    void compareRegexTokenizedAndCachedRendering() {
+        report("regex", RegexLegacyTextRenderer::colorize);
+        report("tokenized", LegacyTextRenderer::render);
+        report("cached", LegacyTextRenderer::colorize);
+    }
+
+    private static void report(String name, UnaryOperator<String> renderer) {
+        run(renderer, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        int checksum = run(renderer, MEASURED_ROUNDS);
+        double nanosPerOp = (System.nanoTime() - start) / (double) (MEASURED_ROUNDS * MESSAGES.length);
+        System.out.println(String.format(Locale.ROOT, "%-10s %8.1f ns/op (checksum %d)", name, nanosPerOp, checksum));
+    }
+
+    private static int run(UnaryOperator<String> renderer, int rounds) {
+        int checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            for (String message : MESSAGES) checksum += renderer.apply(message).length();
+        }
+        return checksum;
+    }
+}
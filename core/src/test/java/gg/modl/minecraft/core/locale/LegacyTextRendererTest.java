@@ -2,8 +2,11 @@ package gg.modl.minecraft.core.locale;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LegacyTextRendererTest {
@@ -29,4 +32,30 @@ class LegacyTextRendererTest {
     void colorizeKeepsTextReadableWhenTagsAreUnsupported() {
         assertEquals("Click here", LegacyTextRenderer.colorize("<click:run_command:'/help'>Click here</click>"));
     }
+
+    @Test
+    void renderMatchesRegexRendererOnRandomMarkup() {
+        String[] fragments = {"<red>", "</red>", "<bold>", "</", "<", ">", "< red>", "</ red>", "<#A1b2C3>", "<#zzzzzz>",
+                "<color:#00ff00>", "<click:run_command:'/help'>", "<hover:show_text:'<red>x'>", "&c", "&L", "&", "&z",
+                "<!italic>", "<reset>", " ", "\t", "text", "<a<b>", "<grey>", "\u00a7c", "<\u001cfoo>"};
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder input = new StringBuilder();
+            int parts = 1 + random.nextInt(8);
+            for (int j = 0; j < parts; j++) input.append(fragments[random.nextInt(fragments.length)]);
+            String text = input.toString();
+
+            assertEquals(RegexLegacyTextRenderer.colorize(text), LegacyTextRenderer.render(text), text);
+            assertEquals(RegexLegacyTextRenderer.isMiniMessage(text), LegacyTextRenderer.isMiniMessage(text), text);
+        }
+    }
+
+    @Test
+    void colorizeReturnsCachedRenderForRepeatedInput() {
+        String first = LegacyTextRenderer.colorize("<gold>Staff &7switched");
+        String second = LegacyTextRenderer.colorize("<gold>Staff &7switched");
+
+        assertSame(first, second);
+        assertEquals("\u00a76Staff \u00a77switched", first);
+    }
 }
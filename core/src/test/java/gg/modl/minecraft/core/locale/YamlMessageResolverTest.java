@@ -0,0 +1,35 @@
+package gg.modl.minecraft.core.locale;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class YamlMessageResolverTest {
+
+    @Test
+    void renderColorizesTemplateBeforeSubstitution() {
+        List<String> colorized = new ArrayList<>();
+        YamlMessageResolver resolver = new YamlMessageResolver(message -> {
+            colorized.add(message);
+            return LegacyTextRenderer.colorize(message);
+        });
+
+        assertEquals("\u00a7cBanned Steve", resolver.render("&cBanned {player}", Collections.singletonMap("player", "Steve")));
+        assertEquals("\u00a7cBanned Alex", resolver.render("&cBanned {player}", Collections.singletonMap("player", "Alex")));
+        assertEquals(Collections.nCopies(2, "&cBanned {player}"), colorized);
+    }
+
+    @Test
+    void renderColorizesPlaceholderValues() {
+        YamlMessageResolver resolver = new YamlMessageResolver(LegacyTextRenderer::colorize);
+
+        assertEquals("\u00a77Status: \u00a7aOpen", resolver.render("&7Status: {status}",
+                Collections.singletonMap("status", "&aOpen")));
+        assertEquals("\u00a7cAlt \u00a7e(banned)", resolver.render("<red>Alt {color}(banned)",
+                Collections.singletonMap("color", "&e")));
+    }
+}
@@ -0,0 +1,83 @@
+package gg.modl.minecraft.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    void countersAreSharedPerLabelSet() {
+        Counter first = registry.counter("modl_test_total", "Test counter", "status", "200");
+        first.inc();
+        registry.counter("modl_test_total", "Test counter", "status", "200").add(2);
+        registry.counter("modl_test_total", "Test counter", "status", "503").inc();
+
+        assertSame(first, registry.counter("modl_test_total", "Test counter", "status", "200"));
+        assertEquals(3, first.get());
+        String scrape = registry.scrape();
+        assertTrue(scrape.contains("# TYPE modl_test_total counter\n"));
+        assertTrue(scrape.contains("modl_test_total{status=\"200\"} 3\n"));
+        assertTrue(scrape.contains("modl_test_total{status=\"503\"} 1\n"));
+    }
+
+    @Test
+    void gaugesReadTheirSupplierOnScrape() {
+        AtomicLong depth = new AtomicLong(4);
+        registry.gauge("modl_test_depth", "Test gauge", depth::get);
+        depth.set(9);
+
+        assertTrue(registry.scrape().contains("modl_test_depth 9\n"));
+        registry.removeGauge("modl_test_depth");
+        assertFalse(registry.scrape().contains("modl_test_depth"));
+    }
+
+    @Test
+    void histogramRendersCumulativeBuckets() {
+        LatencyHistogram histogram = registry.histogram("modl_test_seconds", "Test histogram", "op", "login");
+        histogram.observe(1);
+        histogram.observe(3);
+        histogram.observe(3);
+        histogram.observe(500_000);
+
+        String scrape = registry.scrape();
+        assertTrue(scrape.contains("modl_test_seconds_bucket{op=\"login\",le=\"0.001\"} 1\n"));
+        assertTrue(scrape.contains("modl_test_seconds_bucket{op=\"login\",le=\"0.004\"} 3\n"));
+        assertTrue(scrape.contains("modl_test_seconds_bucket{op=\"login\",le=\"+Inf\"} 4\n"));
+        assertTrue(scrape.contains("modl_test_seconds_count{op=\"login\"} 4\n"));
+        assertEquals(4, histogram.quantileMillis(0.5));
+    }
+
+    @Test
+    void labelValuesAreEscaped() {
+        registry.counter("modl_test_total", "Test counter", "backend", "lobby \"1\"").inc();
+
+        assertTrue(registry.scrape().contains("modl_test_total{backend=\"lobby \\\"1\\\"\"} 1\n"));
+    }
+
+    @Test
+    void summaryFiltersByName() {
+        registry.counter("modl_http_requests_total", "Requests", "status", "200").inc();
+        registry.counter("modl_bridge_messages_total", "Messages").inc();
+
+        Map<String, String> summary = registry.summary("http");
+
+        assertEquals(1, summary.size());
+        assertEquals("1", summary.get("modl_http_requests_total{status=\"200\"}"));
+    }
+
+    @Test
+    void reusingANameWithAnotherTypeFails() {
+        registry.counter("modl_test_total", "Test counter");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("modl_test_total", "Test histogram"));
+    }
+}
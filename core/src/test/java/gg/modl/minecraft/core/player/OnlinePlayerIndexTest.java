@@ -0,0 +1,65 @@
+package gg.modl.minecraft.core.player;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OnlinePlayerIndexTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ALBERT = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID AL = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    private final OnlinePlayerIndex index = new OnlinePlayerIndex();
+
+    @Test
+    void prefixLookupIsCaseInsensitiveAndSorted() {
+        index.join(BOB, "bob", "lobby");
+        index.join(ALICE, "Alice", "lobby");
+        index.join(ALBERT, "albert", "survival");
+        index.join(AL, "Al", "survival");
+
+        assertEquals(Arrays.asList("Al", "albert", "Alice", "bob"), index.namesWithPrefix("", Integer.MAX_VALUE));
+        assertEquals(Arrays.asList("Al", "albert", "Alice"), index.namesWithPrefix("AL", Integer.MAX_VALUE));
+        assertEquals(Collections.singletonList("albert"), index.namesWithPrefix("alb", 5));
+        assertEquals(Arrays.asList("Al", "albert"), index.namesWithPrefix("a", 2));
+        assertEquals(Collections.emptyList(), index.namesWithPrefix("z", 5));
+    }
+
+    @Test
+    void quitAndSwitchUpdateProjection() {
+        index.join(ALICE, "Alice", "lobby");
+        index.join(BOB, "Bob", "lobby");
+
+        index.switchServer(BOB, "survival");
+        index.quit(ALICE);
+
+        assertEquals(0, index.countOn("lobby"));
+        assertEquals(1, index.countOn("survival"));
+        assertEquals("survival", index.getServer(BOB));
+        assertFalse(index.isOnline(ALICE));
+        assertNull(index.getUsername(ALICE));
+        assertEquals(Collections.singletonList("Bob"), index.namesWithPrefix("", 10));
+        assertEquals(Collections.emptyList(), index.namesWithPrefix("al", 10));
+    }
+
+    @Test
+    void replaceAllSeedsOnlinePlayersOnly() {
+        index.join(BOB, "Bob", "lobby");
+
+        index.replaceAll(Arrays.asList(
+                new AbstractPlayer(ALICE, "Alice", true),
+                new AbstractPlayer(ALBERT, "Albert", false)), uuid -> "hub");
+
+        assertEquals(1, index.size());
+        assertEquals(1, index.countOn("hub"));
+        assertEquals(Collections.singletonList("Alice"), index.namesWithPrefix("a", 10));
+    }
+}
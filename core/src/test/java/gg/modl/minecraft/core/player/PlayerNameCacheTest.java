@@ -0,0 +1,80 @@
+package gg.modl.minecraft.core.player;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlayerNameCacheTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CAROL = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void resolvesNamesCaseInsensitively() {
+        PlayerNameCache cache = cache(16);
+        cache.record(ALICE, "Alice");
+
+        AbstractPlayer player = cache.getPlayer("aLiCe");
+
+        assertEquals(ALICE, player.getUuid());
+        assertEquals("Alice", player.getUsername());
+        assertEquals("Alice", cache.getUsername(ALICE));
+    }
+
+    @Test
+    void renameDropsThePreviousName() {
+        PlayerNameCache cache = cache(16);
+        cache.record(ALICE, "Alice");
+        cache.record(ALICE, "Alicia");
+
+        assertNull(cache.getPlayer("Alice"));
+        assertEquals(ALICE, cache.getPlayer("Alicia").getUuid());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void nameTakenOverByAnotherPlayerRemapsIt() {
+        PlayerNameCache cache = cache(16);
+        cache.record(ALICE, "Shared");
+        cache.record(BOB, "Shared");
+
+        assertEquals(BOB, cache.getPlayer("shared").getUuid());
+        assertNull(cache.getUsername(ALICE));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() {
+        PlayerNameCache cache = cache(2);
+        cache.record(ALICE, "Alice");
+        cache.record(BOB, "Bob");
+        cache.getUsername(ALICE);
+        cache.record(CAROL, "Carol");
+
+        assertEquals(ALICE, cache.getPlayer("Alice").getUuid());
+        assertNull(cache.getPlayer("Bob"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void expiredEntriesAreNotServed() {
+        PlayerNameCache cache = cache(16);
+        cache.record(ALICE, "Alice");
+
+        now.addAndGet(TimeUnit.HOURS.toMillis(2));
+
+        assertNull(cache.getPlayer("Alice"));
+        assertEquals(0, cache.size());
+    }
+
+    private PlayerNameCache cache(int maxEntries) {
+        return new PlayerNameCache(maxEntries, TimeUnit.HOURS.toMillis(1), now::get);
+    }
+}
@@ -0,0 +1,79 @@
+package gg.modl.minecraft.core.realtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AckBatcherTest {
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private final List<List<Integer>> batches = new ArrayList<>();
+    private final AckBatcher<Integer> batcher = new AckBatcher<>(scheduler, 4, 50, batches::add);
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void acksBelowBatchSizeShareOneDelayedFlush() {
+        batcher.add(1);
+        batcher.add(2);
+
+        assertEquals(Collections.singletonList(50L), scheduler.delays);
+        scheduler.runAll();
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+        assertEquals(0, batcher.pendingCount());
+    }
+
+    @Test
+    void fullBatchSchedulesOnlyOneImmediateFlush() {
+        for (int i = 0; i < 20; i++) batcher.add(i);
+
+        assertEquals(Arrays.asList(50L, 0L), scheduler.delays);
+        scheduler.runAll();
+        assertEquals(1, batches.size());
+        assertEquals(20, batches.get(0).size());
+    }
+
+    @Test
+    void nextFullBatchSchedulesAnotherImmediateFlushAfterTheFirstRan() {
+        for (int i = 0; i < 4; i++) batcher.add(i);
+        scheduler.runAll();
+        for (int i = 4; i < 8; i++) batcher.add(i);
+
+        assertEquals(Arrays.asList(50L, 0L, 50L, 0L), scheduler.delays);
+        scheduler.runAll();
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7)), batches);
+    }
+
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Long> delays = new ArrayList<>();
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            delays.add(unit.toMillis(delay));
+            tasks.add(command);
+            return null;
+        }
+
+        private void runAll() {
+            List<Runnable> due = new ArrayList<>(tasks);
+            tasks.clear();
+            due.forEach(Runnable::run);
+        }
+    }
+}
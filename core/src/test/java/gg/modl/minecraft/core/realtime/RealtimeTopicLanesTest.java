@@ -0,0 +1,57 @@
+package gg.modl.minecraft.core.realtime;
+
+import gg.modl.minecraft.core.util.PluginLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RealtimeTopicLanesTest {
+    private final Queue<Runnable> workers = new ArrayDeque<>();
+    private final RealtimeTopicLanes lanes = new RealtimeTopicLanes(workers::add, 2,
+        PluginLogger.fromJul(Logger.getLogger("realtime-lanes-test")));
+
+    @Test
+    void fullTopicRejectsWithoutBlockingOtherTopics() {
+        List<String> applied = new ArrayList<>();
+
+        assertTrue(lanes.submit("punishments", () -> applied.add("p1")));
+        assertTrue(lanes.submit("punishments", () -> applied.add("p2")));
+        assertFalse(lanes.submit("punishments", () -> applied.add("p3")));
+        assertTrue(lanes.submit("staff_notifications", () -> applied.add("s1")));
+        assertEquals(2, lanes.depth("punishments"));
+
+        runWorkers();
+
+        assertEquals(Arrays.asList("p1", "p2", "s1"), applied);
+        assertEquals(0, lanes.depth("punishments"));
+    }
+
+    @Test
+    void topicDrainsInOrderAndKeepsRunningAfterHandlerFailure() {
+        List<String> applied = new ArrayList<>();
+
+        lanes.submit("permissions", () -> {
+            throw new IllegalStateException("boom");
+        });
+        lanes.submit("permissions", () -> applied.add("after"));
+        runWorkers();
+        lanes.submit("permissions", () -> applied.add("later"));
+        runWorkers();
+
+        assertEquals(Arrays.asList("after", "later"), applied);
+    }
+
+    private void runWorkers() {
+        Runnable task;
+        while ((task = workers.poll()) != null) task.run();
+    }
+}
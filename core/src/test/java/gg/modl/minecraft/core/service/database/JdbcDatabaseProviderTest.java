@@ -0,0 +1,145 @@
+package gg.modl.minecraft.core.service.database;
+
+import gg.modl.minecraft.core.support.RecordingPluginLogger;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcDatabaseProviderTest {
+    private final List<StubConnection> connections = new ArrayList<>();
+
+    @Test
+    void reusesStatementsAndClosesLeastRecentlyUsedOnEviction() throws SQLException {
+        JdbcDatabaseProvider provider = provider(1, 2);
+
+        provider.prepareStatement("SELECT a").close();
+        provider.prepareStatement("SELECT a").close();
+        provider.prepareStatement("SELECT b").close();
+        provider.prepareStatement("SELECT a").close();
+        provider.prepareStatement("SELECT c").close();
+
+        StubConnection connection = connections.get(0);
+        assertEquals(3, connection.statements.size());
+        assertFalse(connection.statement("SELECT a").closed);
+        assertTrue(connection.statement("SELECT b").closed);
+        assertFalse(connection.statement("SELECT c").closed);
+    }
+
+    @Test
+    void closingLeaseReturnsStatementToCache() throws SQLException {
+        JdbcDatabaseProvider provider = provider(1, 4);
+
+        PreparedStatement lease = provider.prepareStatement("SELECT a");
+        lease.setString(1, "value");
+        lease.close();
+        lease.close();
+
+        StubStatement statement = connections.get(0).statement("SELECT a");
+        assertFalse(statement.closed);
+        assertEquals(1, statement.clearParameterCalls);
+        assertTrue(lease.isClosed());
+        assertThrows(SQLException.class, lease::executeQuery);
+
+        provider.close();
+        assertTrue(statement.closed);
+        assertTrue(connections.get(0).closed);
+    }
+
+    @Test
+    void connectionReturnsToPoolWhenPrepareOrQueryFails() throws SQLException {
+        JdbcDatabaseProvider provider = provider(1, 4);
+        StubConnection connection = connections.get(0);
+
+        connection.failNextPrepare = true;
+        assertThrows(SQLException.class, () -> provider.prepareStatement("SELECT broken"));
+
+        PreparedStatement lease = provider.prepareStatement("SELECT a");
+        connection.statement("SELECT a").failQueries = true;
+        assertThrows(SQLException.class, lease::executeQuery);
+        lease.close();
+
+        provider.prepareStatement("SELECT b").close();
+        assertEquals(1, connections.size());
+    }
+
+    private JdbcDatabaseProvider provider(int poolSize, int statementCacheSize) throws SQLException {
+        DatabaseConfig config = new DatabaseConfig("localhost", "litebans", "user", "pass",
+                DatabaseConfig.DatabaseType.MYSQL, "litebans_", 3306, poolSize, 100, statementCacheSize);
+        return new JdbcDatabaseProvider(config, new RecordingPluginLogger(), () -> {
+            StubConnection connection = new StubConnection();
+            connections.add(connection);
+            return connection.proxy;
+        });
+    }
+
+    private static final class StubConnection {
+        private final List<StubStatement> statements = new ArrayList<>();
+        private boolean failNextPrepare, closed;
+        private final Connection proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            if (failNextPrepare) {
+                                failNextPrepare = false;
+                                throw new SQLException("prepare failed");
+                            }
+                            StubStatement statement = new StubStatement((String) args[0]);
+                            statements.add(statement);
+                            return statement.proxy;
+                        case "isClosed":
+                            return closed;
+                        case "close":
+                            closed = true;
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+
+        private StubStatement statement(String sql) {
+            for (StubStatement statement : statements) {
+                if (statement.sql.equals(sql)) return statement;
+            }
+            throw new AssertionError("No statement prepared for " + sql);
+        }
+    }
+
+    private static final class StubStatement {
+        private final String sql;
+        private boolean closed, failQueries;
+        private int clearParameterCalls;
+        private final PreparedStatement proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeQuery":
+                            if (failQueries) throw new SQLException("query failed");
+                            return null;
+                        case "clearParameters":
+                            clearParameterCalls++;
+                            return null;
+                        case "isClosed":
+                            return closed;
+                        case "close":
+                            closed = true;
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+
+        private StubStatement(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.core.support.FakePlatform;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MainThreadApplyQueueTest {
+    private final FakePlatform platform = new FakePlatform().autoRunMainThread(false);
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void coalescesSubmissionsIntoOneMainThreadTask() {
+        MainThreadApplyQueue queue = queue(50, TimeUnit.MILLISECONDS.toNanos(5));
+        List<Integer> applied = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            queue.submit(() -> applied.add(value));
+        }
+
+        assertEquals(1, platform.mainThreadScheduleCount());
+        assertEquals(10, queue.getQueueDepth());
+
+        platform.runScheduledTasks();
+
+        assertEquals(10, applied.size());
+        assertEquals(Integer.valueOf(0), applied.get(0));
+        assertEquals(Integer.valueOf(9), applied.get(9));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void appliesAtMostBatchSizePerTick() {
+        MainThreadApplyQueue queue = queue(4, TimeUnit.MILLISECONDS.toNanos(5));
+        List<Integer> applied = new ArrayList<>();
+        for (int i = 0; i < 10; i++) queue.submit(() -> applied.add(1));
+
+        platform.runScheduledTasks();
+        assertEquals(4, applied.size());
+        assertEquals(6, queue.getQueueDepth());
+
+        platform.runScheduledTasks();
+        platform.runScheduledTasks();
+        assertEquals(10, applied.size());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void stopsWhenTickBudgetIsSpent() {
+        MainThreadApplyQueue queue = queue(50, TimeUnit.MILLISECONDS.toNanos(5));
+        List<Integer> applied = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queue.submit(() -> {
+                applied.add(1);
+                nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(3));
+            });
+        }
+
+        platform.runScheduledTasks();
+
+        assertEquals(2, applied.size());
+        assertEquals(3, queue.getQueueDepth());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheBatch() {
+        MainThreadApplyQueue queue = queue(50, TimeUnit.MILLISECONDS.toNanos(5));
+        List<Integer> applied = new ArrayList<>();
+        queue.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        queue.submit(() -> applied.add(1));
+
+        platform.runScheduledTasks();
+
+        assertEquals(1, applied.size());
+        assertEquals(2, queue.getAppliedCount());
+    }
+
+    @Test
+    void reportsApplyLatencyFromSubmission() {
+        MainThreadApplyQueue queue = queue(50, TimeUnit.MILLISECONDS.toNanos(5));
+        queue.submit(() -> { });
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+        queue.submit(() -> { });
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+
+        platform.runScheduledTasks();
+
+        assertEquals(60, queue.getMaxApplyLatencyMillis());
+        assertEquals(40, queue.getAverageApplyLatencyMillis());
+    }
+
+    private MainThreadApplyQueue queue(int maxPerTick, long budgetNanos) {
+        return new MainThreadApplyQueue(platform, platform.getLogger(), maxPerTick, budgetNanos, nanos::get, false);
+    }
+}
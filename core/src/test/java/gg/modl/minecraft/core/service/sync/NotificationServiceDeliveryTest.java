@@ -0,0 +1,53 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.api.http.response.SyncResponse;
+import gg.modl.minecraft.core.cache.Cache;
+import gg.modl.minecraft.core.cache.CachedProfileRegistry;
+import gg.modl.minecraft.core.support.FakePlatform;
+import gg.modl.minecraft.core.support.MapLocaleManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationServiceDeliveryTest {
+    private final UUID playerUuid = UUID.randomUUID();
+    private final FakePlatform platform = new FakePlatform().register(new AbstractPlayer(playerUuid, "Player", true));
+    private final Cache cache = new Cache(new CachedProfileRegistry());
+    private final NotificationService service = new NotificationService(
+            platform,
+            null,
+            cache,
+            platform.getLogger(),
+            new MapLocaleManager().put("notification.ticket_reply", "{message}"),
+            "https://panel.modl.gg",
+            new MainThreadApplyQueue(platform, platform.getLogger(), false),
+            false
+    );
+
+    @Test
+    void targetedNotificationAlreadyDeliveredIsNotShownAgain() {
+        service.processPlayerNotification(notification("n-1", playerUuid.toString()));
+        service.processPlayerNotification(notification("n-1", playerUuid.toString()));
+
+        assertEquals(1, platform.sentMessages().size());
+        assertTrue(cache.getNotificationStore().wasDelivered(playerUuid, "n-1"));
+    }
+
+    @Test
+    void broadcastNotificationSkipsPlayersWhoAlreadySawIt() {
+        cache.getNotificationStore().markDelivered(playerUuid, Collections.singletonList("n-2"));
+
+        service.processPlayerNotification(notification("n-2", null));
+
+        assertTrue(platform.sentMessages().isEmpty());
+    }
+
+    private static SyncResponse.PlayerNotification notification(String id, String target) {
+        return new SyncResponse.PlayerNotification(id, "Your ticket was answered", "TICKET_REPLY", target, null, null);
+    }
+}
@@ -22,6 +22,7 @@ class NotificationServiceJsonTest {
                 null,
                 null,
                 "https://panel.modl.gg",
+                new MainThreadApplyQueue(platform, platform.getLogger(), false),
                 false
         );
         Map<String, Object> data = new HashMap<>();
@@ -0,0 +1,114 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OnlineRosterTrackerTest {
+    private static final AbstractPlayer ALICE = player("00000000-0000-0000-0000-000000000001", "Alice", "10.0.0.1");
+    private static final AbstractPlayer BOB = player("00000000-0000-0000-0000-000000000002", "Bob", "10.0.0.2");
+    private static final AbstractPlayer CAROL = player("00000000-0000-0000-0000-000000000003", "Carol", "10.0.0.3");
+
+    @Test
+    void sendsFullRosterUntilPanelAcknowledgesAVersion() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+
+        OnlineRosterTracker.Roster first = tracker.next(Arrays.asList(ALICE, BOB));
+        tracker.onResponse(null, false);
+        OnlineRosterTracker.Roster second = tracker.next(Arrays.asList(ALICE, BOB));
+
+        assertFalse(first.isDelta());
+        assertFalse(second.isDelta());
+        assertEquals(2, second.getVersion());
+    }
+
+    @Test
+    void sendsJoinsAndLeavesAgainstAcknowledgedVersion() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+        OnlineRosterTracker.Roster full = tracker.next(Arrays.asList(ALICE, BOB));
+        tracker.onResponse(full.getVersion(), false);
+
+        OnlineRosterTracker.Roster delta = tracker.next(Arrays.asList(BOB, CAROL));
+
+        assertTrue(delta.isDelta());
+        assertEquals(full.getVersion(), delta.getBaseVersion());
+        assertEquals(Collections.singletonList(CAROL), delta.getUpserted());
+        assertEquals(Collections.singletonList(ALICE.getUuid().toString()), delta.getLeft());
+    }
+
+    @Test
+    void unacknowledgedDeltasAccumulateAgainstTheLastAck() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+        OnlineRosterTracker.Roster full = tracker.next(Collections.singletonList(ALICE));
+        tracker.onResponse(full.getVersion(), false);
+
+        tracker.next(Arrays.asList(ALICE, BOB));
+        OnlineRosterTracker.Roster delta = tracker.next(Arrays.asList(ALICE, BOB, CAROL));
+
+        assertEquals(full.getVersion(), delta.getBaseVersion());
+        assertEquals(2, delta.getUpserted().size());
+    }
+
+    @Test
+    void changedNameOrAddressIsResent() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+        OnlineRosterTracker.Roster full = tracker.next(Collections.singletonList(ALICE));
+        tracker.onResponse(full.getVersion(), false);
+
+        AbstractPlayer reconnected = new AbstractPlayer(ALICE.getUuid(), "Alice", "10.0.0.9", true);
+        OnlineRosterTracker.Roster delta = tracker.next(Collections.singletonList(reconnected));
+
+        assertEquals(Collections.singletonList(reconnected), delta.getUpserted());
+        assertTrue(delta.getLeft().isEmpty());
+    }
+
+    @Test
+    void resyncRequestFallsBackToFullRosterUntilNextAck() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+        tracker.onResponse(tracker.next(Collections.singletonList(ALICE)).getVersion(), false);
+
+        tracker.onResponse(null, true);
+        OnlineRosterTracker.Roster full = tracker.next(Collections.singletonList(ALICE));
+        assertFalse(full.isDelta());
+
+        tracker.onResponse(full.getVersion(), false);
+        assertTrue(tracker.next(Collections.singletonList(ALICE)).isDelta());
+    }
+
+    @Test
+    void includesChecksumPeriodically() {
+        OnlineRosterTracker tracker = new OnlineRosterTracker();
+        for (int i = 1; i < OnlineRosterTracker.CHECKSUM_INTERVAL; i++) {
+            assertNull(tracker.next(Collections.singletonList(ALICE)).getChecksum());
+        }
+        assertNotNull(tracker.next(Collections.singletonList(ALICE)).getChecksum());
+        assertNull(tracker.next(Collections.singletonList(ALICE)).getChecksum());
+    }
+
+    @Test
+    void checksumIsOrderIndependent() {
+        Map<String, OnlineRosterTracker.Entry> forward = new HashMap<>();
+        forward.put("a", new OnlineRosterTracker.Entry("Alice", "10.0.0.1"));
+        forward.put("b", new OnlineRosterTracker.Entry("Bob", null));
+        Map<String, OnlineRosterTracker.Entry> other = new HashMap<>();
+        other.put("b", new OnlineRosterTracker.Entry("Bob", null));
+        other.put("a", new OnlineRosterTracker.Entry("Alice", "10.0.0.1"));
+
+        assertEquals(OnlineRosterTracker.checksum(forward), OnlineRosterTracker.checksum(other));
+    }
+
+    private static AbstractPlayer player(String uuid, String name, String ip) {
+        return new AbstractPlayer(UUID.fromString(uuid), name, ip, true);
+    }
+}
@@ -0,0 +1,50 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.http.request.SyncRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PendingServerSwitchesTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Test
+    void keepsOnlyLastDestinationPerPlayer() {
+        PendingServerSwitches pending = new PendingServerSwitches();
+
+        assertFalse(pending.record(ALICE, "lobby-1", 1L));
+        assertFalse(pending.record(BOB, "lobby-2", 2L));
+        assertTrue(pending.record(ALICE, "survival", 3L));
+
+        List<SyncRequest.ServerSwitch> batch = pending.drain();
+        assertEquals(2, batch.size());
+        assertEquals(ALICE.toString(), batch.get(0).getUuid());
+        assertEquals("survival", batch.get(0).getServerName());
+        assertEquals(3L, batch.get(0).getSwitchedAt());
+        assertTrue(pending.isEmpty());
+        assertEquals(Collections.emptyList(), pending.drain());
+    }
+
+    @Test
+    void restoreDoesNotOverwriteNewerSwitches() {
+        PendingServerSwitches pending = new PendingServerSwitches();
+        pending.record(ALICE, "lobby", 1L);
+        pending.record(BOB, "lobby", 1L);
+        List<SyncRequest.ServerSwitch> failed = pending.drain();
+        pending.record(ALICE, "skyblock", 5L);
+
+        pending.restore(failed);
+
+        List<SyncRequest.ServerSwitch> batch = pending.drain();
+        assertEquals(2, batch.size());
+        assertEquals("skyblock", batch.get(0).getServerName());
+        assertEquals(BOB.toString(), batch.get(1).getUuid());
+    }
+}
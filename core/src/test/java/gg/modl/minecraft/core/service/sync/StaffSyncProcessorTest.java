@@ -0,0 +1,57 @@
+package gg.modl.minecraft.core.service.sync;
+
+import gg.modl.minecraft.api.http.response.SyncResponse;
+import gg.modl.minecraft.core.cache.Cache;
+import gg.modl.minecraft.core.cache.CachedProfile;
+import gg.modl.minecraft.core.cache.CachedProfileRegistry;
+import gg.modl.minecraft.core.support.FakePlatform;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StaffSyncProcessorTest {
+    private final FakePlatform platform = new FakePlatform();
+    private final Cache cache = new Cache(new CachedProfileRegistry());
+    private final StaffSyncProcessor processor =
+            new StaffSyncProcessor(platform, cache, platform.getLogger(), null, null, false);
+
+    @Test
+    void droppedStaffWithoutLocalProfileKeepsCachedPermissions() {
+        UUID remote = UUID.randomUUID();
+        cache.cacheStaffPermissions(remote, "remote", "staff-remote", "Moderator", Collections.singletonList("punish.mute"));
+        processor.reconcileActiveStaff(Collections.singletonList(staff(remote)));
+
+        processor.reconcileActiveStaff(Collections.emptyList());
+
+        assertTrue(cache.isStaffMemberByPermissions(remote));
+    }
+
+    @Test
+    void droppedStaffWithLocalProfileIsEvicted() {
+        UUID local = UUID.randomUUID();
+        UUID remote = UUID.randomUUID();
+        CachedProfile profile = cache.getRegistry().createProfile(local);
+        profile.setStaffMember(staff(local));
+        cache.cacheStaffPermissions(local, "local", "staff-local", "Moderator", Collections.singletonList("punish.mute"));
+        cache.cacheStaffPermissions(remote, "remote", "staff-remote", "Moderator", Collections.singletonList("punish.mute"));
+        processor.reconcileActiveStaff(Arrays.asList(staff(local), staff(remote)));
+
+        processor.reconcileActiveStaff(Collections.emptyList());
+
+        assertNull(profile.getStaffMember());
+        assertFalse(cache.isStaffMemberByPermissions(local));
+        assertTrue(cache.isStaffMemberByPermissions(remote));
+    }
+
+    private static SyncResponse.ActiveStaffMember staff(UUID uuid) {
+        String name = uuid.toString().substring(0, 8);
+        return new SyncResponse.ActiveStaffMember(uuid.toString(), name, name, "Moderator", name + "@example.com",
+                "staff-" + name, Collections.singletonList("punish.mute"), null);
+    }
+}
@@ -0,0 +1,90 @@
+package gg.modl.minecraft.core.staff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StaffStateTrackerTest {
+    private final StaffStateTracker tracker = new StaffStateTracker();
+
+    @Test
+    void reconcileReportsOnlyAffectedMembersAndRoles() {
+        UUID admin = UUID.randomUUID();
+        UUID mod = UUID.randomUUID();
+        UUID helper = UUID.randomUUID();
+        tracker.reconcile(Arrays.asList(
+                member(admin, "Admin", "punish.ban", "punish.mute"),
+                member(mod, "Moderator", "punish.mute"),
+                member(helper, "Helper", "punish.warn")));
+
+        StaffStateTracker.Diff diff = tracker.reconcile(Arrays.asList(
+                member(admin, "Admin", "punish.ban", "punish.mute"),
+                member(mod, "Moderator", "punish.mute", "punish.kick")));
+
+        assertTrue(diff.getAdded().isEmpty());
+        assertEquals(1, diff.getChanged().size());
+        assertEquals(mod, diff.getChanged().get(0).getUuid());
+        assertEquals(Collections.singletonList(helper), diff.getRemoved());
+        assertEquals(new HashSet<>(Arrays.asList("Moderator", "Helper")), diff.getChangedRoles());
+        assertEquals(Collections.singleton("Moderator"), diff.getChangedRolePermissions().keySet());
+    }
+
+    @Test
+    void applyRolePermissionsRewritesOnlyMembersOfThoseRoles() {
+        UUID admin = UUID.randomUUID();
+        UUID mod = UUID.randomUUID();
+        UUID otherMod = UUID.randomUUID();
+        tracker.reconcile(Arrays.asList(
+                member(admin, "Admin", "punish.ban"),
+                member(mod, "Moderator", "punish.mute"),
+                member(otherMod, "Moderator", "punish.mute")));
+
+        List<StaffStateTracker.Member> updated = tracker.applyRolePermissions(Collections.singletonMap("Moderator",
+                new TreeSet<>(Arrays.asList("punish.kick", "punish.mute"))));
+
+        assertEquals(new HashSet<>(Arrays.asList(mod, otherMod)),
+                updated.stream().map(StaffStateTracker.Member::getUuid).collect(Collectors.toSet()));
+        assertEquals(Arrays.asList("punish.kick", "punish.mute"), updated.get(0).getPermissions());
+        assertTrue(tracker.applyRolePermissions(Collections.singletonMap("Moderator",
+                new TreeSet<>(Arrays.asList("punish.kick", "punish.mute")))).isEmpty());
+    }
+
+    @Test
+    void unchangedListProducesEmptyDiff() {
+        UUID admin = UUID.randomUUID();
+        tracker.reconcile(Collections.singletonList(member(admin, "Admin", "punish.ban")));
+
+        StaffStateTracker.Diff diff = tracker.reconcile(Collections.singletonList(member(admin, "Admin", "punish.ban")));
+
+        assertTrue(diff.isEmpty());
+        assertTrue(diff.getChangedRoles().isEmpty());
+    }
+
+    @Test
+    void putFeedsRoleStateIntoTheNextReconcile() {
+        UUID mod = UUID.randomUUID();
+        assertTrue(tracker.put(member(mod, "Moderator", "punish.mute")));
+        assertFalse(tracker.put(member(mod, "Moderator", "punish.mute")));
+
+        assertTrue(tracker.put(member(mod, "Admin", "punish.mute")));
+        StaffStateTracker.Diff diff = tracker.reconcile(Collections.singletonList(member(mod, "Admin", "punish.mute")));
+
+        assertTrue(diff.isEmpty());
+        assertTrue(diff.getChangedRoles().isEmpty());
+    }
+
+    private static StaffStateTracker.Member member(UUID uuid, String role, String... permissions) {
+        return new StaffStateTracker.Member(uuid, uuid.toString().substring(0, 8), "staff-" + uuid, role,
+                Arrays.asList(permissions));
+    }
+}
@@ -224,7 +224,7 @@ public class FakePlatform implements Platform {
     }
 
     @Override
-    public DatabaseProvider createLiteBansDatabaseProvider() {
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
         return null;
     }
 
@@ -2,23 +2,19 @@ package io.github._4drian3d.signedvelocity.common.queue;
 
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.RunnableScheduledFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -28,6 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class QueuedDataTest {
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final TimeoutWheel wheel = new TimeoutWheel(5, clock::get);
+
     @Test
     void acceptNextResultAppliesResultOnWaitingThread() throws Exception {
         QueuedData data = new QueuedData();
@@ -51,27 +50,28 @@ final class QueuedDataTest {
     }
 
     @Test
-    void completeCancelsPendingTimeoutTask() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+    void completeCancelsPendingTimeout() throws Exception {
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> future = data.nextResult();
-        ScheduledTask timeout = scheduler.onlyTask();
+        assertEquals(1, wheel.pending());
 
         data.complete(SignedResult.cancel());
+        clock.addAndGet(25);
+        wheel.sweep();
 
         assertSame(SignedResult.cancel(), future.get(1, TimeUnit.SECONDS));
-        assertTrue(timeout.isCancelled());
+        assertEquals(0, wheel.pending());
         assertEquals(0, data.pendingWaiters());
     }
 
     @Test
     void timedOutPendingResultIsRemovedBeforeLaterCompletion() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> timedOut = data.nextResult();
-        scheduler.onlyTask().run();
+        clock.addAndGet(25);
+        wheel.sweep();
 
         assertSame(SignedResult.allowed(), timedOut.get(1, TimeUnit.SECONDS));
         assertEquals(0, data.pendingWaiters());
@@ -110,24 +110,23 @@ final class QueuedDataTest {
 
     @Test
     void closingQueuedDataCompletesPendingWaitersWithAllowedAndClearsState() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> future = data.nextResult();
-        ScheduledTask timeout = scheduler.onlyTask();
 
         data.close();
+        clock.addAndGet(25);
+        wheel.sweep();
 
         assertSame(SignedResult.allowed(), future.get(1, TimeUnit.SECONDS));
-        assertTrue(timeout.isCancelled());
+        assertEquals(0, wheel.pending());
         assertEquals(0, data.pendingWaiters());
         assertSame(SignedResult.allowed(), data.nextResult().get(1, TimeUnit.SECONDS));
     }
 
     @Test
     void closingSignedQueueClosesAllQueuedDataAndClearsMap() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        SignedQueue queue = new SignedQueue(scheduler, 20);
+        SignedQueue queue = new SignedQueue(wheel, 20);
         UUID uuid = UUID.randomUUID();
         QueuedData data = queue.dataFrom(uuid);
         Future<SignedResult> future = data.nextResult();
@@ -142,8 +141,7 @@ final class QueuedDataTest {
 
     @Test
     void completeSatisfiesAdvancingWaiterEvenWhenNonAdvancingWaiterIsAheadInQueue() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> peek = data.nextResultWithoutAdvance();
         Future<SignedResult> consume = data.nextResult();
@@ -160,8 +158,7 @@ final class QueuedDataTest {
 
     @Test
     void singleAdvancingWaiterReceivesVerdictWithNoShiftByOne() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> consume = data.nextResult();
         data.complete(SignedResult.cancel());
@@ -174,8 +171,7 @@ final class QueuedDataTest {
 
     @Test
     void nonAdvancingPeekLeavesResultForFollowingAdvancingRead() throws Exception {
-        TestScheduler scheduler = new TestScheduler();
-        QueuedData data = new QueuedData(scheduler, 20);
+        QueuedData data = new QueuedData(wheel, 20);
 
         Future<SignedResult> peek = data.nextResultWithoutAdvance();
         SignedResult modify = SignedResult.modify("x");
@@ -202,6 +198,29 @@ final class QueuedDataTest {
         assertEquals(0, data.pendingWaiters());
     }
 
+    @Test
+    void timeoutWheelFiresOnlyExpiredEntriesAndSkipsCancelledOnes() {
+        AtomicInteger fired = new AtomicInteger();
+        wheel.schedule(fired::incrementAndGet, 20);
+        TimeoutWheel.Timeout cancelled = wheel.schedule(fired::incrementAndGet, 20);
+        wheel.schedule(fired::incrementAndGet, 5 * TimeoutWheel.WHEEL_SIZE + 40);
+        cancelled.cancel();
+
+        clock.addAndGet(20);
+        wheel.sweep();
+        assertEquals(1, fired.get());
+        assertEquals(1, wheel.pending());
+
+        clock.addAndGet(5 * TimeoutWheel.WHEEL_SIZE);
+        wheel.sweep();
+        assertEquals(1, fired.get());
+
+        clock.addAndGet(25);
+        wheel.sweep();
+        assertEquals(2, fired.get());
+        assertEquals(0, wheel.pending());
+    }
+
     private static QueuedData getUnchecked(Future<QueuedData> future) {
         try {
             return future.get(1, TimeUnit.SECONDS);
@@ -212,162 +231,4 @@ final class QueuedDataTest {
             throw new AssertionError(exception);
         }
     }
-
-    private static final class TestScheduler implements ScheduledExecutorService {
-        private final List<ScheduledTask> tasks = new ArrayList<>();
-
-        ScheduledTask onlyTask() {
-            assertEquals(1, tasks.size());
-            return tasks.get(0);
-        }
-
-        @Override
-        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-            ScheduledTask task = new ScheduledTask(command);
-            tasks.add(task);
-            return task;
-        }
-
-        @Override
-        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void shutdown() {
-        }
-
-        @Override
-        public List<Runnable> shutdownNow() {
-            return Collections.emptyList();
-        }
-
-        @Override
-        public boolean isShutdown() {
-            return false;
-        }
-
-        @Override
-        public boolean isTerminated() {
-            return false;
-        }
-
-        @Override
-        public boolean awaitTermination(long timeout, TimeUnit unit) {
-            return true;
-        }
-
-        @Override
-        public <T> Future<T> submit(Callable<T> task) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public <T> Future<T> submit(Runnable task, T result) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public Future<?> submit(Runnable task) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public <T> List<Future<T>> invokeAll(java.util.Collection<? extends Callable<T>> tasks) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public <T> List<Future<T>> invokeAll(java.util.Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public <T> T invokeAny(java.util.Collection<? extends Callable<T>> tasks) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public <T> T invokeAny(java.util.Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void execute(Runnable command) {
-            throw new UnsupportedOperationException();
-        }
-    }
-
-    private static final class ScheduledTask implements RunnableScheduledFuture<Void> {
-        private final Runnable command;
-        private boolean cancelled;
-        private boolean done;
-
-        private ScheduledTask(Runnable command) {
-            this.command = command;
-        }
-
-        @Override
-        public boolean isPeriodic() {
-            return false;
-        }
-
-        @Override
-        public long getDelay(TimeUnit unit) {
-            return 0;
-        }
-
-        @Override
-        public int compareTo(Delayed other) {
-            return 0;
-        }
-
-        @Override
-        public void run() {
-            if (!cancelled) {
-                command.run();
-            }
-            done = true;
-        }
-
-        @Override
-        public boolean cancel(boolean mayInterruptIfRunning) {
-            if (done) {
-                return false;
-            }
-            cancelled = true;
-            done = true;
-            return true;
-        }
-
-        @Override
-        public boolean isCancelled() {
-            return cancelled;
-        }
-
-        @Override
-        public boolean isDone() {
-            return done;
-        }
-
-        @Override
-        public Void get() {
-            return null;
-        }
-
-        @Override
-        public Void get(long timeout, TimeUnit unit) {
-            return null;
-        }
-    }
 }
@@ -0,0 +1,73 @@
+package io.github._4drian3d.signedvelocity.common.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SignedQueueStressTest {
+    private static final int PLAYERS = 64;
+    private static final int MESSAGES_PER_PLAYER = 500;
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    @Test
+    void concurrentChatFloodPreservesPerPlayerOrdering() throws Exception {
+        TimeoutWheel wheel = TimeoutWheel.started(TimeoutWheel.createSweepExecutor(), TIMEOUT_MILLIS, true);
+        SignedQueue queue = new SignedQueue(wheel, TIMEOUT_MILLIS);
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) players.add(UUID.randomUUID());
+
+        ExecutorService chatThreads = Executors.newFixedThreadPool(8);
+        ExecutorService proxyThreads = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<UUID, AtomicInteger> outOfOrder = new ConcurrentHashMap<>();
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (UUID player : players) {
+                outOfOrder.put(player, new AtomicInteger());
+                tasks.add(chatThreads.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < MESSAGES_PER_PLAYER; i++) {
+                        SignedResult result = queue.dataFrom(player).nextResult().get(5, TimeUnit.SECONDS);
+                        if (!(player + ":" + i).equals(result.toModify())) outOfOrder.get(player).incrementAndGet();
+                    }
+                    return null;
+                }));
+                tasks.add(proxyThreads.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < MESSAGES_PER_PLAYER; i++) {
+                        queue.dataFrom(player).complete(SignedResult.modify(player + ":" + i));
+                        if (i % 50 == 0) Thread.yield();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) task.get(30, TimeUnit.SECONDS);
+        } finally {
+            chatThreads.shutdownNow();
+            proxyThreads.shutdownNow();
+        }
+
+        for (UUID player : players) {
+            assertEquals(0, outOfOrder.get(player).get(), "out-of-order results for " + player);
+            assertEquals(0, queue.dataFrom(player).pendingWaiters());
+        }
+        assertEquals(PLAYERS, queue.queuedDataCount());
+        queue.close();
+        wheel.close();
+        assertTrue(queue.dataFrom(players.get(0)).nextResult().isDone());
+    }
+}
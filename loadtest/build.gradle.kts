@@ -0,0 +1,39 @@
+plugins {
+    application
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(libs.proto)
+    // proto's gencode is stamped at protobuf.java.version; keep the runtime protobuf-java in step with it.
+    implementation(libs.protobuf.java)
+    implementation(libs.protobuf.util)
+    implementation(libs.guava)
+    implementation(libs.cirrus.api)
+    implementation(libs.lamp.common)
+    implementation(libs.packetevents.api)
+    implementation(libs.snakeyaml)
+    implementation(libs.gson)
+    implementation(libs.httpclient5)
+    implementation(libs.java.websocket)
+    implementation(libs.adventure.api)
+    implementation(libs.adventure.minimessage)
+    implementation(libs.adventure.serializer.legacy)
+    implementation(libs.adventure.serializer.gson)
+
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+}
+
+application {
+    mainClass.set("gg.modl.minecraft.loadtest.LoadTestMain")
+}
+
+tasks.named<JavaExec>("run") {
+    workingDir = projectDir
+}
+
+tasks.withType<Test>().configureEach {
+    useJUnitPlatform()
+}
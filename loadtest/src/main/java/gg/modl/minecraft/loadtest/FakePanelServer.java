@@ -0,0 +1,205 @@
+package gg.modl.minecraft.loadtest;
+
+import com.google.gson.Gson;
+import com.google.protobuf.Message;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import gg.modl.minecraft.api.http.response.StartupResponse;
+import gg.modl.proto.modl.v1.ApiError;
+import gg.modl.proto.modl.v1.RealtimeEnvelope;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the panel API and realtime socket. Every API call is delayed by the configured latency and
+ * fails with HTTP 503 at the configured error rate; V3 routes answer with an empty protobuf message unless a
+ * response has been registered with {@link #respond}, which decodes as "nothing to report" on the plugin side.
+ */
+public final class FakePanelServer {
+    public static final String API_KEY = "loadtest-api-key";
+    static final String STARTUP_PATH = "/v2/minecraft/startup";
+    private static final String V3_PREFIX = "/v3", V1_PREFIX = "/v1", IP_PREFIX = "/ip/", MOJANG_PREFIX = "/mojang/";
+    private static final String CONTENT_TYPE_PROTOBUF = "application/x-protobuf", CONTENT_TYPE_JSON = "application/json";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9a-fA-F-]{32,36}(?=/|$)");
+    private static final int REALTIME_PROTOCOL_VERSION = 1;
+    private static final int HANDLER_THREADS = 64;
+    private static final Gson GSON = new Gson();
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final FakeRealtimeServer realtime;
+    private final Map<String, Supplier<? extends Message>> responses = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final LongAdder injectedErrors = new LongAdder();
+    private volatile long latencyMillis, jitterMillis;
+    private volatile double errorRate;
+
+    private FakePanelServer(HttpServer server, ExecutorService handlers, FakeRealtimeServer realtime) {
+        this.server = server;
+        this.handlers = handlers;
+        this.realtime = realtime;
+    }
+
+    public static FakePanelServer start(long latencyMillis, long jitterMillis, double errorRate,
+                                        LatencyRecorder recorder) throws IOException, InterruptedException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService handlers = Executors.newFixedThreadPool(HANDLER_THREADS, r -> {
+            Thread t = new Thread(r, "fake-panel-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        FakeRealtimeServer realtime = new FakeRealtimeServer(REALTIME_PROTOCOL_VERSION, recorder);
+        realtime.startAndWait();
+
+        FakePanelServer panel = new FakePanelServer(server, handlers, realtime);
+        panel.setLatency(latencyMillis, jitterMillis);
+        panel.setErrorRate(errorRate);
+        server.createContext("/", panel::handle);
+        server.setExecutor(handlers);
+        server.start();
+        return panel;
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public void setLatency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+        this.jitterMillis = Math.max(0, jitterMillis);
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+    }
+
+    /**
+     * Serves {@code response} for the V3 route at {@code path} (relative to {@code /v3}, without a query string).
+     */
+    public void respond(String path, Supplier<? extends Message> response) {
+        responses.put(V3_PREFIX + path, response);
+    }
+
+    public int pushRealtime(RealtimeEnvelope.Builder envelope) {
+        return realtime.push(envelope);
+    }
+
+    public boolean awaitRealtimeClient(long timeout, TimeUnit unit) throws InterruptedException {
+        return realtime.awaitClient(timeout, unit);
+    }
+
+    public int realtimeAwaitingAck() {
+        return realtime.awaitingAck();
+    }
+
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requestCounts.forEach((route, count) -> counts.put(route, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    public void stop() {
+        server.stop(0);
+        handlers.shutdownNow();
+        try {
+            realtime.stop(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            drain(exchange.getRequestBody());
+            String path = exchange.getRequestURI().getPath();
+            requestCounts.computeIfAbsent(exchange.getRequestMethod() + " " + ID_SEGMENT.matcher(path).replaceAll("/{id}"),
+                ignored -> new LongAdder()).increment();
+
+            if (STARTUP_PATH.equals(path)) {
+                send(exchange, 200, CONTENT_TYPE_JSON, GSON.toJson(startupResponse()).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (path.startsWith(MOJANG_PREFIX)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            simulateLatency();
+            if (path.startsWith(IP_PREFIX)) {
+                send(exchange, 200, CONTENT_TYPE_JSON, "{\"success\":false}".getBytes(StandardCharsets.UTF_8));
+            } else if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                send(exchange, 503, CONTENT_TYPE_PROTOBUF,
+                    ApiError.newBuilder().setMessage("injected failure").build().toByteArray());
+            } else if (path.startsWith(V3_PREFIX)) {
+                Supplier<? extends Message> response = responses.get(path);
+                send(exchange, 200, CONTENT_TYPE_PROTOBUF, response != null ? response.get().toByteArray() : new byte[0]);
+            } else if (path.startsWith(V1_PREFIX)) {
+                send(exchange, 200, CONTENT_TYPE_JSON, "{}".getBytes(StandardCharsets.UTF_8));
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private StartupResponse startupResponse() {
+        return new StartupResponse(getBaseUrl(), Instant.now().toString(), "loadtest", true, realtime.url(),
+            REALTIME_PROTOCOL_VERSION, Arrays.asList(
+                "TOPIC_MINECRAFT_PERMISSIONS",
+                "TOPIC_MINECRAFT_PUNISHMENT_TYPES",
+                "TOPIC_MINECRAFT_PUNISHMENTS",
+                "TOPIC_MINECRAFT_PLAYER_NOTIFICATIONS",
+                "TOPIC_MINECRAFT_STAFF_NOTIFICATIONS"));
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long delay = latencyMillis;
+        long jitter = jitterMillis;
+        if (jitter > 0) delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+        if (delay > 0) Thread.sleep(delay);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length == 0) return;
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        while (in.read(buffer) >= 0) {
+        }
+    }
+}
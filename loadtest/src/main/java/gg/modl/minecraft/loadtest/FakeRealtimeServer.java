@@ -0,0 +1,110 @@
+package gg.modl.minecraft.loadtest;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import gg.modl.proto.modl.v1.RealtimeEnvelope;
+import gg.modl.proto.modl.v1.ServerHello;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal realtime endpoint: answers ClientHello with ServerHello, pushes envelopes to every connected client and
+ * times each push until its transport ack comes back.
+ */
+final class FakeRealtimeServer extends WebSocketServer {
+    static final String PUSH_TO_ACK = "realtime_push_to_ack";
+
+    private final int protocolVersion;
+    private final LatencyRecorder recorder;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch helloReceived = new CountDownLatch(1);
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    FakeRealtimeServer(int protocolVersion, LatencyRecorder recorder) {
+        super(new InetSocketAddress("127.0.0.1", 0));
+        this.protocolVersion = protocolVersion;
+        this.recorder = recorder;
+        setReuseAddr(true);
+    }
+
+    void startAndWait() throws InterruptedException {
+        start();
+        if (!started.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Realtime server did not start");
+    }
+
+    boolean awaitClient(long timeout, TimeUnit unit) throws InterruptedException {
+        return helloReceived.await(timeout, unit);
+    }
+
+    String url() {
+        return "ws://127.0.0.1:" + getPort() + "/realtime";
+    }
+
+    int push(RealtimeEnvelope.Builder envelope) {
+        String eventId = "loadtest-" + eventSequence.incrementAndGet();
+        byte[] frame = envelope.setProtocolVersion(protocolVersion).setEventId(eventId).build().toByteArray();
+        inFlight.put(eventId, System.nanoTime());
+        broadcast(frame);
+        return getConnections().size();
+    }
+
+    int awaitingAck() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void onStart() {
+        started.countDown();
+    }
+
+    @Override
+    public void onOpen(WebSocket conn, ClientHandshake handshake) {
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, ByteBuffer message) {
+        RealtimeEnvelope envelope;
+        try {
+            envelope = RealtimeEnvelope.parseFrom(message);
+        } catch (InvalidProtocolBufferException e) {
+            return;
+        }
+        switch (envelope.getPayloadCase()) {
+            case CLIENT_HELLO:
+                conn.send(RealtimeEnvelope.newBuilder()
+                    .setProtocolVersion(protocolVersion)
+                    .setServerHello(ServerHello.getDefaultInstance())
+                    .build()
+                    .toByteArray());
+                helloReceived.countDown();
+                break;
+            case ACK:
+                Long sentNanos = inFlight.remove(envelope.getAck().getEventId());
+                if (sentNanos != null) recorder.record(PUSH_TO_ACK, sentNanos, true);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, String message) {
+    }
+
+    @Override
+    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+    }
+
+    @Override
+    public void onError(WebSocket conn, Exception ex) {
+    }
+}
@@ -0,0 +1,118 @@
+package gg.modl.minecraft.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps every sample per operation so reports carry exact percentiles rather than the power-of-two buckets
+ * the plugin's own {@code LatencyHistogram} uses.
+ */
+public final class LatencyRecorder {
+    private final Map<String, Series> series = new ConcurrentSkipListMap<>();
+
+    public void record(String operation, long startNanos, boolean success) {
+        record(operation, startNanos, System.nanoTime(), success);
+    }
+
+    void record(String operation, long startNanos, long endNanos, boolean success) {
+        series.computeIfAbsent(operation, ignored -> new Series()).add(startNanos, endNanos, success);
+    }
+
+    public long count(String operation) {
+        Series samples = series.get(operation);
+        return samples == null ? 0 : samples.count();
+    }
+
+    /**
+     * Throughput is measured over each operation's own active window, from its first start to its last finish.
+     */
+    public List<OperationStats> snapshot() {
+        List<OperationStats> stats = new ArrayList<>(series.size());
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            stats.add(entry.getValue().stats(entry.getKey()));
+        }
+        return stats;
+    }
+
+    public static final class OperationStats {
+        final String operation;
+        final long count, errors;
+        final double throughputPerSecond, p50Ms, p95Ms, p99Ms, maxMs;
+
+        private OperationStats(String operation, long count, long errors, double throughputPerSecond,
+                               double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+            this.operation = operation;
+            this.count = count;
+            this.errors = errors;
+            this.throughputPerSecond = throughputPerSecond;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+            this.p99Ms = p99Ms;
+            this.maxMs = maxMs;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+    }
+
+    private static final class Series {
+        private long[] nanos = new long[256];
+        private int size;
+        private long errors;
+        private long firstStartNanos = Long.MAX_VALUE, lastEndNanos = Long.MIN_VALUE;
+
+        private synchronized void add(long startNanos, long endNanos, boolean success) {
+            if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+            nanos[size++] = endNanos - startNanos;
+            if (!success) errors++;
+            firstStartNanos = Math.min(firstStartNanos, startNanos);
+            lastEndNanos = Math.max(lastEndNanos, endNanos);
+        }
+
+        private synchronized long count() {
+            return size;
+        }
+
+        private OperationStats stats(String operation) {
+            long[] sorted;
+            long failed, elapsedNanos;
+            synchronized (this) {
+                sorted = Arrays.copyOf(nanos, size);
+                failed = errors;
+                elapsedNanos = lastEndNanos - firstStartNanos;
+            }
+            Arrays.sort(sorted);
+            double seconds = Math.max(1, elapsedNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            return new OperationStats(operation, sorted.length, failed, sorted.length / seconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+        }
+
+        private static double percentileMs(long[] sorted, double quantile) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return toMillis(sorted[Math.min(sorted.length, Math.max(1, rank)) - 1]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
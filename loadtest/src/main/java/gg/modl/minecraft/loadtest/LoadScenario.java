@@ -0,0 +1,85 @@
+package gg.modl.minecraft.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shape of one load-test run, parsed from {@code --key=value} arguments. Unknown keys are rejected so a typo
+ * does not silently run the defaults.
+ */
+final class LoadScenario {
+    final int players, concurrency, chatsPerPlayer, commandsPerPlayer, switchesPerPlayer, notifications, servers;
+    final long latencyMillis, jitterMillis;
+    final double errorRate, punishedRatio;
+    final Path reportDirectory;
+
+    private LoadScenario(Map<String, String> values) {
+        this.players = positive(values, "players", 2000);
+        this.concurrency = positive(values, "concurrency", 200);
+        this.chatsPerPlayer = nonNegative(values, "chats", 5);
+        this.commandsPerPlayer = nonNegative(values, "commands", 2);
+        this.switchesPerPlayer = nonNegative(values, "switches", 2);
+        this.notifications = nonNegative(values, "notifications", 500);
+        this.servers = positive(values, "servers", 4);
+        this.latencyMillis = nonNegative(values, "latency-ms", 40);
+        this.jitterMillis = nonNegative(values, "jitter-ms", 20);
+        this.errorRate = ratio(values, "error-rate", 0.01);
+        this.punishedRatio = ratio(values, "punished-ratio", 0.05);
+        this.reportDirectory = Paths.get(values.getOrDefault("report-dir", "build/loadtest"));
+    }
+
+    static LoadScenario parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got '" + arg + "'");
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        LoadScenario scenario = new LoadScenario(values);
+        values.keySet().removeAll(scenario.describe().keySet());
+        values.remove("report-dir");
+        if (!values.isEmpty()) throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        return scenario;
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("players", players);
+        description.put("concurrency", concurrency);
+        description.put("chats", chatsPerPlayer);
+        description.put("commands", commandsPerPlayer);
+        description.put("switches", switchesPerPlayer);
+        description.put("notifications", notifications);
+        description.put("servers", servers);
+        description.put("latency-ms", latencyMillis);
+        description.put("jitter-ms", jitterMillis);
+        description.put("error-rate", errorRate);
+        description.put("punished-ratio", punishedRatio);
+        return description;
+    }
+
+    private static double ratio(Map<String, String> values, String key, double fallback) {
+        String raw = values.get(key);
+        double value = raw == null ? fallback : Double.parseDouble(raw.trim());
+        if (value < 0 || value > 1) throw new IllegalArgumentException(key + " must be between 0 and 1");
+        return value;
+    }
+
+    private static int positive(Map<String, String> values, String key, int fallback) {
+        int value = nonNegative(values, key, fallback);
+        if (value == 0) throw new IllegalArgumentException(key + " must be at least 1");
+        return value;
+    }
+
+    private static int nonNegative(Map<String, String> values, String key, int fallback) {
+        String raw = values.get(key);
+        int value = raw == null ? fallback : Integer.parseInt(raw.trim());
+        if (value < 0) throw new IllegalArgumentException(key + " must not be negative");
+        return value;
+    }
+}
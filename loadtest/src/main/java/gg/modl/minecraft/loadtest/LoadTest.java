@@ -0,0 +1,353 @@
+package gg.modl.minecraft.loadtest;
+
+import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.api.http.request.StartupRequest;
+import gg.modl.minecraft.core.HttpManager;
+import gg.modl.minecraft.core.PluginLoader;
+import gg.modl.minecraft.core.boot.StartupClient;
+import gg.modl.minecraft.core.boot.SyncPollingRate;
+import gg.modl.minecraft.core.cache.LoginCache;
+import gg.modl.minecraft.core.chat.CommandInterceptService;
+import gg.modl.minecraft.core.integration.mojang.MojangProfileClient;
+import gg.modl.minecraft.core.integration.mojang.MojangProfiles;
+import gg.modl.minecraft.core.login.LoginService;
+import gg.modl.minecraft.core.login.ProxyLoginFlow;
+import gg.modl.minecraft.core.plugin.PluginInfo;
+import gg.modl.minecraft.core.service.ChatMessageCache;
+import gg.modl.minecraft.core.util.PluginLogger;
+import gg.modl.proto.modl.v1.PlayerLoginResponse;
+import gg.modl.proto.modl.v1.PlayerNotificationPushEvent;
+import gg.modl.proto.modl.v1.RealtimeEnvelope;
+import gg.modl.proto.modl.v1.SimplePunishment;
+import gg.modl.proto.modl.v1.SyncData;
+import gg.modl.proto.modl.v1.SyncPendingPunishment;
+import gg.modl.proto.modl.v1.SyncPlayerNotification;
+import gg.modl.proto.modl.v1.SyncResponse;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Boots the real {@link PluginLoader} wiring against a {@link FakePanelServer} and drives it the way a proxy
+ * would: a login storm, a mixed chat/command/server-switch flood, a burst of realtime notification pushes and a
+ * mass disconnect. Each phase runs on {@code concurrency} client threads. The panel answers logins and syncs with
+ * an active ban for {@code punished-ratio} of the calls so the punishment paths carry load too.
+ */
+final class LoadTest {
+    private static final long LOGIN_TIMEOUT_SECONDS = 10, SETTLE_TIMEOUT_SECONDS = 30;
+    private static final String API_URL_PROPERTY = "modl.api.url";
+    private static final String[] CHAT_LINES = {
+        "gg", "anyone up for a duel?", "how do I claim land", "lag?", "brb", "nice build", "who wants to trade"
+    };
+    private static final String[] COMMANDS = {"/spawn", "/msg friend hey", "/r ok", "/home", "/tpa friend", "/help"};
+
+    private final LoadScenario scenario;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final PluginLogger logger = PluginLogger.fromJul(Logger.getLogger("modl-loadtest"));
+    private final Map<String, Double> phaseSeconds = new LinkedHashMap<>();
+    private final LongAdder deniedLogins = new LongAdder(), bansServed = new LongAdder();
+    private final AtomicInteger syncNotifications = new AtomicInteger();
+    private final Random random = new Random(42);
+
+    LoadTest(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    LoadTestReport run() throws Exception {
+        Path dataDirectory = Files.createTempDirectory("modl-loadtest");
+        FakePanelServer panel = FakePanelServer.start(scenario.latencyMillis, scenario.jitterMillis, scenario.errorRate, recorder);
+        List<AbstractPlayer> players = players();
+        registerPanelResponses(panel, players);
+        System.setProperty(API_URL_PROPERTY, panel.getBaseUrl());
+        writeConfig(dataDirectory, panel.getBaseUrl());
+        String mojangBase = panel.getBaseUrl() + "/mojang";
+        MojangProfiles.install(new MojangProfileClient(url ->
+            (HttpURLConnection) new URL(mojangBase + url.getPath()).openConnection()));
+
+        String panelUrl = StartupClient.callStartupWithRetry(FakePanelServer.API_KEY, false,
+            new StartupRequest(PluginInfo.VERSION, "LOADTEST", "loadtest", scenario.players), logger);
+        if (panelUrl == null) throw new IllegalStateException("Fake panel did not answer the startup call");
+
+        HttpManager httpManager = new HttpManager(FakePanelServer.API_KEY, panelUrl, false, false, false);
+        SyntheticPlatform platform = new SyntheticPlatform(logger, dataDirectory.toFile(), "proxy", recorder);
+        ExecutorService clients = Executors.newFixedThreadPool(scenario.concurrency, daemonThreads("loadtest-client-"));
+        PluginLoader loader = null;
+        try {
+            long bootStart = System.nanoTime();
+            loader = new PluginLoader(platform, dataDirectory, new ChatMessageCache(), httpManager,
+                SyncPollingRate.clamp(SyncPollingRate.DEFAULT_SECONDS));
+            recorder.record("boot", bootStart, true);
+            boolean realtimeConnected = panel.awaitRealtimeClient(SETTLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!realtimeConnected) logger.warning("Realtime client never connected; skipping the notification phase");
+
+            runPhase("join", clients, joinTasks(loader, platform, players));
+            runPhase("traffic", clients, trafficTasks(loader, platform, players));
+            if (realtimeConnected && scenario.notifications > 0) pushNotifications(panel, players);
+            platform.awaitMainThreadIdle(SETTLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            runPhase("quit", clients, quitTasks(loader, platform, players));
+
+            return new LoadTestReport(PluginInfo.VERSION, scenario.describe(), phaseSeconds, recorder.snapshot(),
+                panel.requestCounts())
+                .counter("bans_served", bansServed.sum())
+                .counter("denied_logins", deniedLogins.sum())
+                .counter("messages_sent", platform.messagesSent())
+                .counter("broadcasts_sent", platform.broadcastsSent())
+                .counter("kicks", platform.kicks())
+                .counter("panel_injected_errors", panel.injectedErrors())
+                .counter("realtime_unacked", panel.realtimeAwaitingAck());
+        } finally {
+            clients.shutdownNow();
+            if (loader != null) loader.shutdown();
+            else httpManager.shutdown();
+            platform.shutdown();
+            panel.stop();
+            System.clearProperty(API_URL_PROPERTY);
+        }
+    }
+
+    private List<AbstractPlayer> players() {
+        List<AbstractPlayer> players = new ArrayList<>(scenario.players);
+        for (int i = 0; i < scenario.players; i++) {
+            UUID uuid = UUID.nameUUIDFromBytes(("modl-loadtest:" + i).getBytes(StandardCharsets.UTF_8));
+            String ip = "198.18." + ((i >> 8) & 0xFF) + "." + (i & 0xFF);
+            players.add(new AbstractPlayer(uuid, "lt" + i, ip, true));
+        }
+        return players;
+    }
+
+    private void registerPanelResponses(FakePanelServer panel, List<AbstractPlayer> players) {
+        panel.respond("/minecraft/players/login", () -> {
+            PlayerLoginResponse.Builder response = PlayerLoginResponse.newBuilder().setStatus(200);
+            if (punished()) response.addActivePunishments(loadTestBan());
+            return response.build();
+        });
+        panel.respond("/minecraft/players/sync", () -> {
+            AbstractPlayer target = players.get(ThreadLocalRandom.current().nextInt(players.size()));
+            SyncData.Builder data = SyncData.newBuilder()
+                .addPlayerNotifications(SyncPlayerNotification.newBuilder()
+                    .setId("loadtest-sync-" + syncNotifications.incrementAndGet())
+                    .setMessage("Load test sync notification")
+                    .setType("TICKET_REPLY")
+                    .setTargetPlayerUuid(target.getUuid().toString()));
+            if (punished()) {
+                data.addPendingPunishments(SyncPendingPunishment.newBuilder()
+                    .setMinecraftUuid(target.getUuid().toString())
+                    .setUsername(target.getUsername())
+                    .setPunishment(loadTestBan()));
+            }
+            return SyncResponse.newBuilder().setTimestamp(Instant.now().toString()).setData(data).build();
+        });
+    }
+
+    private boolean punished() {
+        if (ThreadLocalRandom.current().nextDouble() >= scenario.punishedRatio) return false;
+        bansServed.increment();
+        return true;
+    }
+
+    private static SimplePunishment loadTestBan() {
+        return SimplePunishment.newBuilder()
+            .setId("LT" + Integer.toHexString(ThreadLocalRandom.current().nextInt()).toUpperCase())
+            .setType("Load Test")
+            .setCategory("BAN")
+            .setDescription("Banned by the load test")
+            .setIssuerName("loadtest")
+            .setIssuedAt(System.currentTimeMillis())
+            .setStarted(true)
+            .build();
+    }
+
+    private List<Runnable> joinTasks(PluginLoader loader, SyntheticPlatform platform, List<AbstractPlayer> players) {
+        ProxyLoginFlow loginFlow = new ProxyLoginFlow(
+            loader.getHttpClientHolder(), loader.getLoginCache(), loader.getLoginService(),
+            loader.getLoginRequestBuilder(), loader.getIpEnrichmentService(),
+            loader.getPendingIpLookupService(), LOGIN_TIMEOUT_SECONDS, loader.getLoginFallback());
+
+        List<Runnable> tasks = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            AbstractPlayer player = players.get(i);
+            String server = serverName(i);
+            tasks.add(() -> {
+                UUID uuid = player.getUuid();
+                AtomicInteger allowed = new AtomicInteger();
+                long loginStart = System.nanoTime();
+                try {
+                    loginFlow.execute(uuid, player.getUsername(), player.getIpAddress(), platform.getServerName(),
+                        message -> { }, allowed::incrementAndGet);
+                    recorder.record("login", loginStart, true);
+                } catch (Exception e) {
+                    if (!(loader.getLoginService().handleLoginError(e) instanceof LoginService.LoginResult.Denied)) {
+                        allowed.incrementAndGet();
+                    }
+                    recorder.record("login", loginStart, false);
+                }
+                if (allowed.get() == 0) {
+                    deniedLogins.increment();
+                    return;
+                }
+
+                long joinStart = System.nanoTime();
+                platform.connect(player, server);
+                loader.getPlayerSessionService().handlePlayerJoin(uuid, player.getUsername());
+                LoginCache.CachedLoginResult cached = loader.getLoginCache().getCachedLoginResult(uuid);
+                loader.getLoginService().cacheLoginData(uuid, cached != null ? cached.getResponse() : null);
+                loader.getServerSwitchService().handleServerSwitch(uuid, player.getUsername(), server);
+                recorder.record("join", joinStart, true);
+            });
+        }
+        return tasks;
+    }
+
+    private List<Runnable> trafficTasks(PluginLoader loader, SyntheticPlatform platform, List<AbstractPlayer> players) {
+        CommandInterceptService commandIntercept = new CommandInterceptService(
+            loader.getCache(), loader.getFreezeService(), loader.getChatCommandLogService(),
+            loader.getLocaleManager(), loader.getPunishmentMessageService(), Collections.<String>emptyList());
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (AbstractPlayer player : players) {
+            UUID uuid = player.getUuid();
+            String name = player.getUsername();
+            for (int i = 0; i < scenario.chatsPerPlayer; i++) {
+                String line = CHAT_LINES[random.nextInt(CHAT_LINES.length)];
+                tasks.add(timed("chat", () -> loader.getChatService().handleChat(
+                    uuid, name, line, platform.getPlayerServer(uuid), message -> { })));
+            }
+            for (int i = 0; i < scenario.commandsPerPlayer; i++) {
+                String command = COMMANDS[random.nextInt(COMMANDS.length)];
+                tasks.add(timed("command", () -> commandIntercept.handleCommand(
+                    uuid, name, command, platform.getPlayerServer(uuid))));
+            }
+            for (int i = 0; i < scenario.switchesPerPlayer; i++) {
+                String server = serverName(random.nextInt(scenario.servers));
+                tasks.add(timed("switch", () -> {
+                    platform.switchServer(uuid, server);
+                    loader.getServerSwitchService().handleServerSwitch(uuid, name, server);
+                }));
+            }
+        }
+        Collections.shuffle(tasks, random);
+        return tasks;
+    }
+
+    private List<Runnable> quitTasks(PluginLoader loader, SyntheticPlatform platform, List<AbstractPlayer> players) {
+        List<Runnable> tasks = new ArrayList<>(players.size());
+        for (AbstractPlayer player : players) {
+            tasks.add(timed("quit", () -> {
+                if (!platform.isOnline(player.getUuid())) return;
+                loader.getPlayerSessionService().handlePlayerDisconnect(player.getUuid(), player.getUsername());
+                loader.getServerSwitchService().handlePlayerDisconnect(player.getUuid());
+                platform.disconnect(player.getUuid());
+            }));
+        }
+        return tasks;
+    }
+
+    private void pushNotifications(FakePanelServer panel, List<AbstractPlayer> players) throws InterruptedException {
+        long start = System.nanoTime();
+        for (int i = 0; i < scenario.notifications; i++) {
+            AbstractPlayer target = players.get(random.nextInt(players.size()));
+            panel.pushRealtime(RealtimeEnvelope.newBuilder()
+                .setPlayerNotificationPush(PlayerNotificationPushEvent.newBuilder()
+                    .addNotifications(SyncPlayerNotification.newBuilder()
+                        .setId("loadtest-notification-" + i)
+                        .setMessage("Load test notification " + i)
+                        .setType("TICKET_REPLY")
+                        .setTargetPlayerUuid(target.getUuid().toString()))));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SETTLE_TIMEOUT_SECONDS);
+        while (panel.realtimeAwaitingAck() > 0 && System.nanoTime() < deadline) Thread.sleep(20);
+        phaseSeconds.put("realtime", (System.nanoTime() - start) / 1e9);
+    }
+
+    private Runnable timed(String operation, Runnable action) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                action.run();
+                recorder.record(operation, start, true);
+            } catch (RuntimeException e) {
+                recorder.record(operation, start, false);
+            }
+        };
+    }
+
+    private void runPhase(String phase, ExecutorService clients, List<Runnable> tasks) throws InterruptedException {
+        long start = System.nanoTime();
+        List<Future<?>> pending = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) pending.add(clients.submit(task));
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logger.warning("Load test " + phase + " task failed: " + e.getCause());
+            }
+        }
+        phaseSeconds.put(phase, (System.nanoTime() - start) / 1e9);
+    }
+
+    private String serverName(int index) {
+        return "server-" + (index % scenario.servers + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeConfig(Path dataDirectory, String panelBaseUrl) throws IOException {
+        Map<String, Object> config;
+        try (InputStream defaults = LoadTest.class.getResourceAsStream("/config.yml")) {
+            if (defaults == null) throw new IOException("config.yml is missing from the core resources");
+            config = (Map<String, Object>) new Yaml().load(defaults);
+        }
+        section(config, "update_checker").put("enabled", false);
+        section(config, "metrics").put("endpoint_enabled", false);
+        section(config, "ip-lookup").put("url", panelBaseUrl + "/ip/{ip}");
+
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        try (Writer writer = Files.newBufferedWriter(dataDirectory.resolve("config.yml"), StandardCharsets.UTF_8)) {
+            new Yaml(options).dump(config, writer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> config, String key) {
+        Object node = config.get(key);
+        if (node instanceof Map) return (Map<String, Object>) node;
+        Map<String, Object> created = new LinkedHashMap<>();
+        config.put(key, created);
+        return created;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package gg.modl.minecraft.loadtest;
+
+/**
+ * Entry point for {@code ./gradlew :loadtest:run --args="--players=5000 --latency-ms=80"}. Writes
+ * {@code summary.json} and {@code metrics.prom} to {@code --report-dir} so runs against two releases can be diffed.
+ */
+public final class LoadTestMain {
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadScenario scenario;
+        try {
+            scenario = LoadScenario.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Options: --players --concurrency --chats --commands --switches --notifications"
+                + " --servers --latency-ms --jitter-ms --error-rate --report-dir");
+            System.exit(2);
+            return;
+        }
+
+        LoadTestReport report = new LoadTest(scenario).run();
+        report.print(System.out);
+        report.write(scenario.reportDirectory);
+        System.out.println("Report written to " + scenario.reportDirectory.toAbsolutePath());
+        // Plugin services own a few non-daemon executors that are not worth waiting on once the report is out.
+        System.exit(0);
+    }
+}
@@ -0,0 +1,70 @@
+package gg.modl.minecraft.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import gg.modl.minecraft.core.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one run. {@code summary.json} is stable enough to diff between releases; {@code metrics.prom} is the
+ * plugin's own metrics scrape at the end of the run.
+ */
+final class LoadTestReport {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final String pluginVersion;
+    private final String finishedAt = Instant.now().toString();
+    private final Map<String, Object> scenario;
+    private final Map<String, Double> phaseSeconds;
+    private final List<LatencyRecorder.OperationStats> operations;
+    private final Map<String, Long> panelRequests;
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    LoadTestReport(String pluginVersion, Map<String, Object> scenario, Map<String, Double> phaseSeconds,
+                   List<LatencyRecorder.OperationStats> operations, Map<String, Long> panelRequests) {
+        this.pluginVersion = pluginVersion;
+        this.scenario = scenario;
+        this.phaseSeconds = phaseSeconds;
+        this.operations = operations;
+        this.panelRequests = panelRequests;
+    }
+
+    LoadTestReport counter(String name, long value) {
+        counters.put(name, value);
+        return this;
+    }
+
+    List<LatencyRecorder.OperationStats> getOperations() {
+        return operations;
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve("summary.json"), StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+        Files.write(directory.resolve("metrics.prom"), Metrics.registry().scrape().getBytes(StandardCharsets.UTF_8));
+    }
+
+    void print(PrintStream out) {
+        out.println("modl load test " + pluginVersion + " " + scenario);
+        phaseSeconds.forEach((phase, seconds) -> out.printf("  phase %-10s %8.2fs%n", phase, seconds));
+        out.printf("  %-24s %8s %7s %10s %9s %9s %9s %9s%n", "operation", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.OperationStats stats : operations) {
+            out.printf("  %-24s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", stats.operation, stats.count, stats.errors,
+                stats.throughputPerSecond, stats.p50Ms, stats.p95Ms, stats.p99Ms, stats.maxMs);
+        }
+        counters.forEach((name, value) -> out.printf("  %-24s %8d%n", name, value));
+        panelRequests.forEach((route, count) -> out.printf("  panel %-48s %8d%n", route, count));
+    }
+}
@@ -0,0 +1,224 @@
+package gg.modl.minecraft.loadtest;
+
+import dev.simplix.cirrus.player.CirrusPlayerWrapper;
+import gg.modl.minecraft.api.AbstractPlayer;
+import gg.modl.minecraft.api.DatabaseProvider;
+import gg.modl.minecraft.core.Platform;
+import gg.modl.minecraft.core.StaffAudience;
+import gg.modl.minecraft.core.util.PluginLogger;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.CommandActor;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * In-memory proxy with thousands of fake players. Main-thread work runs on a single "tick" thread so the queue
+ * delay it reports is comparable to what a real server thread would see.
+ */
+public final class SyntheticPlatform implements Platform {
+    static final String MAIN_THREAD_QUEUE = "main_thread_queue";
+
+    private final PluginLogger logger;
+    private final File dataFolder;
+    private final String serverName;
+    private final LatencyRecorder recorder;
+    private final Map<UUID, AbstractPlayer> playersByUuid = new ConcurrentHashMap<>();
+    private final Map<String, AbstractPlayer> playersByName = new ConcurrentHashMap<>();
+    private final Map<UUID, String> playerServers = new ConcurrentHashMap<>();
+    private final ExecutorService mainThread = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "loadtest-main");
+        t.setDaemon(true);
+        return t;
+    });
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder broadcastsSent = new LongAdder();
+    private final LongAdder kicks = new LongAdder();
+
+    public SyntheticPlatform(PluginLogger logger, File dataFolder, String serverName, LatencyRecorder recorder) {
+        this.logger = logger;
+        this.dataFolder = dataFolder;
+        this.serverName = serverName;
+        this.recorder = recorder;
+    }
+
+    public void connect(AbstractPlayer player, String server) {
+        playersByUuid.put(player.getUuid(), player);
+        playersByName.put(player.getUsername().toLowerCase(Locale.ROOT), player);
+        playerServers.put(player.getUuid(), server);
+    }
+
+    public void switchServer(UUID uuid, String server) {
+        if (playersByUuid.containsKey(uuid)) playerServers.put(uuid, server);
+    }
+
+    public void disconnect(UUID uuid) {
+        AbstractPlayer player = playersByUuid.remove(uuid);
+        if (player != null) playersByName.remove(player.getUsername().toLowerCase(Locale.ROOT));
+        playerServers.remove(uuid);
+    }
+
+    public long messagesSent() {
+        return messagesSent.sum();
+    }
+
+    public long broadcastsSent() {
+        return broadcastsSent.sum();
+    }
+
+    public long kicks() {
+        return kicks.sum();
+    }
+
+    public boolean awaitMainThreadIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            mainThread.submit(() -> { }).get(timeout, unit);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    public void shutdown() {
+        mainThread.shutdownNow();
+    }
+
+    @Override
+    public void runOnMainThread(Runnable task) {
+        long queuedAt = System.nanoTime();
+        mainThread.execute(() -> {
+            recorder.record(MAIN_THREAD_QUEUE, queuedAt, true);
+            task.run();
+        });
+    }
+
+    @Override
+    public void broadcast(String string) {
+        broadcastsSent.increment();
+    }
+
+    @Override
+    public void staffBroadcast(String string) {
+        broadcastsSent.increment();
+    }
+
+    @Override
+    public void staffJsonBroadcast(String jsonMessage) {
+        broadcastsSent.increment();
+    }
+
+    @Override
+    public void sendMessage(UUID uuid, String message) {
+        messagesSent.increment();
+    }
+
+    @Override
+    public void sendJsonMessage(UUID uuid, String jsonMessage) {
+        messagesSent.increment();
+    }
+
+    @Override
+    public void setStaffAudience(StaffAudience staffAudience) {
+    }
+
+    @Override
+    public CirrusPlayerWrapper getPlayerWrapper(UUID uuid) {
+        return null;
+    }
+
+    @Override
+    public int getMaxPlayers() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void kickPlayer(AbstractPlayer player, String reason) {
+        kicks.increment();
+        disconnect(player.getUuid());
+    }
+
+    @Override
+    public boolean isOnline(UUID uuid) {
+        return playersByUuid.containsKey(uuid);
+    }
+
+    @Override
+    public AbstractPlayer getAbstractPlayer(UUID uuid, boolean queryMojang) {
+        return playersByUuid.get(uuid);
+    }
+
+    @Override
+    public AbstractPlayer getAbstractPlayer(String username, boolean queryMojang) {
+        return username == null ? null : playersByName.get(username.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public Collection<AbstractPlayer> getOnlinePlayers() {
+        return Collections.unmodifiableCollection(playersByUuid.values());
+    }
+
+    @Override
+    public AbstractPlayer getPlayer(UUID uuid) {
+        return playersByUuid.get(uuid);
+    }
+
+    @Override
+    public String getPlayerServer(UUID uuid) {
+        return playerServers.getOrDefault(uuid, serverName);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Lamp<CommandActor> buildLamp(Consumer<Lamp.Builder<? extends CommandActor>> configurator) {
+        Lamp.Builder<CommandActor> builder = Lamp.builder();
+        configurator.accept((Lamp.Builder) builder);
+        return builder.build();
+    }
+
+    @Override
+    public PluginLogger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public void log(String msg) {
+        logger.info(msg);
+    }
+
+    @Override
+    public String getServerVersion() {
+        return "loadtest";
+    }
+
+    @Override
+    public String getPlatformType() {
+        return "LOADTEST";
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public File getDataFolder() {
+        return dataFolder;
+    }
+
+    @Override
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package gg.modl.minecraft.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void reportsNearestRankPercentilesAndErrorsPerOperation() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 1; millis <= 100; millis++) {
+            recorder.record("login", 0, TimeUnit.MILLISECONDS.toNanos(millis), millis % 10 != 0);
+        }
+        recorder.record("chat", 0, TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        List<LatencyRecorder.OperationStats> stats = recorder.snapshot();
+        assertEquals(2, stats.size());
+        assertEquals("chat", stats.get(0).getOperation());
+
+        LatencyRecorder.OperationStats login = stats.get(1);
+        assertEquals(100, login.getCount());
+        assertEquals(10, login.getErrors());
+        assertEquals(50.0, login.p50Ms);
+        assertEquals(95.0, login.p95Ms);
+        assertEquals(99.0, login.getP99Ms());
+        assertEquals(100.0, login.maxMs);
+        assertEquals(1000.0, login.throughputPerSecond);
+    }
+
+    @Test
+    void unknownOperationCountsAsZero() {
+        assertEquals(0, new LatencyRecorder().count("quit"));
+    }
+}
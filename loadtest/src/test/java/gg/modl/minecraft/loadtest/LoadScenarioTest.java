@@ -0,0 +1,32 @@
+package gg.modl.minecraft.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadScenarioTest {
+
+    @Test
+    void parsesOverridesAndKeepsDefaults() {
+        LoadScenario scenario = LoadScenario.parse(new String[]{"--players=50", "--error-rate=0", "--punished-ratio=0.5",
+            "--report-dir=out"});
+
+        assertEquals(50, scenario.players);
+        assertEquals(0.0, scenario.errorRate);
+        assertEquals(0.5, scenario.punishedRatio);
+        assertEquals(200, scenario.concurrency);
+        assertEquals(Paths.get("out"), scenario.reportDirectory);
+    }
+
+    @Test
+    void rejectsUnknownAndMalformedOptions() {
+        assertThrows(IllegalArgumentException.class, () -> LoadScenario.parse(new String[]{"--player=50"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadScenario.parse(new String[]{"players=50"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadScenario.parse(new String[]{"--servers=0"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadScenario.parse(new String[]{"--error-rate=2"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadScenario.parse(new String[]{"--punished-ratio=-0.1"}));
+    }
+}
@@ -44,7 +44,7 @@ public class AsyncCommandInterceptor implements Listener {
             player.sendMessage(new TextComponent(StringUtil.unescapeNewlines(msg)));
             return;
         }
-        asyncExecutor.execute(() ->
+        asyncExecutor.execute(player.getUniqueId(), () ->
                 proxy.getPluginManager().dispatchCommand(player, stripped));
     }
 }
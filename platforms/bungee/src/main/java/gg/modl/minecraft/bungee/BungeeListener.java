@@ -146,6 +146,7 @@ public class BungeeListener implements Listener {
     public void onPlayerDisconnect(PlayerDisconnectEvent event) {
         loginPipeline.getPlayerSessionService().handlePlayerDisconnect(
                 event.getPlayer().getUniqueId(), event.getPlayer().getName());
+        serverSwitchService.handlePlayerDisconnect(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
@@ -178,11 +178,11 @@ public class BungeePlatform implements Platform {
     }
 
     @Override
-    public DatabaseProvider createLiteBansDatabaseProvider() {
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
         try {
             if (ProxyServer.getInstance().getPluginManager().getPlugin("LiteBans") == null) return null;
             Class.forName("litebans.api.Database");
-            return new LiteBansDatabaseProvider();
+            return new LiteBansDatabaseProvider(fetchSize);
         } catch (ClassNotFoundException ignored) {
         } catch (Exception e) {
             logger.warning("Error checking for LiteBans: " + e.getMessage());
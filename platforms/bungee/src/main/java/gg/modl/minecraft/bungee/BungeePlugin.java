@@ -109,7 +109,7 @@ public class BungeePlugin extends Plugin {
         ProxyLoginFlow proxyLoginFlow = new ProxyLoginFlow(
                 loader.getHttpClientHolder(), loader.getLoginCache(), loader.getLoginService(),
                 loader.getLoginRequestBuilder(), loader.getIpEnrichmentService(),
-                loader.getPendingIpLookupService(), LOGIN_TIMEOUT_SECONDS);
+                loader.getPendingIpLookupService(), LOGIN_TIMEOUT_SECONDS, loader.getLoginFallback());
 
         LoginPipeline loginPipeline = new LoginPipeline(
                 loader.getLoginService(), loader.getLoginCache(), loader.getPlayerSessionService());
@@ -43,6 +43,14 @@ public class FabricFreezeHandler {
         return freezeCore.isFrozen(uuid);
     }
 
+    public boolean hasFrozenPlayers() {
+        return freezeCore.hasFrozenPlayers();
+    }
+
+    public void onFreezeActivity(Runnable listener) {
+        freezeCore.onFreezeActivity(listener);
+    }
+
     public void onTick() {
         for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
             UUID uuid = player.getUuid();
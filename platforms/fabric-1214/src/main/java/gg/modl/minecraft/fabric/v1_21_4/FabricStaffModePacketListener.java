@@ -1,8 +1,10 @@
 package gg.modl.minecraft.fabric.v1_21_4;
 
+import com.github.retrooper.packetevents.event.EventManager;
 import com.github.retrooper.packetevents.event.PacketListenerAbstract;
 import com.github.retrooper.packetevents.event.PacketReceiveEvent;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.DiggingAction;
 import com.github.retrooper.packetevents.wrapper.play.client.WrapperPlayClientClickWindow;
 import com.github.retrooper.packetevents.wrapper.play.client.WrapperPlayClientInteractEntity;
@@ -20,31 +22,57 @@ import java.util.UUID;
 public class FabricStaffModePacketListener extends PacketListenerAbstract {
     private final FabricStaffModeHandler staffModeHandler;
     private final FabricFreezeHandler freezeHandler;
+    private EventManager eventManager;
+    private boolean registered;
+
+    public void attach(EventManager eventManager) {
+        synchronized (this) {
+            this.eventManager = eventManager;
+        }
+        staffModeHandler.onStaffModeActivity(this::syncRegistration);
+        freezeHandler.onFreezeActivity(this::syncRegistration);
+        syncRegistration();
+    }
+
+    private synchronized void syncRegistration() {
+        if (eventManager == null) return;
+        boolean needed = staffModeHandler.hasStaffModePlayers() || freezeHandler.hasFrozenPlayers();
+        if (needed && !registered) {
+            eventManager.registerListener(this);
+            registered = true;
+        } else if (!needed && registered) {
+            eventManager.unregisterListener(this);
+            registered = false;
+        }
+    }
 
     @Override
     public void onPacketReceive(PacketReceiveEvent event) {
-        if (event.getPacketType() == PacketType.Play.Client.PLAYER_DIGGING) {
+        PacketTypeCommon type = event.getPacketType();
+        if (type == PacketType.Play.Client.PLAYER_DIGGING) {
             handleDigging(event);
-        } else if (event.getPacketType() == PacketType.Play.Client.CLICK_WINDOW) {
+        } else if (type == PacketType.Play.Client.CLICK_WINDOW) {
             handleClickWindow(event);
-        } else if (event.getPacketType() == PacketType.Play.Client.INTERACT_ENTITY) {
+        } else if (type == PacketType.Play.Client.INTERACT_ENTITY) {
             handleInteractEntity(event);
         }
     }
 
     private void handleDigging(PacketReceiveEvent event) {
-        WrapperPlayClientPlayerDigging wrapper = new WrapperPlayClientPlayerDigging(event);
-        DiggingAction action = wrapper.getAction();
-        if (action != DiggingAction.DROP_ITEM && action != DiggingAction.DROP_ITEM_STACK) return;
-
+        if (!staffModeHandler.hasStaffModePlayers() && !freezeHandler.hasFrozenPlayers()) return;
         UUID uuid = resolvePlayerUuid(event);
         if (uuid == null) return;
-        if (staffModeHandler.isInStaffMode(uuid) || freezeHandler.isFrozen(uuid)) {
+        if (!staffModeHandler.isInStaffMode(uuid) && !freezeHandler.isFrozen(uuid)) return;
+
+        WrapperPlayClientPlayerDigging wrapper = new WrapperPlayClientPlayerDigging(event);
+        DiggingAction action = wrapper.getAction();
+        if (action == DiggingAction.DROP_ITEM || action == DiggingAction.DROP_ITEM_STACK) {
             event.setCancelled(true);
         }
     }
 
     private void handleClickWindow(PacketReceiveEvent event) {
+        if (!staffModeHandler.hasStaffModePlayers()) return;
         UUID uuid = resolvePlayerUuid(event);
         if (uuid == null) return;
         if (!staffModeHandler.isInStaffMode(uuid)) return;
@@ -56,12 +84,13 @@ public class FabricStaffModePacketListener extends PacketListenerAbstract {
     }
 
     private void handleInteractEntity(PacketReceiveEvent event) {
-        WrapperPlayClientInteractEntity wrapper = new WrapperPlayClientInteractEntity(event);
-        if (wrapper.getAction() != WrapperPlayClientInteractEntity.InteractAction.ATTACK) return;
-
+        if (!staffModeHandler.hasStaffModePlayers()) return;
         UUID uuid = resolvePlayerUuid(event);
         if (uuid == null) return;
-        if (staffModeHandler.isInStaffMode(uuid)) {
+        if (!staffModeHandler.isInStaffMode(uuid)) return;
+
+        WrapperPlayClientInteractEntity wrapper = new WrapperPlayClientInteractEntity(event);
+        if (wrapper.getAction() == WrapperPlayClientInteractEntity.InteractAction.ATTACK) {
             event.setCancelled(true);
         }
     }
@@ -63,6 +63,14 @@ public class FabricStaffModeHandler {
         return core.isInStaffMode(uuid);
     }
 
+    public boolean hasStaffModePlayers() {
+        return core.hasStaffModePlayers();
+    }
+
+    public void onStaffModeActivity(Runnable listener) {
+        core.onStaffModeActivity(listener);
+    }
+
     public boolean isVanished(UUID uuid) {
         return core.isVanished(uuid);
     }
@@ -96,12 +104,14 @@ public class FabricStaffModeHandler {
     }
 
     public void onPlayerJoin(ServerPlayerEntity player) {
+        ops.trackOnline(player.getUuid());
         core.handlePlayerJoin(player.getUuid());
     }
 
     public void onPlayerQuit(ServerPlayerEntity player) {
         UUID uuid = player.getUuid();
         core.handlePlayerQuit(uuid);
+        ops.untrackOnline(uuid);
         ops.forgetViewer(uuid);
     }
 
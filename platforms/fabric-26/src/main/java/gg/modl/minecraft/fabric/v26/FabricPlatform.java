@@ -231,7 +231,7 @@ public class FabricPlatform implements Platform {
     }
 
     @Override
-    public DatabaseProvider createLiteBansDatabaseProvider() {
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
         return null;
     }
 
@@ -269,10 +269,9 @@ public class ModlFabricModImpl implements DedicatedServerModInitializer {
                 fabricListener.register();
 
                 PacketEventsAPI<?> packetEventsApi = requirePacketEventsApi();
-                packetEventsApi.getEventManager().registerListener(
-                        new FabricStaffModePacketListener(
-                                bridgeComponent.getFabricStaffModeHandler(),
-                                bridgeComponent.getFabricFreezeHandler()));
+                new FabricStaffModePacketListener(
+                        bridgeComponent.getFabricStaffModeHandler(),
+                        bridgeComponent.getFabricFreezeHandler()).attach(packetEventsApi.getEventManager());
                 packetEventsApi.getEventManager().registerListener(
                         new FabricCommandPacketListener(
                                 commandInterceptService,
@@ -45,6 +45,14 @@ public class FabricFreezeHandler {
         return freezeCore.isFrozen(uuid);
     }
 
+    public boolean hasFrozenPlayers() {
+        return freezeCore.hasFrozenPlayers();
+    }
+
+    public void onFreezeActivity(Runnable listener) {
+        freezeCore.onFreezeActivity(listener);
+    }
+
     public void onTick() {
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
             UUID uuid = player.getUUID();
@@ -63,6 +63,14 @@ public class FabricStaffModeHandler {
         return core.isInStaffMode(uuid);
     }
 
+    public boolean hasStaffModePlayers() {
+        return core.hasStaffModePlayers();
+    }
+
+    public void onStaffModeActivity(Runnable listener) {
+        core.onStaffModeActivity(listener);
+    }
+
     public boolean isVanished(UUID uuid) {
         return core.isVanished(uuid);
     }
@@ -96,12 +104,14 @@ public class FabricStaffModeHandler {
     }
 
     public void onPlayerJoin(ServerPlayer player) {
+        ops.trackOnline(player.getUUID());
         core.handlePlayerJoin(player.getUUID());
     }
 
     public void onPlayerQuit(ServerPlayer player) {
         UUID uuid = player.getUUID();
         core.handlePlayerQuit(uuid);
+        ops.untrackOnline(uuid);
         ops.forgetViewer(uuid);
     }
 
@@ -19,6 +19,7 @@ import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerUp
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import gg.modl.minecraft.bridge.staffmode.ScoreboardContent;
+import gg.modl.minecraft.bridge.staffmode.ScoreboardUpdate;
 import gg.modl.minecraft.bridge.staffmode.StaffGameMode;
 import gg.modl.minecraft.bridge.staffmode.StaffModeOps;
 import net.minecraft.core.component.DataComponents;
@@ -44,14 +45,12 @@ import org.slf4j.Logger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 class FabricStaffModeOps implements StaffModeOps {
     private static final String SCOREBOARD_OBJECTIVE = "modl_staff";
@@ -64,10 +63,23 @@ class FabricStaffModeOps implements StaffModeOps {
     private final Map<UUID, Set<String>> previousScoreEntries = new ConcurrentHashMap<>();
     private final Map<UUID, Set<UUID>> hiddenFromViewer = new ConcurrentHashMap<>();
     private final Map<UUID, Set<Integer>> hotbarSlots = new ConcurrentHashMap<>();
+    private final Set<UUID> onlineUuids = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> onlineView = Collections.unmodifiableSet(onlineUuids);
 
     FabricStaffModeOps(MinecraftServer server, Logger logger) {
         this.server = server;
         this.logger = logger;
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            onlineUuids.add(player.getUUID());
+        }
+    }
+
+    void trackOnline(UUID uuid) {
+        onlineUuids.add(uuid);
+    }
+
+    void untrackOnline(UUID uuid) {
+        onlineUuids.remove(uuid);
     }
 
     private ServerPlayer player(UUID uuid) {
@@ -87,8 +99,7 @@ class FabricStaffModeOps implements StaffModeOps {
 
     @Override
     public Set<UUID> onlinePlayerUuids() {
-        return server.getPlayerList().getPlayers().stream()
-                .map(ServerPlayer::getUUID).collect(Collectors.toSet());
+        return onlineView;
     }
 
     @Override
@@ -336,12 +347,36 @@ class FabricStaffModeOps implements StaffModeOps {
     }
 
     @Override
-    public void updateScoreboard(UUID uuid, ScoreboardContent content) {
+    public void updateScoreboard(UUID uuid, ScoreboardUpdate update) {
         ServerPlayer player = player(uuid);
         if (player == null) return;
         PacketEventsAPI<?> peApi = PacketEvents.getAPI();
         if (peApi == null) return;
-        renderScores(peApi, player, content);
+
+        if (update.getTitle() != null) {
+            peApi.getPlayerManager().sendPacket(player, new WrapperPlayServerScoreboardObjective(
+                    SCOREBOARD_OBJECTIVE,
+                    WrapperPlayServerScoreboardObjective.ObjectiveMode.UPDATE,
+                    net.kyori.adventure.text.Component.text(update.getTitle()),
+                    WrapperPlayServerScoreboardObjective.RenderType.INTEGER,
+                    ScoreFormat.blankScore()));
+        }
+        Set<String> entries = previousScoreEntries.computeIfAbsent(uuid, k -> ConcurrentHashMap.newKeySet());
+        for (String removed : update.getRemovedEntries()) {
+            entries.remove(removed);
+            peApi.getPlayerManager().sendPacket(player,
+                    new WrapperPlayServerResetScore(removed, SCOREBOARD_OBJECTIVE));
+        }
+        for (ScoreboardContent.Line line : update.getChangedLines()) {
+            entries.add(line.getText());
+            peApi.getPlayerManager().sendPacket(player, new WrapperPlayServerUpdateScore(
+                    line.getText(),
+                    WrapperPlayServerUpdateScore.Action.CREATE_OR_UPDATE_ITEM,
+                    SCOREBOARD_OBJECTIVE,
+                    line.getScore(),
+                    null,
+                    ScoreFormat.blankScore()));
+        }
     }
 
     private void renderScores(PacketEventsAPI<?> peApi, ServerPlayer player, ScoreboardContent content) {
@@ -353,7 +388,7 @@ class FabricStaffModeOps implements StaffModeOps {
                 ScoreFormat.blankScore()));
 
         Set<String> oldEntries = previousScoreEntries.getOrDefault(player.getUUID(), Collections.emptySet());
-        Set<String> newEntries = new HashSet<>();
+        Set<String> newEntries = ConcurrentHashMap.newKeySet();
         for (ScoreboardContent.Line line : content.getLines()) {
             String entry = line.getText();
             newEntries.add(entry);
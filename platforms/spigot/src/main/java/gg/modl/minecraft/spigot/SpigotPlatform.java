@@ -202,11 +202,11 @@ public class SpigotPlatform implements Platform {
     }
 
     @Override
-    public DatabaseProvider createLiteBansDatabaseProvider() {
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
         try {
             if (Bukkit.getPluginManager().getPlugin("LiteBans") == null) return null;
             Class.forName("litebans.api.Database");
-            return new LiteBansDatabaseProvider();
+            return new LiteBansDatabaseProvider(fetchSize);
         } catch (ClassNotFoundException ignored) {
         } catch (Exception e) {
             logger.warning("Error checking for LiteBans: " + e.getMessage());
@@ -9,8 +9,13 @@ import gg.modl.minecraft.bridge.query.BridgeMessageHandler;
 import gg.modl.minecraft.bridge.query.BridgeQueryClient;
 import gg.modl.minecraft.bridge.reporter.AutoReporter;
 import gg.modl.minecraft.bridge.reporter.ModlBackendReplayUploader;
+import gg.modl.minecraft.bridge.reporter.ReplaySpool;
+import gg.modl.minecraft.bridge.reporter.ReplayUploadOptions;
+import gg.modl.minecraft.bridge.reporter.ReplayUploadPriority;
 import gg.modl.minecraft.bridge.reporter.detection.ViolationTracker;
 import gg.modl.minecraft.bridge.reporter.hook.AntiCheatHook;
+import gg.modl.minecraft.core.metrics.Metrics;
+import gg.modl.minecraft.core.metrics.MetricsRegistry;
 import gg.modl.minecraft.core.service.ReplayCaptureResult;
 import gg.modl.minecraft.core.service.ReplayCaptureStatus;
 import gg.modl.minecraft.core.service.ReplayService;
@@ -66,6 +71,10 @@ import java.util.concurrent.TimeUnit;
 public class BridgeComponent extends AbstractBridgeComponent implements Listener {
     private static final long MILLIS_PER_MINUTE = 60_000L;
     private static final long REPLAY_CLEANUP_INTERVAL_MINUTES = 5L;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final String SPOOL_QUEUE_DEPTH_GAUGE = "modl_replay_spool_queue_depth",
+            SPOOL_BYTES_PENDING_GAUGE = "modl_replay_spool_bytes_pending",
+            SPOOL_BYTES_GAUGE = "modl_replay_spool_bytes";
 
     private final JavaPlugin plugin;
     private final boolean polarLoaderAvailable;
@@ -76,6 +85,7 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
     private RecordingManager recordingManager;
     private PacketRecorder packetRecorder;
     private ModlBackendReplayUploader replayUploader;
+    private ReplaySpool replaySpool;
     private BridgeTask replayCleanupTask;
     private final Map<UUID, Integer> worldChangeGeneration = new ConcurrentHashMap<>();
 
@@ -205,11 +215,28 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
         packetRecorder.register();
 
         String serverDomain = extractDomain(panelUrl);
-        replayUploader = new ModlBackendReplayUploader(backendUrl, apiKey, serverDomain, plugin.getLogger());
+        replayUploader = new ModlBackendReplayUploader(backendUrl, apiKey, serverDomain, plugin.getLogger(),
+                ReplayUploadOptions.fromConfig(config));
+        replaySpool = new ReplaySpool(replaysDir, replayUploader, context.getMinecraftVersion(),
+                config.getReplaySpoolMaxMb() * BYTES_PER_MEGABYTE, config.getReplayUploadQueueSize(),
+                plugin.getLogger());
+        registerSpoolGauges(replaySpool);
+        resumeInterruptedUploads(replayUploader, replaySpool, replaysDir);
 
         this.replayService = new ReplayService() {
             @Override
             public CompletableFuture<ReplayCaptureResult> captureReplayResult(UUID targetUuid, String targetName) {
+                return capture(targetUuid, targetName, ReplayUploadPriority.STAFF);
+            }
+
+            @Override
+            public CompletableFuture<String> captureAutomaticReplay(UUID targetUuid, String targetName) {
+                return capture(targetUuid, targetName, ReplayUploadPriority.AUTOMATIC).thenApply(result ->
+                        result.getStatus() == ReplayCaptureStatus.OK ? result.getReplayId() : null);
+            }
+
+            private CompletableFuture<ReplayCaptureResult> capture(UUID targetUuid, String targetName,
+                                                                   ReplayUploadPriority priority) {
                 if (!recordingManager.isRecording(targetUuid)) {
                     return CompletableFuture.completedFuture(ReplayCaptureResult.noActiveRecording());
                 }
@@ -219,7 +246,7 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
                 Player localPlayer = Bukkit.getPlayer(targetUuid);
                 String resolvedName = localPlayer != null ? localPlayer.getName() : targetName;
 
-                ModlBackendReplayUploader uploaderSnapshot = replayUploader;
+                ReplaySpool spoolSnapshot = replaySpool;
                 return recordingManager.stopRecordingAsync(targetUuid)
                         .thenCompose(metadata -> {
                             if (config.isReplayAutoRecord()) {
@@ -230,7 +257,7 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
                                     }
                                 }, 40L);
                             }
-                            return uploadAndCleanupReplay(uploaderSnapshot, targetUuid, resolvedName, metadata);
+                            return uploadAndCleanupReplay(spoolSnapshot, targetUuid, resolvedName, metadata, priority);
                         });
             }
 
@@ -248,19 +275,15 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
             }
         }
 
-        if (config.isReplaySaveLocal()) {
-            long ttlMs = config.getReplayLocalTtl() * MILLIS_PER_MINUTE;
-            replayCleanupTask = context.getScheduler().runTimerAsync(() -> {
-                File[] files = replaysDir.listFiles();
-                if (files == null) return;
-                long now = System.currentTimeMillis();
-                for (File f : files) {
-                    if (f.isFile() && now - f.lastModified() > ttlMs) {
-                        f.delete();
-                    }
-                }
-            }, REPLAY_CLEANUP_INTERVAL_MINUTES, REPLAY_CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
-        }
+        long ttlMs = config.getReplayLocalTtl() * MILLIS_PER_MINUTE;
+        ReplaySpool spool = replaySpool;
+        replayCleanupTask = context.getScheduler().runTimerAsync(() -> {
+            if (config.isReplaySaveLocal()) {
+                spool.sweep(ttlMs);
+            } else {
+                spool.enforceDiskBudget();
+            }
+        }, REPLAY_CLEANUP_INTERVAL_MINUTES, REPLAY_CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
     }
 
     @Override
@@ -284,6 +307,11 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
         if (packetRecorder != null) {
             packetRecorder.unregister();
         }
+        if (replaySpool != null) {
+            removeSpoolGauges();
+            replaySpool.close();
+            replaySpool = null;
+        }
         if (replayUploader != null) {
             replayUploader.close();
             replayUploader = null;
@@ -417,19 +445,20 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
     }
 
     private CompletableFuture<ReplayCaptureResult> uploadAndCleanupReplay(
-            ModlBackendReplayUploader uploader, UUID playerId, String playerName, ReplayMetadata metadata) {
+            ReplaySpool spool, UUID playerId, String playerName, ReplayMetadata metadata,
+            ReplayUploadPriority priority) {
         File replayFile = metadata != null ? metadata.getOutputFile() : null;
         if (replayFile == null || !replayFile.exists()) {
             pluginLogger.warning("[bridge] No replay file found for " + playerName + " after stopping recording");
             return CompletableFuture.completedFuture(ReplayCaptureResult.error());
         }
-        if (uploader == null) {
+        if (spool == null) {
             pluginLogger.warning("[bridge] Replay uploader unavailable; keeping local replay file for " + playerName);
             return CompletableFuture.completedFuture(ReplayCaptureResult.error());
         }
 
         try {
-            return uploader.uploadAsync(replayFile, context.getMinecraftVersion(), playerId, playerName)
+            return spool.submit(replayFile, playerId, playerName, priority)
                     .thenApply(ReplayCaptureResult::ok)
                     .whenComplete((result, ex) -> {
                         if (ex != null) {
@@ -438,11 +467,45 @@ public class BridgeComponent extends AbstractBridgeComponent implements Listener
                         cleanupReplayFileAfterUpload(replayFile, bridgeConfig.isReplaySaveLocal(), result, ex, plugin.getLogger());
                     });
         } catch (RejectedExecutionException e) {
-            pluginLogger.warning("[bridge] Replay uploader closed; keeping local replay file for " + playerName);
+            pluginLogger.warning("[bridge] Replay spool closed; keeping local replay file for " + playerName);
             return CompletableFuture.completedFuture(ReplayCaptureResult.error());
         }
     }
 
+    private static void registerSpoolGauges(ReplaySpool spool) {
+        MetricsRegistry registry = Metrics.registry();
+        registry.gauge(SPOOL_QUEUE_DEPTH_GAUGE, "Replays waiting in the upload spool", spool::getQueueDepth);
+        registry.gauge(SPOOL_BYTES_PENDING_GAUGE, "Bytes of replays waiting to upload", spool::getBytesPending);
+        registry.gauge(SPOOL_BYTES_GAUGE, "Bytes held on disk by the replay spool", spool::getSpoolBytes);
+    }
+
+    private static void removeSpoolGauges() {
+        MetricsRegistry registry = Metrics.registry();
+        registry.removeGauge(SPOOL_QUEUE_DEPTH_GAUGE);
+        registry.removeGauge(SPOOL_BYTES_PENDING_GAUGE);
+        registry.removeGauge(SPOOL_BYTES_GAUGE);
+    }
+
+    private void resumeInterruptedUploads(ModlBackendReplayUploader uploader, ReplaySpool spool, File replaysDir) {
+        for (File replayFile : uploader.findResumableUploads(replaysDir)) {
+            try {
+                spool.submit(replayFile, null, null, ReplayUploadPriority.AUTOMATIC)
+                        .whenComplete((replayId, ex) -> {
+                            if (ex != null) {
+                                pluginLogger.warning("[bridge] Resumed replay upload failed for " + replayFile.getName()
+                                        + ": " + ex.getMessage());
+                                return;
+                            }
+                            pluginLogger.info("[bridge] Resumed replay upload completed: " + replayId);
+                            cleanupReplayFileAfterUpload(replayFile, bridgeConfig.isReplaySaveLocal(),
+                                    ReplayCaptureResult.ok(replayId), null, plugin.getLogger());
+                        });
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
     static void cleanupReplayFileAfterUpload(File replayFile, boolean saveLocal,
                                              ReplayCaptureResult uploadResult, Throwable uploadFailure,
                                              Logger logger) {
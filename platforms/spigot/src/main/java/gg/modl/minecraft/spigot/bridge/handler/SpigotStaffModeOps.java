@@ -1,6 +1,7 @@
 package gg.modl.minecraft.spigot.bridge.handler;
 
 import gg.modl.minecraft.bridge.staffmode.ScoreboardContent;
+import gg.modl.minecraft.bridge.staffmode.ScoreboardUpdate;
 import gg.modl.minecraft.bridge.staffmode.StaffGameMode;
 import gg.modl.minecraft.bridge.staffmode.StaffModeOps;
 import org.bukkit.Bukkit;
@@ -16,6 +17,7 @@ import org.bukkit.scoreboard.Scoreboard;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -23,7 +25,6 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 class SpigotStaffModeOps implements StaffModeOps {
     private static final String SCOREBOARD_OBJECTIVE_NAME = "staffmode";
@@ -33,12 +34,23 @@ class SpigotStaffModeOps implements StaffModeOps {
     private final Map<UUID, Scoreboard> activeScoreboards = new ConcurrentHashMap<>();
     private final Map<UUID, PlayerSnapshot> snapshots = new ConcurrentHashMap<>();
     private final Set<String> warnedMaterials = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> onlineUuids = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> onlineView = Collections.unmodifiableSet(onlineUuids);
 
     private volatile boolean pingMethodResolved;
     private volatile Method getPingMethod;
 
     SpigotStaffModeOps(Logger logger) {
         this.logger = logger;
+        for (Player player : Bukkit.getOnlinePlayers()) onlineUuids.add(player.getUniqueId());
+    }
+
+    void trackOnline(UUID uuid) {
+        onlineUuids.add(uuid);
+    }
+
+    void untrackOnline(UUID uuid) {
+        onlineUuids.remove(uuid);
     }
 
     @Override
@@ -55,7 +67,7 @@ class SpigotStaffModeOps implements StaffModeOps {
 
     @Override
     public Set<UUID> onlinePlayerUuids() {
-        return Bukkit.getOnlinePlayers().stream().map(Player::getUniqueId).collect(Collectors.toSet());
+        return onlineView;
     }
 
     @Override
@@ -230,10 +242,20 @@ class SpigotStaffModeOps implements StaffModeOps {
     }
 
     @Override
-    public void updateScoreboard(UUID uuid, ScoreboardContent content) {
+    public void updateScoreboard(UUID uuid, ScoreboardUpdate update) {
         Scoreboard sb = activeScoreboards.get(uuid);
         if (sb == null) return;
-        applyContent(sb, content);
+        Objective obj = sb.getObjective(SCOREBOARD_OBJECTIVE_NAME);
+        if (obj == null) return;
+        if (update.getTitle() != null) {
+            obj.setDisplayName(update.getTitle());
+        }
+        for (String entry : update.getRemovedEntries()) {
+            sb.resetScores(entry);
+        }
+        for (ScoreboardContent.Line line : update.getChangedLines()) {
+            obj.getScore(line.getText()).setScore(line.getScore());
+        }
     }
 
     private void applyContent(Scoreboard sb, ScoreboardContent content) {
@@ -38,13 +38,15 @@ public class StaffModeHandler implements Listener {
     static final String SILENT_CONTAINER_PREFIX = "§8Viewing: ";
 
     private final JavaPlugin plugin;
+    private final SpigotStaffModeOps ops;
     private final StaffModeCore core;
 
     public StaffModeHandler(JavaPlugin plugin, BridgeConfig bridgeConfig, FreezeHandler freezeHandler,
                             BridgeLocaleManager localeManager, StaffModeConfig staffModeConfig, BridgeScheduler scheduler) {
         this.plugin = plugin;
+        this.ops = new SpigotStaffModeOps(plugin.getLogger());
         this.core = new StaffModeCore(bridgeConfig, staffModeConfig, localeManager, scheduler,
-                freezeHandler.getFreezeCore(), new SpigotStaffModeOps(plugin.getLogger()));
+                freezeHandler.getFreezeCore(), ops);
     }
 
     public void register() {
@@ -215,12 +217,14 @@ public class StaffModeHandler implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
+        ops.trackOnline(event.getPlayer().getUniqueId());
         core.handlePlayerJoin(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         core.handlePlayerQuit(event.getPlayer().getUniqueId());
+        ops.untrackOnline(event.getPlayer().getUniqueId());
     }
 
     private void cancelIfInStaffMode(Player player, Cancellable event) {
@@ -1,10 +1,13 @@
 package gg.modl.minecraft.velocity;
 
+import gg.modl.minecraft.core.util.RenderCache;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 public final class Colors {
     private static final char SECTION_SIGN = '§';
+    private static final int CACHE_MAX_ENTRIES = 1024, CACHE_MAX_KEY_LENGTH = 512;
+    private static final RenderCache<Component> CACHE = new RenderCache<>(CACHE_MAX_ENTRIES, CACHE_MAX_KEY_LENGTH);
 
     private Colors() {}
 
@@ -13,6 +16,6 @@ public final class Colors {
     }
 
     public static Component legacy(String string) {
-        return LegacyComponentSerializer.legacyAmpersand().deserialize(string);
+        return CACHE.get(string, LegacyComponentSerializer.legacyAmpersand()::deserialize);
     }
 }
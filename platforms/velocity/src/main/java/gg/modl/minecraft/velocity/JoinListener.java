@@ -74,6 +74,7 @@ public class JoinListener {
     public void onDisconnect(DisconnectEvent event) {
         loginPipeline.getPlayerSessionService().handlePlayerDisconnect(
                 event.getPlayer().getUniqueId(), event.getPlayer().getUsername());
+        serverSwitchService.handlePlayerDisconnect(event.getPlayer().getUniqueId());
     }
 
     @Subscribe
@@ -242,11 +242,11 @@ public class VelocityPlatform implements Platform {
     }
 
     @Override
-    public DatabaseProvider createLiteBansDatabaseProvider() {
+    public DatabaseProvider createLiteBansDatabaseProvider(int fetchSize) {
         try {
             if (!server.getPluginManager().getPlugin("litebans").isPresent()) return null;
             Class.forName("litebans.api.Database");
-            return new LiteBansDatabaseProvider();
+            return new LiteBansDatabaseProvider(fetchSize);
         } catch (ClassNotFoundException ignored) {
         } catch (Exception e) {
             logger.warn("Error checking for LiteBans: {}", e.getMessage());
@@ -129,7 +129,7 @@ public final class VelocityPlugin {
         ProxyLoginFlow proxyLoginFlow = new ProxyLoginFlow(
                 pluginLoader.getHttpClientHolder(), pluginLoader.getLoginCache(), pluginLoader.getLoginService(),
                 pluginLoader.getLoginRequestBuilder(), pluginLoader.getIpEnrichmentService(),
-                pluginLoader.getPendingIpLookupService(), LOGIN_TIMEOUT_SECONDS);
+                pluginLoader.getPendingIpLookupService(), LOGIN_TIMEOUT_SECONDS, pluginLoader.getLoginFallback());
 
         LoginPipeline loginPipeline = new LoginPipeline(
                 pluginLoader.getLoginService(), pluginLoader.getLoginCache(), pluginLoader.getPlayerSessionService());
@@ -29,3 +29,4 @@ include("platforms:velocity")
 include("platforms:bungee")
 include("platforms:fabric")
 include("distribution")
+include("loadtest")